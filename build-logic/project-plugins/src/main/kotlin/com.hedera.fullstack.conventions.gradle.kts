@@ -79,6 +79,11 @@ testing {
                 testTask {
                     // Increase the heap size for the unit tests
                     maxHeapSize = "4g"
+
+                    // Benchmarks only run when requested with -PincludeBenchmarks
+                    if (!project.hasProperty("includeBenchmarks")) {
+                        (options as JUnitPlatformOptions).excludeTags("benchmark")
+                    }
                 }
             }
         }
@@ -14,6 +14,8 @@ import org.gradle.kotlin.dsl.get
 import java.net.URL
 import java.nio.file.Files
 import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.HexFormat
 import java.util.function.Function
 import kotlin.io.path.createDirectories
 import kotlin.io.path.exists
@@ -40,6 +42,7 @@ abstract class HelmArtifactTask() : DefaultTask() {
         const val HELM_ARTIFACT_TEMPLATE = "helm-v%s-%s-%s.%s"
         const val HELM_EXECUTABLE_PREFIX = "helm"
         const val HELM_VERSION_FILE = "HELM_VERSION"
+        const val DIGEST_FILE_SUFFIX = ".sha256"
     }
 
     init {
@@ -152,6 +155,33 @@ abstract class HelmArtifactTask() : DefaultTask() {
         } catch (e: Exception) {
             throw GradleException("Unable to extract '${fileNamePrefix}' from '${archive}' to '${destination}'")
         }
+
+        writeDigestFiles(destination, fileNamePrefix)
+    }
+
+    private fun writeDigestFiles(destination: Path, fileNamePrefix: String) {
+        try {
+            destination.toFile().listFiles { f ->
+                f.isFile && f.name.startsWith(fileNamePrefix) && !f.name.endsWith(DIGEST_FILE_SUFFIX)
+            }?.forEach { f ->
+                val digest = MessageDigest.getInstance("SHA-256")
+                Files.newInputStream(f.toPath()).use { input ->
+                    val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+                    var read = input.read(buffer)
+                    while (read != -1) {
+                        digest.update(buffer, 0, read)
+                        read = input.read(buffer)
+                    }
+                }
+
+                Files.writeString(
+                    destination.resolve(f.name + DIGEST_FILE_SUFFIX),
+                    HexFormat.of().formatHex(digest.digest()) + "  " + f.name + "\n"
+                )
+            }
+        } catch (e: Exception) {
+            throw GradleException("Unable to write digest files to '${destination}'")
+        }
     }
 
     private fun writeVersionFile(path: Path) {
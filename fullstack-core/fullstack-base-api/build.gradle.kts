@@ -27,5 +27,7 @@ dependencies {
         testImplementation(gav("org.assertj.core"))
         testImplementation(gav("org.mockito"))
         testImplementation(gav("org.mockito.junit.jupiter"))
+        testImplementation(gav("org.slf4j"))
+        testRuntimeOnly(gav("org.slf4j.simple"))
     }
 }
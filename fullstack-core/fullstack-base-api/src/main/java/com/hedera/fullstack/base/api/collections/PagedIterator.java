@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.collections;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An {@link Iterator} which lazily fetches its elements one page at a time. A page is only fetched once the elements
+ * of the previous page have been consumed and the iteration ends with the first page which holds fewer elements than
+ * the page size. When an executor is supplied, the following page is fetched in the background while the current page
+ * is consumed, which hides the latency of the source as long as consuming a page takes at least as long as fetching
+ * one.
+ * <p>
+ * Instances are intended to be consumed by a single thread. Closing the iterator abandons any page fetched in the
+ * background and ends the iteration.
+ *
+ * @param <T> the type of the elements.
+ */
+public final class PagedIterator<T> implements Iterator<T>, AutoCloseable {
+    /**
+     * The source of the pages.
+     */
+    private final PageSource<T> source;
+
+    /**
+     * The maximum number of elements requested per page.
+     */
+    private final int pageSize;
+
+    /**
+     * The executor used to fetch the following page in the background or {@code null} if pages are only fetched on
+     * demand.
+     */
+    private final Executor prefetchExecutor;
+
+    /**
+     * The page currently being consumed.
+     */
+    private List<T> page;
+
+    /**
+     * The position of the next element within the current page.
+     */
+    private int position;
+
+    /**
+     * The offset of the first element of the next page to fetch.
+     */
+    private int nextOffset;
+
+    /**
+     * Whether the source has no further pages.
+     */
+    private boolean exhausted;
+
+    /**
+     * Whether the iterator has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * The following page being fetched in the background or {@code null} if none is being fetched.
+     */
+    private CompletableFuture<List<T>> prefetched;
+
+    /**
+     * The number of pages fetched from the source, including pages fetched in the background.
+     */
+    private int pagesFetched;
+
+    /**
+     * Creates a new {@link PagedIterator} which fetches the pages on demand.
+     *
+     * @param source   the source of the pages.
+     * @param pageSize the maximum number of elements requested per page.
+     * @throws NullPointerException     if {@code source} is {@code null}.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public PagedIterator(final PageSource<T> source, final int pageSize) {
+        this(source, pageSize, null);
+    }
+
+    /**
+     * Creates a new {@link PagedIterator}.
+     *
+     * @param source           the source of the pages.
+     * @param pageSize         the maximum number of elements requested per page.
+     * @param prefetchExecutor the executor used to fetch the following page in the background or {@code null} if pages
+     *                         should only be fetched on demand.
+     * @throws NullPointerException     if {@code source} is {@code null}.
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    public PagedIterator(final PageSource<T> source, final int pageSize, final Executor prefetchExecutor) {
+        this.source = Objects.requireNonNull(source, "source must not be null");
+
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+
+        this.pageSize = pageSize;
+        this.prefetchExecutor = prefetchExecutor;
+        this.page = List.of();
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the remaining elements. Closing the stream closes the iterator.
+     *
+     * @return a new stream.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position >= page.size()) {
+            if (closed || exhausted) {
+                return false;
+            }
+
+            fetchNextPage();
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return page.get(position++);
+    }
+
+    /**
+     * Ends the iteration and abandons the page being fetched in the background, if any.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        page = List.of();
+        position = 0;
+
+        if (prefetched != null) {
+            prefetched.cancel(false);
+            prefetched = null;
+        }
+    }
+
+    /**
+     * Returns the number of pages fetched from the source so far, including a page fetched in the background.
+     *
+     * @return the number of pages fetched.
+     */
+    public int pagesFetched() {
+        return pagesFetched;
+    }
+
+    /**
+     * Replaces the current page with the next page and starts fetching the following page in the background.
+     */
+    private void fetchNextPage() {
+        final List<T> next;
+        if (prefetched != null) {
+            final CompletableFuture<List<T>> future = prefetched;
+            prefetched = null;
+            next = join(future);
+        } else {
+            pagesFetched++;
+            next = fetch(nextOffset);
+        }
+
+        page = next;
+        position = 0;
+        nextOffset += next.size();
+        exhausted = next.size() < pageSize;
+
+        if (!exhausted && prefetchExecutor != null) {
+            final int offset = nextOffset;
+            pagesFetched++;
+            prefetched = CompletableFuture.supplyAsync(() -> fetch(offset), prefetchExecutor);
+        }
+    }
+
+    /**
+     * Fetches the page starting at the offset.
+     *
+     * @param offset the offset of the first element.
+     * @return the page, which is never {@code null}.
+     */
+    private List<T> fetch(final int offset) {
+        final List<T> result = source.fetch(offset, pageSize);
+        return result != null ? result : List.of();
+    }
+
+    /**
+     * Waits for the page fetched in the background and rethrows its failure, if any, without wrapping it.
+     *
+     * @param future the future of the page.
+     * @return the page.
+     */
+    private static <T> List<T> join(final CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException | CancellationException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches a single page of elements.
+     *
+     * @param <T> the type of the elements.
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        /**
+         * Fetches the elements starting at the offset.
+         *
+         * @param offset the index of the first element to fetch.
+         * @param limit  the maximum number of elements to fetch.
+         * @return the elements, of which there are fewer than {@code limit} only if there are no further elements.
+         */
+        List<T> fetch(int offset, int limit);
+    }
+}
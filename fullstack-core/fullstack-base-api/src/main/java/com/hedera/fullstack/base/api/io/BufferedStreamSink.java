@@ -16,27 +16,61 @@
 
 package com.hedera.fullstack.base.api.io;
 
+import static com.hedera.fullstack.base.api.util.ExceptionUtils.suppressExceptions;
+
 import com.hedera.fullstack.base.api.threading.ThreadBuilder;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * A sink for data which is read from an input stream. The data is buffered in a ring buffer and proxied to the
- * destination input stream. This class is useful when the data from the source input stream needs to be read asynchronously
- * and the destination input stream is not yet available.
+ * A sink for data which is read from an input stream. The data is buffered in a list of fixed-size chunks and proxied
+ * to the destination input stream. This class is useful when the data from the source input stream needs to be read
+ * asynchronously and the destination input stream is not yet available.
+ * <p>
+ * The chunks are taken from a shared pool and the source input stream is read directly into them. The stream returned
+ * by {@link #end()} is a zero-copy view over the chunks which may also be consumed as a {@link ReadableByteChannel} via
+ * {@link #getDataChannel()}; closing it returns the chunks to the pool.
+ * <p>
+ * By default, each sink reads the source input stream on its own platform thread. Sinks created with a
+ * {@link StreamDrainer} instead submit their drain task to the drainer, which allows many sinks to share a common set
+ * of threads or to run on virtual threads.
+ * <p>
+ * Optionally, line listeners may be registered prior to calling {@link #begin()}. Each listener is notified with every
+ * line of text as soon as it is read from the source input stream. When data retention is disabled via
+ * {@link #retainData(boolean)}, the data is only delivered to the line listeners and the stream returned by
+ * {@link #end()} is empty.
+ * <p>
+ * The amount of heap used to retain the data is bounded by the {@link #memoryLimit(int)} which defaults to
+ * {@link #DEFAULT_MEMORY_LIMIT}. Once the limit has been reached, any further data is spilled to a temporary file and
+ * the stream returned by {@link #end()} reads the in-memory data followed by the data on disk. The temporary file is
+ * deleted when the returned stream is closed.
  */
 public class BufferedStreamSink implements AutoCloseable {
 
     /**
-     * The default capacity of the sink ring buffer.
+     * The default size of the reads from the source input stream and the size of each pooled chunk.
      */
     public static final int BUFFER_SIZE = 16384;
 
+    /**
+     * The default maximum number of bytes retained on the heap before the data is spilled to disk.
+     */
+    public static final int DEFAULT_MEMORY_LIMIT = 4 * 1024 * 1024;
+
     /**
      * The underlying stream from which data should be read.
      */
@@ -45,7 +79,7 @@ public class BufferedStreamSink implements AutoCloseable {
     /**
      * The sink to which data should be written prior to being proxied to the final input stream.
      */
-    private final ByteArrayOutputStream sink;
+    private SpillableBuffer sink;
 
     /**
      * The input stream which is connected to the sink.
@@ -53,17 +87,86 @@ public class BufferedStreamSink implements AutoCloseable {
     private InputStream destination;
 
     /**
-     * The thread which is responsible for reading data from the source input stream and writing it to the sink.
+     * The thread which is responsible for reading data from the source input stream and writing it to the sink or
+     * {@code null} if the sink was created with a {@link StreamDrainer}.
      */
     private final Thread thread;
 
+    /**
+     * The drainer which runs the drain task or {@code null} if the sink reads on its own {@link #thread}.
+     */
+    private final StreamDrainer drainer;
+
+    /**
+     * A flag indicating whether the drain task has been submitted to the {@link #drainer}.
+     */
+    private boolean drainSubmitted;
+
+    /**
+     * Released once the drain task submitted to the {@link #drainer} has finished.
+     */
+    private final CountDownLatch drainCompleted;
+
+    /**
+     * The thread currently running the drain task submitted to the {@link #drainer}, if any. Guarded by
+     * {@link #drainCompleted}.
+     */
+    private Thread drainThread;
+
+    /**
+     * A flag indicating that {@link #end()} gave up waiting for the drain task, in which case a task which has not yet
+     * started must not touch the sink.
+     */
+    private volatile boolean drainAbandoned;
+
+    /**
+     * The total number of bytes read from the source input stream, whether or not they were retained.
+     */
+    private final AtomicLong bytesRead;
+
     /**
      * A flag indicating whether or not the sink has been closed.
      */
     private final AtomicBoolean closed;
 
     /**
-     * Creates a new {@link BufferedStreamSink} instance using the default {@link #BUFFER_SIZE} for the ring buffer.
+     * The listeners which are notified with each line of text read from the source input stream.
+     */
+    private final List<Consumer<String>> lineListeners;
+
+    /**
+     * The partial line which has been read from the source input stream but not yet terminated by a line feed.
+     */
+    private final ByteArrayOutputStream pendingLine;
+
+    /**
+     * A flag indicating whether the data read from the source input stream should be retained in the sink.
+     */
+    private boolean retainData;
+
+    /**
+     * The size of the buffer used to read from the source input stream once the data is no longer read directly into a
+     * pooled chunk.
+     */
+    private final int bufferSize;
+
+    /**
+     * The maximum number of bytes retained on the heap before the data is spilled to disk.
+     */
+    private int memoryLimit;
+
+    /**
+     * The directory in which the spill file is created or {@code null} to use the default temporary directory.
+     */
+    private Path spillDirectory;
+
+    /**
+     * The error which occurred while spilling the data to disk, if any.
+     */
+    private volatile IOException spillFailure;
+
+    /**
+     * Creates a new {@link BufferedStreamSink} instance using the default {@link #BUFFER_SIZE} for the read buffer.
      *
      * @param source the underlying stream from which data should be read. This stream will not be closed when the
      *               {@link BufferedStreamSink} is closed.
@@ -74,11 +177,11 @@ public class BufferedStreamSink implements AutoCloseable {
     }
 
     /**
-     * Creates a new {@link BufferedStreamSink} instance with the specified ring buffer capacity.
+     * Creates a new {@link BufferedStreamSink} instance with the specified read buffer size.
      *
      * @param source     the underlying stream from which data should be read. This stream will not be closed when the
      *                   {@link BufferedStreamSink} is closed.
-     * @param bufferSize the capacity of the ring buffer. This value must be greater than zero.
+     * @param bufferSize the size of the read buffer. This value must be greater than zero.
      * @throws IllegalArgumentException if {@code bufferSize} is less than or equal to zero.
      * @throws NullPointerException     if {@code source} is {@code null}.
      */
@@ -87,28 +190,73 @@ public class BufferedStreamSink implements AutoCloseable {
     }
 
     /**
-     * Creates a new {@link BufferedStreamSink} instance with the specified ring buffer capacity and thread builder
+     * Creates a new {@link BufferedStreamSink} instance with the specified read buffer size and thread builder
      * supplier.
      *
      * @param source                the underlying stream from which data should be read. This stream will not be closed when the
      *                              {@link BufferedStreamSink} is closed.
-     * @param bufferSize            the capacity of the ring buffer. This value must be greater than zero.
+     * @param bufferSize            the size of the read buffer. This value must be greater than zero.
      * @param threadBuilderSupplier the supplier of the thread builder to use for creating the sink thread.
      * @throws IllegalArgumentException if {@code bufferSize} is less than or equal to zero.
      * @throws NullPointerException     if {@code source} or {@code threadBuilderSupplier} is {@code null}.
      */
     public BufferedStreamSink(
             final InputStream source, final int bufferSize, final Supplier<ThreadBuilder> threadBuilderSupplier) {
+        this(
+                source,
+                bufferSize,
+                Objects.requireNonNull(threadBuilderSupplier, "threadBuilderSupplier must not be null"),
+                null);
+    }
+
+    /**
+     * Creates a new {@link BufferedStreamSink} instance which reads the source input stream on a thread supplied by the
+     * specified {@link StreamDrainer} rather than starting its own thread.
+     *
+     * @param source  the underlying stream from which data should be read. This stream will not be closed when the
+     *                {@link BufferedStreamSink} is closed.
+     * @param drainer the drainer which runs the task reading the source input stream.
+     * @throws NullPointerException if {@code source} or {@code drainer} is {@code null}.
+     */
+    public BufferedStreamSink(final InputStream source, final StreamDrainer drainer) {
+        this(source, BUFFER_SIZE, null, Objects.requireNonNull(drainer, "drainer must not be null"));
+    }
+
+    /**
+     * Creates a new {@link BufferedStreamSink} instance which either starts its own thread or uses a drainer.
+     *
+     * @param source                the underlying stream from which data should be read.
+     * @param bufferSize            the size of the read buffer. This value must be greater than zero.
+     * @param threadBuilderSupplier the supplier of the thread builder or {@code null} if {@code drainer} is specified.
+     * @param drainer               the drainer or {@code null} if {@code threadBuilderSupplier} is specified.
+     */
+    private BufferedStreamSink(
+            final InputStream source,
+            final int bufferSize,
+            final Supplier<ThreadBuilder> threadBuilderSupplier,
+            final StreamDrainer drainer) {
         Objects.requireNonNull(source, "source must not be null");
-        Objects.requireNonNull(threadBuilderSupplier, "threadBuilderSupplier must not be null");
 
         if (bufferSize <= 0) {
             throw new IllegalArgumentException("bufferSize must be greater than zero");
         }
 
         this.source = source;
-        this.sink = new ByteArrayOutputStream(bufferSize);
+        this.bufferSize = bufferSize;
+        this.memoryLimit = DEFAULT_MEMORY_LIMIT;
+        this.sink = new SpillableBuffer(memoryLimit, null);
         this.closed = new AtomicBoolean(false);
+        this.lineListeners = new ArrayList<>();
+        this.pendingLine = new ByteArrayOutputStream();
+        this.retainData = true;
+        this.bytesRead = new AtomicLong(0);
+        this.drainer = drainer;
+        this.drainCompleted = new CountDownLatch(1);
+
+        if (drainer != null) {
+            this.thread = null;
+            return;
+        }
 
         this.thread = threadBuilderSupplier
                 .get()
@@ -117,12 +265,92 @@ public class BufferedStreamSink implements AutoCloseable {
                 .build();
     }
 
+    /**
+     * Registers a listener which is notified with each line of text read from the source input stream. The line
+     * terminators are not included in the supplied text and the text is decoded as UTF-8. Listeners are invoked on the
+     * thread reading the source input stream and therefore should not block; any exception thrown by a listener is
+     * suppressed to ensure the source input stream continues to be drained.
+     *
+     * @param listener the listener to be notified with each line of text.
+     * @return this {@link BufferedStreamSink} instance.
+     * @throws NullPointerException  if {@code listener} is {@code null}.
+     * @throws IllegalStateException if the sink has already begun reading from the source input stream.
+     */
+    public synchronized BufferedStreamSink lineListener(final Consumer<String> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        ensureNotStarted();
+        lineListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Sets whether the data read from the source input stream should be retained and made available via the
+     * {@link #end()} and {@link #getDataStream()} methods. Defaults to {@code true}.
+     *
+     * @param retainData {@code true} if the data should be retained; otherwise {@code false} if the data should only be
+     *                   delivered to the registered line listeners.
+     * @return this {@link BufferedStreamSink} instance.
+     * @throws IllegalStateException if the sink has already begun reading from the source input stream.
+     */
+    public synchronized BufferedStreamSink retainData(final boolean retainData) {
+        ensureNotStarted();
+        this.retainData = retainData;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes retained on the heap. Once this limit has been reached, any further data is
+     * spilled to a temporary file. Defaults to {@link #DEFAULT_MEMORY_LIMIT}.
+     *
+     * @param memoryLimit the maximum number of bytes retained on the heap. This value must not be negative; a value of
+     *                    zero spills all data to disk.
+     * @return this {@link BufferedStreamSink} instance.
+     * @throws IllegalArgumentException if {@code memoryLimit} is negative.
+     * @throws IllegalStateException    if the sink has already begun reading from the source input stream.
+     */
+    public synchronized BufferedStreamSink memoryLimit(final int memoryLimit) {
+        if (memoryLimit < 0) {
+            throw new IllegalArgumentException("memoryLimit must not be negative");
+        }
+
+        ensureNotStarted();
+        this.memoryLimit = memoryLimit;
+        this.sink = new SpillableBuffer(memoryLimit, spillDirectory);
+        return this;
+    }
+
+    /**
+     * Sets the directory in which the temporary file is created when the data exceeds the {@link #memoryLimit(int)}.
+     * Defaults to the system temporary directory.
+     *
+     * @param spillDirectory the directory in which the temporary file is created or {@code null} to use the system
+     *                       temporary directory.
+     * @return this {@link BufferedStreamSink} instance.
+     * @throws IllegalStateException if the sink has already begun reading from the source input stream.
+     */
+    public synchronized BufferedStreamSink spillDirectory(final Path spillDirectory) {
+        ensureNotStarted();
+        this.spillDirectory = spillDirectory;
+        this.sink = new SpillableBuffer(memoryLimit, spillDirectory);
+        return this;
+    }
+
     /**
      * Initializes the sink and begins reading data from the source input stream.
      *
      * @return this {@link BufferedStreamSink} instance.
      */
     public synchronized BufferedStreamSink begin() {
+        if (drainer != null) {
+            if (drainSubmitted) {
+                throw new IllegalStateException("the drain task has already been submitted");
+            }
+
+            drainSubmitted = true;
+            drainer.drain(this::drain);
+            return this;
+        }
+
         if (thread.isAlive() || thread.getState() != Thread.State.NEW) {
             throw new IllegalStateException("thread is already running");
         }
@@ -138,7 +366,7 @@ public class BufferedStreamSink implements AutoCloseable {
      *
      * @return the input stream containing the data which was read from the source input stream. This is the same stream
      * which is also available from the {@link  #getDataStream()} method.
-     * @throws IOException if an error occurs while closing the sink.
+     * @throws IOException if an error occurs while closing the sink or the data could not be spilled to disk.
      */
     public synchronized InputStream end() throws IOException {
         if (isClosed()) {
@@ -147,7 +375,9 @@ public class BufferedStreamSink implements AutoCloseable {
 
         closed.compareAndSet(false, true);
 
-        if (thread.isAlive()) {
+        if (drainer != null) {
+            awaitDrainCompletion();
+        } else if (thread.isAlive()) {
             try {
                 int attempts = 0;
 
@@ -168,9 +398,18 @@ public class BufferedStreamSink implements AutoCloseable {
             }
         }
 
-        destination = new ByteArrayInputStream(sink.toByteArray());
-        sink.reset();
-        sink.close();
+        if (spillFailure != null) {
+            destination = InputStream.nullInputStream();
+            sink.discard();
+            throw new IOException("failed to spill the sink data to disk", spillFailure);
+        }
+
+        try {
+            destination = sink.toInputStream();
+        } catch (final IOException e) {
+            destination = InputStream.nullInputStream();
+            throw e;
+        }
 
         return destination;
     }
@@ -208,6 +447,22 @@ public class BufferedStreamSink implements AutoCloseable {
         return destination;
     }
 
+    /**
+     * Returns a channel view of the data which was read from the source input stream. The channel shares its position
+     * with the stream returned by {@link #getDataStream()} and closing either one releases the underlying chunks.
+     *
+     * @return the data channel.
+     * @throws IllegalStateException if the sink has not been closed via the {@link #end()} or {@link #close()} methods.
+     */
+    public synchronized ReadableByteChannel getDataChannel() {
+        final InputStream dataStream = getDataStream();
+        if (dataStream instanceof ReadableByteChannel channel) {
+            return channel;
+        }
+
+        return Channels.newChannel(dataStream);
+    }
+
     /**
      * Returns a flag indicating whether or not the sink has been closed.
      *
@@ -217,20 +472,213 @@ public class BufferedStreamSink implements AutoCloseable {
         return closed.get();
     }
 
+    /**
+     * Returns the number of bytes retained by the sink, both in memory and on disk.
+     *
+     * @return the number of bytes retained by the sink.
+     */
+    public synchronized long size() {
+        return sink.size();
+    }
+
+    /**
+     * Returns a flag indicating whether the data exceeded the {@link #memoryLimit(int)} and was spilled to disk.
+     *
+     * @return {@code true} if the data was spilled to disk; otherwise {@code false}.
+     */
+    public synchronized boolean isSpilled() {
+        return sink.isSpilled();
+    }
+
+    /**
+     * Returns the total number of bytes read from the source input stream so far, including any bytes which were not
+     * retained. This value may be read while the sink is still draining the source input stream.
+     *
+     * @return the number of bytes read from the source input stream.
+     */
+    public long bytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * Verifies that the sink has not yet begun reading from the source input stream.
+     *
+     * @throws IllegalStateException if the sink thread has already been started.
+     */
+    private void ensureNotStarted() {
+        if (drainer != null ? drainSubmitted : thread.getState() != Thread.State.NEW) {
+            throw new IllegalStateException("the sink has already begun reading from the source stream");
+        }
+    }
+
+    /**
+     * Waits for the drain task submitted to the {@link #drainer} to finish. The thread running the task is interrupted
+     * if the task does not finish promptly; mirroring the behavior of {@link #end()} for sinks with their own thread.
+     *
+     * @throws IOException if the drain task does not finish within five seconds.
+     */
+    private void awaitDrainCompletion() throws IOException {
+        try {
+            int attempts = 0;
+
+            while (!drainCompleted.await(100, TimeUnit.MILLISECONDS) && attempts < 50) {
+                attempts++;
+
+                if (attempts <= 1) {
+                    synchronized (drainCompleted) {
+                        if (drainThread != null) {
+                            drainThread.interrupt();
+                        }
+                    }
+                }
+            }
+
+            if (drainCompleted.getCount() > 0) {
+                drainAbandoned = true;
+                throw new IOException("failed to complete the drain task and close the sink");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The task submitted to the {@link #drainer} which reads the source input stream until the end of the stream, even
+     * if {@link #end()} has already been called. The task returns immediately only if {@link #end()} gave up waiting
+     * for it before it started.
+     */
+    private void drain() {
+        synchronized (drainCompleted) {
+            drainThread = Thread.currentThread();
+        }
+
+        try {
+            if (!drainAbandoned) {
+                run();
+            }
+        } finally {
+            synchronized (drainCompleted) {
+                drainThread = null;
+            }
+
+            drainCompleted.countDown();
+        }
+    }
+
     /**
      * The thread which is responsible for reading data from the source input stream and writing it to the sink.
      */
     private void run() {
         try {
-            final byte[] buffer = new byte[1024];
-            int read;
+            byte[] scratch = null;
+
+            while (true) {
+                final byte[] chunk = retainData && spillFailure == null ? sink.tailChunk() : null;
+                final byte[] buffer;
+                final int offset;
+                final int read;
+
+                if (chunk != null) {
+                    // Read directly into the pooled chunk so that the retained data is never copied
+                    buffer = chunk;
+                    offset = sink.tailOffset();
+                    read = source.read(chunk, offset, sink.tailCapacity());
+                    if (read > 0) {
+                        sink.commit(read);
+                    }
+                } else {
+                    if (scratch == null) {
+                        scratch = new byte[bufferSize];
+                    }
 
-            while ((read = source.read(buffer)) != -1) {
-                sink.write(buffer, 0, read);
-                sink.flush();
+                    buffer = scratch;
+                    offset = 0;
+                    read = source.read(scratch, 0, bufferSize);
+                    if (read > 0 && retainData && spillFailure == null) {
+                        retain(scratch, read);
+                    }
+                }
+
+                if (read == -1) {
+                    break;
+                }
+
+                if (read == 0) {
+                    // A source which returns without data must not monopolize a thread shared with other sinks
+                    Thread.yield();
+                    continue;
+                }
+
+                bytesRead.addAndGet(read);
+
+                if (!lineListeners.isEmpty()) {
+                    dispatchLines(buffer, offset, read);
+                }
             }
         } catch (IOException ignored) {
             // ignored
+        } finally {
+            if (pendingLine.size() > 0) {
+                notifyLineListeners();
+            }
+        }
+    }
+
+    /**
+     * Writes the supplied data to the sink. Any failure to spill the data to disk is recorded and reported by
+     * {@link #end()}; the source input stream continues to be drained so that the producer is never blocked.
+     *
+     * @param buffer the buffer containing the data read from the source input stream.
+     * @param length the number of valid bytes in the buffer.
+     */
+    private void retain(final byte[] buffer, final int length) {
+        try {
+            sink.write(buffer, 0, length);
+        } catch (final IOException e) {
+            spillFailure = e;
+        }
+    }
+
+    /**
+     * Splits the supplied data into lines and notifies the line listeners of each completed line. Any trailing data
+     * which is not terminated by a line feed is held until the next invocation or the end of the source input stream.
+     *
+     * @param buffer the buffer containing the data read from the source input stream.
+     * @param offset the offset of the first valid byte in the buffer.
+     * @param length the number of valid bytes in the buffer.
+     */
+    private void dispatchLines(final byte[] buffer, final int offset, final int length) {
+        final int end = offset + length;
+        int lineStart = offset;
+
+        for (int i = offset; i < end; i++) {
+            if (buffer[i] == '\n') {
+                pendingLine.write(buffer, lineStart, i - lineStart);
+                notifyLineListeners();
+                lineStart = i + 1;
+            }
+        }
+
+        if (lineStart < end) {
+            pendingLine.write(buffer, lineStart, end - lineStart);
+        }
+    }
+
+    /**
+     * Notifies the line listeners with the pending line and resets the pending line buffer.
+     */
+    private void notifyLineListeners() {
+        int length = pendingLine.size();
+        final byte[] bytes = pendingLine.toByteArray();
+        pendingLine.reset();
+
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+
+        final String line = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        for (final Consumer<String> listener : lineListeners) {
+            suppressExceptions(() -> listener.accept(line));
         }
     }
 }
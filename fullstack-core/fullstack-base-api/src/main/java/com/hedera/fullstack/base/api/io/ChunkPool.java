@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.io;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, thread-safe pool of fixed-size byte array chunks. Chunks which are released while the pool is full are
+ * left for the garbage collector, therefore the heap retained by the pool never exceeds
+ * {@code chunkSize * maxPooledChunks} bytes.
+ */
+final class ChunkPool {
+    /**
+     * The size of each chunk in bytes.
+     */
+    static final int CHUNK_SIZE = BufferedStreamSink.BUFFER_SIZE;
+
+    /**
+     * The maximum number of chunks retained by the shared pool.
+     */
+    private static final int MAX_POOLED_CHUNKS = 256;
+
+    /**
+     * The pool shared by all sinks.
+     */
+    private static final ChunkPool SHARED = new ChunkPool(CHUNK_SIZE, MAX_POOLED_CHUNKS);
+
+    /**
+     * The size of each chunk in bytes.
+     */
+    private final int chunkSize;
+
+    /**
+     * The maximum number of chunks retained by this pool.
+     */
+    private final int maxPooledChunks;
+
+    /**
+     * The chunks available for reuse.
+     */
+    private final ConcurrentLinkedQueue<byte[]> available;
+
+    /**
+     * The number of chunks available for reuse. Tracked separately because {@link ConcurrentLinkedQueue#size()} is not
+     * a constant time operation.
+     */
+    private final AtomicInteger pooled;
+
+    /**
+     * Creates a new {@link ChunkPool} instance.
+     *
+     * @param chunkSize       the size of each chunk in bytes.
+     * @param maxPooledChunks the maximum number of chunks retained by this pool.
+     */
+    ChunkPool(final int chunkSize, final int maxPooledChunks) {
+        this.chunkSize = chunkSize;
+        this.maxPooledChunks = maxPooledChunks;
+        this.available = new ConcurrentLinkedQueue<>();
+        this.pooled = new AtomicInteger(0);
+    }
+
+    /**
+     * Returns the pool shared by all sinks.
+     *
+     * @return the shared pool.
+     */
+    static ChunkPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the size of each chunk in bytes.
+     *
+     * @return the chunk size.
+     */
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Takes a chunk from the pool or allocates a new chunk if none are available. The content of a reused chunk is
+     * undefined.
+     *
+     * @return a chunk of {@link #chunkSize()} bytes.
+     */
+    byte[] acquire() {
+        final byte[] chunk = available.poll();
+        if (chunk == null) {
+            return new byte[chunkSize];
+        }
+
+        pooled.decrementAndGet();
+        return chunk;
+    }
+
+    /**
+     * Returns the chunks to the pool. The caller must not use the chunks after calling this method.
+     *
+     * @param chunks the chunks to return.
+     */
+    void release(final Collection<byte[]> chunks) {
+        Objects.requireNonNull(chunks, "chunks must not be null");
+
+        for (final byte[] chunk : chunks) {
+            if (chunk.length != chunkSize) {
+                continue;
+            }
+
+            if (pooled.incrementAndGet() <= maxPooledChunks) {
+                available.offer(chunk);
+            } else {
+                pooled.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.io;
+
+import com.hedera.fullstack.base.api.threading.ThreadBuilder;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link StreamDrainer} which runs the drain tasks on an {@link Executor}.
+ */
+final class ExecutorStreamDrainer implements StreamDrainer {
+    /**
+     * The name prefix of the threads which run the drain tasks.
+     */
+    private static final String THREAD_NAME_PREFIX = "stream-drainer-";
+
+    /**
+     * The drainer shared by the whole JVM which runs each drain task on a new virtual thread.
+     */
+    static final ExecutorStreamDrainer SHARED = new ExecutorStreamDrainer(
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory()),
+            null);
+
+    /**
+     * The executor on which the drain tasks are run.
+     */
+    private final Executor executor;
+
+    /**
+     * The executor service owned by this drainer which is shut down on close or {@code null} if the executor is
+     * owned by the caller.
+     */
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Creates a new {@link ExecutorStreamDrainer} instance.
+     *
+     * @param executor      the executor on which the drain tasks are run.
+     * @param ownedExecutor the executor service owned by this drainer or {@code null} if the executor is owned by the
+     *                      caller.
+     * @throws NullPointerException if {@code executor} is {@code null}.
+     */
+    ExecutorStreamDrainer(final Executor executor, final ExecutorService ownedExecutor) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Creates a new drainer backed by a fixed pool of daemon platform threads.
+     *
+     * @param threads the number of threads in the pool.
+     * @return a new {@link ExecutorStreamDrainer} which owns the pool.
+     * @throws IllegalArgumentException if {@code threads} is less than or equal to zero.
+     */
+    static ExecutorStreamDrainer fixedPool(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be greater than zero");
+        }
+
+        final AtomicInteger index = new AtomicInteger(0);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, r -> new ThreadBuilder(r)
+                .name(THREAD_NAME_PREFIX + index.getAndIncrement())
+                .daemon(true)
+                .build());
+        return new ExecutorStreamDrainer(pool, pool);
+    }
+
+    @Override
+    public void drain(final Runnable task) {
+        Objects.requireNonNull(task, "task must not be null");
+        executor.execute(task);
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A write-once byte buffer which holds at most a fixed number of bytes on the heap in a list of fixed-size chunks
+ * taken from a {@link ChunkPool}. Any data written beyond the memory limit is spilled to a temporary file. The spilled
+ * data is read back through a {@link FileChannel} opened with {@link StandardOpenOption#DELETE_ON_CLOSE}, therefore the
+ * temporary file is removed once the stream returned by {@link #toInputStream()} is closed.
+ * <p>
+ * Data may either be copied into the buffer via {@link #write(byte[], int, int)} or read directly into the tail chunk
+ * via {@link #tailChunk()}, {@link #tailOffset()}, {@link #tailCapacity()} and {@link #commit(int)}.
+ * <p>
+ * The temporary file is written through a {@link FileOutputStream} rather than a {@link FileChannel} because the
+ * writing thread may be interrupted by {@link BufferedStreamSink#end()} and an interrupt permanently closes a
+ * {@link FileChannel}.
+ */
+final class SpillableBuffer {
+    /**
+     * The prefix of the temporary files created when the buffer spills to disk.
+     */
+    private static final String SPILL_FILE_PREFIX = "stream-sink-";
+
+    /**
+     * The suffix of the temporary files created when the buffer spills to disk.
+     */
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+
+    /**
+     * The size of the heap buffer used when writing to the temporary file.
+     */
+    private static final int SPILL_BUFFER_SIZE = 65536;
+
+    /**
+     * The pool from which the chunks are taken and to which they are returned.
+     */
+    private final ChunkPool pool;
+
+    /**
+     * The maximum number of bytes retained on the heap.
+     */
+    private final int memoryLimit;
+
+    /**
+     * The directory in which the temporary file is created or {@code null} to use the default temporary directory.
+     */
+    private final Path spillDirectory;
+
+    /**
+     * The chunks holding the in-memory portion of the data. Every chunk except the last is full.
+     */
+    private final List<byte[]> chunks;
+
+    /**
+     * The number of bytes held in the {@link #chunks}.
+     */
+    private int count;
+
+    /**
+     * The temporary file or {@code null} if the buffer has not spilled to disk.
+     */
+    private Path spillFile;
+
+    /**
+     * The stream used to write the temporary file or {@code null} if the buffer has not spilled to disk.
+     */
+    private OutputStream spillOutput;
+
+    /**
+     * The number of bytes written to the temporary file.
+     */
+    private long spilled;
+
+    /**
+     * Creates a new {@link SpillableBuffer} instance which uses the shared {@link ChunkPool}.
+     *
+     * @param memoryLimit    the maximum number of bytes retained on the heap.
+     * @param spillDirectory the directory in which the temporary file is created or {@code null} to use the default
+     *                       temporary directory.
+     */
+    SpillableBuffer(final int memoryLimit, final Path spillDirectory) {
+        this(ChunkPool.shared(), memoryLimit, spillDirectory);
+    }
+
+    /**
+     * Creates a new {@link SpillableBuffer} instance.
+     *
+     * @param pool           the pool from which the chunks are taken.
+     * @param memoryLimit    the maximum number of bytes retained on the heap.
+     * @param spillDirectory the directory in which the temporary file is created or {@code null} to use the default
+     *                       temporary directory.
+     */
+    SpillableBuffer(final ChunkPool pool, final int memoryLimit, final Path spillDirectory) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.memoryLimit = memoryLimit;
+        this.spillDirectory = spillDirectory;
+        this.chunks = new ArrayList<>();
+        this.count = 0;
+        this.spilled = 0;
+    }
+
+    /**
+     * Returns the chunk into which the next bytes should be read, acquiring a new chunk from the pool if the current
+     * chunk is full.
+     *
+     * @return the tail chunk or {@code null} if the memory limit has been reached.
+     */
+    byte[] tailChunk() {
+        if (count >= memoryLimit) {
+            return null;
+        }
+
+        if (count == chunks.size() * pool.chunkSize()) {
+            chunks.add(pool.acquire());
+        }
+
+        return chunks.get(chunks.size() - 1);
+    }
+
+    /**
+     * Returns the offset within the {@link #tailChunk()} at which the next bytes should be written.
+     *
+     * @return the offset within the tail chunk.
+     */
+    int tailOffset() {
+        return count % pool.chunkSize();
+    }
+
+    /**
+     * Returns the number of bytes which may be written to the {@link #tailChunk()} starting at the
+     * {@link #tailOffset()} without exceeding either the chunk or the memory limit.
+     *
+     * @return the writable capacity of the tail chunk.
+     */
+    int tailCapacity() {
+        return Math.min(pool.chunkSize() - tailOffset(), memoryLimit - count);
+    }
+
+    /**
+     * Marks the specified number of bytes written directly into the {@link #tailChunk()} as part of the buffer.
+     *
+     * @param length the number of bytes written into the tail chunk.
+     */
+    void commit(final int length) {
+        count += length;
+    }
+
+    /**
+     * Appends the specified bytes to the buffer, spilling to disk once the memory limit has been reached.
+     *
+     * @param buffer the data to append.
+     * @param offset the offset of the first byte to append.
+     * @param length the number of bytes to append.
+     * @throws IOException if the temporary file cannot be created or written.
+     */
+    void write(final byte[] buffer, final int offset, final int length) throws IOException {
+        int position = offset;
+        int remaining = length;
+
+        byte[] tail;
+        while (remaining > 0 && (tail = tailChunk()) != null) {
+            final int copied = Math.min(remaining, tailCapacity());
+            System.arraycopy(buffer, position, tail, tailOffset(), copied);
+            commit(copied);
+            position += copied;
+            remaining -= copied;
+        }
+
+        if (remaining == 0) {
+            return;
+        }
+
+        if (spillOutput == null) {
+            spillFile = createSpillFile();
+            spillOutput = new BufferedOutputStream(new FileOutputStream(spillFile.toFile()), SPILL_BUFFER_SIZE);
+        }
+
+        spillOutput.write(buffer, position, remaining);
+        spilled += remaining;
+    }
+
+    /**
+     * Returns the total number of bytes held by this buffer.
+     *
+     * @return the number of bytes held in memory and on disk.
+     */
+    long size() {
+        return count + spilled;
+    }
+
+    /**
+     * Returns a flag indicating whether the buffer has spilled to disk.
+     *
+     * @return {@code true} if a temporary file has been created; otherwise {@code false}.
+     */
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Returns a stream which reads the in-memory chunks followed by the spilled data. The chunks and the file are
+     * handed over to the stream rather than copied and are released when the stream is closed; therefore the buffer
+     * must not be used after calling this method.
+     *
+     * @return a stream which supports {@link InputStream#mark(int)} and {@link InputStream#reset()}. Unless the buffer
+     * is empty, the stream also implements {@link ReadableByteChannel}.
+     * @throws IOException if the temporary file cannot be flushed or opened for reading.
+     */
+    InputStream toInputStream() throws IOException {
+        if (size() == 0) {
+            discard();
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        FileChannel channel = null;
+        if (spillFile != null) {
+            try {
+                spillOutput.close();
+                channel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (final IOException e) {
+                discard();
+                throw e;
+            }
+        }
+
+        return new ChunkedInputStream(pool, List.copyOf(chunks), count, channel, spilled);
+    }
+
+    /**
+     * Returns the chunks to the pool and removes the temporary file, if any, without handing them over to a stream.
+     *
+     * @throws IOException if the temporary file cannot be closed or removed.
+     */
+    void discard() throws IOException {
+        pool.release(chunks);
+        chunks.clear();
+        count = 0;
+
+        if (spillFile == null) {
+            return;
+        }
+
+        try {
+            spillOutput.close();
+        } finally {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    /**
+     * Creates the temporary file to which the data exceeding the memory limit is written.
+     *
+     * @return the path of the temporary file.
+     * @throws IOException if the temporary file cannot be created.
+     */
+    private Path createSpillFile() throws IOException {
+        return spillDirectory != null
+                ? Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX)
+                : Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+    }
+
+    /**
+     * A zero-copy view over the in-memory chunks followed by the data in the temporary file. The view may be consumed
+     * either as an {@link InputStream} or as a {@link ReadableByteChannel}; both share the same position. Reads from
+     * the file use positional reads so that the stream supports mark and reset without additional buffering. Closing
+     * the view returns the chunks to the pool and removes the temporary file.
+     */
+    private static final class ChunkedInputStream extends InputStream implements ReadableByteChannel {
+        /**
+         * The pool to which the chunks are returned.
+         */
+        private final ChunkPool pool;
+
+        /**
+         * The chunks holding the in-memory portion of the data.
+         */
+        private final List<byte[]> chunks;
+
+        /**
+         * The number of bytes held in the {@link #chunks}.
+         */
+        private final int count;
+
+        /**
+         * The channel of the temporary file or {@code null} if the data was not spilled to disk.
+         */
+        private final FileChannel channel;
+
+        /**
+         * The total number of bytes available from this view.
+         */
+        private final long length;
+
+        /**
+         * The current position within the view.
+         */
+        private long position;
+
+        /**
+         * The marked position within the view.
+         */
+        private long mark;
+
+        /**
+         * A flag indicating whether the view has been closed.
+         */
+        private boolean closed;
+
+        /**
+         * Creates a new {@link ChunkedInputStream} instance.
+         *
+         * @param pool    the pool to which the chunks are returned.
+         * @param chunks  the chunks holding the in-memory portion of the data.
+         * @param count   the number of bytes held in the chunks.
+         * @param channel the channel of the temporary file or {@code null} if the data was not spilled to disk.
+         * @param spilled the number of bytes written to the temporary file.
+         */
+        private ChunkedInputStream(
+                final ChunkPool pool,
+                final List<byte[]> chunks,
+                final int count,
+                final FileChannel channel,
+                final long spilled) {
+            this.pool = pool;
+            this.chunks = chunks;
+            this.count = count;
+            this.channel = channel;
+            this.length = count + spilled;
+            this.position = 0;
+            this.mark = 0;
+            this.closed = false;
+        }
+
+        @Override
+        public synchronized int read() throws IOException {
+            ensureOpen();
+            if (position >= length) {
+                return -1;
+            }
+
+            if (position < count) {
+                final int chunkSize = pool.chunkSize();
+                final int value = chunks.get((int) (position / chunkSize))[(int) (position % chunkSize)] & 0xFF;
+                position++;
+                return value;
+            }
+
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public synchronized int read(final byte[] buffer, final int offset, final int len) throws IOException {
+            Objects.checkFromIndexSize(offset, len, buffer.length);
+            ensureOpen();
+            if (len == 0) {
+                return 0;
+            }
+
+            if (position >= length) {
+                return -1;
+            }
+
+            if (position < count) {
+                final int chunkSize = pool.chunkSize();
+                final int chunkOffset = (int) (position % chunkSize);
+                final int read = (int) Math.min(Math.min(len, chunkSize - chunkOffset), count - position);
+                System.arraycopy(chunks.get((int) (position / chunkSize)), chunkOffset, buffer, offset, read);
+                position += read;
+                return read;
+            }
+
+            final int requested = (int) Math.min(len, length - position);
+            return readSpilled(ByteBuffer.wrap(buffer, offset, requested));
+        }
+
+        @Override
+        public synchronized int read(final ByteBuffer destination) throws IOException {
+            Objects.requireNonNull(destination, "destination must not be null");
+            if (closed) {
+                throw new ClosedChannelException();
+            }
+
+            if (!destination.hasRemaining()) {
+                return 0;
+            }
+
+            if (position >= length) {
+                return -1;
+            }
+
+            if (position < count) {
+                final int chunkSize = pool.chunkSize();
+                final int chunkOffset = (int) (position % chunkSize);
+                final int read = (int)
+                        Math.min(Math.min(destination.remaining(), chunkSize - chunkOffset), count - position);
+                destination.put(chunks.get((int) (position / chunkSize)), chunkOffset, read);
+                position += read;
+                return read;
+            }
+
+            if (destination.remaining() <= length - position) {
+                return readSpilled(destination);
+            }
+
+            final ByteBuffer limited = destination.slice(destination.position(), (int) (length - position));
+            final int read = readSpilled(limited);
+            if (read > 0) {
+                destination.position(destination.position() + read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public synchronized long skip(final long n) throws IOException {
+            ensureOpen();
+            final long skipped = Math.max(0, Math.min(n, length - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public synchronized int available() throws IOException {
+            ensureOpen();
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(final int readLimit) {
+            mark = position;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            ensureOpen();
+            position = mark;
+        }
+
+        @Override
+        public synchronized boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            pool.release(chunks);
+
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        /**
+         * Reads from the temporary file at the current position into the destination buffer.
+         *
+         * @param destination the buffer into which the bytes are read.
+         * @return the number of bytes read or {@code -1} if the end of the file has been reached.
+         * @throws IOException if the temporary file cannot be read.
+         */
+        private int readSpilled(final ByteBuffer destination) throws IOException {
+            final int read = channel.read(destination, position - count);
+            if (read <= 0) {
+                return -1;
+            }
+
+            position += read;
+            return read;
+        }
+
+        /**
+         * Verifies that the view has not been closed.
+         *
+         * @throws IOException if the view has been closed.
+         */
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("stream closed");
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.io;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A service which runs the tasks draining input streams, such as the standard output and standard error pipes of child
+ * processes, on behalf of {@link BufferedStreamSink} instances. Implementations decide which threads the drain tasks
+ * are run on, allowing many sinks to share a common set of threads instead of each sink starting its own platform
+ * thread.
+ * <p>
+ * Each drain task performs blocking reads until its source stream reaches the end of the stream, therefore a task
+ * occupies its thread for the lifetime of the stream.
+ */
+@FunctionalInterface
+public interface StreamDrainer extends AutoCloseable {
+
+    /**
+     * Schedules the supplied drain task for execution.
+     *
+     * @param task the task which drains a single input stream.
+     * @throws RejectedExecutionException if the task cannot be accepted for execution.
+     * @throws NullPointerException       if {@code task} is {@code null}.
+     */
+    void drain(Runnable task);
+
+    /**
+     * Releases any threads owned by this drainer. Drain tasks which are already running are allowed to complete. The
+     * default implementation does nothing.
+     */
+    @Override
+    default void close() {
+        // nothing to release by default
+    }
+
+    /**
+     * Returns the drainer shared by the whole JVM which runs each drain task on a new virtual thread. Closing the shared
+     * drainer has no effect.
+     *
+     * @return the shared {@link StreamDrainer} instance.
+     */
+    static StreamDrainer shared() {
+        return ExecutorStreamDrainer.SHARED;
+    }
+
+    /**
+     * Creates a new drainer which runs the drain tasks on a fixed pool of daemon platform threads. The pool must be
+     * sized for the maximum number of concurrently open streams: once every thread is busy, additional drain tasks are
+     * queued and the producers of the queued streams may block once their pipe buffers fill up.
+     *
+     * @param threads the number of threads in the pool.
+     * @return a new {@link StreamDrainer} which must be closed to release the pool.
+     * @throws IllegalArgumentException if {@code threads} is less than or equal to zero.
+     */
+    static StreamDrainer fixedPool(final int threads) {
+        return ExecutorStreamDrainer.fixedPool(threads);
+    }
+
+    /**
+     * Creates a new drainer which runs the drain tasks on the supplied executor. The executor is not shut down when
+     * the drainer is closed.
+     *
+     * @param executor the executor on which the drain tasks are run.
+     * @return a new {@link StreamDrainer} instance.
+     * @throws NullPointerException if {@code executor} is {@code null}.
+     */
+    static StreamDrainer of(final Executor executor) {
+        return new ExecutorStreamDrainer(executor, null);
+    }
+}
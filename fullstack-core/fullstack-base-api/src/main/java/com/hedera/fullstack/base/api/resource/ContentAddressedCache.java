@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.resource;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A directory of files addressed by the SHA-256 digest of their content. Each entry is stored at
+ * {@code <root>/<sha256>/<fileName>} alongside a marker file which is written only after the entry has been
+ * completely extracted and verified.
+ * <p>
+ * Entries are created under an exclusive {@link FileLock} held on a lock file in the entry directory, which makes the
+ * cache safe to share between processes. Because file locks are held on behalf of the whole JVM, threads within the
+ * same JVM are additionally serialized by an in-memory lock per entry.
+ */
+final class ContentAddressedCache {
+    /**
+     * The suffix of the marker file written once an entry is complete.
+     */
+    private static final String COMPLETE_SUFFIX = ".complete";
+
+    /**
+     * The name of the lock file guarding the creation of the entries in a directory.
+     */
+    private static final String LOCK_FILE_NAME = ".lock";
+
+    /**
+     * The in-memory locks guarding the entry directories, shared by every cache instance in the JVM.
+     */
+    private static final Map<Path, ReentrantLock> ENTRY_LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * The root directory of the cache.
+     */
+    private final Path root;
+
+    /**
+     * Creates a new {@link ContentAddressedCache} instance rooted at the specified directory.
+     *
+     * @param root the root directory of the cache, which is created on demand.
+     * @throws NullPointerException if {@code root} is {@code null}.
+     */
+    ContentAddressedCache(final Path root) {
+        this.root = Objects.requireNonNull(root, "root must not be null").toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the cached copy of the content, extracting the content from the source if the cache does not yet contain
+     * a complete entry for the digest.
+     *
+     * @param fileName the name of the file within the entry directory.
+     * @param digest   the expected SHA-256 digest of the content as a hexadecimal string or {@code null} if the digest
+     *                 is unknown, in which case the source is read once to compute it.
+     * @param source   the source of the content.
+     * @return the path to the cached file.
+     * @throws IOException if the content cannot be extracted, does not match the expected digest, or an I/O error
+     *                     occurs.
+     */
+    Path get(final String fileName, final String digest, final Source source) throws IOException {
+        Objects.requireNonNull(fileName, "fileName must not be null");
+        Objects.requireNonNull(source, "source must not be null");
+
+        final String key = digest != null ? normalizeDigest(digest) : digestOf(source);
+        final Path entry = root.resolve(key);
+        final Path target = entry.resolve(fileName);
+        final Path marker = entry.resolve(fileName + COMPLETE_SUFFIX);
+
+        if (isComplete(target, marker)) {
+            return target;
+        }
+
+        Files.createDirectories(entry);
+        final ReentrantLock lock = ENTRY_LOCKS.computeIfAbsent(entry, k -> new ReentrantLock());
+        lock.lock();
+        try (final FileChannel channel = FileChannel.open(
+                        entry.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                final FileLock ignored = channel.lock()) {
+            // another thread or process may have completed the entry while we were waiting for the lock
+            if (isComplete(target, marker)) {
+                return target;
+            }
+
+            extract(key, source, entry, target, marker);
+            return target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies the content into a temporary file while computing its digest, verifies the digest and then atomically
+     * moves the file and its marker into place.
+     *
+     * @param digest the expected digest of the content.
+     * @param source the source of the content.
+     * @param entry  the entry directory.
+     * @param target the final location of the file.
+     * @param marker the marker file which records the entry as complete.
+     * @throws IOException if the content does not match the expected digest or an I/O error occurs.
+     */
+    private static void extract(
+            final String digest, final Source source, final Path entry, final Path target, final Path marker)
+            throws IOException {
+        final Path tempFile = Files.createTempFile(entry, target.getFileName().toString(), ".tmp");
+        try {
+            final MessageDigest md = CacheFileUtils.newSha256();
+            final long size;
+            try (final InputStream in = new DigestInputStream(source.open(), md);
+                    final OutputStream out = Files.newOutputStream(tempFile)) {
+                size = in.transferTo(out);
+            }
+
+            final String actual = CacheFileUtils.toHex(md);
+            if (!actual.equals(digest)) {
+                throw new IOException(String.format(
+                        "Digest mismatch while extracting '%s' [expected=%s, actual=%s]",
+                        target.getFileName(), digest, actual));
+            }
+
+            setPermissions(tempFile);
+            Files.deleteIfExists(marker);
+            CacheFileUtils.moveAtomically(tempFile, target);
+
+            Files.writeString(tempFile, Long.toString(size), StandardCharsets.UTF_8);
+            CacheFileUtils.moveAtomically(tempFile, marker);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Determines whether the entry is complete. An entry is complete when the marker file exists and the size recorded
+     * in the marker matches the size of the cached file, which detects files truncated or replaced after extraction.
+     *
+     * @param target the cached file.
+     * @param marker the marker file of the entry.
+     * @return {@code true} if the entry is complete; otherwise, {@code false}.
+     */
+    private static boolean isComplete(final Path target, final Path marker) {
+        try {
+            if (!Files.isRegularFile(target) || !Files.isRegularFile(marker)) {
+                return false;
+            }
+
+            final long expectedSize = Long.parseLong(Files.readString(marker, StandardCharsets.UTF_8).trim());
+            return Files.size(target) == expectedSize;
+        } catch (final IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the source to the end and computes the digest of its content.
+     *
+     * @param source the source of the content.
+     * @return the hexadecimal digest of the content.
+     * @throws IOException if the source cannot be read.
+     */
+    private static String digestOf(final Source source) throws IOException {
+        final MessageDigest md = CacheFileUtils.newSha256();
+        try (final InputStream in = new DigestInputStream(source.open(), md)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        return CacheFileUtils.toHex(md);
+    }
+
+    /**
+     * Validates and normalizes a hexadecimal SHA-256 digest.
+     *
+     * @param digest the digest to normalize.
+     * @return the lowercase digest.
+     * @throws IOException if the digest is not a valid hexadecimal SHA-256 digest.
+     */
+    static String normalizeDigest(final String digest) throws IOException {
+        final String normalized = digest.trim().toLowerCase(Locale.ROOT);
+        if (normalized.length() != 64 || !normalized.chars().allMatch(HexFormat::isHexDigit)) {
+            throw new IOException("Invalid " + CacheFileUtils.DIGEST_ALGORITHM + " digest: " + digest);
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Makes the file readable and executable by everyone and writable only by the owner.
+     *
+     * @param file the file to update.
+     * @throws IOException if the permissions cannot be set.
+     */
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static void setPermissions(final Path file) throws IOException {
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rwxr-xr-x"));
+        } else {
+            final File f = file.toFile();
+            f.setExecutable(true, false);
+            f.setReadable(true, false);
+        }
+    }
+
+    /**
+     * Opens a new stream over the content to be cached.
+     */
+    @FunctionalInterface
+    interface Source {
+        /**
+         * Opens a new stream over the content.
+         *
+         * @return a new input stream which the caller must close.
+         * @throws IOException if the stream cannot be opened.
+         */
+        InputStream open() throws IOException;
+    }
+}
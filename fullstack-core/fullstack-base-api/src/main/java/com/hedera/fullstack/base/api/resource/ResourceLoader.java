@@ -23,16 +23,36 @@ import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public class ResourceLoader<T> {
 
+    /**
+     * The system property which overrides the default cache directory used by {@link #loadCached(String)}.
+     */
+    public static final String CACHE_DIRECTORY_PROPERTY = "fullstack.cache.directory";
+
+    /**
+     * The suffix of the optional resource which contains the hexadecimal SHA-256 digest of a resource. When present,
+     * the digest allows {@link #loadCached(String)} to locate the cached copy without reading the resource.
+     */
+    public static final String DIGEST_SUFFIX = ".sha256";
+
+    /**
+     * The name of the directory created beneath the per-user cache location.
+     */
+    private static final String CACHE_DIRECTORY_NAME = "fullstack-testing";
+
     /**
      * The class which is requesting the resources.
      */
@@ -43,6 +63,12 @@ public class ResourceLoader<T> {
      */
     private final List<ClassLoader> resolvers;
 
+    /**
+     * The paths of the resources previously loaded by {@link #loadCached(String, Path)} keyed by the cache directory
+     * and resource path.
+     */
+    private final Map<String, Path> cachedPaths;
+
     /**
      * Constructs a new {@link ResourceLoader} for the specified class which is requesting the resources.
      *
@@ -57,6 +83,7 @@ public class ResourceLoader<T> {
         this.resolvers.add(this.requester.getClassLoader());
         this.resolvers.add(ClassLoader.getSystemClassLoader());
         this.resolvers.add(ClassLoader.getPlatformClassLoader());
+        this.cachedPaths = new ConcurrentHashMap<>();
     }
 
     /**
@@ -89,6 +116,85 @@ public class ResourceLoader<T> {
         return tempFile;
     }
 
+    /**
+     * Locates the resource on the classpath at the given path and returns a copy of the file stored in the per-user
+     * cache directory. See {@link #loadCached(String, Path)} for details.
+     *
+     * @param path the relative or absolute path to the resource to load.
+     * @return the path to the resource in the cache directory.
+     * @throws IOException if the resource cannot be loaded or an I/O error occurs.
+     * @see #defaultCacheDirectory()
+     */
+    public Path loadCached(final String path) throws IOException {
+        return loadCached(path, defaultCacheDirectory());
+    }
+
+    /**
+     * Locates the resource on the classpath at the given path and returns a copy of the file stored in the supplied
+     * cache directory at {@code <cacheDirectory>/<sha256>/<fileName>}. The resource is extracted and verified at most
+     * once per content digest; subsequent calls, including calls from other processes, reuse the cached copy. The
+     * cached file is readable and executable by everyone but only writable by the owner.
+     * <p>
+     * If a resource named {@code path + }{@link #DIGEST_SUFFIX} exists, it supplies the digest and the cached copy is
+     * located without reading the resource. Otherwise, the resource is read once per {@link ResourceLoader} instance
+     * to compute its digest.
+     *
+     * @param path           the relative or absolute path to the resource to load.
+     * @param cacheDirectory the root of the cache directory, which is created if it does not exist.
+     * @return the path to the resource in the cache directory.
+     * @throws IOException if the resource cannot be loaded, its content does not match the published digest, or an
+     *                     I/O error occurs.
+     */
+    public Path loadCached(final String path, final Path cacheDirectory) throws IOException {
+        Objects.requireNonNull(path, "path cannot be null");
+        Objects.requireNonNull(cacheDirectory, "cacheDirectory cannot be null");
+
+        final String key = cacheDirectory.toAbsolutePath().normalize() + "!" + path;
+        final Path previous = cachedPaths.get(key);
+        if (previous != null && Files.isRegularFile(previous)) {
+            return previous;
+        }
+
+        final String fileName = Path.of(path).getFileName().toString();
+        final ContentAddressedCache cache = new ContentAddressedCache(cacheDirectory);
+        final Path cachedFile = cache.get(fileName, readDigest(path), () -> acquireResourceStream(path));
+        cachedPaths.put(key, cachedFile);
+        return cachedFile;
+    }
+
+    /**
+     * Returns the default per-user cache directory used by {@link #loadCached(String)}. The location is resolved in the
+     * following order:
+     * <ol>
+     *     <li>the value of the {@value #CACHE_DIRECTORY_PROPERTY} system property;</li>
+     *     <li>{@code $XDG_CACHE_HOME/fullstack-testing};</li>
+     *     <li>{@code %LOCALAPPDATA%/fullstack-testing} on Windows;</li>
+     *     <li>{@code ~/.cache/fullstack-testing}.</li>
+     * </ol>
+     *
+     * @return the path to the default cache directory.
+     */
+    public static Path defaultCacheDirectory() {
+        final String override = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        if (override != null && !override.isBlank()) {
+            return Path.of(override);
+        }
+
+        final String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        if (xdgCacheHome != null && !xdgCacheHome.isBlank()) {
+            return Path.of(xdgCacheHome, CACHE_DIRECTORY_NAME);
+        }
+
+        final String localAppData = System.getenv("LOCALAPPDATA");
+        if (System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win")
+                && localAppData != null
+                && !localAppData.isBlank()) {
+            return Path.of(localAppData, CACHE_DIRECTORY_NAME);
+        }
+
+        return Path.of(System.getProperty("user.home"), ".cache", CACHE_DIRECTORY_NAME);
+    }
+
     /**
      * Locates the directory on the classpath at the given path and copies the files recursively to a temporary directory.
      * Additionally, the file and directory permissions are set to be world readable, writable, and executable.
@@ -142,6 +248,22 @@ public class ResourceLoader<T> {
      * @throws NullPointerException if the path is {@code null}.
      */
     private InputStream acquireResourceStream(final String path) throws IOException {
+        final InputStream stream = findResourceStream(path);
+        if (stream != null) {
+            return stream;
+        }
+
+        throw new IOException("Unable to acquire resource stream for path: " + path);
+    }
+
+    /**
+     * Finds the resource stream for the specified path.
+     *
+     * @param path the path to the resource to find.
+     * @return an {@link InputStream} for the specified resource or {@code null} if the resource does not exist.
+     * @throws NullPointerException if the path is {@code null}.
+     */
+    private InputStream findResourceStream(final String path) {
         Objects.requireNonNull(path, "path cannot be null");
 
         for (final ClassLoader resolver : resolvers) {
@@ -151,7 +273,28 @@ public class ResourceLoader<T> {
             }
         }
 
-        throw new IOException("Unable to acquire resource stream for path: " + path);
+        return null;
+    }
+
+    /**
+     * Reads the published SHA-256 digest of the resource at the specified path. The digest resource may follow the
+     * {@code sha256sum} format, in which case only the first token is used.
+     *
+     * @param path the path to the resource whose digest should be read.
+     * @return the hexadecimal digest or {@code null} if no digest is published for the resource.
+     * @throws IOException if the digest resource cannot be read or does not contain a valid digest.
+     */
+    private String readDigest(final String path) throws IOException {
+        final InputStream stream = findResourceStream(path + DIGEST_SUFFIX);
+        if (stream == null) {
+            return null;
+        }
+
+        try (stream) {
+            final String content = new String(stream.readAllBytes(), StandardCharsets.US_ASCII).trim();
+            final String digest = content.split("\\s+", 2)[0];
+            return ContentAddressedCache.normalizeDigest(digest);
+        }
     }
 
     /**
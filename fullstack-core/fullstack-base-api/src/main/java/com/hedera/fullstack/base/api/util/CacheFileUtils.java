@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Standard utility methods shared by the file based caches: the SHA-256 digests which address the cache entries, the
+ * atomic replacement of files and the least recently used eviction of the files in a cache directory.
+ */
+public final class CacheFileUtils {
+    /**
+     * The name of the message digest algorithm used to address the cache entries.
+     */
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private CacheFileUtils() {}
+
+    /**
+     * Creates a new SHA-256 {@link MessageDigest}.
+     *
+     * @return a new message digest.
+     */
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform implementation is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Completes the digest and returns it as a lowercase hexadecimal string.
+     *
+     * @param md the digest to complete.
+     * @return the hexadecimal digest.
+     */
+    public static String toHex(final MessageDigest md) {
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /**
+     * Computes the hexadecimal SHA-256 digest of the UTF-8 encoding of the string.
+     *
+     * @param value the string.
+     * @return the hexadecimal digest.
+     */
+    public static String sha256(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return HexFormat.of().formatHex(newSha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Computes the hexadecimal SHA-256 digest of the file content.
+     *
+     * @param file the file to read.
+     * @return the hexadecimal digest.
+     * @throws IOException if the file cannot be read.
+     */
+    public static String sha256(final Path file) throws IOException {
+        final MessageDigest md = newSha256();
+        update(md, file);
+        return toHex(md);
+    }
+
+    /**
+     * Adds the content of the file to the digest.
+     *
+     * @param md   the digest to update.
+     * @param file the file to read.
+     * @throws IOException if the file cannot be read.
+     */
+    public static void update(final MessageDigest md, final Path file) throws IOException {
+        Objects.requireNonNull(md, "md must not be null");
+        Objects.requireNonNull(file, "file must not be null");
+
+        try (final InputStream in = Files.newInputStream(file);
+                final OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), md)) {
+            in.transferTo(out);
+        }
+    }
+
+    /**
+     * Moves the source file to the target location, replacing any existing file, atomically when supported by the
+     * file system.
+     *
+     * @param source the file to move.
+     * @param target the target location.
+     * @throws IOException if the file cannot be moved.
+     */
+    public static void moveAtomically(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content to a temporary file in the directory of the target file and then moves it into place with
+     * {@link #moveAtomically(Path, Path)}, so readers never observe a partially written file. The directory is created
+     * if it does not exist.
+     *
+     * @param file    the file to write.
+     * @param content the content of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeAtomically(final Path file, final String content) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        Objects.requireNonNull(content, "content must not be null");
+
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Marks the cached file as recently used by updating its last modified time.
+     *
+     * @param file the cached file.
+     * @throws IOException if the last modified time cannot be updated, for example because the file does not exist.
+     */
+    public static void touch(final Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Lists the files in the cache directory whose names end with the suffix, along with their size and last use.
+     * Files removed while the directory is listed are skipped.
+     *
+     * @param directory the cache directory.
+     * @param suffix    the suffix of the cached files.
+     * @return the cached files or an empty list if the directory does not exist or cannot be listed.
+     */
+    public static List<CachedFile> listFiles(final Path directory, final String suffix) {
+        Objects.requireNonNull(suffix, "suffix must not be null");
+        if (directory == null || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        final List<CachedFile> cachedFiles = new ArrayList<>();
+        try (final Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().endsWith(suffix)).forEach(f -> {
+                try {
+                    cachedFiles.add(new CachedFile(f, Files.size(f), Files.getLastModifiedTime(f)));
+                } catch (final IOException e) {
+                    // the file was evicted concurrently
+                }
+            });
+        } catch (final IOException | UncheckedIOException e) {
+            return List.of();
+        }
+
+        return cachedFiles;
+    }
+
+    /**
+     * Deletes the least recently used files in the cache directory until the total size of the files whose names end
+     * with the suffix no longer exceeds the limit. Files which cannot be deleted are skipped.
+     *
+     * @param directory the cache directory.
+     * @param suffix    the suffix of the cached files.
+     * @param maxBytes  the total size of the cached files above which files are deleted.
+     * @param keep      the file which must not be deleted, typically the file which has just been written or used, or
+     *                  {@code null} if every file may be deleted.
+     * @return the deleted files.
+     */
+    public static List<CachedFile> evictLeastRecentlyUsed(
+            final Path directory, final String suffix, final long maxBytes, final Path keep) {
+        final List<CachedFile> cachedFiles = new ArrayList<>(listFiles(directory, suffix));
+        long total = cachedFiles.stream().mapToLong(CachedFile::size).sum();
+        if (total <= maxBytes) {
+            return List.of();
+        }
+
+        final List<CachedFile> evicted = new ArrayList<>();
+        cachedFiles.sort(Comparator.comparing(CachedFile::lastUsed));
+        for (final CachedFile cachedFile : cachedFiles) {
+            if (total <= maxBytes) {
+                break;
+            }
+
+            if (!cachedFile.path().equals(keep) && deleteQuietly(cachedFile.path())) {
+                total -= cachedFile.size();
+                evicted.add(cachedFile);
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Deletes the file, ignoring any failures.
+     *
+     * @param file the file to delete.
+     * @return {@code true} if the file was deleted; otherwise {@code false}.
+     */
+    public static boolean deleteQuietly(final Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * A file stored in a cache directory.
+     *
+     * @param path     the path of the file.
+     * @param size     the size of the file in bytes.
+     * @param lastUsed the time at which the file was last written or marked as used.
+     */
+    public record CachedFile(Path path, long size, FileTime lastUsed) {}
+}
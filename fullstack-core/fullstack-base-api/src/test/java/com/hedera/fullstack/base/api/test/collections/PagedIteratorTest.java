@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.test.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.base.api.collections.PagedIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PagedIteratorTest {
+
+    @Test
+    @DisplayName("Test PagedIterator fetches pages on demand")
+    void testPagesAreFetchedOnDemand() {
+        final RecordingSource source = new RecordingSource(12);
+        final PagedIterator<Integer> iterator = new PagedIterator<>(source, 5);
+
+        assertThat(source.offsets).isEmpty();
+        assertThat(iterator.next()).isZero();
+        assertThat(source.offsets).containsExactly(0);
+
+        final List<Integer> remaining = new ArrayList<>();
+        iterator.forEachRemaining(remaining::add);
+
+        assertThat(remaining).containsExactlyElementsOf(IntStream.range(1, 12).boxed().toList());
+        assertThat(source.offsets).containsExactly(0, 5, 10);
+        assertThat(iterator.pagesFetched()).isEqualTo(3);
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Test PagedIterator fetches a trailing empty page when the last page is full")
+    void testFullLastPage() {
+        final RecordingSource source = new RecordingSource(10);
+        final PagedIterator<Integer> iterator = new PagedIterator<>(source, 5);
+
+        assertThat(iterator.stream().count()).isEqualTo(10);
+        assertThat(source.offsets).containsExactly(0, 5, 10);
+    }
+
+    @Test
+    @DisplayName("Test PagedIterator prefetches the following page in the background")
+    void testPrefetch() {
+        final RecordingSource source = new RecordingSource(12);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final PagedIterator<Integer> iterator = new PagedIterator<>(source, 5, executor);
+            assertThat(iterator.hasNext()).isTrue();
+
+            // the second page is requested as soon as the first page is delivered
+            assertThat(iterator.pagesFetched()).isEqualTo(2);
+            assertThat(iterator.stream().toList())
+                    .containsExactlyElementsOf(IntStream.range(0, 12).boxed().toList());
+            assertThat(source.offsets).containsExactly(0, 5, 10);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test PagedIterator stops fetching pages once the stream is closed")
+    void testCloseStopsTheIteration() {
+        final RecordingSource source = new RecordingSource(100);
+        final PagedIterator<Integer> iterator = new PagedIterator<>(source, 5);
+
+        try (final Stream<Integer> stream = iterator.stream()) {
+            assertThat(stream.limit(3).toList()).containsExactly(0, 1, 2);
+        }
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(source.offsets).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Test PagedIterator retries a page which failed to load")
+    void testFailedPageIsRetried() {
+        final RecordingSource source = new RecordingSource(7);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final AtomicBoolean failed = new AtomicBoolean();
+            final PagedIterator<Integer> iterator = new PagedIterator<>(
+                    (offset, limit) -> {
+                        if (offset == 5 && failed.compareAndSet(false, true)) {
+                            throw new IllegalStateException("page failed");
+                        }
+
+                        return source.fetch(offset, limit);
+                    },
+                    5,
+                    executor);
+
+            for (int i = 0; i < 5; i++) {
+                assertThat(iterator.next()).isEqualTo(i);
+            }
+
+            assertThatThrownBy(iterator::hasNext)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("page failed");
+            assertThat(iterator.next()).isEqualTo(5);
+            assertThat(iterator.next()).isEqualTo(6);
+            assertThat(iterator.hasNext()).isFalse();
+            assertThat(source.offsets).containsExactly(0, 5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test PagedIterator rejects a non-positive page size")
+    void testInvalidPageSize() {
+        assertThatThrownBy(() -> new PagedIterator<>(new RecordingSource(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class RecordingSource implements PagedIterator.PageSource<Integer> {
+        private final int size;
+        private final List<Integer> offsets = new CopyOnWriteArrayList<>();
+
+        private RecordingSource(final int size) {
+            this.size = size;
+        }
+
+        @Override
+        public List<Integer> fetch(final int offset, final int limit) {
+            offsets.add(offset);
+            return IntStream.range(offset, Math.min(size, offset + limit)).boxed().toList();
+        }
+    }
+}
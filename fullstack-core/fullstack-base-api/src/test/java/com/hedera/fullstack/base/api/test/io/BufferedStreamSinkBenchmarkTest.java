@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.test.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.base.api.io.BufferedStreamSink;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput and the heap allocated per megabyte drained by the {@link BufferedStreamSink} against the
+ * previous {@code ByteArrayOutputStream} based implementation. The allocations are measured on the thread which drains
+ * the source stream and the results are reported through the test log. The comparison is tagged as a benchmark, which
+ * only runs when requested with {@code -PincludeBenchmarks}.
+ */
+@DisplayName("Buffered Stream Sink Benchmark")
+class BufferedStreamSinkBenchmarkTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BufferedStreamSinkBenchmarkTest.class);
+
+    private static final int MEGABYTE = 1024 * 1024;
+    private static final int DATA_SIZE = 8 * MEGABYTE;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Compare The Allocations Of The Chunked And Legacy Sinks")
+    void testSinkAllocations() throws IOException {
+        final Result legacy = run(BufferedStreamSinkBenchmarkTest::drainLegacy);
+        final Result chunked = run(BufferedStreamSinkBenchmarkTest::drainChunked);
+
+        LOGGER.info(
+                "Draining {} MB: legacy {} MB/s, {} bytes allocated/MB; chunked {} MB/s, {} bytes allocated/MB",
+                DATA_SIZE / MEGABYTE,
+                String.format("%.1f", legacy.megabytesPerSecond()),
+                String.format("%.0f", legacy.bytesAllocatedPerMegabyte()),
+                String.format("%.1f", chunked.megabytesPerSecond()),
+                String.format("%.0f", chunked.bytesAllocatedPerMegabyte()));
+    }
+
+    /**
+     * Runs the drain operation for the configured number of warmup and measured iterations.
+     *
+     * @param drain the drain operation under measurement.
+     * @return the averaged result of the measured iterations.
+     * @throws IOException if the drain operation fails.
+     */
+    private static Result run(final Drain drain) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            drain.drain(new MeasuringSource(DATA_SIZE));
+        }
+
+        long allocated = 0;
+        long elapsed = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            final MeasuringSource source = new MeasuringSource(DATA_SIZE);
+            final long start = System.nanoTime();
+            drain.drain(source);
+            elapsed += System.nanoTime() - start;
+            allocated += source.allocatedBytes();
+        }
+
+        final double megabytes = (double) DATA_SIZE * MEASURED_ITERATIONS / MEGABYTE;
+        return new Result(megabytes / (elapsed / 1_000_000_000.0), allocated / megabytes);
+    }
+
+    /**
+     * Drains the source using the previous implementation which read 1 KB slices into a
+     * {@link ByteArrayOutputStream} and copied the result via {@link ByteArrayOutputStream#toByteArray()}.
+     *
+     * @param source the source to drain.
+     * @throws IOException if the source cannot be read.
+     */
+    private static void drainLegacy(final MeasuringSource source) throws IOException {
+        final ByteArrayOutputStream sink = new ByteArrayOutputStream(BufferedStreamSink.BUFFER_SIZE);
+        final byte[] buffer = new byte[1024];
+        int read;
+
+        while ((read = source.read(buffer)) != -1) {
+            sink.write(buffer, 0, read);
+            sink.flush();
+        }
+
+        try (final InputStream destination = new ByteArrayInputStream(sink.toByteArray())) {
+            source.finish();
+            assertThat(destination.available()).isEqualTo(DATA_SIZE);
+        }
+    }
+
+    /**
+     * Drains the source using the {@link BufferedStreamSink} and releases the chunks by closing the data stream.
+     *
+     * @param source the source to drain.
+     * @throws IOException if the source cannot be read.
+     */
+    private static void drainChunked(final MeasuringSource source) throws IOException {
+        final BufferedStreamSink bss = new BufferedStreamSink(source).memoryLimit(DATA_SIZE).begin();
+
+        try (final InputStream destination = bss.end()) {
+            assertThat(destination.available()).isEqualTo(DATA_SIZE);
+        }
+    }
+
+    /**
+     * A drain operation under measurement.
+     */
+    @FunctionalInterface
+    private interface Drain {
+        void drain(MeasuringSource source) throws IOException;
+    }
+
+    /**
+     * The averaged result of a measurement.
+     *
+     * @param megabytesPerSecond        the throughput in megabytes per second.
+     * @param bytesAllocatedPerMegabyte the number of bytes allocated per megabyte drained.
+     */
+    private record Result(double megabytesPerSecond, double bytesAllocatedPerMegabyte) {}
+
+    /**
+     * A source stream which produces the requested number of bytes without allocating and records the bytes allocated
+     * by the thread draining it, from the first read until the end of the stream is reached.
+     */
+    private static final class MeasuringSource extends InputStream {
+        private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        private long remaining;
+        private long startAllocation = -1;
+        private volatile long allocatedBytes;
+
+        private MeasuringSource(final long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            if (startAllocation < 0) {
+                startAllocation = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+            }
+
+            if (remaining == 0) {
+                finish();
+                return -1;
+            }
+
+            final int read = (int) Math.min(length, remaining);
+            remaining -= read;
+            return read;
+        }
+
+        /**
+         * Records the bytes allocated by the current thread since the first read.
+         */
+        private void finish() {
+            allocatedBytes = THREAD_BEAN.getCurrentThreadAllocatedBytes() - startAllocation;
+        }
+
+        private long allocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
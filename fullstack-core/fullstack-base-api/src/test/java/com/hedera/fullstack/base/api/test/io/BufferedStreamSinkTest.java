@@ -22,12 +22,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.hedera.fullstack.base.api.io.BufferedStreamSink;
+import com.hedera.fullstack.base.api.io.StreamDrainer;
 import com.hedera.fullstack.base.api.threading.ThreadBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class BufferedStreamSinkTest {
     @Test
@@ -128,4 +139,144 @@ class BufferedStreamSinkTest {
                 .isNotSameAs(source)
                 .isNotEqualTo(source);
     }
+
+    @Test
+    @DisplayName("LineListener(): Receives Each Line And Retains Data")
+    void testLineListenerReceivesLines() throws IOException {
+        final String text = "first\r\nsecond\n\nlast";
+        final InputStream source = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        final List<String> lines = new CopyOnWriteArrayList<>();
+
+        final BufferedStreamSink bss = new BufferedStreamSink(source).lineListener(lines::add).begin();
+
+        assertThat(new String(bss.end().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(text);
+        assertThat(lines).containsExactly("first", "second", "", "last");
+    }
+
+    @Test
+    @DisplayName("RetainData(): Disabled Retention Only Notifies Listeners")
+    void testRetainDataDisabled() throws IOException {
+        final InputStream source = new ByteArrayInputStream("alpha\nbeta\n".getBytes(StandardCharsets.UTF_8));
+        final List<String> lines = new CopyOnWriteArrayList<>();
+
+        final BufferedStreamSink bss = new BufferedStreamSink(source)
+                .lineListener(lines::add)
+                .lineListener(line -> {
+                    throw new IllegalStateException("listener failures must be suppressed");
+                })
+                .retainData(false)
+                .begin();
+
+        assertThat(bss.end().readAllBytes()).isEmpty();
+        assertThat(lines).containsExactly("alpha", "beta");
+    }
+
+    @Test
+    @DisplayName("LineListener(): Throws IllegalStateException After Begin")
+    void testLineListenerThrowsAfterBegin() throws IOException {
+        final InputStream source = new ByteArrayInputStream(new byte[0]);
+        final BufferedStreamSink bss = new BufferedStreamSink(source).begin();
+
+        assertThatThrownBy(() -> bss.lineListener(line -> {})).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> bss.retainData(false)).isInstanceOf(IllegalStateException.class);
+        bss.close();
+    }
+
+    @Test
+    @DisplayName("MemoryLimit(): Spills To Disk Beyond The Limit")
+    void testMemoryLimitSpillsToDisk(@TempDir final Path spillDirectory) throws IOException {
+        final byte[] data = new byte[256 * 1024];
+        new Random(42).nextBytes(data);
+
+        final BufferedStreamSink bss = new BufferedStreamSink(new ByteArrayInputStream(data))
+                .memoryLimit(1024)
+                .spillDirectory(spillDirectory)
+                .begin();
+
+        final InputStream dataStream = bss.end();
+        assertThat(bss.isSpilled()).isTrue();
+        assertThat(bss.size()).isEqualTo(data.length);
+
+        dataStream.mark(Integer.MAX_VALUE);
+        assertThat(dataStream.readAllBytes()).isEqualTo(data);
+        dataStream.reset();
+        assertThat(dataStream.readAllBytes()).isEqualTo(data);
+
+        dataStream.close();
+        try (final var files = Files.list(spillDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("MemoryLimit(): Data Within The Limit Is Not Spilled")
+    void testMemoryLimitNotReached() throws IOException {
+        final byte[] data = "within the limit".getBytes(StandardCharsets.UTF_8);
+        final BufferedStreamSink bss = new BufferedStreamSink(new ByteArrayInputStream(data))
+                .memoryLimit(data.length)
+                .begin();
+
+        assertThat(bss.end().readAllBytes()).isEqualTo(data);
+        assertThat(bss.isSpilled()).isFalse();
+        assertThatThrownBy(() -> new BufferedStreamSink(new ByteArrayInputStream(data)).memoryLimit(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("StreamDrainer: Drains On The Drainer Thread And Counts Bytes")
+    void testStreamDrainerDrainsSource() throws IOException {
+        final byte[] data = new byte[2 * BufferedStreamSink.BUFFER_SIZE + 5];
+        new Random(7).nextBytes(data);
+        final AtomicReference<Thread> drainThread = new AtomicReference<>();
+
+        try (final StreamDrainer drainer = StreamDrainer.fixedPool(1)) {
+            final BufferedStreamSink bss = new BufferedStreamSink(new ByteArrayInputStream(data), drainer)
+                    .lineListener(line -> drainThread.set(Thread.currentThread()))
+                    .begin();
+
+            assertThatThrownBy(bss::begin).isInstanceOf(IllegalStateException.class);
+            assertThat(bss.end().readAllBytes()).isEqualTo(data);
+            assertThat(bss.bytesRead()).isEqualTo(data.length);
+            assertThat(drainThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+            assertThat(drainThread.get().getName()).startsWith("stream-drainer-");
+        }
+    }
+
+    @Test
+    @DisplayName("StreamDrainer: Unretained Data Is Still Counted")
+    void testStreamDrainerCountsUnretainedBytes() throws IOException {
+        final byte[] data = "counted but not retained\n".getBytes(StandardCharsets.UTF_8);
+        final BufferedStreamSink bss = new BufferedStreamSink(new ByteArrayInputStream(data), StreamDrainer.shared())
+                .retainData(false)
+                .begin();
+
+        assertThat(bss.end().readAllBytes()).isEmpty();
+        assertThat(bss.bytesRead()).isEqualTo(data.length);
+        assertThatThrownBy(() -> new BufferedStreamSink(new ByteArrayInputStream(data), (StreamDrainer) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("GetDataChannel(): Reads Every Chunk")
+    void testDataChannelReadsEveryChunk() throws IOException {
+        final byte[] data = new byte[3 * BufferedStreamSink.BUFFER_SIZE + 17];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        final BufferedStreamSink bss = new BufferedStreamSink(new ByteArrayInputStream(data)).begin();
+        bss.end();
+
+        final ByteBuffer destination = ByteBuffer.allocate(data.length);
+        try (final ReadableByteChannel channel = bss.getDataChannel()) {
+            while (destination.hasRemaining() && channel.read(destination) != -1) {
+                // keep reading until the destination is full
+            }
+
+            assertThat(channel.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+        }
+
+        assertThat(destination.array()).isEqualTo(data);
+        assertThat(bss.getDataChannel().isOpen()).isFalse();
+    }
 }
@@ -21,10 +21,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.fullstack.base.api.resource.ResourceLoader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,4 +58,67 @@ public class ResourceLoaderTest {
         ResourceLoader<ResourceLoaderTest> resourceLoader = new ResourceLoader<>(ResourceLoaderTest.class);
         assertThatThrownBy(() -> resourceLoader.load("not-resource.txt")).isInstanceOf(IOException.class);
     }
+
+    @Test
+    @DisplayName("Verify load cached extracts the resource once and reuses the cached copy")
+    void testLoadCached(@TempDir final Path cacheDirectory) throws IOException {
+        final Path first = new ResourceLoader<>(ResourceLoaderTest.class).loadCached("resource.txt", cacheDirectory);
+        assertThat(first)
+                .exists()
+                .isRegularFile()
+                .hasFileName("resource.txt")
+                .isReadable()
+                .isExecutable()
+                .startsWith(cacheDirectory);
+        assertThat(first.getParent().getFileName().toString()).matches("[0-9a-f]{64}");
+
+        final long lastModified = Files.getLastModifiedTime(first).toMillis();
+        final Path second = new ResourceLoader<>(ResourceLoaderTest.class).loadCached("resource.txt", cacheDirectory);
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(second).toMillis()).isEqualTo(lastModified);
+    }
+
+    @Test
+    @DisplayName("Verify load cached replaces a corrupted cached copy")
+    void testLoadCachedReplacesCorruptedCopy(@TempDir final Path cacheDirectory) throws IOException {
+        final Path cached = new ResourceLoader<>(ResourceLoaderTest.class).loadCached("resource.txt", cacheDirectory);
+        final byte[] expected = Files.readAllBytes(cached);
+        Files.write(cached, new byte[0]);
+
+        final Path reloaded = new ResourceLoader<>(ResourceLoaderTest.class).loadCached("resource.txt", cacheDirectory);
+        assertThat(reloaded).isEqualTo(cached).hasBinaryContent(expected);
+    }
+
+    @Test
+    @DisplayName("Verify concurrent load cached calls share a single cached copy")
+    void testLoadCachedConcurrently(@TempDir final Path cacheDirectory)
+            throws IOException, InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Path>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() ->
+                        new ResourceLoader<>(ResourceLoaderTest.class).loadCached("resource.txt", cacheDirectory)));
+            }
+
+            for (final Future<Path> future : futures) {
+                assertThat(future.get()).isEqualTo(futures.get(0).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (final Stream<Path> entries = Files.list(futures.get(0).get().getParent())) {
+            assertThat(entries.map(p -> p.getFileName().toString()))
+                    .containsExactlyInAnyOrder("resource.txt", "resource.txt.complete", ".lock");
+        }
+    }
+
+    @Test
+    @DisplayName("Verify load cached fails when called with a non-existent file")
+    void testLoadCachedIOException(@TempDir final Path cacheDirectory) {
+        ResourceLoader<ResourceLoaderTest> resourceLoader = new ResourceLoader<>(ResourceLoaderTest.class);
+        assertThatThrownBy(() -> resourceLoader.loadCached("not-resource.txt", cacheDirectory))
+                .isInstanceOf(IOException.class);
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.base.api.test.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import com.hedera.fullstack.base.api.util.CacheFileUtils.CachedFile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CacheFileUtilsTest {
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Verify sha256 digests strings and files alike")
+    void testSha256() throws IOException {
+        assertThat(CacheFileUtils.sha256("abc")).isEqualTo(ABC_SHA256);
+        assertThat(CacheFileUtils.sha256(Files.writeString(tempDir.resolve("abc.txt"), "abc"))).isEqualTo(ABC_SHA256);
+    }
+
+    @Test
+    @DisplayName("Verify writeAtomically creates the directory and leaves no temporary files behind")
+    void testWriteAtomically() throws IOException {
+        final Path file = tempDir.resolve("nested").resolve("entry.yaml");
+
+        CacheFileUtils.writeAtomically(file, "first");
+        CacheFileUtils.writeAtomically(file, "second");
+
+        assertThat(file).hasContent("second");
+        try (final Stream<Path> files = Files.list(file.getParent())) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify evictLeastRecentlyUsed deletes the oldest files except the one to keep")
+    void testEvictLeastRecentlyUsed() throws IOException {
+        final Path oldest = cachedFile("oldest.yaml", 1_000);
+        final Path kept = cachedFile("kept.yaml", 2_000);
+        final Path older = cachedFile("older.yaml", 3_000);
+        final Path newest = cachedFile("newest.yaml", 4_000);
+        final Path other = Files.writeString(tempDir.resolve("other.tmp"), "0123456789");
+
+        final List<CachedFile> evicted = CacheFileUtils.evictLeastRecentlyUsed(tempDir, ".yaml", 20, kept);
+
+        assertThat(evicted).extracting(CachedFile::path).containsExactly(oldest, older);
+        assertThat(CacheFileUtils.listFiles(tempDir, ".yaml"))
+                .extracting(CachedFile::path)
+                .containsExactlyInAnyOrder(kept, newest);
+        assertThat(other).exists();
+        assertThat(CacheFileUtils.evictLeastRecentlyUsed(tempDir, ".yaml", 20, null)).isEmpty();
+        assertThat(CacheFileUtils.listFiles(tempDir.resolve("missing"), ".yaml")).isEmpty();
+    }
+
+    private Path cachedFile(final String name, final long lastUsedMillis) throws IOException {
+        final Path file = Files.writeString(tempDir.resolve(name), "0123456789");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastUsedMillis));
+        return file;
+    }
+}
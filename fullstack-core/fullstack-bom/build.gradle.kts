@@ -44,6 +44,7 @@ dependencies.constraints {
     api("org.slf4j:slf4j-simple:2.0.9")
     api("com.jcovalent.junit:jcovalent-junit-logging:0.3.2")
     api("io.github.classgraph:classgraph:4.8.161")
+    api("org.yaml:snakeyaml:2.0")
 
     for (p in rootProject.childProjects) {
         val isPublished = p.value.findProperty("mavenPublishingEnabled")?.toString()?.toBoolean() ?: false
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.impl.DefaultAsyncHelmClient;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.Repository;
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.test.TestChartOptions;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The asynchronous twin of the {@link HelmClient} interface. Each operation is dispatched to an {@link Executor} and
+ * returns immediately with a {@link CompletableFuture} which is completed once the underlying Helm CLI command exits.
+ * <p>
+ * Failures are reported by completing the future exceptionally with the same exceptions thrown by the synchronous
+ * {@link HelmClient} (for example {@link HelmExecutionException} or {@link HelmParserException}). The exceptions are
+ * not wrapped, therefore {@link CompletableFuture#exceptionally(java.util.function.Function)} and similar handlers
+ * receive the original exception instance.
+ */
+public interface AsyncHelmClient extends AutoCloseable {
+
+    /**
+     * Executes the Helm CLI {@code version} sub-command and returns the reported version.
+     *
+     * @return a future which completes with the version of the Helm CLI that is being used by this client.
+     */
+    CompletableFuture<SemanticVersion> version();
+
+    /**
+     * Executes the Helm CLI {@code repo list} sub-command and returns the list of repositories.
+     *
+     * @return a future which completes with the list of repositories.
+     */
+    CompletableFuture<List<Repository>> listRepositories();
+
+    /**
+     * Executes the Helm CLI {@code repo add} sub-command and adds a new repository.
+     *
+     * @param repository the repository to add.
+     * @return a future which completes once the repository has been added.
+     */
+    CompletableFuture<Void> addRepository(Repository repository);
+
+    /**
+     * Executes the Helm CLI {@code repo remove} sub-command and removes a repository.
+     *
+     * @param repository the repository to remove.
+     * @return a future which completes once the repository has been removed.
+     */
+    CompletableFuture<Void> removeRepository(Repository repository);
+
+    /**
+     * Executes the Helm CLI {@code install} sub-command and installs a Helm chart.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the Helm chart to install.
+     * @return a future which completes with the {@link Release} that was installed.
+     */
+    default CompletableFuture<Release> installChart(String releaseName, Chart chart) {
+        return installChart(releaseName, chart, InstallChartOptions.defaults());
+    }
+
+    /**
+     * Executes the Helm CLI {@code install} sub-command and installs a Helm chart passing the flags and arguments
+     * provided.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the Helm chart to install.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return a future which completes with the {@link Release} that was installed.
+     */
+    CompletableFuture<Release> installChart(String releaseName, Chart chart, InstallChartOptions options);
+
+    /**
+     * Installs or upgrades a Helm chart unless the release is already deployed with the same chart and values.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the Helm chart to install or upgrade to.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return a future which completes with the result describing whether the release was skipped, installed or
+     * upgraded.
+     * @see HelmClient#upgradeOrInstall(String, Chart, InstallChartOptions)
+     */
+    CompletableFuture<UpgradeResult> upgradeOrInstall(String releaseName, Chart chart, InstallChartOptions options);
+
+    /**
+     * Executes the Helm CLI {@code template} sub-command and renders the manifests of a Helm chart locally.
+     *
+     * @param releaseName the name of the release used to render the chart.
+     * @param chart       the Helm chart to render.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return a future which completes with the rendered manifests.
+     * @see HelmClient#templateChart(String, Chart, InstallChartOptions)
+     */
+    CompletableFuture<RenderedManifest> templateChart(String releaseName, Chart chart, InstallChartOptions options);
+
+    /**
+     * Installs every release of the plan, installing independent releases concurrently.
+     *
+     * @param plan the releases to install and the ordering constraints between them.
+     * @return a future which completes with the report describing the outcome and timing of every release, or
+     * completes exceptionally with a {@link ReleasePlanException} if one or more releases fail to install.
+     * @see HelmClient#installAll(ReleasePlan)
+     */
+    CompletableFuture<ReleasePlanReport> installAll(ReleasePlan plan);
+
+    /**
+     * Executes the Helm CLI {@code uninstall} sub-command and uninstalls the specified Helm chart.
+     *
+     * @param releaseName the name of the release to uninstall.
+     * @return a future which completes once the release has been uninstalled.
+     */
+    CompletableFuture<Void> uninstallChart(String releaseName);
+
+    /**
+     * Executes the Helm CLI {@code test} sub-command and tests the specified Helm chart.
+     *
+     * @param releaseName the name of the release to test.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return a future which completes once the chart tests have finished.
+     */
+    CompletableFuture<Void> testChart(String releaseName, TestChartOptions options);
+
+    /**
+     * Executes the Helm CLI {@code list} sub-command and returns the list of releases.
+     *
+     * @param allNamespaces if {@code true}, list releases across all namespaces.
+     * @return a future which completes with the list of releases.
+     */
+    CompletableFuture<List<ReleaseItem>> listReleases(boolean allNamespaces);
+
+    /**
+     * Executes the Helm CLI {@code history} sub-command and returns the revisions of the specified release.
+     *
+     * @param releaseName the name of the release.
+     * @return a future which completes with the revisions of the release ordered from the oldest to the most recent.
+     * @see HelmClient#history(String)
+     */
+    CompletableFuture<List<ReleaseHistoryItem>> history(String releaseName);
+
+    /**
+     * Executes the Helm CLI {@code rollback} sub-command and rolls the specified release back to a previous revision.
+     *
+     * @param releaseName the name of the release.
+     * @param revision    the revision to roll back to.
+     * @return a future which completes once the release has been rolled back.
+     * @see HelmClient#rollback(String, int)
+     */
+    CompletableFuture<Void> rollback(String releaseName, int revision);
+
+    /**
+     * Executes the Helm CLI {@code dependency update} sub-command and updates the dependencies of the specified Helm
+     * chart.
+     *
+     * @param chartName the name of the chart to update.
+     * @return a future which completes once the dependencies have been updated.
+     */
+    CompletableFuture<Void> dependencyUpdate(String chartName);
+
+    /**
+     * Returns the synchronous {@link HelmClient} to which all operations are delegated.
+     *
+     * @return the synchronous {@link HelmClient} instance.
+     */
+    HelmClient synchronous();
+
+    /**
+     * Releases the executor owned by this client, if any. Executors supplied by the caller are never shut down by this
+     * method. Operations which are already in flight are allowed to complete.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a new {@link AsyncHelmClient} which delegates to the supplied {@link HelmClient} and executes each
+     * operation on a new virtual thread.
+     *
+     * @param client the synchronous {@link HelmClient} to which all operations are delegated.
+     * @return a new {@link AsyncHelmClient} instance.
+     * @throws NullPointerException if {@code client} is {@code null}.
+     */
+    static AsyncHelmClient wrap(final HelmClient client) {
+        return new DefaultAsyncHelmClient(Objects.requireNonNull(client, "client must not be null"));
+    }
+
+    /**
+     * Creates a new {@link AsyncHelmClient} which delegates to the supplied {@link HelmClient} and executes each
+     * operation on the supplied {@link Executor}.
+     *
+     * @param client   the synchronous {@link HelmClient} to which all operations are delegated.
+     * @param executor the executor on which the operations are run. This executor is not shut down by
+     *                 {@link #close()}.
+     * @return a new {@link AsyncHelmClient} instance.
+     * @throws NullPointerException if {@code client} or {@code executor} is {@code null}.
+     */
+    static AsyncHelmClient wrap(final HelmClient client, final Executor executor) {
+        return new DefaultAsyncHelmClient(client, executor);
+    }
+
+    /**
+     * Creates a new {@link AsyncHelmClient} instance with the default configuration. This is a shortcut for
+     * {@code HelmClient.builder().buildAsync()}.
+     *
+     * @return a new {@link AsyncHelmClient} instance.
+     */
+    static AsyncHelmClient defaultClient() {
+        return HelmClient.builder().buildAsync();
+    }
+}
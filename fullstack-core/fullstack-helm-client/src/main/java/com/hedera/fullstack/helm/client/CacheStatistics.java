@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+/**
+ * A point-in-time snapshot of the counters maintained by a {@link CachingHelmClient} or a {@link ManifestCache}.
+ *
+ * @param hitCount          the number of requests served from a cached result.
+ * @param missCount         the number of requests which executed the Helm CLI command.
+ * @param coalescedCount    the number of requests which joined an identical request already in flight instead of
+ *                          executing the Helm CLI command.
+ * @param invalidationCount the number of times the cached results were invalidated.
+ */
+public record CacheStatistics(long hitCount, long missCount, long coalescedCount, long invalidationCount) {
+
+    /**
+     * Returns the total number of requests observed by the cache.
+     *
+     * @return the sum of the hit, miss, and coalesced counts.
+     */
+    public long requestCount() {
+        return hitCount + missCount + coalescedCount;
+    }
+
+    /**
+     * Returns the fraction of requests which did not execute the Helm CLI command.
+     *
+     * @return the ratio of hits and coalesced requests to all requests, or {@code 0} if no requests have been observed.
+     */
+    public double hitRate() {
+        final long requests = requestCount();
+        return requests == 0 ? 0.0 : (double) (hitCount + coalescedCount) / requests;
+    }
+}
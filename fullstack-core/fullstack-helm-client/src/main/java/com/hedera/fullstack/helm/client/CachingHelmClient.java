@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.impl.DefaultCachingHelmClient;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link HelmClient} which caches the results of {@link #listReleases(boolean)} for a short period of time. All other
+ * operations, including {@link #streamReleases}, {@link #releaseManifest} and {@link #templateChart}, are delegated to
+ * the wrapped {@link HelmClient} unchanged.
+ * <p>
+ * Concurrent identical {@code listReleases} requests are collapsed into a single execution of the Helm CLI command and
+ * every caller receives the same result. Results are served from the cache until the configured time-to-live expires
+ * or until {@link #installChart}, {@link #uninstallChart(String)}, {@link #rollback(String, int)} or
+ * {@link #invalidateCache()} is called on this client, or {@link #upgradeOrInstall} applies a change. Failed executions
+ * are never cached.
+ * <p>
+ * Changes made to the cluster by other clients or processes are only observed once the time-to-live expires, therefore
+ * the time-to-live should be kept short.
+ */
+public interface CachingHelmClient extends HelmClient {
+
+    /**
+     * The time-to-live used when none is specified.
+     */
+    Duration DEFAULT_TTL = Duration.ofSeconds(5);
+
+    /**
+     * Executes the Helm CLI {@code list} sub-command, or returns the cached result of a previous execution, and returns
+     * the list of releases.
+     *
+     * @param allNamespaces if {@code true}, list releases across all namespaces.
+     * @return an unmodifiable list of releases.
+     */
+    @Override
+    List<ReleaseItem> listReleases(boolean allNamespaces);
+
+    /**
+     * Discards all cached results. Requests which are already in flight are allowed to complete, but their results are
+     * not cached.
+     */
+    void invalidateCache();
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current {@link CacheStatistics}.
+     */
+    CacheStatistics cacheStatistics();
+
+    /**
+     * Returns the {@link HelmClient} to which all operations are delegated.
+     *
+     * @return the wrapped {@link HelmClient} instance.
+     */
+    HelmClient delegate();
+
+    /**
+     * Creates a new {@link CachingHelmClient} which delegates to the supplied {@link HelmClient} and caches results for
+     * the {@link #DEFAULT_TTL}.
+     *
+     * @param client the {@link HelmClient} to which all operations are delegated.
+     * @return a new {@link CachingHelmClient} instance.
+     * @throws NullPointerException if {@code client} is {@code null}.
+     */
+    static CachingHelmClient wrap(final HelmClient client) {
+        return wrap(client, DEFAULT_TTL);
+    }
+
+    /**
+     * Creates a new {@link CachingHelmClient} which delegates to the supplied {@link HelmClient} and caches results for
+     * the supplied time-to-live.
+     *
+     * @param client the {@link HelmClient} to which all operations are delegated.
+     * @param ttl    the period of time for which results are cached.
+     * @return a new {@link CachingHelmClient} instance.
+     * @throws NullPointerException     if {@code client} or {@code ttl} is {@code null}.
+     * @throws IllegalArgumentException if {@code ttl} is negative.
+     */
+    static CachingHelmClient wrap(final HelmClient client, final Duration ttl) {
+        return new DefaultCachingHelmClient(client, ttl);
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import com.hedera.fullstack.base.api.util.CacheFileUtils.CachedFile;
+import com.hedera.fullstack.helm.client.model.ChartReference;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A local cache of packaged chart archives which allows a chart version to be downloaded once and installed from the
+ * local {@code .tgz} archive afterwards. The cache directory has the following layout:
+ * <ul>
+ *     <li>{@code blobs/<sha256>.tgz} - the archives, addressed by the SHA-256 digest of their content, which means
+ *     that identical archives published under several references are stored once;</li>
+ *     <li>{@code refs/<sha256>} - one file per {@link ChartReference}, named after the digest of the reference, which
+ *     contains the digest of the archive;</li>
+ *     <li>{@code locks/<sha256>.lock} - the lock files which serialize the population of a reference.</li>
+ * </ul>
+ * <p>
+ * Populating a reference is safe across threads and processes sharing the directory: the archive is downloaded into
+ * a private temporary directory under an exclusive {@link FileLock} and then atomically moved into place, so readers
+ * never observe a partially written archive. When the total size of the archives exceeds the configured limit, the
+ * least recently used archives are evicted. In offline mode, archives missing from the cache are never downloaded.
+ */
+public final class ChartArchiveCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChartArchiveCache.class);
+
+    /**
+     * The maximum total size of the archives used when no limit is specified.
+     */
+    public static final long DEFAULT_MAX_SIZE_BYTES = 1024L * 1024L * 1024L;
+
+    /**
+     * The suffix of the archive files.
+     */
+    private static final String ARCHIVE_SUFFIX = ".tgz";
+
+    /**
+     * The in-memory locks guarding the references, shared by every cache instance in the JVM because file locks are
+     * held on behalf of the whole JVM.
+     */
+    private static final Map<Path, ReentrantLock> REFERENCE_LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * The root directory of the cache.
+     */
+    private final Path root;
+
+    /**
+     * The directory containing the archives.
+     */
+    private final Path blobs;
+
+    /**
+     * The directory containing the references.
+     */
+    private final Path refs;
+
+    /**
+     * The directory containing the lock files.
+     */
+    private final Path locks;
+
+    /**
+     * The total size of the archives above which the least recently used archives are evicted.
+     */
+    private final long maxSizeBytes;
+
+    /**
+     * Whether archives missing from the cache must not be downloaded.
+     */
+    private final boolean offline;
+
+    /**
+     * Creates a new {@link ChartArchiveCache} instance.
+     *
+     * @param root         the root directory of the cache, which is created on demand.
+     * @param maxSizeBytes the total size of the archives above which the least recently used archives are evicted.
+     * @param offline      whether archives missing from the cache must not be downloaded.
+     */
+    ChartArchiveCache(final Path root, final long maxSizeBytes, final boolean offline) {
+        this.root = Objects.requireNonNull(root, "root must not be null").toAbsolutePath().normalize();
+        this.blobs = this.root.resolve("blobs");
+        this.refs = this.root.resolve("refs");
+        this.locks = this.root.resolve("locks");
+        this.maxSizeBytes = maxSizeBytes;
+        this.offline = offline;
+    }
+
+    /**
+     * Returns an instance of the ChartArchiveCacheBuilder.
+     *
+     * @return the ChartArchiveCacheBuilder.
+     */
+    public static ChartArchiveCacheBuilder builder() {
+        return ChartArchiveCacheBuilder.builder();
+    }
+
+    /**
+     * Returns the local archive of the referenced chart, downloading it with the supplied fetcher if the cache does not
+     * contain it yet. Concurrent requests for the same reference download the archive once.
+     *
+     * @param reference the chart to resolve.
+     * @param fetcher   the fetcher used to download the archive when it is missing from the cache.
+     * @return the path of the cached archive.
+     * @throws NullPointerException       if {@code reference} or {@code fetcher} is {@code null}.
+     * @throws HelmConfigurationException if the archive is missing and the cache is offline, or if the archive cannot
+     *                                    be downloaded or stored.
+     */
+    public Path resolve(final ChartReference reference, final ChartFetcher fetcher) {
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(fetcher, "fetcher must not be null");
+
+        final String key = CacheFileUtils.sha256(reference.toString());
+        final Path ref = refs.resolve(key);
+
+        final Path cached = lookup(ref);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (offline) {
+            throw new HelmConfigurationException(
+                    String.format("Chart %s is not cached and the chart cache is offline", reference));
+        }
+
+        try {
+            Files.createDirectories(locks);
+            final Path lockFile = locks.resolve(key + ".lock");
+            final ReentrantLock lock = REFERENCE_LOCKS.computeIfAbsent(lockFile, k -> new ReentrantLock());
+            lock.lock();
+            try (final FileChannel channel =
+                            FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    final FileLock ignored = channel.lock()) {
+                // another thread or process may have populated the reference while we were waiting for the lock
+                final Path populated = lookup(ref);
+                if (populated != null) {
+                    return populated;
+                }
+
+                final Path archive = populate(reference, fetcher, ref);
+                evict(archive);
+                return archive;
+            } finally {
+                lock.unlock();
+            }
+        } catch (final IOException e) {
+            throw new HelmConfigurationException(String.format("Failed to cache chart %s", reference), e);
+        }
+    }
+
+    /**
+     * Returns whether the referenced chart is present in the cache.
+     *
+     * @param reference the chart to look up.
+     * @return {@code true} if the archive is cached; otherwise {@code false}.
+     */
+    public boolean contains(final ChartReference reference) {
+        Objects.requireNonNull(reference, "reference must not be null");
+        return lookup(refs.resolve(CacheFileUtils.sha256(reference.toString()))) != null;
+    }
+
+    /**
+     * Returns the total size of the cached archives.
+     *
+     * @return the size of the archives in bytes.
+     */
+    public long sizeBytes() {
+        return listArchives().stream().mapToLong(CachedFile::size).sum();
+    }
+
+    /**
+     * Returns the root directory of the cache.
+     *
+     * @return the root directory.
+     */
+    public Path directory() {
+        return root;
+    }
+
+    /**
+     * Returns whether archives missing from the cache must not be downloaded.
+     *
+     * @return {@code true} if the cache is offline; otherwise {@code false}.
+     */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Returns the archive recorded for the reference, marking it as recently used, or {@code null} if the reference
+     * has not been populated or its archive has been evicted.
+     *
+     * @param ref the reference file.
+     * @return the archive or {@code null}.
+     */
+    private Path lookup(final Path ref) {
+        try {
+            final String digest = Files.readString(ref, StandardCharsets.UTF_8).trim();
+            final Path archive = blobs.resolve(digest + ARCHIVE_SUFFIX);
+            CacheFileUtils.touch(archive);
+            return archive;
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.debug("Ignoring unreadable chart cache reference: {}", ref, e);
+            return null;
+        }
+    }
+
+    /**
+     * Downloads the archive into a private temporary directory, stores it under the digest of its content and records
+     * the digest in the reference file. The reference is written last, so it only ever points to a complete archive.
+     *
+     * @param reference the chart to download.
+     * @param fetcher   the fetcher used to download the archive.
+     * @param ref       the reference file.
+     * @return the path of the cached archive.
+     * @throws IOException if the archive cannot be downloaded or stored.
+     */
+    private Path populate(final ChartReference reference, final ChartFetcher fetcher, final Path ref)
+            throws IOException {
+        Files.createDirectories(blobs);
+        Files.createDirectories(refs);
+        final Path workDirectory = Files.createTempDirectory(root, "fetch-");
+        try {
+            final Path downloaded = fetcher.fetch(reference, workDirectory);
+            if (downloaded == null
+                    || !downloaded.toAbsolutePath().normalize().startsWith(workDirectory)
+                    || !Files.isRegularFile(downloaded)) {
+                throw new IOException(String.format(
+                        "The fetcher did not download chart %s into %s [result=%s]",
+                        reference, workDirectory, downloaded));
+            }
+
+            final String digest = CacheFileUtils.sha256(downloaded);
+            final Path archive = blobs.resolve(digest + ARCHIVE_SUFFIX);
+            if (Files.isRegularFile(archive)) {
+                // an identical archive is already cached under another reference
+                CacheFileUtils.touch(archive);
+            } else {
+                CacheFileUtils.moveAtomically(downloaded, archive);
+            }
+
+            final Path refTemp = Files.createTempFile(workDirectory, "ref-", ".tmp");
+            Files.writeString(refTemp, digest, StandardCharsets.UTF_8);
+            CacheFileUtils.moveAtomically(refTemp, ref);
+
+            LOGGER.debug("Cached chart {} as {}", reference, archive);
+            return archive;
+        } finally {
+            deleteRecursively(workDirectory);
+        }
+    }
+
+    /**
+     * Evicts the least recently used archives until the total size of the archives no longer exceeds the limit. The
+     * archive which has just been resolved is never evicted.
+     *
+     * @param keep the archive which must not be evicted.
+     */
+    private void evict(final Path keep) {
+        final List<CachedFile> evicted =
+                CacheFileUtils.evictLeastRecentlyUsed(blobs, ARCHIVE_SUFFIX, maxSizeBytes, keep);
+        evicted.forEach(archive -> LOGGER.debug("Evicted cached chart archive {}", archive.path()));
+    }
+
+    /**
+     * Lists the cached archives along with their size and last use.
+     *
+     * @return the cached archives.
+     */
+    private List<CachedFile> listArchives() {
+        return CacheFileUtils.listFiles(blobs, ARCHIVE_SUFFIX);
+    }
+
+    /**
+     * Deletes the directory and its content, ignoring any failures.
+     *
+     * @param directory the directory to delete.
+     */
+    private static void deleteRecursively(final Path directory) {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> {
+                try {
+                    Files.deleteIfExists(f);
+                } catch (final IOException ignored) {
+                    // best effort cleanup
+                }
+            });
+        } catch (final IOException | UncheckedIOException ignored) {
+            // best effort cleanup
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.base.api.resource.ResourceLoader;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The builder for the {@link ChartArchiveCache}.
+ */
+public final class ChartArchiveCacheBuilder {
+    /**
+     * The name of the directory, relative to the {@link ResourceLoader#defaultCacheDirectory()}, used when no
+     * directory is specified.
+     */
+    private static final String DEFAULT_DIRECTORY_NAME = "helm-charts";
+
+    private Path directory;
+    private long maxSizeBytes = ChartArchiveCache.DEFAULT_MAX_SIZE_BYTES;
+    private boolean offline;
+
+    private ChartArchiveCacheBuilder() {}
+
+    /**
+     * Returns an instance of the ChartArchiveCacheBuilder.
+     *
+     * @return the ChartArchiveCacheBuilder.
+     */
+    static ChartArchiveCacheBuilder builder() {
+        return new ChartArchiveCacheBuilder();
+    }
+
+    /**
+     * the directory in which the chart archives are stored. Defaults to the {@code helm-charts} directory within the
+     * {@link ResourceLoader#defaultCacheDirectory()}.
+     *
+     * @param directory the directory in which the chart archives are stored.
+     * @return the current ChartArchiveCacheBuilder.
+     */
+    public ChartArchiveCacheBuilder directory(final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        return this;
+    }
+
+    /**
+     * the total size of the chart archives above which the least recently used archives are evicted.
+     *
+     * @param maxSizeBytes the maximum total size of the chart archives in bytes.
+     * @return the current ChartArchiveCacheBuilder.
+     */
+    public ChartArchiveCacheBuilder maxSizeBytes(final long maxSizeBytes) {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeBytes must be greater than zero");
+        }
+
+        this.maxSizeBytes = maxSizeBytes;
+        return this;
+    }
+
+    /**
+     * whether charts missing from the cache must not be downloaded.
+     *
+     * @param offline {@code true} to serve charts from the cache only.
+     * @return the current ChartArchiveCacheBuilder.
+     */
+    public ChartArchiveCacheBuilder offline(final boolean offline) {
+        this.offline = offline;
+        return this;
+    }
+
+    /**
+     * builds the ChartArchiveCache.
+     *
+     * @return the ChartArchiveCache.
+     */
+    public ChartArchiveCache build() {
+        final Path root =
+                directory != null ? directory : ResourceLoader.defaultCacheDirectory().resolve(DEFAULT_DIRECTORY_NAME);
+        return new ChartArchiveCache(root, maxSizeBytes, offline);
+    }
+}
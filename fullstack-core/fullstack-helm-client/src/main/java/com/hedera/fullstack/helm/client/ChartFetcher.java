@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.model.ChartReference;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Downloads a packaged chart archive into a directory on behalf of a {@link ChartArchiveCache}. The
+ * {@link HelmClient} uses the Helm CLI {@code pull} sub-command; other implementations may serve the archives from a
+ * local directory or an HTTP server.
+ */
+@FunctionalInterface
+public interface ChartFetcher {
+
+    /**
+     * Downloads the chart archive identified by the reference into the supplied directory.
+     *
+     * @param reference the chart to download.
+     * @param directory an empty, private directory into which the archive should be written.
+     * @return the path of the downloaded {@code .tgz} archive, which must be located within {@code directory}.
+     * @throws IOException if the archive cannot be downloaded.
+     */
+    Path fetch(ChartReference reference, Path directory) throws IOException;
+}
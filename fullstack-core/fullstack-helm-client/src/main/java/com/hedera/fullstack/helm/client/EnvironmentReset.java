@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.impl.DefaultEnvironmentReset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restores a set of releases to the revisions which were deployed when the environment was first provisioned.
+ * <p>
+ * The baseline revision of every release is recorded from the output of {@link HelmClient#history(String)} when the
+ * reset is captured, typically right after the initial provisioning of a test class. Each call to {@link #reset()}
+ * inspects the history of the releases again and rolls back only those which were changed since the baseline, using
+ * {@link HelmClient#rollback(String, int)}. A rollback only touches the resources which differ from the baseline, so
+ * suites which share an environment between test methods can be reset in seconds instead of uninstalling and
+ * reinstalling every release.
+ * <p>
+ * Changes made outside of Helm, for example by editing resources directly with {@code kubectl}, are not detected.
+ */
+public interface EnvironmentReset {
+
+    /**
+     * Returns the baseline revision of every release. The baseline revision is the revision captured initially until
+     * the release is first rolled back, and the revision created by the most recent rollback afterwards, since Helm
+     * records every rollback as a new revision with the configuration of the baseline.
+     *
+     * @return an unmodifiable map of release names to the revisions which are restored by {@link #reset()}, in the
+     *         order the releases were captured.
+     */
+    Map<String, Integer> baseline();
+
+    /**
+     * Rolls back every release which was changed since the baseline was captured. Releases which are still deployed
+     * at their baseline configuration are left untouched.
+     *
+     * @return the names of the releases which were rolled back, in the order the releases were captured.
+     * @throws HelmExecutionException if the history of a release cannot be read, for example because the release was
+     *                                uninstalled, or if a rollback fails.
+     */
+    List<String> reset();
+
+    /**
+     * Records the currently deployed revision of each of the releases as the baseline.
+     *
+     * @param client       the client used to read the history of the releases and to roll them back.
+     * @param releaseNames the names of the releases in the default namespace of the client.
+     * @return a new {@link EnvironmentReset} instance.
+     * @throws NullPointerException     if {@code client} or {@code releaseNames} is {@code null}.
+     * @throws IllegalArgumentException if {@code releaseNames} is empty or a release name is blank.
+     * @throws IllegalStateException    if a release has no deployed revision.
+     * @throws HelmExecutionException   if the history of a release cannot be read.
+     */
+    static EnvironmentReset capture(final HelmClient client, final Collection<String> releaseNames) {
+        return new DefaultEnvironmentReset(client, releaseNames);
+    }
+}
@@ -18,13 +18,22 @@ package com.hedera.fullstack.helm.client;
 
 import com.hedera.fullstack.base.api.version.SemanticVersion;
 import com.hedera.fullstack.helm.client.impl.DefaultHelmClientBuilder;
+import com.hedera.fullstack.helm.client.impl.ReleasePlanInstaller;
 import com.hedera.fullstack.helm.client.model.Chart;
 import com.hedera.fullstack.helm.client.model.Repository;
 import com.hedera.fullstack.helm.client.model.chart.Release;
 import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
 import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
 import com.hedera.fullstack.helm.client.model.test.TestChartOptions;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The {@code HelmClient} is a bridge between Java and the Helm CLI. The client is highly dependent on specific features
@@ -40,6 +49,14 @@ public interface HelmClient {
      */
     SemanticVersion version();
 
+    /**
+     * Returns the namespace in which the Helm CLI commands of this client are executed.
+     *
+     * @return the namespace passed with the {@code --namespace} option or {@code null} if the option is not used, in
+     * which case the Helm CLI uses the namespace of the current kubeconfig context.
+     */
+    String defaultNamespace();
+
     /**
      * Executes the Helm CLI {@code repo list} sub-command and returns the list of repositories.
      *
@@ -87,6 +104,57 @@ public interface HelmClient {
      */
     Release installChart(String releaseName, Chart chart, InstallChartOptions options);
 
+    /**
+     * Installs or upgrades a Helm chart unless the release is already deployed with the same chart and values. A
+     * digest of the chart reference, version and the {@code --set} and {@code --values} options is recorded in the
+     * description of the release. When the digest recorded in the deployed release matches, the release is skipped
+     * without further Helm CLI invocations; otherwise the Helm CLI {@code upgrade --install} sub-command is executed.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the Helm chart to install or upgrade to.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return the result describing whether the release was skipped, installed or upgraded.
+     * @throws HelmExecutionException     if the Helm CLI command fails.
+     * @throws HelmConfigurationException if a local chart or values file cannot be read.
+     * @see com.hedera.fullstack.helm.client.model.install.ReleaseDigest
+     */
+    UpgradeResult upgradeOrInstall(String releaseName, Chart chart, InstallChartOptions options);
+
+    /**
+     * Executes the Helm CLI {@code template} sub-command and renders the manifests of a Helm chart locally, without
+     * installing the chart or contacting the cluster. The rendered manifests can be inspected, validated or compared
+     * before the release is installed.
+     * <p>
+     * When the client is configured with a {@link ManifestCache}, the render is keyed by the {@link
+     * com.hedera.fullstack.helm.client.model.install.ReleaseDigest} of the chart and values together with the release
+     * name and namespace, so identical renders execute the Helm CLI once. Only local charts and repository charts
+     * pinned to an exact version, rendered with local values files, are cached.
+     *
+     * @param releaseName the name of the release used to render the chart.
+     * @param chart       the Helm chart to render.
+     * @param options     the options to pass to the Helm CLI command. The {@code --output} option is not applicable.
+     * @return the rendered manifests.
+     * @throws NullPointerException       if any argument is {@code null}.
+     * @throws HelmExecutionException     if the Helm CLI command fails.
+     * @throws HelmConfigurationException if a local chart or values file cannot be read.
+     */
+    RenderedManifest templateChart(String releaseName, Chart chart, InstallChartOptions options);
+
+    /**
+     * Installs every release of the plan by executing the Helm CLI {@code install} sub-command for each release. A
+     * release is installed once all of its dependencies have been installed, and releases which do not depend on each
+     * other are installed concurrently up to the {@link ReleasePlan#maxParallelism()} limit.
+     *
+     * @param plan the releases to install and the ordering constraints between them.
+     * @return the report describing the outcome and timing of every release.
+     * @throws NullPointerException if {@code plan} is {@code null}.
+     * @throws ReleasePlanException if one or more releases fail to install. The installed releases are either
+     *                              uninstalled or left in place according to the {@link ReleasePlan#failurePolicy()}.
+     */
+    default ReleasePlanReport installAll(ReleasePlan plan) {
+        return new ReleasePlanInstaller(this).install(plan);
+    }
+
     /**
      * Executes the Helm CLI {@code uninstall} sub-command and uninstalls the specified Helm chart.
      *
@@ -109,6 +177,65 @@ public interface HelmClient {
      */
     List<ReleaseItem> listReleases(boolean allNamespaces);
 
+    /**
+     * Returns a lazy stream over the releases which executes the Helm CLI {@code list} sub-command once per page of
+     * releases, using the {@code --max} and {@code --offset} options. The first page is fetched when the first release
+     * is requested and, unless disabled by the options, the following page is fetched in the background while the
+     * current page is consumed. The stream should be closed if it is not consumed completely.
+     * <p>
+     * Each page is listed independently, therefore releases installed or uninstalled while the stream is consumed may
+     * be skipped or returned twice.
+     *
+     * @param options the options which select the releases and configure the paging.
+     * @return a lazy stream over the releases ordered by name.
+     * @throws NullPointerException if {@code options} is {@code null}.
+     * @throws HelmExecutionException if the Helm CLI command fails while the stream is consumed.
+     */
+    Stream<ReleaseItem> streamReleases(ReleaseListOptions options);
+
+    /**
+     * Executes the Helm CLI {@code get manifest} sub-command and returns a lazy stream over the Kubernetes resources
+     * deployed by the release. The manifest is parsed incrementally from the output of the Helm CLI, one document at a
+     * time as the stream is consumed, so callers which filter the resources, for example by
+     * {@link KubernetesResource#kind()}, never hold the complete manifest in memory. The stream should be closed if it
+     * is not consumed completely.
+     *
+     * @param releaseName the name of the release.
+     * @return a lazy stream over the resources in the order they appear in the manifest.
+     * @throws NullPointerException     if {@code releaseName} is {@code null}.
+     * @throws IllegalArgumentException if {@code releaseName} is blank.
+     * @throws HelmExecutionException   if the Helm CLI command fails, for example because the release does not exist,
+     *                                  or if the calling thread is interrupted while waiting for the command.
+     * @throws HelmParserException      if a document of the manifest cannot be parsed while the stream is consumed.
+     */
+    Stream<KubernetesResource> releaseManifest(String releaseName);
+
+    /**
+     * Executes the Helm CLI {@code history} sub-command and returns the revisions of the specified release.
+     *
+     * @param releaseName the name of the release.
+     * @return the revisions of the release ordered from the oldest to the most recent.
+     * @throws NullPointerException     if {@code releaseName} is {@code null}.
+     * @throws IllegalArgumentException if {@code releaseName} is blank.
+     * @throws HelmExecutionException   if the Helm CLI command fails, for example because the release does not exist.
+     * @throws HelmParserException      if the output of the Helm CLI command cannot be parsed.
+     */
+    List<ReleaseHistoryItem> history(String releaseName);
+
+    /**
+     * Executes the Helm CLI {@code rollback} sub-command and rolls the specified release back to a previous revision.
+     * Only the resources which differ from the target revision are changed, which is considerably faster than
+     * uninstalling and reinstalling the release. The rollback is recorded by Helm as a new revision of the release and
+     * the command waits until the rolled back resources are ready.
+     *
+     * @param releaseName the name of the release.
+     * @param revision    the revision to roll back to.
+     * @throws NullPointerException     if {@code releaseName} is {@code null}.
+     * @throws IllegalArgumentException if {@code releaseName} is blank or {@code revision} is less than one.
+     * @throws HelmExecutionException   if the Helm CLI command fails.
+     */
+    void rollback(String releaseName, int revision);
+
     /**
      * Executes the Helm CLI {@code dependency update} sub-command and updates the dependencies of the specified Helm
      * chart.
@@ -16,7 +16,12 @@
 
 package com.hedera.fullstack.helm.client;
 
+import com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBackend;
+import com.hedera.fullstack.helm.client.execution.HelmInstrumentation;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * {@code HelmClientBuilder} is used to construct instances of {@link HelmClient}. This interface defines the standard
@@ -49,6 +54,17 @@ public interface HelmClientBuilder {
      */
     HelmClientBuilder workingDirectory(Path workingDirectory);
 
+    /**
+     * Sets the Helm executable used by the {@link HelmClient} instance instead of the executable bundled with this
+     * library. This is primarily useful to point the client at a fake Helm executable when testing or load testing the
+     * client without a Kubernetes cluster.
+     *
+     * @param helmExecutable the path to the Helm executable. This value may be {@code null} to indicate that the
+     *                       bundled Helm executable should be installed and used.
+     * @return the {@link HelmClientBuilder} instance.
+     */
+    HelmClientBuilder helmExecutable(Path helmExecutable);
+
     /**
      * Sets the Kubernetes API server address and port number for the {@link HelmClient} instance.
      *
@@ -129,6 +145,101 @@ public interface HelmClientBuilder {
      */
     HelmClientBuilder kubeConfig(Path kubeConfig);
 
+    /**
+     * Sets the executor used to run the operations of the {@link AsyncHelmClient} created by {@link #buildAsync()}.
+     *
+     * @param executor the executor on which asynchronous operations are run. This value may be {@code null} to indicate
+     *                 that the default executor should be used.
+     * @return the {@link HelmClientBuilder} instance.
+     * @implNote The default executor starts a new virtual thread for each operation and is shut down when the
+     * {@link AsyncHelmClient} is closed. A caller supplied executor is never shut down by the {@link AsyncHelmClient}.
+     */
+    HelmClientBuilder executor(Executor executor);
+
+    /**
+     * Sets the limiter which bounds the number of Helm commands the {@link HelmClient} instance executes at the same
+     * time. The same limiter should be supplied to every client which talks to the same Kubernetes API server so that
+     * their combined load adapts to the capacity of the API server.
+     *
+     * @param concurrencyLimiter the limiter to use. This value may be {@code null} to indicate that the number of
+     *                           concurrent executions should not be limited.
+     * @return the {@link HelmClientBuilder} instance.
+     * @see AdaptiveConcurrencyLimiter#forApiServer(String)
+     * @see AdaptiveConcurrencyLimiter#forKubeConfig(Path, String)
+     */
+    HelmClientBuilder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter);
+
+    /**
+     * Sets the instrumentation which is notified about every Helm command executed by the {@link HelmClient} instance.
+     *
+     * @param instrumentation the instrumentation to notify. This value may be {@code null} to indicate that the Helm
+     *                        commands should not be instrumented.
+     * @return the {@link HelmClientBuilder} instance.
+     * @see com.hedera.fullstack.helm.client.execution.InMemoryHelmInstrumentation
+     */
+    HelmClientBuilder instrumentation(HelmInstrumentation instrumentation);
+
+    /**
+     * Sets the cache of packaged chart archives used by the {@link HelmClient} instance. When a cache is supplied, charts
+     * installed from a chart repository with an exact version are downloaded once and installed from the cached archive
+     * afterwards.
+     *
+     * @param chartCache the cache to use. This value may be {@code null} to indicate that charts should be downloaded by
+     *                   every install.
+     * @return the {@link HelmClientBuilder} instance.
+     * @see ChartArchiveCache#builder()
+     */
+    HelmClientBuilder chartCache(ChartArchiveCache chartCache);
+
+    /**
+     * Sets the cache of rendered manifests used by {@link HelmClient#templateChart}. When a cache is supplied, charts
+     * rendered with the same chart, values, release name and namespace execute the Helm CLI {@code template}
+     * sub-command once.
+     *
+     * @param manifestCache the cache to use. This value may be {@code null} to indicate that charts should be rendered
+     *                      by every call.
+     * @return the {@link HelmClientBuilder} instance.
+     * @see ManifestCache#builder()
+     */
+    HelmClientBuilder manifestCache(ManifestCache manifestCache);
+
+    /**
+     * Sets the backend which starts the Helm commands executed by the {@link HelmClient} instance. Tests may supply a
+     * {@link HelmExecutionBackend#record recording} backend to capture the executions of a flow to fixture files and a
+     * {@link HelmExecutionBackend#replay replaying} backend to serve them back without spawning the Helm executable.
+     *
+     * @param executionBackend the backend to use. This value may be {@code null} to indicate that every Helm command
+     *                         should spawn the Helm executable.
+     * @return the {@link HelmClientBuilder} instance.
+     */
+    HelmClientBuilder executionBackend(HelmExecutionBackend executionBackend);
+
+    /**
+     * Sets the directory in which the {@link HelmClient} instance writes the effective values of the charts it
+     * installs, upgrades and renders. When a directory is supplied, the values files and {@code --set} expressions of
+     * the {@link com.hedera.fullstack.helm.client.model.install.InstallChartOptions} are merged in the JVM into a
+     * single values file, named after the digest of its content, which is passed to the Helm CLI with a single
+     * {@code --values} argument. Options which refer to a remote values file are passed to the Helm CLI unchanged.
+     *
+     * @param valuesDirectory the directory in which the merged values files are written. This value may be
+     *                        {@code null} to indicate that the values files and {@code --set} expressions should be
+     *                        passed to the Helm CLI unchanged.
+     * @return the {@link HelmClientBuilder} instance.
+     * @see com.hedera.fullstack.helm.client.model.values.HelmValues
+     */
+    HelmClientBuilder valuesDirectory(Path valuesDirectory);
+
+    /**
+     * Sets the period of time for which the {@link CachingHelmClient} created by {@link #buildCaching()} caches the
+     * results of {@link HelmClient#listReleases(boolean)}.
+     *
+     * @param releaseCacheTtl the time-to-live of the cached release listings. This value may be {@code null} to
+     *                        indicate that the {@link CachingHelmClient#DEFAULT_TTL} should be used.
+     * @return the {@link HelmClientBuilder} instance.
+     * @throws IllegalArgumentException if {@code releaseCacheTtl} is negative.
+     */
+    HelmClientBuilder releaseCacheTtl(Duration releaseCacheTtl);
+
     /**
      * Constructs an instance of the {@link HelmClient} with the provided configuration.
      *
@@ -139,4 +250,24 @@ public interface HelmClientBuilder {
      * @see HelmClient
      */
     HelmClient build();
+
+    /**
+     * Constructs an instance of the {@link AsyncHelmClient} with the provided configuration. The returned client
+     * delegates to a {@link HelmClient} constructed by {@link #build()}.
+     *
+     * @return the {@link AsyncHelmClient} instance.
+     * @throws HelmConfigurationException if the {@link AsyncHelmClient} instance cannot be constructed.
+     * @see AsyncHelmClient
+     */
+    AsyncHelmClient buildAsync();
+
+    /**
+     * Constructs an instance of the {@link CachingHelmClient} with the provided configuration. The returned client
+     * delegates to a {@link HelmClient} constructed by {@link #build()}.
+     *
+     * @return the {@link CachingHelmClient} instance.
+     * @throws HelmConfigurationException if the {@link CachingHelmClient} instance cannot be constructed.
+     * @see CachingHelmClient
+     */
+    CachingHelmClient buildCaching();
 }
@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import com.hedera.fullstack.base.api.util.CacheFileUtils.CachedFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded cache of the manifests rendered by the Helm CLI {@code template} sub-command, which allows identical
+ * renders to be served without executing the Helm CLI again. Entries are identified by a key derived from the digest of
+ * the chart and of the effective values, see {@link HelmClient#templateChart}, therefore an entry never becomes stale
+ * and is only removed to honour the size limits.
+ * <p>
+ * The most recently used manifests are held in memory. When the cache is persistent, every manifest is also written to
+ * {@code <directory>/<sha256>.yaml}, named after the digest of its key, so that renders survive the JVM and can be
+ * shared by processes using the same directory. Files are written to a temporary file and atomically moved into place,
+ * so readers never observe a partially written manifest. Each tier evicts its least recently used entries once its
+ * size limit is exceeded.
+ * <p>
+ * Concurrent requests for the same key are collapsed into a single render and every caller receives the same result.
+ * Failed renders are never cached.
+ */
+public final class ManifestCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManifestCache.class);
+
+    /**
+     * The maximum total size of the manifests held in memory used when no limit is specified.
+     */
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 64L * 1024L * 1024L;
+
+    /**
+     * The maximum total size of the manifests stored on disk used when no limit is specified.
+     */
+    public static final long DEFAULT_MAX_DISK_BYTES = 512L * 1024L * 1024L;
+
+    /**
+     * The suffix of the manifest files.
+     */
+    private static final String MANIFEST_SUFFIX = ".yaml";
+
+    /**
+     * The directory in which the manifests are stored or {@code null} if the manifests are only held in memory.
+     */
+    private final Path directory;
+
+    /**
+     * The total size of the manifests held in memory above which the least recently used manifests are evicted.
+     */
+    private final long maxMemoryBytes;
+
+    /**
+     * The total size of the manifests stored on disk above which the least recently used manifests are evicted.
+     */
+    private final long maxDiskBytes;
+
+    /**
+     * The manifests held in memory keyed by the digest of their key, in access order. Guarded by its own monitor.
+     */
+    private final LinkedHashMap<String, String> memory;
+
+    /**
+     * The renders which are in flight keyed by the digest of their key.
+     */
+    private final Map<String, CompletableFuture<String>> inFlight;
+
+    /**
+     * The approximate total size of the manifests held in memory. Guarded by the monitor of {@link #memory}.
+     */
+    private long memoryBytes;
+
+    /**
+     * The number of requests served from a cached manifest.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The number of requests which rendered the manifest.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The number of requests which joined an identical render already in flight.
+     */
+    private final LongAdder coalesced;
+
+    /**
+     * The number of times the cache was invalidated.
+     */
+    private final LongAdder invalidations;
+
+    /**
+     * Creates a new {@link ManifestCache} instance.
+     *
+     * @param directory      the directory in which the manifests are stored, which is created on demand, or
+     *                       {@code null} if the manifests should only be held in memory.
+     * @param maxMemoryBytes the total size of the manifests held in memory above which the least recently used
+     *                       manifests are evicted.
+     * @param maxDiskBytes   the total size of the manifests stored on disk above which the least recently used
+     *                       manifests are evicted.
+     */
+    ManifestCache(final Path directory, final long maxMemoryBytes, final long maxDiskBytes) {
+        this.directory = directory != null ? directory.toAbsolutePath().normalize() : null;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.coalesced = new LongAdder();
+        this.invalidations = new LongAdder();
+    }
+
+    /**
+     * Returns an instance of the ManifestCacheBuilder.
+     *
+     * @return the ManifestCacheBuilder.
+     */
+    public static ManifestCacheBuilder builder() {
+        return ManifestCacheBuilder.builder();
+    }
+
+    /**
+     * Returns the cached manifest for the key, rendering it with the supplied renderer if the cache does not contain it
+     * yet. Concurrent requests for the same key render the manifest once.
+     *
+     * @param key      the key which identifies the inputs of the render.
+     * @param renderer the renderer invoked on the calling thread when the manifest is missing from the cache.
+     * @return the rendered manifest.
+     * @throws NullPointerException if {@code key} or {@code renderer} is {@code null}, or if the renderer returns
+     *                              {@code null}.
+     */
+    public String get(final String key, final Supplier<String> renderer) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(renderer, "renderer must not be null");
+
+        final String digest = CacheFileUtils.sha256(key);
+        final String cached = lookup(digest);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        final CompletableFuture<String> created = new CompletableFuture<>();
+        final CompletableFuture<String> existing = inFlight.putIfAbsent(digest, created);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        try {
+            // the render which was in flight when we looked up the key may have completed in the meantime
+            final String populated = lookup(digest);
+            if (populated != null) {
+                hits.increment();
+                created.complete(populated);
+                return populated;
+            }
+
+            misses.increment();
+            final String content = Objects.requireNonNull(renderer.get(), "renderer must not return null");
+            remember(digest, content);
+            persist(digest, content);
+            created.complete(content);
+            return content;
+        } catch (final RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(digest, created);
+        }
+    }
+
+    /**
+     * Returns whether the manifest for the key is present in the cache.
+     *
+     * @param key the key which identifies the inputs of the render.
+     * @return {@code true} if the manifest is cached; otherwise {@code false}.
+     */
+    public boolean contains(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        final String digest = CacheFileUtils.sha256(key);
+        synchronized (memory) {
+            if (memory.containsKey(digest)) {
+                return true;
+            }
+        }
+
+        return directory != null && Files.isRegularFile(directory.resolve(digest + MANIFEST_SUFFIX));
+    }
+
+    /**
+     * Discards every cached manifest, both in memory and on disk. Renders which are already in flight are allowed to
+     * complete and their results are cached.
+     */
+    public void invalidateAll() {
+        synchronized (memory) {
+            memory.clear();
+            memoryBytes = 0;
+        }
+
+        for (final CachedFile manifest : listManifests()) {
+            CacheFileUtils.deleteQuietly(manifest.path());
+        }
+
+        invalidations.increment();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters. A miss is a request which executed the Helm CLI {@code template}
+     * sub-command.
+     *
+     * @return the current {@link CacheStatistics}.
+     */
+    public CacheStatistics statistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), coalesced.sum(), invalidations.sum());
+    }
+
+    /**
+     * Returns the approximate total size of the manifests held in memory.
+     *
+     * @return the size of the manifests in bytes.
+     */
+    public long memorySizeBytes() {
+        synchronized (memory) {
+            return memoryBytes;
+        }
+    }
+
+    /**
+     * Returns the total size of the manifests stored on disk.
+     *
+     * @return the size of the manifests in bytes or {@code 0} if the cache is not persistent.
+     */
+    public long diskSizeBytes() {
+        return listManifests().stream().mapToLong(CachedFile::size).sum();
+    }
+
+    /**
+     * Returns the directory in which the manifests are stored.
+     *
+     * @return the directory or {@code null} if the manifests are only held in memory.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Returns the manifest held in memory or, failing that, stored on disk, marking it as recently used.
+     *
+     * @param digest the digest of the key.
+     * @return the manifest or {@code null} if the cache does not contain it.
+     */
+    private String lookup(final String digest) {
+        synchronized (memory) {
+            final String content = memory.get(digest);
+            if (content != null) {
+                return content;
+            }
+        }
+
+        if (directory == null) {
+            return null;
+        }
+
+        final Path file = directory.resolve(digest + MANIFEST_SUFFIX);
+        try {
+            final String content = Files.readString(file, StandardCharsets.UTF_8);
+            CacheFileUtils.touch(file);
+            remember(digest, content);
+            return content;
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.debug("Ignoring unreadable cached manifest: {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Holds the manifest in memory and evicts the least recently used manifests until the total size no longer exceeds
+     * the limit. The size of a manifest is approximated by its length, because rendered manifests are predominantly
+     * ASCII which is stored with one byte per character. A manifest larger than the limit is not held in memory.
+     *
+     * @param digest  the digest of the key.
+     * @param content the manifest.
+     */
+    private void remember(final String digest, final String content) {
+        if (content.length() > maxMemoryBytes) {
+            return;
+        }
+
+        synchronized (memory) {
+            final String previous = memory.put(digest, content);
+            memoryBytes += content.length() - (previous != null ? previous.length() : 0);
+
+            final Iterator<Map.Entry<String, String>> eldest = memory.entrySet().iterator();
+            while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+                final Map.Entry<String, String> entry = eldest.next();
+                if (entry.getKey().equals(digest)) {
+                    continue;
+                }
+
+                memoryBytes -= entry.getValue().length();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Writes the manifest to disk, if the cache is persistent, and evicts the least recently used manifests. A manifest
+     * which cannot be written is logged and otherwise ignored, because the render itself succeeded.
+     *
+     * @param digest  the digest of the key.
+     * @param content the manifest.
+     */
+    private void persist(final String digest, final String content) {
+        if (directory == null) {
+            return;
+        }
+
+        final Path file = directory.resolve(digest + MANIFEST_SUFFIX);
+        try {
+            CacheFileUtils.writeAtomically(file, content);
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to store the rendered manifest in {}", file, e);
+            return;
+        }
+
+        final List<CachedFile> evicted =
+                CacheFileUtils.evictLeastRecentlyUsed(directory, MANIFEST_SUFFIX, maxDiskBytes, file);
+        evicted.forEach(manifest -> LOGGER.debug("Evicted cached manifest {}", manifest.path()));
+    }
+
+    /**
+     * Lists the manifests stored on disk along with their size and last use.
+     *
+     * @return the stored manifests.
+     */
+    private List<CachedFile> listManifests() {
+        return CacheFileUtils.listFiles(directory, MANIFEST_SUFFIX);
+    }
+
+    /**
+     * Waits for the in-flight render to complete and rethrows its failure, if any, without wrapping it.
+     *
+     * @param future the future of the in-flight render.
+     * @return the result of the in-flight render.
+     */
+    private static String join(final CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+
+            throw e;
+        }
+    }
+}
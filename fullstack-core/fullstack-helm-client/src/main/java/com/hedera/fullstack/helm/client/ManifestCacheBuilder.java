@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.base.api.resource.ResourceLoader;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * The builder for the {@link ManifestCache}.
+ */
+public final class ManifestCacheBuilder {
+    /**
+     * The name of the directory, relative to the {@link ResourceLoader#defaultCacheDirectory()}, used when no
+     * directory is specified.
+     */
+    private static final String DEFAULT_DIRECTORY_NAME = "helm-manifests";
+
+    private Path directory;
+    private boolean persistent = true;
+    private long maxMemoryBytes = ManifestCache.DEFAULT_MAX_MEMORY_BYTES;
+    private long maxDiskBytes = ManifestCache.DEFAULT_MAX_DISK_BYTES;
+
+    private ManifestCacheBuilder() {}
+
+    /**
+     * Returns an instance of the ManifestCacheBuilder.
+     *
+     * @return the ManifestCacheBuilder.
+     */
+    static ManifestCacheBuilder builder() {
+        return new ManifestCacheBuilder();
+    }
+
+    /**
+     * the directory in which the rendered manifests are stored. Defaults to the {@code helm-manifests} directory within
+     * the {@link ResourceLoader#defaultCacheDirectory()}.
+     *
+     * @param directory the directory in which the rendered manifests are stored.
+     * @return the current ManifestCacheBuilder.
+     */
+    public ManifestCacheBuilder directory(final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        return this;
+    }
+
+    /**
+     * whether the rendered manifests are stored on disk in addition to being held in memory. Defaults to {@code true}.
+     *
+     * @param persistent {@code false} to hold the rendered manifests in memory only.
+     * @return the current ManifestCacheBuilder.
+     */
+    public ManifestCacheBuilder persistent(final boolean persistent) {
+        this.persistent = persistent;
+        return this;
+    }
+
+    /**
+     * the total size of the rendered manifests held in memory above which the least recently used manifests are
+     * evicted.
+     *
+     * @param maxMemoryBytes the maximum total size of the manifests held in memory in bytes.
+     * @return the current ManifestCacheBuilder.
+     */
+    public ManifestCacheBuilder maxMemoryBytes(final long maxMemoryBytes) {
+        if (maxMemoryBytes <= 0) {
+            throw new IllegalArgumentException("maxMemoryBytes must be greater than zero");
+        }
+
+        this.maxMemoryBytes = maxMemoryBytes;
+        return this;
+    }
+
+    /**
+     * the total size of the rendered manifests stored on disk above which the least recently used manifests are
+     * evicted.
+     *
+     * @param maxDiskBytes the maximum total size of the manifests stored on disk in bytes.
+     * @return the current ManifestCacheBuilder.
+     */
+    public ManifestCacheBuilder maxDiskBytes(final long maxDiskBytes) {
+        if (maxDiskBytes <= 0) {
+            throw new IllegalArgumentException("maxDiskBytes must be greater than zero");
+        }
+
+        this.maxDiskBytes = maxDiskBytes;
+        return this;
+    }
+
+    /**
+     * builds the ManifestCache.
+     *
+     * @return the ManifestCache.
+     */
+    public ManifestCache build() {
+        if (!persistent) {
+            return new ManifestCache(null, maxMemoryBytes, maxDiskBytes);
+        }
+
+        final Path root =
+                directory != null ? directory : ResourceLoader.defaultCacheDirectory().resolve(DEFAULT_DIRECTORY_NAME);
+        return new ManifestCache(root, maxMemoryBytes, maxDiskBytes);
+    }
+}
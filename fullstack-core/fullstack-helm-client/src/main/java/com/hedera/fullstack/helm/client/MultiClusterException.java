@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Exception thrown when an operation executed by a {@link MultiClusterHelmClient} fails on one or more clusters. The
+ * cause is the failure of the first failed cluster, the failures of the other clusters are attached as suppressed
+ * exceptions and the {@link #getResult() result} describes the outcome of every cluster.
+ */
+public final class MultiClusterException extends RuntimeException {
+
+    /**
+     * the outcome of the operation on every cluster
+     */
+    private final transient MultiClusterResult<?> result;
+
+    /**
+     * Constructs a new exception instance with the specified result.
+     *
+     * @param result the outcome of the operation on every cluster.
+     */
+    public MultiClusterException(final MultiClusterResult<?> result) {
+        super(summarize(result), firstFailure(result));
+        this.result = result;
+
+        final Iterator<Throwable> failures = result.failures().values().iterator();
+        if (failures.hasNext()) {
+            failures.next();
+        }
+        while (failures.hasNext()) {
+            addSuppressed(failures.next());
+        }
+    }
+
+    /**
+     * Returns the outcome of the operation on every cluster.
+     *
+     * @return the outcome of the operation on every cluster.
+     */
+    public MultiClusterResult<?> getResult() {
+        return result;
+    }
+
+    private static Throwable firstFailure(final MultiClusterResult<?> result) {
+        return result.failures().values().stream().findFirst().orElse(null);
+    }
+
+    private static String summarize(final MultiClusterResult<?> result) {
+        Objects.requireNonNull(result, "result must not be null");
+        final StringBuilder sb = new StringBuilder(String.format(
+                "Helm operation failed on %d of %d clusters: [",
+                result.failures().size(), result.clusters().size()));
+        boolean first = true;
+        for (final Map.Entry<String, Throwable> failure : result.failures().entrySet()) {
+            if (!first) {
+                sb.append(", ");
+            }
+            first = false;
+            sb.append(failure.getKey()).append('=').append(failure.getValue().getMessage());
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Runs {@link HelmClient} operations against several Kubernetes clusters at the same time. Each cluster is identified
+ * by a name and served by its own {@link HelmClient}, usually bound to a kube context of the same name.
+ * <p>
+ * Operations either run the same function on every cluster or run a different function, or list of functions, on each
+ * cluster. The number of operations executing against a single cluster at the same time is bounded by a per-cluster
+ * limit, while the clusters themselves are always served concurrently. The outcome of every cluster is collected in a
+ * {@link MultiClusterResult}, a failure on one cluster never prevents or cancels the operations on the other clusters.
+ */
+public interface MultiClusterHelmClient {
+
+    /**
+     * The maximum number of operations executed against a single cluster at the same time when none is specified.
+     */
+    int DEFAULT_MAX_CONCURRENCY_PER_CLUSTER = 4;
+
+    /**
+     * Returns the names of the clusters in the order in which they were added.
+     *
+     * @return an unmodifiable set of cluster names.
+     */
+    Set<String> clusters();
+
+    /**
+     * Returns the {@link HelmClient} serving the named cluster. Operations executed directly on the returned client are
+     * not subject to the per-cluster concurrency limit.
+     *
+     * @param cluster the name of the cluster.
+     * @return the {@link HelmClient} of the cluster.
+     * @throws IllegalArgumentException if the cluster is unknown.
+     */
+    HelmClient client(String cluster);
+
+    /**
+     * Submits an operation for execution against the named cluster once the per-cluster concurrency limit permits.
+     *
+     * @param cluster   the name of the cluster.
+     * @param operation the operation to execute with the {@link HelmClient} of the cluster.
+     * @param <R>       the type of the result of the operation.
+     * @return a future which completes with the result of the operation or exceptionally with its failure.
+     * @throws IllegalArgumentException if the cluster is unknown.
+     */
+    <R> CompletableFuture<R> submit(String cluster, Function<HelmClient, R> operation);
+
+    /**
+     * Executes the same operation against every cluster concurrently and waits for all of them to complete.
+     *
+     * @param operation the operation to execute with the {@link HelmClient} of each cluster.
+     * @param <R>       the type of the result of the operation.
+     * @return the result or failure of every cluster.
+     */
+    <R> MultiClusterResult<R> executeOnAll(Function<HelmClient, R> operation);
+
+    /**
+     * Executes a different operation against each of the named clusters concurrently and waits for all of them to
+     * complete. Clusters without an operation are left untouched and are absent from the result.
+     *
+     * @param operations the operation to execute keyed by the name of the cluster.
+     * @param <R>        the type of the result of the operations.
+     * @return the result or failure of every cluster which had an operation.
+     * @throws IllegalArgumentException if any cluster is unknown, in which case no operation is executed.
+     */
+    <R> MultiClusterResult<R> executePartitioned(Map<String, ? extends Function<HelmClient, R>> operations);
+
+    /**
+     * Executes the operation once for every item assigned to each cluster and waits for all of them to complete. The
+     * items of a cluster are executed concurrently up to the per-cluster concurrency limit. A cluster succeeds with
+     * the results of its items, in the order of the items, only if every item succeeds; otherwise it fails with the
+     * first failure observed and any further failures are attached as suppressed exceptions.
+     *
+     * @param items     the items to process keyed by the name of the cluster.
+     * @param operation the operation to execute with the {@link HelmClient} of the cluster and each of its items.
+     * @param <T>       the type of the items.
+     * @param <R>       the type of the result of the operation.
+     * @return the results or failure of every cluster which had items.
+     * @throws IllegalArgumentException if any cluster is unknown, in which case no operation is executed.
+     */
+    <T, R> MultiClusterResult<List<R>> executeEach(
+            Map<String, ? extends Collection<T>> items, BiFunction<HelmClient, T, R> operation);
+
+    /**
+     * Installs the chart with the same release name and options on every cluster concurrently.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the chart to install.
+     * @param options     the options to pass to the Helm CLI command.
+     * @return the installed release or the failure of every cluster.
+     */
+    default MultiClusterResult<Release> installChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        return executeOnAll(client -> client.installChart(releaseName, chart, options));
+    }
+
+    /**
+     * Uninstalls the release from every cluster concurrently.
+     *
+     * @param releaseName the name of the release.
+     * @return the outcome of every cluster, the successful results are {@code null}.
+     */
+    default MultiClusterResult<Void> uninstallChart(final String releaseName) {
+        return executeOnAll(client -> {
+            client.uninstallChart(releaseName);
+            return null;
+        });
+    }
+
+    /**
+     * Lists the releases of every cluster concurrently.
+     *
+     * @param allNamespaces if {@code true}, list releases across all namespaces.
+     * @return the releases or the failure of every cluster.
+     */
+    default MultiClusterResult<List<ReleaseItem>> listReleases(final boolean allNamespaces) {
+        return executeOnAll(client -> client.listReleases(allNamespaces));
+    }
+
+    /**
+     * Returns an instance of the {@link MultiClusterHelmClientBuilder}.
+     *
+     * @return the {@link MultiClusterHelmClientBuilder}.
+     */
+    static MultiClusterHelmClientBuilder builder() {
+        return new MultiClusterHelmClientBuilder();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.impl.DefaultMultiClusterHelmClient;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * The builder for the {@link MultiClusterHelmClient}.
+ */
+public final class MultiClusterHelmClientBuilder {
+    private final Map<String, Supplier<HelmClient>> clusters = new LinkedHashMap<>();
+    private BiConsumer<String, HelmClientBuilder> clientConfigurer = (cluster, builder) -> {};
+    private int maxConcurrencyPerCluster = MultiClusterHelmClient.DEFAULT_MAX_CONCURRENCY_PER_CLUSTER;
+    private Executor executor;
+
+    /**
+     * Constructs a new MultiClusterHelmClientBuilder.
+     */
+    MultiClusterHelmClientBuilder() {
+        // package-private to prevent instantiation outside the MultiClusterHelmClient
+    }
+
+    /**
+     * adds a cluster served by the supplied client.
+     *
+     * @param name   the name of the cluster.
+     * @param client the client serving the cluster.
+     * @return the current MultiClusterHelmClientBuilder.
+     * @throws NullPointerException     if {@code name} or {@code client} is {@code null}.
+     * @throws IllegalArgumentException if {@code name} is blank or a cluster with the same name has already been added.
+     */
+    public MultiClusterHelmClientBuilder cluster(final String name, final HelmClient client) {
+        Objects.requireNonNull(client, "client must not be null");
+        return add(name, () -> client);
+    }
+
+    /**
+     * adds a cluster, named after the kube context, which is served by a new {@link HelmClient} bound to the context.
+     * The client is created by {@link #build()} after the {@link #clientConfigurer(BiConsumer) client configurer} has
+     * been applied to its builder.
+     *
+     * @param kubeContext the name of the context defined in the kube config file.
+     * @return the current MultiClusterHelmClientBuilder.
+     * @throws NullPointerException     if {@code kubeContext} is {@code null}.
+     * @throws IllegalArgumentException if {@code kubeContext} is blank or a cluster with the same name has already been
+     *                                  added.
+     */
+    public MultiClusterHelmClientBuilder context(final String kubeContext) {
+        return add(kubeContext, () -> {
+            final HelmClientBuilder builder = HelmClient.builder();
+            clientConfigurer.accept(kubeContext, builder);
+            return builder.kubeContext(kubeContext).build();
+        });
+    }
+
+    /**
+     * the configuration applied to the builders of the clients created for the clusters added with
+     * {@link #context(String)}. The configurer is called once per cluster with the name of the cluster, which is also
+     * the name of its kube context, so that per-cluster settings can be chosen for each cluster. A concurrency limiter
+     * must not be shared by clusters served by different API servers; the limiter of a cluster can be obtained with
+     * {@code AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, cluster)}. Defaults to no additional configuration.
+     *
+     * @param clientConfigurer the configuration applied to the {@link HelmClientBuilder} of each cluster, receiving the
+     *                         name of the cluster and its builder.
+     * @return the current MultiClusterHelmClientBuilder.
+     * @throws NullPointerException if {@code clientConfigurer} is {@code null}.
+     * @see com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter#forKubeConfig(java.nio.file.Path,
+     * String)
+     */
+    public MultiClusterHelmClientBuilder clientConfigurer(
+            final BiConsumer<String, HelmClientBuilder> clientConfigurer) {
+        this.clientConfigurer = Objects.requireNonNull(clientConfigurer, "clientConfigurer must not be null");
+        return this;
+    }
+
+    /**
+     * the maximum number of operations executed against a single cluster at the same time. Defaults to
+     * {@link MultiClusterHelmClient#DEFAULT_MAX_CONCURRENCY_PER_CLUSTER}.
+     *
+     * @param maxConcurrencyPerCluster the maximum number of concurrent operations per cluster.
+     * @return the current MultiClusterHelmClientBuilder.
+     * @throws IllegalArgumentException if {@code maxConcurrencyPerCluster} is not positive.
+     */
+    public MultiClusterHelmClientBuilder maxConcurrencyPerCluster(final int maxConcurrencyPerCluster) {
+        if (maxConcurrencyPerCluster <= 0) {
+            throw new IllegalArgumentException("maxConcurrencyPerCluster must be positive");
+        }
+
+        this.maxConcurrencyPerCluster = maxConcurrencyPerCluster;
+        return this;
+    }
+
+    /**
+     * the executor which runs the operations. Defaults to starting a new virtual thread for every operation.
+     *
+     * @param executor the executor which runs the operations.
+     * @return the current MultiClusterHelmClientBuilder.
+     * @throws NullPointerException if {@code executor} is {@code null}.
+     */
+    public MultiClusterHelmClientBuilder executor(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        return this;
+    }
+
+    /**
+     * Builds the MultiClusterHelmClient, creating the clients of the clusters added with {@link #context(String)}.
+     *
+     * @return the MultiClusterHelmClient.
+     * @throws IllegalStateException if no cluster has been added.
+     */
+    public MultiClusterHelmClient build() {
+        if (clusters.isEmpty()) {
+            throw new IllegalStateException("at least one cluster must be added");
+        }
+
+        final Map<String, HelmClient> clients = new LinkedHashMap<>();
+        clusters.forEach((name, client) -> clients.put(name, client.get()));
+        return new DefaultMultiClusterHelmClient(clients, maxConcurrencyPerCluster, executor);
+    }
+
+    private MultiClusterHelmClientBuilder add(final String name, final Supplier<HelmClient> client) {
+        Objects.requireNonNull(name, "name must not be null");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+
+        if (clusters.putIfAbsent(name, client) != null) {
+            throw new IllegalArgumentException("a cluster named " + name + " has already been added");
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The outcome of an operation executed by a {@link MultiClusterHelmClient}, aggregated per cluster. Every cluster on
+ * which the operation was executed appears either in the {@link #results()} or in the {@link #failures()}.
+ *
+ * @param results  the results of the clusters on which the operation succeeded keyed by the name of the cluster. The
+ *                 result of a cluster may be {@code null}.
+ * @param failures the failures of the clusters on which the operation failed keyed by the name of the cluster.
+ * @param <R>      the type of the result of the operation.
+ */
+public record MultiClusterResult<R>(Map<String, R> results, Map<String, Throwable> failures) {
+
+    /**
+     * Creates a new {@link MultiClusterResult} instance. The maps are copied, preserving their iteration order.
+     *
+     * @throws NullPointerException     if {@code results} or {@code failures} is {@code null}.
+     * @throws IllegalArgumentException if a cluster has both a result and a failure.
+     */
+    public MultiClusterResult {
+        Objects.requireNonNull(results, "results must not be null");
+        Objects.requireNonNull(failures, "failures must not be null");
+
+        if (!Collections.disjoint(results.keySet(), failures.keySet())) {
+            throw new IllegalArgumentException("a cluster must not have both a result and a failure");
+        }
+
+        results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Returns the names of every cluster on which the operation was executed, the successful clusters first.
+     *
+     * @return an unmodifiable set of cluster names.
+     */
+    public Set<String> clusters() {
+        final Set<String> clusters = new LinkedHashSet<>(results.keySet());
+        clusters.addAll(failures.keySet());
+        return Collections.unmodifiableSet(clusters);
+    }
+
+    /**
+     * Returns whether the operation succeeded on every cluster.
+     *
+     * @return {@code true} if no cluster failed; otherwise {@code false}.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns the results of every cluster if the operation succeeded on all of them.
+     *
+     * @return the results keyed by the name of the cluster.
+     * @throws MultiClusterException if the operation failed on any cluster.
+     */
+    public Map<String, R> orElseThrow() {
+        if (!isSuccessful()) {
+            throw new MultiClusterException(this);
+        }
+
+        return results;
+    }
+}
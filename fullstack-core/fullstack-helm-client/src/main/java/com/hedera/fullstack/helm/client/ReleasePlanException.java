@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import java.util.Objects;
+
+/**
+ * Exception thrown when one or more releases of a {@link ReleasePlan} fail to install. The cause is the first failure
+ * observed and the {@link #getReport() report} describes the outcome of every release in the plan.
+ */
+public class ReleasePlanException extends RuntimeException {
+
+    /**
+     * the report describing the outcome of every release in the plan
+     */
+    private final transient ReleasePlanReport report;
+
+    /**
+     * Constructs a new exception instance with the specified report and cause.
+     *
+     * @param report the report describing the outcome of every release in the plan.
+     * @param cause  the first failure observed while installing the plan.
+     */
+    public ReleasePlanException(final ReleasePlanReport report, final Throwable cause) {
+        super("Installation of the release plan failed: " + summarize(report), cause);
+        this.report = report;
+    }
+
+    /**
+     * Returns the report describing the outcome of every release in the plan.
+     *
+     * @return the report describing the outcome of every release in the plan.
+     */
+    public ReleasePlanReport getReport() {
+        return report;
+    }
+
+    private static String summarize(final ReleasePlanReport report) {
+        Objects.requireNonNull(report, "report must not be null");
+        final StringBuilder sb = new StringBuilder("[");
+        report.releases().forEach(r -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(r.name()).append('=').append(r.outcome());
+        });
+        return sb.append(']').toString();
+    }
+}
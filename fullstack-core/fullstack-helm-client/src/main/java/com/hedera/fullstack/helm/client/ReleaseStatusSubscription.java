@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+/**
+ * A registration of a listener with a {@link ReleaseStatusWatcher}. Closing the subscription stops the delivery of
+ * further statuses to the listener.
+ */
+@FunctionalInterface
+public interface ReleaseStatusSubscription extends AutoCloseable {
+
+    /**
+     * Removes the listener from the watcher. Closing a subscription more than once has no effect.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseStatus;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Watches the status of releases on behalf of any number of subscribers.
+ * <p>
+ * The watcher runs at most one background poll per namespace, which lists every release of the namespace, in any
+ * status, with the Helm CLI {@code list} command and fans the result out to all subscribers of the namespace. Many
+ * callers waiting on releases of the same namespace therefore share one execution per poll interval instead of
+ * executing the command in their own loops.
+ * <p>
+ * The poll interval adapts to the observed activity. It starts at the minimum interval, doubles after every poll which
+ * did not report a change to any subscriber, up to the maximum interval, and returns to the minimum interval whenever a
+ * change is observed or a subscriber is added. The poll of a namespace stops once it has no subscribers.
+ * <p>
+ * A subscriber only observes polls started after it subscribed, therefore a status is never reported from a listing
+ * which predates the subscription. Listeners are invoked, and the futures returned by the {@code await} methods are
+ * completed, on the polling thread; they should not block and dependent stages should use the asynchronous variants.
+ */
+public interface ReleaseStatusWatcher extends AutoCloseable {
+
+    /**
+     * The poll interval used after a change is observed when none is specified.
+     */
+    Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The poll interval which is not exceeded while nothing changes when none is specified.
+     */
+    Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(8);
+
+    /**
+     * Registers a listener which receives the status of the release observed by the first poll following the
+     * subscription and then every status whose status or revision differs from the previously delivered one.
+     *
+     * @param namespace   the namespace of the release.
+     * @param releaseName the name of the release.
+     * @param listener    the listener receiving the statuses.
+     * @return the subscription which removes the listener once closed.
+     * @throws NullPointerException  if any argument is {@code null}.
+     * @throws IllegalStateException if the watcher has been closed.
+     */
+    ReleaseStatusSubscription subscribe(String namespace, String releaseName, Consumer<ReleaseStatus> listener);
+
+    /**
+     * Waits for the release to be listed with the expected status, such as {@code deployed}. Statuses are compared
+     * ignoring case.
+     *
+     * @param namespace   the namespace of the release.
+     * @param releaseName the name of the release.
+     * @param status      the expected status.
+     * @param timeout     the maximum time to wait.
+     * @return a future completed with the release once it has the expected status, completed exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} if the timeout elapses first or cancelled if the watcher is closed.
+     * @throws NullPointerException  if any argument is {@code null}.
+     * @throws IllegalStateException if the watcher has been closed.
+     */
+    CompletableFuture<ReleaseItem> awaitStatus(String namespace, String releaseName, String status, Duration timeout);
+
+    /**
+     * Waits for the release to no longer be listed, for example once it has been uninstalled.
+     *
+     * @param namespace   the namespace of the release.
+     * @param releaseName the name of the release.
+     * @param timeout     the maximum time to wait.
+     * @return a future completed once the release is absent, completed exceptionally with a
+     * {@link java.util.concurrent.TimeoutException} if the timeout elapses first or cancelled if the watcher is closed.
+     * @throws NullPointerException  if any argument is {@code null}.
+     * @throws IllegalStateException if the watcher has been closed.
+     */
+    CompletableFuture<Void> awaitAbsent(String namespace, String releaseName, Duration timeout);
+
+    /**
+     * Returns the number of polls executed by the watcher across all namespaces, including the failed polls.
+     *
+     * @return the number of polls.
+     */
+    long pollCount();
+
+    /**
+     * Stops all polls, removes all subscribers and cancels the futures which are still waiting.
+     */
+    @Override
+    void close();
+
+    /**
+     * Returns a new builder for the {@link ReleaseStatusWatcher}.
+     *
+     * @return a new {@link ReleaseStatusWatcherBuilder} instance.
+     */
+    static ReleaseStatusWatcherBuilder builder() {
+        return new ReleaseStatusWatcherBuilder();
+    }
+}
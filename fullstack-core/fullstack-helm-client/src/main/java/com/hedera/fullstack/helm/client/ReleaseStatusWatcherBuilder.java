@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client;
+
+import com.hedera.fullstack.helm.client.impl.DefaultReleaseStatusWatcher;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The builder for the {@link ReleaseStatusWatcher}.
+ */
+public final class ReleaseStatusWatcherBuilder {
+    private final Map<String, HelmClient> clients = new HashMap<>();
+    private Consumer<HelmClientBuilder> clientConfigurer = builder -> {};
+    private Duration minPollInterval = ReleaseStatusWatcher.DEFAULT_MIN_POLL_INTERVAL;
+    private Duration maxPollInterval = ReleaseStatusWatcher.DEFAULT_MAX_POLL_INTERVAL;
+
+    /**
+     * Constructs a new ReleaseStatusWatcherBuilder.
+     */
+    ReleaseStatusWatcherBuilder() {
+        // package-private to prevent instantiation outside the ReleaseStatusWatcher
+    }
+
+    /**
+     * the client which polls the releases of the namespace. The client must use the namespace as its default
+     * namespace. Namespaces without a client are polled by a new {@link HelmClient} created when the namespace is first
+     * watched.
+     *
+     * @param namespace the namespace polled by the client.
+     * @param client    the client which polls the namespace.
+     * @return the current ReleaseStatusWatcherBuilder.
+     * @throws NullPointerException     if {@code namespace} or {@code client} is {@code null}.
+     * @throws IllegalArgumentException if {@code namespace} is blank.
+     */
+    public ReleaseStatusWatcherBuilder namespace(final String namespace, final HelmClient client) {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(client, "client must not be null");
+        if (namespace.isBlank()) {
+            throw new IllegalArgumentException("namespace must not be blank");
+        }
+
+        clients.put(namespace, client);
+        return this;
+    }
+
+    /**
+     * the configuration applied to the builders of the clients created for the namespaces without a client, such as
+     * the kube context. The default namespace of the builder is always set to the watched namespace. Defaults to no
+     * additional configuration.
+     *
+     * @param clientConfigurer the configuration applied to each {@link HelmClientBuilder}.
+     * @return the current ReleaseStatusWatcherBuilder.
+     * @throws NullPointerException if {@code clientConfigurer} is {@code null}.
+     */
+    public ReleaseStatusWatcherBuilder clientConfigurer(final Consumer<HelmClientBuilder> clientConfigurer) {
+        this.clientConfigurer = Objects.requireNonNull(clientConfigurer, "clientConfigurer must not be null");
+        return this;
+    }
+
+    /**
+     * the poll interval used after a change is observed or a subscriber is added. Defaults to
+     * {@link ReleaseStatusWatcher#DEFAULT_MIN_POLL_INTERVAL}.
+     *
+     * @param minPollInterval the minimum poll interval.
+     * @return the current ReleaseStatusWatcherBuilder.
+     * @throws NullPointerException     if {@code minPollInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code minPollInterval} is not positive.
+     */
+    public ReleaseStatusWatcherBuilder minPollInterval(final Duration minPollInterval) {
+        Objects.requireNonNull(minPollInterval, "minPollInterval must not be null");
+        if (minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be positive");
+        }
+
+        this.minPollInterval = minPollInterval;
+        return this;
+    }
+
+    /**
+     * the poll interval which is not exceeded while nothing changes. Defaults to
+     * {@link ReleaseStatusWatcher#DEFAULT_MAX_POLL_INTERVAL}.
+     *
+     * @param maxPollInterval the maximum poll interval.
+     * @return the current ReleaseStatusWatcherBuilder.
+     * @throws NullPointerException     if {@code maxPollInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxPollInterval} is not positive.
+     */
+    public ReleaseStatusWatcherBuilder maxPollInterval(final Duration maxPollInterval) {
+        Objects.requireNonNull(maxPollInterval, "maxPollInterval must not be null");
+        if (maxPollInterval.isNegative() || maxPollInterval.isZero()) {
+            throw new IllegalArgumentException("maxPollInterval must be positive");
+        }
+
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    /**
+     * Builds the ReleaseStatusWatcher. No poll is started until the first subscriber is added.
+     *
+     * @return the ReleaseStatusWatcher.
+     * @throws IllegalStateException if the minimum poll interval is greater than the maximum poll interval.
+     */
+    public ReleaseStatusWatcher build() {
+        if (minPollInterval.compareTo(maxPollInterval) > 0) {
+            throw new IllegalStateException("minPollInterval must not be greater than maxPollInterval");
+        }
+
+        final Map<String, HelmClient> configured = Map.copyOf(clients);
+        final Consumer<HelmClientBuilder> configurer = clientConfigurer;
+        return new DefaultReleaseStatusWatcher(
+                namespace -> {
+                    final HelmClient client = configured.get(namespace);
+                    if (client != null) {
+                        return client;
+                    }
+
+                    final HelmClientBuilder builder = HelmClient.builder();
+                    configurer.accept(builder);
+                    return builder.defaultNamespace(namespace).build();
+                },
+                minPollInterval,
+                maxPollInterval);
+    }
+}
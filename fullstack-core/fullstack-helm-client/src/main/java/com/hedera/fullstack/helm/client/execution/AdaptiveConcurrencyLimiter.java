@@ -0,0 +1,514 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.HelmParserException;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Limits the number of Helm operations which run at the same time using an additive-increase/multiplicative-decrease
+ * (AIMD) algorithm. The limit grows by one for every {@code limit} successful operations completed while the limiter
+ * is saturated and shrinks by the backoff ratio whenever an operation signals congestion, such as API server
+ * throttling or a timeout. Operations which exceed the optional latency threshold are also treated as congestion.
+ * <p>
+ * The limit is reduced at most once per round trip: a congestion signal only reduces the limit when the failed
+ * operation was started after the previous reduction. This prevents a burst of failures caused by the same overload
+ * from collapsing the limit to its minimum.
+ * <p>
+ * A single instance should be shared by every {@link com.hedera.fullstack.helm.client.HelmClient} which talks to the
+ * same Kubernetes API server, see {@link #forApiServer(String)} and {@link #forKubeConfig(Path, String)}.
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /**
+     * The prefix of the key used by {@link #forKubeConfig(Path, String)} when the API server cannot be resolved from
+     * the kube config file.
+     */
+    private static final String KUBE_CONFIG_PREFIX = "<kube-config>";
+
+    /**
+     * The fragments of the Helm and Kubernetes client error output which indicate throttling or overload.
+     */
+    private static final List<String> CONGESTION_MARKERS = List.of(
+            "too many requests",
+            "try again later",
+            "client-side throttling",
+            "rate limit",
+            "the server is currently unable to handle the request",
+            "tls handshake timeout",
+            "i/o timeout",
+            "context deadline exceeded",
+            "timed out waiting");
+
+    /**
+     * The limiters returned by {@link #forApiServer(String)} keyed by API server.
+     */
+    private static final Map<String, AdaptiveConcurrencyLimiter> SHARED = new ConcurrentHashMap<>();
+
+    /**
+     * The lowest value to which the limit may shrink.
+     */
+    private final int minLimit;
+
+    /**
+     * The highest value to which the limit may grow.
+     */
+    private final int maxLimit;
+
+    /**
+     * The ratio by which the limit is multiplied when congestion is detected.
+     */
+    private final double backoffRatio;
+
+    /**
+     * The latency above which an operation is treated as congestion or {@code null} if latency is ignored.
+     */
+    private final Duration latencyThreshold;
+
+    /**
+     * The predicate which decides whether a failure signals congestion.
+     */
+    private final Predicate<Throwable> congestionClassifier;
+
+    /**
+     * Guards the mutable state of the limiter. The lock is fair so that waiting operations acquire permits in arrival
+     * order.
+     */
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    /**
+     * Signalled whenever a permit is released or the limit grows.
+     */
+    private final Condition permitAvailable = lock.newCondition();
+
+    /**
+     * The current limit, kept fractional so that it can grow by less than one per completed operation.
+     */
+    private double limit;
+
+    /**
+     * The number of operations currently running.
+     */
+    private int inFlight;
+
+    /**
+     * The number of operations waiting for a permit.
+     */
+    private int waiting;
+
+    /**
+     * The time, in nanoseconds, at which the limit was last reduced.
+     */
+    private long lastDecreaseNanos;
+
+    /**
+     * The number of executions which completed without congestion, reported by {@link #metrics()}.
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * The number of executions which were slower than the latency threshold or failed with a congestion signal,
+     * reported by {@link #metrics()}.
+     */
+    private final LongAdder congested = new LongAdder();
+
+    /**
+     * The number of executions which failed for a reason other than congestion, reported by {@link #metrics()}.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Creates a new {@link AdaptiveConcurrencyLimiter} instance. Use {@link #builder()} to create instances.
+     *
+     * @param initialLimit         the initial limit.
+     * @param minLimit             the lowest value to which the limit may shrink.
+     * @param maxLimit             the highest value to which the limit may grow.
+     * @param backoffRatio         the ratio by which the limit is multiplied when congestion is detected.
+     * @param latencyThreshold     the latency above which an operation is treated as congestion or {@code null}.
+     * @param congestionClassifier the predicate which decides whether a failure signals congestion.
+     */
+    AdaptiveConcurrencyLimiter(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final double backoffRatio,
+            final Duration latencyThreshold,
+            final Predicate<Throwable> congestionClassifier) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be greater than zero");
+        }
+
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit must be greater than or equal to minLimit");
+        }
+
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+        }
+
+        if (!(backoffRatio > 0.0 && backoffRatio < 1.0)) {
+            throw new IllegalArgumentException("backoffRatio must be greater than zero and less than one");
+        }
+
+        if (latencyThreshold != null && (latencyThreshold.isNegative() || latencyThreshold.isZero())) {
+            throw new IllegalArgumentException("latencyThreshold must be positive");
+        }
+
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThreshold = latencyThreshold;
+        this.congestionClassifier =
+                Objects.requireNonNull(congestionClassifier, "congestionClassifier must not be null");
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a new {@link AdaptiveConcurrencyLimiterBuilder} instance.
+     *
+     * @return a new {@link AdaptiveConcurrencyLimiterBuilder} instance.
+     */
+    public static AdaptiveConcurrencyLimiterBuilder builder() {
+        return new AdaptiveConcurrencyLimiterBuilder();
+    }
+
+    /**
+     * Returns the limiter with the default configuration shared by every caller within the JVM which uses the same API
+     * server.
+     *
+     * @param kubeApiServer the address and port of the Kubernetes API server, or {@code null} if the API server is
+     *                      taken from the current context of the default kube config file.
+     * @return the shared {@link AdaptiveConcurrencyLimiter} for the API server.
+     * @see #forKubeConfig(Path, String)
+     */
+    public static AdaptiveConcurrencyLimiter forApiServer(final String kubeApiServer) {
+        if (kubeApiServer == null || kubeApiServer.isBlank()) {
+            return forKubeConfig(null, null);
+        }
+
+        return SHARED.computeIfAbsent(kubeApiServer, k -> builder().build());
+    }
+
+    /**
+     * Returns the limiter with the default configuration shared by every caller within the JVM which uses the API
+     * server of the specified kube config context. The API server is read from the cluster entry referenced by the
+     * context, so clients using different contexts or kube config files which point at the same API server share one
+     * limiter. When the API server cannot be resolved, the limiter is shared by the callers which use the same kube
+     * config file and context instead.
+     *
+     * @param kubeConfig  the path to the kube config file, or {@code null} if the file named by the {@code KUBECONFIG}
+     *                    environment variable or {@code ~/.kube/config} is used.
+     * @param kubeContext the name of the kube config context, or {@code null} if the current context is used.
+     * @return the shared {@link AdaptiveConcurrencyLimiter} for the API server.
+     */
+    public static AdaptiveConcurrencyLimiter forKubeConfig(final Path kubeConfig, final String kubeContext) {
+        final Path path = (kubeConfig != null ? kubeConfig : defaultKubeConfig())
+                .toAbsolutePath()
+                .normalize();
+        final String context = kubeContext == null || kubeContext.isBlank() ? null : kubeContext;
+        final String apiServer = resolveApiServer(path, context);
+        if (apiServer != null) {
+            return forApiServer(apiServer);
+        }
+
+        final String key = KUBE_CONFIG_PREFIX + path + "#" + (context != null ? context : "");
+        return SHARED.computeIfAbsent(key, k -> builder().build());
+    }
+
+    /**
+     * Runs the operation once a permit is available and adjusts the limit according to the outcome of the operation.
+     *
+     * @param operation the operation to run.
+     * @param <T>       the type of the result of the operation.
+     * @return the result of the operation.
+     * @throws HelmExecutionException if the current thread is interrupted while waiting for a permit.
+     */
+    public <T> T execute(final Supplier<T> operation) {
+        Objects.requireNonNull(operation, "operation must not be null");
+
+        final long start = acquire();
+        try {
+            final T result = operation.get();
+            release(start, null);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            release(start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current number of operations allowed to run at the same time.
+     *
+     * @return the current limit.
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of operations waiting for a permit.
+     *
+     * @return the queue depth.
+     */
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the state of the limiter.
+     *
+     * @return the current {@link ConcurrencyLimiterMetrics}.
+     */
+    public ConcurrencyLimiterMetrics metrics() {
+        lock.lock();
+        try {
+            return new ConcurrencyLimiterMetrics(
+                    currentLimit(), inFlight, waiting, completed.sum(), congested.sum(), failed.sum());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Determines whether the failure indicates that the API server is throttling requests or overloaded. The message,
+     * standard output and standard error of each exception in the cause chain are searched for well known throttling
+     * and timeout messages. Timeouts waiting for the Helm process to complete are also treated as congestion.
+     *
+     * @param failure the failure to classify.
+     * @return {@code true} if the failure signals congestion; otherwise, {@code false}.
+     */
+    public static boolean isCongestion(final Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof HelmParserException && containsCongestionMarker(t.getMessage())) {
+                return true;
+            }
+
+            if (t instanceof HelmExecutionException hee
+                    && (containsCongestionMarker(hee.getMessage())
+                            || containsCongestionMarker(hee.getStdErr())
+                            || containsCongestionMarker(hee.getStdOut()))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean containsCongestionMarker(final String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+
+        final String normalized = text.toLowerCase(Locale.ROOT);
+        for (final String marker : CONGESTION_MARKERS) {
+            if (normalized.contains(marker)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Waits until the number of operations in flight is below the limit and takes a permit.
+     *
+     * @return the time, in nanoseconds, at which the permit was taken.
+     * @throws HelmExecutionException if the current thread is interrupted while waiting.
+     */
+    private long acquire() {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (inFlight >= currentLimit()) {
+                    permitAvailable.await();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HelmExecutionException(-1, "Interrupted while waiting for a concurrency permit", e);
+            } finally {
+                waiting--;
+            }
+
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the permit and adjusts the limit according to the outcome of the operation.
+     *
+     * @param start   the time, in nanoseconds, at which the permit was taken.
+     * @param failure the failure of the operation or {@code null} if the operation succeeded.
+     */
+    private void release(final long start, final Throwable failure) {
+        final long end = System.nanoTime();
+        final boolean slow = latencyThreshold != null && end - start > latencyThreshold.toNanos();
+        final boolean congestion = slow || (failure != null && congestionClassifier.test(failure));
+
+        lock.lock();
+        try {
+            final boolean saturated = inFlight >= currentLimit() || waiting > 0;
+            inFlight--;
+
+            if (congestion) {
+                congested.increment();
+                // only the first congestion signal of each round trip reduces the limit
+                if (start - lastDecreaseNanos > 0) {
+                    final double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = end;
+                    LOGGER.debug(
+                            "Concurrency limit reduced due to congestion.  [previous={}, limit={}]",
+                            (int) previous,
+                            currentLimit());
+                }
+            } else if (failure == null) {
+                completed.increment();
+                if (saturated) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                }
+            } else {
+                failed.increment();
+            }
+
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the integral limit. Must be called while holding the lock.
+     *
+     * @return the current limit rounded down.
+     */
+    private int currentLimit() {
+        return Math.max(minLimit, (int) limit);
+    }
+
+    /**
+     * Returns the kube config file used by the Helm CLI when the {@code --kubeconfig} option is not supplied.
+     *
+     * @return the first file named by the {@code KUBECONFIG} environment variable or {@code ~/.kube/config}.
+     */
+    private static Path defaultKubeConfig() {
+        final String kubeConfigVariable = System.getenv("KUBECONFIG");
+        if (kubeConfigVariable != null && !kubeConfigVariable.isBlank()) {
+            for (final String file : kubeConfigVariable.split(File.pathSeparator)) {
+                if (!file.isBlank()) {
+                    return Path.of(file);
+                }
+            }
+        }
+
+        return Path.of(System.getProperty("user.home"), ".kube", "config");
+    }
+
+    /**
+     * Reads the address of the API server of the specified context from the kube config file.
+     *
+     * @param kubeConfig  the path to the kube config file.
+     * @param kubeContext the name of the context, or {@code null} if the current context is used.
+     * @return the address of the API server, or {@code null} if the kube config file cannot be read or does not define
+     * the context or its cluster.
+     */
+    private static String resolveApiServer(final Path kubeConfig, final String kubeContext) {
+        if (!Files.isRegularFile(kubeConfig)) {
+            return null;
+        }
+
+        final Object document;
+        try (final Reader reader = Files.newBufferedReader(kubeConfig, StandardCharsets.UTF_8)) {
+            document = new Yaml(new SafeConstructor(new LoaderOptions())).load(reader);
+        } catch (final IOException | YAMLException e) {
+            LOGGER.debug("Unable to read the kube config file: {}", kubeConfig, e);
+            return null;
+        }
+
+        if (!(document instanceof Map<?, ?> config)) {
+            return null;
+        }
+
+        final Object contextName = kubeContext != null ? kubeContext : config.get("current-context");
+        final Object context = namedEntry(config.get("contexts"), contextName, "context");
+        final Object clusterName = context instanceof Map<?, ?> c ? c.get("cluster") : null;
+        final Object cluster = namedEntry(config.get("clusters"), clusterName, "cluster");
+        final Object server = cluster instanceof Map<?, ?> c ? c.get("server") : null;
+        return server instanceof String s && !s.isBlank() ? s : null;
+    }
+
+    /**
+     * Finds the entry with the specified name in one of the named lists of a kube config file.
+     *
+     * @param entries the {@code contexts} or {@code clusters} list of the kube config file.
+     * @param name    the name of the entry.
+     * @param field   the field of the entry which holds its content.
+     * @return the content of the entry, or {@code null} if no entry has the specified name.
+     */
+    private static Object namedEntry(final Object entries, final Object name, final String field) {
+        if (name == null || !(entries instanceof List<?> list)) {
+            return null;
+        }
+
+        for (final Object entry : list) {
+            if (entry instanceof Map<?, ?> map && name.equals(map.get("name"))) {
+                return map.get(field);
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * The builder for the {@link AdaptiveConcurrencyLimiter}.
+ */
+public final class AdaptiveConcurrencyLimiterBuilder {
+    /**
+     * The initial limit used when none is specified.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+
+    /**
+     * The minimum limit used when none is specified.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * The maximum limit used when none is specified.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /**
+     * The backoff ratio used when none is specified.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.5;
+
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+    private Duration latencyThreshold;
+    private Predicate<Throwable> congestionClassifier = AdaptiveConcurrencyLimiter::isCongestion;
+
+    /**
+     * Package-private constructor, use {@link AdaptiveConcurrencyLimiter#builder()} to create instances.
+     */
+    AdaptiveConcurrencyLimiterBuilder() {}
+
+    /**
+     * the number of operations allowed to run at the same time before any feedback has been received.
+     *
+     * @param initialLimit the initial limit.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder initialLimit(final int initialLimit) {
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * the lowest value to which the limit may shrink.
+     *
+     * @param minLimit the minimum limit.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder minLimit(final int minLimit) {
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * the highest value to which the limit may grow.
+     *
+     * @param maxLimit the maximum limit.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder maxLimit(final int maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * the ratio, between zero and one exclusive, by which the limit is multiplied when congestion is detected.
+     *
+     * @param backoffRatio the backoff ratio.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder backoffRatio(final double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * the latency above which a completed operation is treated as a congestion signal, or {@code null} to only react
+     * to failures.
+     *
+     * @param latencyThreshold the latency threshold.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder latencyThreshold(final Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+        return this;
+    }
+
+    /**
+     * the predicate which decides whether a failed operation signals congestion, defaults to
+     * {@link AdaptiveConcurrencyLimiter#isCongestion(Throwable)}.
+     *
+     * @param congestionClassifier the congestion classifier.
+     * @return the current AdaptiveConcurrencyLimiterBuilder.
+     */
+    public AdaptiveConcurrencyLimiterBuilder congestionClassifier(final Predicate<Throwable> congestionClassifier) {
+        this.congestionClassifier = congestionClassifier;
+        return this;
+    }
+
+    /**
+     * builds the AdaptiveConcurrencyLimiter.
+     *
+     * @return the AdaptiveConcurrencyLimiter.
+     * @throws IllegalArgumentException if the configuration is not valid.
+     * @throws NullPointerException     if the congestion classifier is {@code null}.
+     */
+    public AdaptiveConcurrencyLimiter build() {
+        return new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyThreshold, congestionClassifier);
+    }
+}
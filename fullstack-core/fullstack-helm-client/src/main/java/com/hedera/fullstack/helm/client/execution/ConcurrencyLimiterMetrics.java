@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+/**
+ * A point-in-time snapshot of the state of an {@link AdaptiveConcurrencyLimiter}.
+ *
+ * @param limit           the current number of operations allowed to run at the same time.
+ * @param inFlight        the number of operations currently running.
+ * @param queueDepth      the number of operations waiting for a permit.
+ * @param completedCount  the number of operations which completed successfully.
+ * @param congestionCount the number of operations which signalled congestion, such as throttling or a timeout.
+ * @param failedCount     the number of operations which failed for any other reason.
+ */
+public record ConcurrencyLimiterMetrics(
+        int limit, int inFlight, int queueDepth, long completedCount, long congestionCount, long failedCount) {}
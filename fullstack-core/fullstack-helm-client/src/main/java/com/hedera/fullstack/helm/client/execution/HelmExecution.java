@@ -18,7 +18,9 @@ package com.hedera.fullstack.helm.client.execution;
 
 import static com.hedera.fullstack.base.api.util.ExceptionUtils.suppressExceptions;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hedera.fullstack.base.api.io.BufferedStreamSink;
 import com.hedera.fullstack.base.api.util.StreamUtils;
@@ -26,10 +28,19 @@ import com.hedera.fullstack.helm.client.HelmExecutionException;
 import com.hedera.fullstack.helm.client.HelmParserException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +58,12 @@ public final class HelmExecution {
      */
     private static final String MSG_TIMEOUT_ERROR = "Timed out waiting for the process to complete";
 
+    /**
+     * The period of time the process tree is given to exit after being asked to terminate before it is forcibly
+     * destroyed.
+     */
+    private static final Duration CANCEL_GRACE_PERIOD = Duration.ofSeconds(2);
+
     /**
      * The message for a deserialization error.
      */
@@ -59,6 +76,16 @@ public final class HelmExecution {
     private static final String MSG_LIST_DESERIALIZATION_ERROR =
             "Failed to deserialize the output into a list of the specified class: %s";
 
+    /**
+     * The placeholder logged when the output cannot be replayed.
+     */
+    private static final String MSG_UNAVAILABLE_OUTPUT = "<output unavailable>";
+
+    /**
+     * The message for an error reading the standard output.
+     */
+    private static final String MSG_READ_ERROR = "Failed to read the standard output of the process";
+
     /**
      * The global Jackson {@link ObjectMapper} instance used to deserialize all response objects.
      */
@@ -79,20 +106,97 @@ public final class HelmExecution {
      */
     private final BufferedStreamSink standardErrorSink;
 
+    /**
+     * The value of {@link System#nanoTime()} at which the execution is cancelled, only meaningful when
+     * {@link #hasDeadline} is {@code true}.
+     */
+    private final long deadlineNanos;
+
+    /**
+     * Whether the execution is bounded by a deadline.
+     */
+    private final boolean hasDeadline;
+
+    /**
+     * Whether the execution has been cancelled.
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * The details reported to the {@link HelmInstrumentation} once the process completes or {@code null} if the
+     * execution is not instrumented.
+     */
+    private final InstrumentationContext instrumentationContext;
+
+    /**
+     * Whether the completion of the process has been reported to the {@link HelmInstrumentation}.
+     */
+    private final AtomicBoolean reported;
+
     static {
         OBJECT_MAPPER.findAndRegisterModules();
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // The output streams are closed explicitly once they are no longer needed for diagnostics.
+        OBJECT_MAPPER.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
     }
 
     /**
-     * Creates a new {@link HelmExecution} instance for the specified process.
+     * Creates a new {@link HelmExecution} instance for the specified process using the
+     * {@link HelmExecutionOptions#defaults() default options}.
      *
      * @param process the underlying {@link Process} instance wrapped by this {@link HelmExecution} instance.
      */
     public HelmExecution(final Process process) {
+        this(process, HelmExecutionOptions.defaults());
+    }
+
+    /**
+     * Creates a new {@link HelmExecution} instance for the specified process which buffers the output and bounds the
+     * execution as configured by the supplied options.
+     *
+     * @param process the underlying {@link Process} instance wrapped by this {@link HelmExecution} instance.
+     * @param options the options which control the output buffering, the line listeners and the deadline.
+     */
+    public HelmExecution(final Process process, final HelmExecutionOptions options) {
+        this(process, options, null);
+    }
+
+    /**
+     * Creates a new instrumented {@link HelmExecution} instance. Used by the {@link HelmExecutionBuilder}.
+     *
+     * @param process                the underlying {@link Process} instance.
+     * @param options                the options which control the output buffering, the line listeners and the
+     *                               deadline.
+     * @param instrumentationContext the details reported once the process completes or {@code null} if the execution
+     *                               is not instrumented.
+     */
+    HelmExecution(
+            final Process process,
+            final HelmExecutionOptions options,
+            final InstrumentationContext instrumentationContext) {
+        Objects.requireNonNull(options, "options must not be null");
+        final Duration timeout = options.timeout();
+
         this.process = Objects.requireNonNull(process, "process must not be null");
-        this.standardOutputSink = new BufferedStreamSink(process.getInputStream());
-        this.standardErrorSink = new BufferedStreamSink(process.getErrorStream());
+        this.hasDeadline = timeout != null;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + saturatedNanos(timeout) : 0;
+        this.cancelled = new AtomicBoolean(false);
+        this.instrumentationContext = instrumentationContext;
+        this.reported = new AtomicBoolean(false);
+        this.standardOutputSink = new BufferedStreamSink(process.getInputStream(), options.streamDrainer())
+                .retainData(options.retainOutput())
+                .memoryLimit(options.outputMemoryLimit());
+        this.standardErrorSink = new BufferedStreamSink(process.getErrorStream(), options.streamDrainer())
+                .retainData(options.retainOutput())
+                .memoryLimit(options.outputMemoryLimit());
+
+        if (options.standardOutputListener() != null) {
+            this.standardOutputSink.lineListener(options.standardOutputListener());
+        }
+
+        if (options.standardErrorListener() != null) {
+            this.standardErrorSink.lineListener(options.standardErrorListener());
+        }
 
         this.standardOutputSink.begin();
         this.standardErrorSink.begin();
@@ -101,41 +205,113 @@ public final class HelmExecution {
     /**
      * Causes the current thread to wait, if necessary, until the process represented by this Process object has
      * terminated. This method returns immediately if the process has already terminated. If the process has not yet
-     * terminated, the calling thread will be blocked until the process exits.
+     * terminated, the calling thread will be blocked until the process exits or, if the execution has a deadline, until
+     * the deadline elapses and the execution is {@link #cancel() cancelled}.
      *
      * @throws InterruptedException if the current thread is interrupted by another thread while it is waiting, then the
-     *                              wait is ended and an InterruptedException is thrown.
+     *                              wait is ended, the execution is cancelled and an InterruptedException is thrown.
      */
     public void waitFor() throws InterruptedException {
-        process.waitFor();
-        // Ensure that the standard output and error sinks are closed. Knowingly ignoring any exceptions since this is
-        // best effort closure.
-        suppressExceptions(standardOutputSink::close);
-        suppressExceptions(standardErrorSink::close);
+        if (hasDeadline) {
+            if (!waitFor(remaining())) {
+                cancel();
+            }
+
+            return;
+        }
+
+        try {
+            process.waitFor();
+        } catch (final InterruptedException e) {
+            cancel();
+            throw e;
+        }
+
+        complete();
     }
 
     /**
      * Causes the current thread to wait, if necessary, until the process represented by this Process object has
      * terminated, or the specified waiting time elapses. If the process has already terminated then this method returns
      * immediately with the value true. If the process has not terminated and the timeout value is less than, or equal
-     * to, zero, then this method returns immediately with the value false. The default implementation of this method
-     * polls the exitValue to check if the process has terminated. Concrete implementations of this class are strongly
-     * encouraged to override this method with a more efficient implementation.
+     * to, zero, then this method returns immediately with the value false. If the execution has a deadline which
+     * elapses before the specified waiting time, the execution is {@link #cancel() cancelled} and this method returns
+     * false. Otherwise, the process is left running when the waiting time elapses.
      *
      * @param timeout the maximum time to wait.
-     * @throws InterruptedException if the current thread is interrupted while waiting.
+     * @throws InterruptedException if the current thread is interrupted while waiting, in which case the execution is
+     *                              cancelled.
      */
     public boolean waitFor(final Duration timeout) throws InterruptedException {
-        final boolean success = process.waitFor(timeout.toMillis(), java.util.concurrent.TimeUnit.MILLISECONDS);
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        final boolean deadlineFirst = hasDeadline && remaining().compareTo(timeout) <= 0;
+        final Duration wait = deadlineFirst ? remaining() : timeout;
+
+        final boolean success;
+        try {
+            success = process.waitFor(saturatedNanos(wait), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            cancel();
+            throw e;
+        }
+
         if (success) {
-            // Ensure that the standard output and error sinks are closed.
-            suppressExceptions(standardOutputSink::close);
-            suppressExceptions(standardErrorSink::close);
+            complete();
+        } else if (deadlineFirst) {
+            cancel();
         }
 
         return success;
     }
 
+    /**
+     * Cancels the execution by terminating the process together with every process it spawned, such as {@code kubectl}
+     * or plugin processes, and releases the threads draining the output of the process. The process tree is first
+     * asked to terminate and is forcibly destroyed if it has not exited within a short grace period. Any output read
+     * before the execution was cancelled remains available. This method is idempotent and has no effect if the process
+     * has already terminated.
+     */
+    public void cancel() {
+        if (!cancelled.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (process.isAlive()) {
+            LOGGER.debug("Cancelling helm process [pid={}]", suppressExceptions(process::pid, -1L));
+            destroyProcessTree();
+        }
+
+        // Closing the pipes releases the drain threads even if a process which escaped the tree still holds the write
+        // end of a pipe open.
+        suppressExceptions(process.getInputStream()::close);
+        suppressExceptions(process.getErrorStream()::close);
+        complete();
+    }
+
+    /**
+     * Returns whether the execution has been cancelled, either explicitly, because its deadline elapsed, or because the
+     * thread waiting for it was interrupted.
+     *
+     * @return {@code true} if the execution has been cancelled; otherwise {@code false}.
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Returns the time remaining until the deadline of the execution elapses.
+     *
+     * @return the remaining time, which is {@link Duration#ZERO} once the deadline has elapsed, or {@code null} if the
+     * execution has no deadline.
+     */
+    public Duration remaining() {
+        if (!hasDeadline) {
+            return null;
+        }
+
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
     /**
      * Returns the exit code of the subprocess.
      *
@@ -147,6 +323,26 @@ public final class HelmExecution {
         return process.exitValue();
     }
 
+    /**
+     * Returns the number of bytes read from the standard output of the process so far, including any bytes which were
+     * only delivered to the listeners. This value may be read while the process is still running.
+     *
+     * @return the number of bytes read from the standard output of the process.
+     */
+    public long standardOutputBytes() {
+        return standardOutputSink.bytesRead();
+    }
+
+    /**
+     * Returns the number of bytes read from the standard error of the process so far, including any bytes which were
+     * only delivered to the listeners. This value may be read while the process is still running.
+     *
+     * @return the number of bytes read from the standard error of the process.
+     */
+    public long standardErrorBytes() {
+        return standardErrorSink.bytesRead();
+    }
+
     /**
      * Returns the input stream connected to the normal output of the subprocess. The stream obtains data piped from the
      * standard output of the process represented by this Process object.
@@ -193,7 +389,8 @@ public final class HelmExecution {
     }
 
     /**
-     * Deserializes the standard output of the process into the specified response class.
+     * Deserializes the standard output of the process into the specified response class. The response is parsed
+     * directly from the buffered standard output stream without first being converted into a {@link String}.
      *
      * @param responseClass The class to deserialize the response into.
      * @param timeout       The maximum time to wait for the process to complete. If null, the method will wait
@@ -204,34 +401,20 @@ public final class HelmExecution {
     public <T> T responseAs(final Class<T> responseClass, final Duration timeout) {
         Objects.requireNonNull(responseClass, "responseClass must not be null");
 
-        try {
-            if (timeout != null) {
-                if (!waitFor(timeout)) {
-                    throw new HelmParserException(MSG_TIMEOUT_ERROR);
-                }
-            } else {
-                waitFor();
-            }
-        } catch (final InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+        if (!awaitCompletion(timeout)) {
             return null;
         }
 
         if (exitCode() != 0) {
             throw new HelmExecutionException(
                     exitCode(),
-                    StreamUtils.streamToString(suppressExceptions(this::standardOutput)),
-                    StreamUtils.streamToString(suppressExceptions(this::standardError)));
+                    consume(suppressExceptions(this::standardOutput)),
+                    consume(suppressExceptions(this::standardError)));
         }
-        final String standardOutput = StreamUtils.streamToString(suppressExceptions(this::standardOutput));
-        final String standardError = StreamUtils.streamToString(suppressExceptions(this::standardError));
 
-        LOGGER.debug(
-                "ResponseAs exiting with exitCode: {}TODO\n\tResponseClass: {}\n\tstandardOutput: {}\n\tstandardError: {}",
-                exitCode(),
-                responseClass.getName(),
-                standardOutput,
-                standardError);
+        final InputStream standardOutput = markedStandardOutput();
+        logResponse("ResponseAs", responseClass, standardOutput);
+        releaseStandardError();
 
         try {
             return OBJECT_MAPPER.readValue(standardOutput, responseClass);
@@ -239,10 +422,12 @@ public final class HelmExecution {
             LOGGER.warn(
                     String.format(
                             "ResponseAs failed to deserialize response into class: %s%n\tresponse: %s",
-                            responseClass.getName(), standardOutput),
+                            responseClass.getName(), replay(standardOutput)),
                     e);
 
             throw new HelmParserException(String.format(MSG_DESERIALIZATION_ERROR, responseClass.getName()), e);
+        } finally {
+            suppressExceptions(standardOutput::close);
         }
     }
 
@@ -259,7 +444,8 @@ public final class HelmExecution {
     }
 
     /**
-     * Deserializes the standard output of the process into a {@link List} of the specified response class.
+     * Deserializes the standard output of the process into a {@link List} of the specified response class. The response
+     * is parsed directly from the buffered standard output stream without first being converted into a {@link String}.
      *
      * @param responseClass The class to deserialize the response into.
      * @param timeout       The maximum time to wait for the process to complete. If null, the method will wait
@@ -270,16 +456,7 @@ public final class HelmExecution {
     public <T> List<T> responseAsList(final Class<T> responseClass, final Duration timeout) {
         Objects.requireNonNull(responseClass, "responseClass must not be null");
 
-        try {
-            if (timeout != null) {
-                if (!waitFor(timeout)) {
-                    throw new HelmParserException(MSG_TIMEOUT_ERROR);
-                }
-            } else {
-                waitFor();
-            }
-        } catch (final InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+        if (!awaitCompletion(timeout)) {
             return Collections.emptyList();
         }
 
@@ -287,15 +464,9 @@ public final class HelmExecution {
             throw new HelmExecutionException(exitCode());
         }
 
-        final String standardOutput = StreamUtils.streamToString(suppressExceptions(this::standardOutput));
-        final String standardError = StreamUtils.streamToString(suppressExceptions(this::standardError));
-
-        LOGGER.debug(
-                "ResponseAsList exiting with exitCode: {}\n\tResponseClass: {}\n\tstandardOutput: {}\n\tstandardError: {}",
-                exitCode(),
-                responseClass.getName(),
-                standardOutput,
-                standardError);
+        final InputStream standardOutput = markedStandardOutput();
+        logResponse("ResponseAsList", responseClass, standardOutput);
+        releaseStandardError();
 
         try {
             return OBJECT_MAPPER
@@ -306,11 +477,134 @@ public final class HelmExecution {
             LOGGER.warn(
                     String.format(
                             "ResponseAsList failed to deserialize the output into a list of the specified class: %s%n\tresponse: %s",
-                            responseClass.getName(), standardOutput),
+                            responseClass.getName(), replay(standardOutput)),
                     e);
 
             throw new HelmParserException(String.format(MSG_LIST_DESERIALIZATION_ERROR, responseClass.getName()), e);
+        } finally {
+            suppressExceptions(standardOutput::close);
+        }
+    }
+
+    /**
+     * Incrementally deserializes the standard output of the process into instances of the specified response class.
+     * This variant will wait indefinitely for the process to complete.
+     *
+     * @param responseClass The class to deserialize the response into.
+     * @param <T>           The type of the response.
+     * @return an iterator which yields each deserialized object as it is parsed.
+     * @see #responseAsIterator(Class, Duration)
+     */
+    public <T> Iterator<T> responseAsIterator(final Class<T> responseClass) {
+        return responseAsIterator(responseClass, null);
+    }
+
+    /**
+     * Incrementally deserializes the standard output of the process into instances of the specified response class. The
+     * output may either be a JSON array or a sequence of root level JSON values. Unlike
+     * {@link #responseAsList(Class, Duration)}, each object is only materialized when the returned iterator is advanced
+     * and no intermediate list is allocated.
+     *
+     * @param responseClass The class to deserialize the response into.
+     * @param timeout       The maximum time to wait for the process to complete. If null, the method will wait
+     *                      indefinitely for the process to complete.
+     * @param <T>           The type of the response.
+     * @return an iterator which yields each deserialized object as it is parsed. The iterator throws a
+     * {@link HelmParserException} if the output cannot be deserialized.
+     */
+    public <T> Iterator<T> responseAsIterator(final Class<T> responseClass, final Duration timeout) {
+        Objects.requireNonNull(responseClass, "responseClass must not be null");
+
+        if (!awaitCompletion(timeout)) {
+            return Collections.emptyIterator();
+        }
+
+        if (exitCode() != 0) {
+            throw new HelmExecutionException(exitCode());
+        }
+
+        releaseStandardError();
+        final InputStream standardOutput = suppressExceptions(this::standardOutput, InputStream.nullInputStream());
+        try {
+            final MappingIterator<T> iterator =
+                    OBJECT_MAPPER.readerFor(responseClass).readValues(standardOutput);
+            return new ResponseIterator<>(iterator, standardOutput, responseClass);
+        } catch (final Exception e) {
+            suppressExceptions(standardOutput::close);
+            throw new HelmParserException(String.format(MSG_LIST_DESERIALIZATION_ERROR, responseClass.getName()), e);
+        }
+    }
+
+    /**
+     * Returns the standard output of the process as a {@link String} without deserializing it. This variant will wait
+     * indefinitely for the process to complete.
+     *
+     * @return the standard output of the process.
+     */
+    public String responseAsString() {
+        return responseAsString(null);
+    }
+
+    /**
+     * Returns the standard output of the process as a {@link String} without deserializing it. This is intended for
+     * commands whose output is not JSON, such as the rendered manifests written by the {@code template} sub-command.
+     *
+     * @param timeout The maximum time to wait for the process to complete. If null, the method will wait indefinitely
+     *                for the process to complete.
+     * @return the standard output of the process or {@code null} if the current thread was interrupted while waiting.
+     */
+    public String responseAsString(final Duration timeout) {
+        final InputStream standardOutput = responseAsStream(timeout);
+        if (standardOutput == null) {
+            return null;
+        }
+
+        // the output is read verbatim, because line breaks are significant in YAML
+        final String content;
+        try (standardOutput) {
+            content = new String(standardOutput.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new HelmParserException(MSG_READ_ERROR, e);
+        }
+
+        LOGGER.debug("ResponseAsString exiting with exitCode: {}\n\tstandardOutput: {}", exitCode(), content);
+        return content;
+    }
+
+    /**
+     * Returns the standard output of the process as a stream without deserializing it. This variant will wait
+     * indefinitely for the process to complete.
+     *
+     * @return the standard output of the process.
+     * @see #responseAsStream(Duration)
+     */
+    public InputStream responseAsStream() {
+        return responseAsStream(null);
+    }
+
+    /**
+     * Returns the standard output of the process as a stream without deserializing it, which allows large outputs to be
+     * parsed incrementally. The stream reads the buffered output, part of which may have been spilled to disk, and must
+     * be closed by the caller to release the buffers.
+     *
+     * @param timeout The maximum time to wait for the process to complete. If null, the method will wait indefinitely
+     *                for the process to complete.
+     * @return the standard output of the process or {@code null} if the current thread was interrupted while waiting.
+     */
+    public InputStream responseAsStream(final Duration timeout) {
+        if (!awaitCompletion(timeout)) {
+            return null;
         }
+
+        if (exitCode() != 0) {
+            throw new HelmExecutionException(
+                    exitCode(),
+                    consume(suppressExceptions(this::standardOutput)),
+                    consume(suppressExceptions(this::standardError)));
+        }
+
+        releaseStandardError();
+        return suppressExceptions(this::standardOutput, InputStream.nullInputStream());
     }
 
     /**
@@ -328,36 +622,283 @@ public final class HelmExecution {
      *                for the process to complete.
      */
     public void call(final Duration timeout) {
+        if (!awaitCompletion(timeout)) {
+            return;
+        }
+
+        final String standardOutput = consume(suppressExceptions(this::standardOutput));
+        final String standardError = consume(suppressExceptions(this::standardError));
+
+        LOGGER.debug(
+                "Call exiting with exitCode: {}\n\tstandardOutput: {}\n\tstandardError: {}",
+                exitCode(),
+                standardOutput,
+                standardError);
+
+        if (exitCode() != 0) {
+            LOGGER.warn(
+                    "Call failed with exitCode: {}\n\tstandardOutput: {}\n\tstandardError: {}",
+                    exitCode(),
+                    standardOutput,
+                    standardError);
+
+            throw new HelmExecutionException(exitCode(), standardOutput, standardError);
+        }
+    }
+
+    /**
+     * Waits for the process to complete. The execution is cancelled if it does not complete before the timeout or its
+     * deadline elapses, or if the current thread is interrupted while waiting.
+     *
+     * @param timeout The maximum time to wait for the process to complete. If null, the method will wait until the
+     *                deadline of the execution elapses or indefinitely if the execution has no deadline.
+     * @return {@code true} if the process completed; otherwise {@code false} if the current thread was interrupted.
+     * @throws HelmParserException if the process did not complete before the timeout or deadline elapsed.
+     */
+    private boolean awaitCompletion(final Duration timeout) {
         try {
             if (timeout != null) {
                 if (!waitFor(timeout)) {
+                    cancel();
                     throw new HelmParserException(MSG_TIMEOUT_ERROR);
                 }
             } else {
                 waitFor();
+                if (isCancelled()) {
+                    throw new HelmParserException(MSG_TIMEOUT_ERROR);
+                }
             }
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Closes the standard output and error sinks and reports the completed execution to the
+     * {@link HelmInstrumentation}, if any. Knowingly ignoring any exceptions raised while closing the sinks since this is
+     * best effort closure.
+     */
+    private void complete() {
+        suppressExceptions(standardOutputSink::close);
+        suppressExceptions(standardErrorSink::close);
+
+        final InstrumentationContext context = instrumentationContext;
+        if (context == null || !reported.compareAndSet(false, true)) {
             return;
         }
 
-        final String standardOutput = StreamUtils.streamToString(suppressExceptions(this::standardOutput));
-        final String standardError = StreamUtils.streamToString(suppressExceptions(this::standardError));
+        final int exitCode = process.isAlive() ? -1 : suppressExceptions(process::exitValue, -1);
+        final HelmExecutionEvent event = new HelmExecutionEvent(
+                context.subcommand(),
+                context.namespace(),
+                Duration.ofNanos(context.spawnLatencyNanos()),
+                Duration.ofNanos(System.nanoTime() - context.startNanos()),
+                exitCode,
+                standardOutputSink.bytesRead(),
+                standardErrorSink.bytesRead(),
+                isCancelled());
+
+        try {
+            context.instrumentation().executionCompleted(event);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Helm instrumentation failed to record the completed execution", e);
+        }
+    }
+
+    /**
+     * Asks the process and all of its descendants to terminate, waits up to the {@link #CANCEL_GRACE_PERIOD} for them
+     * to exit and forcibly destroys any which are still alive. The descendants are captured before the process is
+     * destroyed because they are re-parented, and therefore no longer reachable, once the process exits.
+     */
+    private void destroyProcessTree() {
+        final List<ProcessHandle> tree;
+        try {
+            final ProcessHandle handle = process.toHandle();
+            tree = new ArrayList<>(handle.descendants().toList());
+            tree.add(handle);
+        } catch (final UnsupportedOperationException e) {
+            process.destroyForcibly();
+            return;
+        }
+
+        tree.forEach(ProcessHandle::destroy);
+
+        try {
+            CompletableFuture.allOf(tree.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new))
+                    .get(CANCEL_GRACE_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException ignored) {
+            // fall through and forcibly destroy the survivors
+        }
+
+        tree.stream().filter(ProcessHandle::isAlive).forEach(ProcessHandle::destroyForcibly);
+    }
+
+    /**
+     * Converts the duration to nanoseconds, saturating at {@link Long#MAX_VALUE} instead of overflowing.
+     *
+     * @param duration the duration to convert.
+     * @return the duration in nanoseconds.
+     */
+    private static long saturatedNanos(final Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the standard output stream marked at its current position, when supported, so that the content can be
+     * replayed for diagnostic purposes after it has been consumed by the parser.
+     *
+     * @return the standard output stream.
+     */
+    private InputStream markedStandardOutput() {
+        final InputStream standardOutput = suppressExceptions(this::standardOutput, InputStream.nullInputStream());
+        if (standardOutput.markSupported()) {
+            standardOutput.mark(Integer.MAX_VALUE);
+        }
+
+        return standardOutput;
+    }
+
+    /**
+     * Logs the response at the debug level. The standard output and standard error are only converted into strings
+     * when debug logging is enabled.
+     *
+     * @param operation      the name of the operation which is logging the response.
+     * @param responseClass  the class into which the response is being deserialized.
+     * @param standardOutput the marked standard output stream.
+     */
+    private void logResponse(final String operation, final Class<?> responseClass, final InputStream standardOutput) {
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
 
         LOGGER.debug(
-                "Call exiting with exitCode: {}\n\tstandardOutput: {}\n\tstandardError: {}",
+                "{} exiting with exitCode: {}\n\tResponseClass: {}\n\tstandardOutput: {}\n\tstandardError: {}",
+                operation,
                 exitCode(),
-                standardOutput,
-                standardError);
+                responseClass.getName(),
+                replay(standardOutput),
+                consume(suppressExceptions(this::standardError, InputStream.nullInputStream())));
+    }
 
-        if (exitCode() != 0) {
-            LOGGER.warn(
-                    "Call failed with exitCode: {}\n\tstandardOutput: {}\n\tstandardError: {}",
-                    exitCode(),
-                    standardOutput,
-                    standardError);
+    /**
+     * Closes the standard error of a successful execution, which is no longer needed once the response is read,
+     * releasing the buffers or temporary file which back it.
+     */
+    private void releaseStandardError() {
+        suppressExceptions(() -> standardError().close());
+    }
 
-            throw new HelmExecutionException(exitCode(), standardError, standardOutput);
+    /**
+     * Reads the remaining content of a stream as a string and then closes the stream, releasing any temporary file
+     * which backs the buffered output.
+     *
+     * @param stream the stream to consume.
+     * @return the content of the stream.
+     */
+    private static String consume(final InputStream stream) {
+        if (stream == null) {
+            return "";
+        }
+
+        final String content = StreamUtils.streamToString(stream);
+        suppressExceptions(stream::close);
+        return content;
+    }
+
+    /**
+     * Reads the content of a marked stream as a string and then resets the stream to the marked position.
+     *
+     * @param stream the marked stream.
+     * @return the content of the stream or a placeholder if the stream does not support being replayed.
+     */
+    private static String replay(final InputStream stream) {
+        if (!stream.markSupported()) {
+            return MSG_UNAVAILABLE_OUTPUT;
+        }
+
+        try {
+            stream.reset();
+            final String content = StreamUtils.streamToString(stream);
+            stream.reset();
+            return content;
+        } catch (final IOException e) {
+            return MSG_UNAVAILABLE_OUTPUT;
+        }
+    }
+
+    /**
+     * An iterator which incrementally deserializes the response objects and translates parsing failures into
+     * {@link HelmParserException} instances.
+     *
+     * @param <T> the type of the response objects.
+     */
+    private static final class ResponseIterator<T> implements Iterator<T> {
+        /**
+         * The underlying Jackson iterator.
+         */
+        private final MappingIterator<T> delegate;
+
+        /**
+         * The stream from which the response objects are read. The stream is closed once the iterator is exhausted.
+         */
+        private final InputStream source;
+
+        /**
+         * The class into which the response objects are deserialized.
+         */
+        private final Class<T> responseClass;
+
+        /**
+         * Creates a new {@link ResponseIterator} instance.
+         *
+         * @param delegate      the underlying Jackson iterator.
+         * @param source        the stream from which the response objects are read.
+         * @param responseClass the class into which the response objects are deserialized.
+         */
+        private ResponseIterator(
+                final MappingIterator<T> delegate, final InputStream source, final Class<T> responseClass) {
+            this.delegate = delegate;
+            this.source = source;
+            this.responseClass = responseClass;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                final boolean hasNext = delegate.hasNextValue();
+                if (!hasNext) {
+                    source.close();
+                }
+
+                return hasNext;
+            } catch (final IOException e) {
+                suppressExceptions(source::close);
+                throw new HelmParserException(
+                        String.format(MSG_LIST_DESERIALIZATION_ERROR, responseClass.getName()), e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                return delegate.nextValue();
+            } catch (final IOException e) {
+                throw new HelmParserException(
+                        String.format(MSG_LIST_DESERIALIZATION_ERROR, responseClass.getName()), e);
+            }
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Starts the process which executes a helm command on behalf of the {@link HelmExecutionBuilder}. The default backend
+ * spawns the helm executable, while the {@link #record(Path) record} and {@link #replay(Path) replay} backends capture
+ * executions to fixture files and serve them back in-process, which allows flows driven by the helm client to be tested
+ * without spawning a process for each command.
+ * <p>
+ * Fixtures are matched on the normalized command line, which excludes the path to the helm executable and replaces the
+ * working directory, the temporary directory and the user home directory with placeholders. Environment variables are
+ * not part of the match. A command executed more than once is recorded once per execution and replayed in the same
+ * order; once the recorded executions are exhausted, the last one is served for every further execution. Therefore, a
+ * recording or replaying backend should be used by a single test run and a new instance created for the next one.
+ *
+ * @see HelmExecutionBuilder#backend(HelmExecutionBackend)
+ */
+@FunctionalInterface
+public interface HelmExecutionBackend {
+
+    /**
+     * Starts the helm command described by the supplied process builder.
+     *
+     * @param processBuilder the process builder holding the command line, the environment and the working directory of
+     *                       the helm command.
+     * @return the started process.
+     * @throws IOException if the process cannot be started or no recorded execution matches the command.
+     */
+    Process start(ProcessBuilder processBuilder) throws IOException;
+
+    /**
+     * Returns the backend which spawns the helm executable for every command.
+     *
+     * @return the process backend.
+     */
+    static HelmExecutionBackend process() {
+        return ProcessBuilder::start;
+    }
+
+    /**
+     * Creates a backend which spawns the helm executable for every command and records the command line, exit code,
+     * standard output and standard error of each execution to a fixture file in the supplied directory. An execution is
+     * recorded once both of its output streams have been read to the end, executions which are cancelled are not
+     * recorded.
+     *
+     * @param fixtureDirectory the directory to which the fixtures are written.
+     * @return a new recording backend.
+     * @throws NullPointerException if {@code fixtureDirectory} is {@code null}.
+     */
+    static HelmExecutionBackend record(final Path fixtureDirectory) {
+        return new RecordingHelmExecutionBackend(new HelmFixtureStore(fixtureDirectory), process());
+    }
+
+    /**
+     * Creates a backend which serves every command from the fixtures previously recorded to the supplied directory
+     * without spawning a process. A command which does not match any fixture fails to start.
+     *
+     * @param fixtureDirectory the directory from which the fixtures are read.
+     * @return a new replaying backend.
+     * @throws NullPointerException if {@code fixtureDirectory} is {@code null}.
+     */
+    static HelmExecutionBackend replay(final Path fixtureDirectory) {
+        return new ReplayingHelmExecutionBackend(new HelmFixtureStore(fixtureDirectory));
+    }
+}
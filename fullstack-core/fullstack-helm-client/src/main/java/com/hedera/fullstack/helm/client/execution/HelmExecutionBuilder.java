@@ -17,11 +17,15 @@
 package com.hedera.fullstack.helm.client.execution;
 
 import com.hedera.fullstack.base.api.collections.KeyValuePair;
+import com.hedera.fullstack.base.api.io.BufferedStreamSink;
+import com.hedera.fullstack.base.api.io.StreamDrainer;
 import com.hedera.fullstack.helm.client.HelmConfigurationException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +36,11 @@ public final class HelmExecutionBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(HelmExecutionBuilder.class);
     public static final String NAME_MUST_NOT_BE_NULL = "name must not be null";
     public static final String VALUE_MUST_NOT_BE_NULL = "value must not be null";
+
+    /**
+     * The name of the argument which specifies the namespace of the helm command.
+     */
+    private static final String NAMESPACE_ARGUMENT = "namespace";
     /**
      * The path to the helm executable.
      */
@@ -72,6 +81,46 @@ public final class HelmExecutionBuilder {
      */
     private Path workingDirectory;
 
+    /**
+     * The listener notified with each line written to the standard output of the helm command.
+     */
+    private Consumer<String> standardOutputListener;
+
+    /**
+     * The listener notified with each line written to the standard error of the helm command.
+     */
+    private Consumer<String> standardErrorListener;
+
+    /**
+     * Whether the output of the helm command should be buffered in memory.
+     */
+    private boolean retainOutput;
+
+    /**
+     * The maximum number of bytes of each output stream retained on the heap before spilling to disk.
+     */
+    private int outputMemoryLimit;
+
+    /**
+     * The drainer which reads the output pipes of the helm command.
+     */
+    private StreamDrainer streamDrainer;
+
+    /**
+     * The maximum time the helm command is allowed to run before it is cancelled or {@code null} if it has no deadline.
+     */
+    private Duration timeout;
+
+    /**
+     * The instrumentation notified once the helm command completes.
+     */
+    private HelmInstrumentation instrumentation;
+
+    /**
+     * The backend which starts the process executing the helm command.
+     */
+    private HelmExecutionBackend backend;
+
     /**
      * Creates a new {@link HelmExecutionBuilder} instance.
      *
@@ -85,6 +134,10 @@ public final class HelmExecutionBuilder {
         this.positionals = new ArrayList<>();
         this.flags = new ArrayList<>();
         this.environmentVariables = new HashMap<>();
+        this.retainOutput = true;
+        this.outputMemoryLimit = BufferedStreamSink.DEFAULT_MEMORY_LIMIT;
+        this.streamDrainer = StreamDrainer.shared();
+        this.backend = HelmExecutionBackend.process();
 
         String workingDirectoryString = System.getenv("PWD");
         this.workingDirectory = (workingDirectoryString == null || workingDirectoryString.isBlank())
@@ -187,11 +240,131 @@ public final class HelmExecutionBuilder {
         return this;
     }
 
+    /**
+     * Registers a listener which is notified with each line written to the standard output of the helm command as soon
+     * as it is produced. If a listener has already been registered, both listeners are notified in registration order.
+     * A {@link java.util.concurrent.SubmissionPublisher} may be adapted by supplying its {@code submit} method.
+     *
+     * @param listener the listener to be notified.
+     * @return this builder.
+     * @throws NullPointerException if {@code listener} is {@code null}.
+     */
+    public HelmExecutionBuilder standardOutputListener(final Consumer<String> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        this.standardOutputListener =
+                (standardOutputListener == null) ? listener : standardOutputListener.andThen(listener);
+        return this;
+    }
+
+    /**
+     * Registers a listener which is notified with each line written to the standard error of the helm command as soon
+     * as it is produced. If a listener has already been registered, both listeners are notified in registration order.
+     *
+     * @param listener the listener to be notified.
+     * @return this builder.
+     * @throws NullPointerException if {@code listener} is {@code null}.
+     */
+    public HelmExecutionBuilder standardErrorListener(final Consumer<String> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        this.standardErrorListener =
+                (standardErrorListener == null) ? listener : standardErrorListener.andThen(listener);
+        return this;
+    }
+
+    /**
+     * Sets whether the output of the helm command should be buffered in memory. Defaults to {@code true}. When set to
+     * {@code false}, the output is only delivered to the registered listeners and the standard output and standard
+     * error streams of the resulting {@link HelmExecution} are empty.
+     *
+     * @param retainOutput {@code true} if the output should be buffered; otherwise {@code false}.
+     * @return this builder.
+     */
+    public HelmExecutionBuilder retainOutput(final boolean retainOutput) {
+        this.retainOutput = retainOutput;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of the standard output and standard error which are retained on the heap. Output
+     * exceeding this limit is spilled to a temporary file. Defaults to {@link BufferedStreamSink#DEFAULT_MEMORY_LIMIT}.
+     *
+     * @param outputMemoryLimit the maximum number of bytes retained on the heap for each output stream.
+     * @return this builder.
+     * @throws IllegalArgumentException if {@code outputMemoryLimit} is negative.
+     */
+    public HelmExecutionBuilder outputMemoryLimit(final int outputMemoryLimit) {
+        if (outputMemoryLimit < 0) {
+            throw new IllegalArgumentException("outputMemoryLimit must not be negative");
+        }
+
+        this.outputMemoryLimit = outputMemoryLimit;
+        return this;
+    }
+
+    /**
+     * Sets the drainer which reads the standard output and standard error pipes of the helm command. Defaults to
+     * {@link StreamDrainer#shared()} which runs each drain task on a virtual thread.
+     *
+     * @param streamDrainer the drainer which reads the output pipes.
+     * @return this builder.
+     * @throws NullPointerException if {@code streamDrainer} is {@code null}.
+     */
+    public HelmExecutionBuilder streamDrainer(final StreamDrainer streamDrainer) {
+        this.streamDrainer = Objects.requireNonNull(streamDrainer, "streamDrainer must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum time the helm command is allowed to run. The deadline is fixed when {@link #build()} is called
+     * and, once it elapses, any wait on the resulting {@link HelmExecution} cancels the helm process together with all
+     * of the processes it spawned. By default, the helm command has no deadline.
+     *
+     * @param timeout the maximum time the helm command is allowed to run.
+     * @return this builder.
+     * @throws NullPointerException     if {@code timeout} is {@code null}.
+     * @throws IllegalArgumentException if {@code timeout} is negative.
+     */
+    public HelmExecutionBuilder timeout(final Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Sets the instrumentation which is notified with the subcommand, namespace, spawn latency, wall time, exit code and
+     * output byte counts of the helm command once it completes. By default, the helm command is not instrumented.
+     *
+     * @param instrumentation the instrumentation to notify.
+     * @return this builder.
+     * @throws NullPointerException if {@code instrumentation} is {@code null}.
+     */
+    public HelmExecutionBuilder instrumentation(final HelmInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation, "instrumentation must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the backend which starts the process executing the helm command. Defaults to
+     * {@link HelmExecutionBackend#process()} which spawns the helm executable.
+     *
+     * @param backend the backend which starts the helm process.
+     * @return this builder.
+     * @throws NullPointerException if {@code backend} is {@code null}.
+     */
+    public HelmExecutionBuilder backend(final HelmExecutionBackend backend) {
+        this.backend = Objects.requireNonNull(backend, "backend must not be null");
+        return this;
+    }
+
     /**
      * Builds a {@link HelmExecution} from the current state of this builder.
      *
      * @return a {@link HelmExecution} instance.
-     * @throws HelmConfigurationException if the helm process cannot be started.
+     * @throws HelmConfigurationException if the helm process cannot be started by the {@link HelmExecutionBackend}.
      */
     public HelmExecution build() {
         final ProcessBuilder pb = new ProcessBuilder(buildCommand());
@@ -203,7 +376,25 @@ public final class HelmExecutionBuilder {
         pb.directory(workingDirectory.toFile());
 
         try {
-            return new HelmExecution(pb.start());
+            final long startNanos = System.nanoTime();
+            final Process process = backend.start(pb);
+            final InstrumentationContext context = instrumentation == null
+                    ? null
+                    : new InstrumentationContext(
+                            instrumentation,
+                            String.join(" ", subcommands),
+                            arguments.get(NAMESPACE_ARGUMENT),
+                            startNanos,
+                            System.nanoTime() - startNanos);
+
+            final HelmExecutionOptions options = new HelmExecutionOptions(
+                    standardOutputListener,
+                    standardErrorListener,
+                    retainOutput,
+                    outputMemoryLimit,
+                    streamDrainer,
+                    timeout);
+            return new HelmExecution(process, options, context);
         } catch (IOException e) {
             throw new HelmConfigurationException(e);
         }
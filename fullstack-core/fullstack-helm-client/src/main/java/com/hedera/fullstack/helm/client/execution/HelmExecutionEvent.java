@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes a completed execution of a Helm command and is reported to the registered {@link HelmInstrumentation}.
+ *
+ * @param subcommand          the Helm subcommand which was executed, such as {@code install} or
+ *                            {@code dependency update}.
+ * @param namespace           the value of the {@code --namespace} argument or {@code null} if the argument was not
+ *                            specified.
+ * @param spawnLatency        the time taken to start the Helm process.
+ * @param wallTime            the time elapsed from the request to start the Helm process until its completion was
+ *                            observed.
+ * @param exitCode            the exit code of the Helm process or {@code -1} if it was cancelled and had not yet been
+ *                            reaped.
+ * @param standardOutputBytes the number of bytes the Helm process wrote to its standard output.
+ * @param standardErrorBytes  the number of bytes the Helm process wrote to its standard error.
+ * @param cancelled           {@code true} if the execution was cancelled before the Helm process exited.
+ */
+public record HelmExecutionEvent(
+        String subcommand,
+        String namespace,
+        Duration spawnLatency,
+        Duration wallTime,
+        int exitCode,
+        long standardOutputBytes,
+        long standardErrorBytes,
+        boolean cancelled) {
+
+    /**
+     * Creates a new {@link HelmExecutionEvent} instance.
+     *
+     * @throws NullPointerException if {@code subcommand}, {@code spawnLatency} or {@code wallTime} is {@code null}.
+     */
+    public HelmExecutionEvent {
+        Objects.requireNonNull(subcommand, "subcommand must not be null");
+        Objects.requireNonNull(spawnLatency, "spawnLatency must not be null");
+        Objects.requireNonNull(wallTime, "wallTime must not be null");
+    }
+
+    /**
+     * Returns whether the Helm process ran to completion and exited with a zero exit code.
+     *
+     * @return {@code true} if the execution succeeded; otherwise {@code false}.
+     */
+    public boolean successful() {
+        return !cancelled && exitCode == 0;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import com.hedera.fullstack.base.api.io.StreamDrainer;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Represents the options which control how a {@link HelmExecution} buffers the output of the process and how long the
+ * process is allowed to run.
+ *
+ * @param standardOutputListener the listener notified with each line written to the standard output of the process or
+ *                               {@code null} if no listener should be registered.
+ * @param standardErrorListener  the listener notified with each line written to the standard error of the process or
+ *                               {@code null} if no listener should be registered.
+ * @param retainOutput           {@code true} if the output should be buffered and made available via the
+ *                               {@link HelmExecution#standardOutput()} and {@link HelmExecution#standardError()}
+ *                               methods; otherwise {@code false} if the output should only be delivered to the
+ *                               listeners.
+ * @param outputMemoryLimit      the maximum number of bytes of each output stream retained on the heap before the
+ *                               output is spilled to a temporary file.
+ * @param streamDrainer          the drainer which reads the standard output and standard error pipes of the process.
+ * @param timeout                the maximum time, measured from the creation of the {@link HelmExecution}, the process
+ *                               is allowed to run before it is cancelled or {@code null} if the process has no
+ *                               deadline.
+ */
+public record HelmExecutionOptions(
+        Consumer<String> standardOutputListener,
+        Consumer<String> standardErrorListener,
+        boolean retainOutput,
+        int outputMemoryLimit,
+        StreamDrainer streamDrainer,
+        Duration timeout) {
+
+    /**
+     * Creates a new {@link HelmExecutionOptions} instance.
+     *
+     * @throws NullPointerException     if {@code streamDrainer} is {@code null}.
+     * @throws IllegalArgumentException if {@code outputMemoryLimit} or {@code timeout} is negative.
+     */
+    public HelmExecutionOptions {
+        Objects.requireNonNull(streamDrainer, "streamDrainer must not be null");
+        if (outputMemoryLimit < 0) {
+            throw new IllegalArgumentException("outputMemoryLimit must not be negative");
+        }
+
+        if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+    }
+
+    /**
+     * Returns an instance of the HelmExecutionOptionsBuilder.
+     *
+     * @return the HelmExecutionOptionsBuilder.
+     */
+    public static HelmExecutionOptionsBuilder builder() {
+        return HelmExecutionOptionsBuilder.builder();
+    }
+
+    /**
+     * Returns an instance of the default HelmExecutionOptions, which retain the output, drain the output pipes with the
+     * {@link StreamDrainer#shared()} drainer and do not bound the execution with a deadline.
+     *
+     * @return the default HelmExecutionOptions.
+     */
+    public static HelmExecutionOptions defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import com.hedera.fullstack.base.api.io.BufferedStreamSink;
+import com.hedera.fullstack.base.api.io.StreamDrainer;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * The builder for the {@link HelmExecutionOptions}.
+ */
+public class HelmExecutionOptionsBuilder {
+    private Consumer<String> standardOutputListener;
+    private Consumer<String> standardErrorListener;
+    private boolean retainOutput = true;
+    private int outputMemoryLimit = BufferedStreamSink.DEFAULT_MEMORY_LIMIT;
+    private StreamDrainer streamDrainer = StreamDrainer.shared();
+    private Duration timeout;
+
+    /**
+     * Returns an instance of the HelmExecutionOptionsBuilder.
+     *
+     * @return the HelmExecutionOptionsBuilder.
+     */
+    public static HelmExecutionOptionsBuilder builder() {
+        return new HelmExecutionOptionsBuilder();
+    }
+
+    /**
+     * the listener notified with each line written to the standard output of the process.
+     *
+     * @param standardOutputListener the standard output line listener or {@code null}.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder standardOutputListener(Consumer<String> standardOutputListener) {
+        this.standardOutputListener = standardOutputListener;
+        return this;
+    }
+
+    /**
+     * the listener notified with each line written to the standard error of the process.
+     *
+     * @param standardErrorListener the standard error line listener or {@code null}.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder standardErrorListener(Consumer<String> standardErrorListener) {
+        this.standardErrorListener = standardErrorListener;
+        return this;
+    }
+
+    /**
+     * whether the output is buffered and made available once the process has terminated (default true).
+     *
+     * @param retainOutput {@code true} if the output should be buffered; otherwise {@code false}.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder retainOutput(boolean retainOutput) {
+        this.retainOutput = retainOutput;
+        return this;
+    }
+
+    /**
+     * the maximum number of bytes of each output stream retained on the heap before the output is spilled to a
+     * temporary file (default {@link BufferedStreamSink#DEFAULT_MEMORY_LIMIT}).
+     *
+     * @param outputMemoryLimit the maximum number of bytes retained on the heap for each output stream.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder outputMemoryLimit(int outputMemoryLimit) {
+        this.outputMemoryLimit = outputMemoryLimit;
+        return this;
+    }
+
+    /**
+     * the drainer which reads the output pipes of the process (default {@link StreamDrainer#shared()}).
+     *
+     * @param streamDrainer the drainer which reads the output pipes.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder streamDrainer(StreamDrainer streamDrainer) {
+        this.streamDrainer = streamDrainer;
+        return this;
+    }
+
+    /**
+     * the maximum time the process is allowed to run before it is cancelled (default no deadline).
+     *
+     * @param timeout the maximum time the process is allowed to run or {@code null} for no deadline.
+     * @return the current HelmExecutionOptionsBuilder.
+     */
+    public HelmExecutionOptionsBuilder timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * builds the {@link HelmExecutionOptions} instance.
+     *
+     * @return the {@link HelmExecutionOptions} instance.
+     */
+    public HelmExecutionOptions build() {
+        return new HelmExecutionOptions(
+                standardOutputListener, standardErrorListener, retainOutput, outputMemoryLimit, streamDrainer, timeout);
+    }
+}
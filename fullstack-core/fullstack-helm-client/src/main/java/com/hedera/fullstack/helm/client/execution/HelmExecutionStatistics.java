@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+/**
+ * A point-in-time summary of the executions of a single Helm subcommand recorded by an
+ * {@link InMemoryHelmInstrumentation}.
+ *
+ * @param subcommand          the Helm subcommand, such as {@code install} or {@code dependency update}.
+ * @param executionCount      the number of completed executions.
+ * @param failureCount        the number of executions which exited with a non-zero exit code or were cancelled.
+ * @param cancelledCount      the number of executions which were cancelled.
+ * @param spawnLatency        the distribution of the time taken to start the Helm process.
+ * @param wallTime            the distribution of the time taken by the executions from start to completion.
+ * @param standardOutputBytes the total number of bytes written to standard output by all executions.
+ * @param standardErrorBytes  the total number of bytes written to standard error by all executions.
+ */
+public record HelmExecutionStatistics(
+        String subcommand,
+        long executionCount,
+        long failureCount,
+        long cancelledCount,
+        LatencySnapshot spawnLatency,
+        LatencySnapshot wallTime,
+        long standardOutputBytes,
+        long standardErrorBytes) {}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A recorded execution of a helm command which is served back by the {@link HelmExecutionBackend#replay replay}
+ * backend.
+ *
+ * @param command        the normalized command line, excluding the path to the helm executable.
+ * @param exitCode       the exit code of the helm command.
+ * @param standardOutput the standard output of the helm command.
+ * @param standardError  the standard error of the helm command.
+ */
+public record HelmFixture(List<String> command, int exitCode, String standardOutput, String standardError) {
+
+    /**
+     * Creates a new {@link HelmFixture} instance. A {@code null} output is treated as empty.
+     *
+     * @throws NullPointerException if {@code command} is {@code null}.
+     */
+    public HelmFixture {
+        command = List.copyOf(Objects.requireNonNull(command, "command must not be null"));
+        standardOutput = standardOutput == null ? "" : standardOutput;
+        standardError = standardError == null ? "" : standardError;
+    }
+}
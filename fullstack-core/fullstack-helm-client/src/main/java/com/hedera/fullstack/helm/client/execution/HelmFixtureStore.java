@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads and writes the {@link HelmFixture} files of the recording and replaying {@link HelmExecutionBackend}s.
+ * <p>
+ * Each execution is stored as {@code <directory>/<subcommand>-<digest>-<sequence>.json}, where the digest identifies
+ * the normalized command line and the sequence numbers the executions of the same command line, starting at one, in the
+ * order in which they were started.
+ */
+final class HelmFixtureStore {
+    /**
+     * The suffix of the fixture files.
+     */
+    private static final String FIXTURE_SUFFIX = ".json";
+
+    /**
+     * The number of hexadecimal characters of the command line digest used in the fixture file names.
+     */
+    private static final int DIGEST_LENGTH = 16;
+
+    /**
+     * The maximum number of subcommands included in the fixture file names.
+     */
+    private static final int MAX_NAME_SUBCOMMANDS = 3;
+
+    /**
+     * The options whose values are credentials, which must neither be written to the fixture files nor affect the
+     * fixture key.
+     */
+    private static final Set<String> REDACTED_OPTIONS = Set.of("--password", "--username", "--kube-token");
+
+    /**
+     * The placeholder which replaces the values of the {@link #REDACTED_OPTIONS}.
+     */
+    private static final String REDACTED = "${redacted}";
+
+    /**
+     * The object mapper used to read and write the fixture files.
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * The directory holding the fixture files.
+     */
+    private final Path directory;
+
+    /**
+     * The number of executions started so far keyed by the fixture key of their command line.
+     */
+    private final Map<String, AtomicInteger> sequences;
+
+    /**
+     * Creates a new {@link HelmFixtureStore} instance.
+     *
+     * @param directory the directory holding the fixture files.
+     * @throws NullPointerException if {@code directory} is {@code null}.
+     */
+    HelmFixtureStore(final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "fixtureDirectory must not be null")
+                .toAbsolutePath()
+                .normalize();
+        this.sequences = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the directory holding the fixture files.
+     *
+     * @return the fixture directory.
+     */
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * Normalizes the command line of the supplied process builder so that it matches across machines and test runs.
+     * The path to the helm executable is removed and the working directory, the temporary directory and the user home
+     * directory are replaced with placeholders. The values of the options which hold credentials are redacted, since
+     * fixtures are meant to be checked in.
+     *
+     * @param processBuilder the process builder holding the command line.
+     * @return the normalized command line.
+     */
+    static List<String> normalize(final ProcessBuilder processBuilder) {
+        final Map<String, String> placeholders = new LinkedHashMap<>();
+        if (processBuilder.directory() != null) {
+            placeholders.put(
+                    processBuilder.directory().toPath().toAbsolutePath().normalize().toString(), "${workingDirectory}");
+        }
+        placeholders.putIfAbsent(directoryProperty("java.io.tmpdir"), "${tmpDirectory}");
+        placeholders.putIfAbsent(directoryProperty("user.home"), "${homeDirectory}");
+        placeholders.remove("");
+        placeholders.remove("/");
+
+        // longer paths are replaced first, since the working directory is commonly nested in one of the others
+        final List<Map.Entry<String, String>> replacements = new ArrayList<>(placeholders.entrySet());
+        replacements.sort((a, b) -> Integer.compare(b.getKey().length(), a.getKey().length()));
+
+        final List<String> command = processBuilder.command();
+        final List<String> normalized = new ArrayList<>(Math.max(0, command.size() - 1));
+        for (int i = 1; i < command.size(); i++) {
+            String argument = command.get(i);
+            if (REDACTED_OPTIONS.contains(argument) && i + 1 < command.size()) {
+                normalized.add(argument);
+                normalized.add(REDACTED);
+                i++;
+                continue;
+            }
+
+            final int separator = argument.indexOf('=');
+            if (separator > 0 && REDACTED_OPTIONS.contains(argument.substring(0, separator))) {
+                normalized.add(argument.substring(0, separator + 1) + REDACTED);
+                continue;
+            }
+
+            for (final Map.Entry<String, String> replacement : replacements) {
+                argument = argument.replace(replacement.getKey(), replacement.getValue());
+            }
+            normalized.add(argument);
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Returns the key which identifies the fixtures of the normalized command line.
+     *
+     * @param command the normalized command line.
+     * @return the fixture key.
+     */
+    static String key(final List<String> command) {
+        final List<String> name = new ArrayList<>();
+        for (final String argument : command) {
+            if (argument.startsWith("-") || name.size() == MAX_NAME_SUBCOMMANDS) {
+                break;
+            }
+            name.add(argument.replaceAll("[^A-Za-z0-9_.]", "_"));
+        }
+
+        if (name.isEmpty()) {
+            name.add("helm");
+        }
+
+        final String digest = CacheFileUtils.sha256(String.join("\0", command));
+        return String.join("_", name) + "-" + digest.substring(0, DIGEST_LENGTH);
+    }
+
+    /**
+     * Reserves the sequence number of the next execution of the command line identified by the supplied key.
+     *
+     * @param key the fixture key of the command line.
+     * @return the sequence number, starting at one.
+     */
+    int nextSequence(final String key) {
+        return sequences.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Returns the path of the fixture file of an execution.
+     *
+     * @param key      the fixture key of the command line.
+     * @param sequence the sequence number of the execution.
+     * @return the path of the fixture file.
+     */
+    Path path(final String key, final int sequence) {
+        return directory.resolve(String.format("%s-%03d%s", key, sequence, FIXTURE_SUFFIX));
+    }
+
+    /**
+     * Reads a fixture file.
+     *
+     * @param file the fixture file.
+     * @return the fixture.
+     * @throws IOException if the file cannot be read or is not a valid fixture.
+     */
+    HelmFixture read(final Path file) throws IOException {
+        return OBJECT_MAPPER.readValue(file.toFile(), HelmFixture.class);
+    }
+
+    /**
+     * Writes a fixture file, replacing any existing fixture. The fixture is written to a temporary file which is then
+     * moved into place, atomically when supported by the file system.
+     *
+     * @param file    the fixture file.
+     * @param fixture the fixture to write.
+     * @throws IOException if the fixture cannot be written.
+     */
+    void write(final Path file, final HelmFixture fixture) throws IOException {
+        final String content = OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(fixture);
+        CacheFileUtils.writeAtomically(file, content);
+    }
+
+    /**
+     * Returns the normalized absolute path held by a system property or an empty string if the property is not set.
+     *
+     * @param property the name of the system property.
+     * @return the normalized path.
+     */
+    private static String directoryProperty(final String property) {
+        final String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+
+        return Path.of(value).toAbsolutePath().normalize().toString();
+    }
+}
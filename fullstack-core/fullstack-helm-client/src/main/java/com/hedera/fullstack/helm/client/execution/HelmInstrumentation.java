@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+/**
+ * A hook notified about the lifecycle of every Helm command executed by a {@link HelmExecutionBuilder} on which it is
+ * registered. Implementations are invoked on the thread which observes the completion of the command and therefore
+ * must be thread-safe and should return quickly. Exceptions thrown by an implementation are logged and otherwise
+ * ignored.
+ *
+ * @see InMemoryHelmInstrumentation
+ */
+@FunctionalInterface
+public interface HelmInstrumentation {
+
+    /**
+     * Invoked exactly once for each Helm process once it has exited or has been cancelled and its output has been
+     * drained.
+     *
+     * @param event the details of the completed execution.
+     */
+    void executionCompleted(HelmExecutionEvent event);
+
+    /**
+     * Returns an instrumentation which ignores all events.
+     *
+     * @return a no-op {@link HelmInstrumentation} instance.
+     */
+    static HelmInstrumentation noop() {
+        return event -> {};
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link HelmInstrumentation} which aggregates the completed executions in memory, keeping a {@link LatencyHistogram}
+ * of the spawn latency and wall time of each Helm subcommand. Recording is lock-free, and the aggregated values are
+ * pulled on demand through {@link #snapshot()}, which makes a single instance suitable for being shared by every
+ * {@link com.hedera.fullstack.helm.client.HelmClient} for the duration of a whole test suite.
+ */
+public final class InMemoryHelmInstrumentation implements HelmInstrumentation {
+    /**
+     * The aggregated executions keyed by Helm subcommand.
+     */
+    private final Map<String, SubcommandRecorder> recorders;
+
+    /**
+     * Creates a new {@link InMemoryHelmInstrumentation} instance which has not recorded any executions.
+     */
+    public InMemoryHelmInstrumentation() {
+        this.recorders = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void executionCompleted(final HelmExecutionEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        recorders.computeIfAbsent(event.subcommand(), k -> new SubcommandRecorder()).record(event);
+    }
+
+    /**
+     * Returns a point-in-time summary of the executions recorded for each Helm subcommand.
+     *
+     * @return an unmodifiable map of the statistics keyed by Helm subcommand and sorted by subcommand.
+     */
+    public Map<String, HelmExecutionStatistics> snapshot() {
+        final Map<String, HelmExecutionStatistics> snapshot = new TreeMap<>();
+        recorders.forEach((subcommand, recorder) -> snapshot.put(subcommand, recorder.snapshot(subcommand)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Returns a point-in-time summary of the executions recorded for the specified Helm subcommand.
+     *
+     * @param subcommand the Helm subcommand, such as {@code install} or {@code dependency update}.
+     * @return the statistics of the subcommand, which are empty if the subcommand has not been executed.
+     * @throws NullPointerException if {@code subcommand} is {@code null}.
+     */
+    public HelmExecutionStatistics statistics(final String subcommand) {
+        Objects.requireNonNull(subcommand, "subcommand must not be null");
+        final SubcommandRecorder recorder = recorders.get(subcommand);
+        return recorder == null
+                ? new HelmExecutionStatistics(subcommand, 0, 0, 0, LatencySnapshot.EMPTY, LatencySnapshot.EMPTY, 0, 0)
+                : recorder.snapshot(subcommand);
+    }
+
+    /**
+     * Discards all recorded executions.
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    /**
+     * Aggregates the executions of a single Helm subcommand.
+     */
+    private static final class SubcommandRecorder {
+        /**
+         * The distribution of the spawn latency.
+         */
+        private final LatencyHistogram spawnLatency = new LatencyHistogram();
+
+        /**
+         * The distribution of the wall time.
+         */
+        private final LatencyHistogram wallTime = new LatencyHistogram();
+
+        /**
+         * The number of executions which exited with a non-zero exit code or were cancelled.
+         */
+        private final LongAdder failures = new LongAdder();
+
+        /**
+         * The number of executions which were cancelled.
+         */
+        private final LongAdder cancellations = new LongAdder();
+
+        /**
+         * The total number of bytes written to standard output.
+         */
+        private final LongAdder standardOutputBytes = new LongAdder();
+
+        /**
+         * The total number of bytes written to standard error.
+         */
+        private final LongAdder standardErrorBytes = new LongAdder();
+
+        private void record(final HelmExecutionEvent event) {
+            spawnLatency.record(event.spawnLatency());
+            wallTime.record(event.wallTime());
+            standardOutputBytes.add(event.standardOutputBytes());
+            standardErrorBytes.add(event.standardErrorBytes());
+
+            if (!event.successful()) {
+                failures.increment();
+            }
+
+            if (event.cancelled()) {
+                cancellations.increment();
+            }
+        }
+
+        private HelmExecutionStatistics snapshot(final String subcommand) {
+            final LatencySnapshot wall = wallTime.snapshot();
+            return new HelmExecutionStatistics(
+                    subcommand,
+                    wall.count(),
+                    failures.sum(),
+                    cancellations.sum(),
+                    spawnLatency.snapshot(),
+                    wall,
+                    standardOutputBytes.sum(),
+                    standardErrorBytes.sum());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+/**
+ * The details captured by a {@link HelmExecutionBuilder} when it starts a Helm process, which the resulting
+ * {@link HelmExecution} reports to the {@link HelmInstrumentation} once the process has completed.
+ *
+ * @param instrumentation    the instrumentation to notify.
+ * @param subcommand         the Helm subcommand which was executed.
+ * @param namespace          the value of the {@code --namespace} argument or {@code null} if it was not specified.
+ * @param startNanos         the value of {@link System#nanoTime()} immediately before the process was started.
+ * @param spawnLatencyNanos  the time taken to start the process in nanoseconds.
+ */
+record InstrumentationContext(
+        HelmInstrumentation instrumentation,
+        String subcommand,
+        String namespace,
+        long startNanos,
+        long spawnLatencyNanos) {}
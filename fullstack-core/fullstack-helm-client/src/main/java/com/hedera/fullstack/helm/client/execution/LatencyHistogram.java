@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations recorded with nanosecond resolution. Values are counted in log-linear buckets:
+ * every power of two is divided into {@value #SUB_BUCKET_COUNT} equally sized buckets, which bounds the relative error
+ * of a reported percentile to roughly three percent while keeping the footprint of the histogram constant regardless
+ * of the number of recorded values.
+ * <p>
+ * Recording a value is wait-free and may be performed by any number of threads concurrently with taking snapshots.
+ */
+public final class LatencyHistogram {
+    /**
+     * The number of bits used to address the buckets within a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets within each power of two.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets required to cover all non-negative {@code long} values.
+     */
+    private static final int BUCKET_COUNT = (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + 2 * SUB_BUCKET_COUNT;
+
+    /**
+     * The number of values recorded in each bucket.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * The sum of all recorded values in nanoseconds.
+     */
+    private final LongAdder sum;
+
+    /**
+     * The smallest recorded value in nanoseconds.
+     */
+    private final AtomicLong min;
+
+    /**
+     * The largest recorded value in nanoseconds.
+     */
+    private final AtomicLong max;
+
+    /**
+     * Creates a new, empty {@link LatencyHistogram} instance.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(0);
+    }
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * @param duration the duration to record.
+     * @throws NullPointerException if {@code duration} is {@code null}.
+     */
+    public void record(final Duration duration) {
+        Objects.requireNonNull(duration, "duration must not be null");
+        long nanos;
+        try {
+            nanos = duration.toNanos();
+        } catch (final ArithmeticException e) {
+            nanos = Long.MAX_VALUE;
+        }
+
+        recordNanos(nanos);
+    }
+
+    /**
+     * Records a duration expressed in nanoseconds. Negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void recordNanos(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns a point-in-time snapshot of the histogram. Values recorded while the snapshot is taken may or may not be
+     * included.
+     *
+     * @return a new {@link LatencySnapshot} instance.
+     */
+    public LatencySnapshot snapshot() {
+        final long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+
+        if (count == 0) {
+            return LatencySnapshot.EMPTY;
+        }
+
+        final long maxValue = max.get();
+        final long minValue = Math.min(min.get(), maxValue);
+        return new LatencySnapshot(
+                count,
+                Duration.ofNanos(minValue),
+                Duration.ofNanos(maxValue),
+                Duration.ofNanos(sum.sum() / count),
+                Duration.ofNanos(valueAtPercentile(copy, count, 50.0, maxValue)),
+                Duration.ofNanos(valueAtPercentile(copy, count, 90.0, maxValue)),
+                Duration.ofNanos(valueAtPercentile(copy, count, 99.0, maxValue)),
+                Duration.ofNanos(valueAtPercentile(copy, count, 99.9, maxValue)));
+    }
+
+    /**
+     * Returns the value below which the specified percentage of the recorded values fall.
+     *
+     * @param percentile the percentile in the range {@code [0, 100]}.
+     * @return the value at the percentile or {@link Duration#ZERO} if no values have been recorded.
+     * @throws IllegalArgumentException if {@code percentile} is outside the range {@code [0, 100]}.
+     */
+    public Duration valueAtPercentile(final double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        final long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(valueAtPercentile(copy, count, percentile, max.get()));
+    }
+
+    /**
+     * Finds the bucket containing the value at the percentile and returns the highest value of that bucket, capped at
+     * the largest recorded value.
+     *
+     * @param counts     the bucket counts.
+     * @param count      the total of the bucket counts.
+     * @param percentile the percentile in the range {@code [0, 100]}.
+     * @param maxValue   the largest recorded value.
+     * @return the value at the percentile in nanoseconds.
+     */
+    private static long valueAtPercentile(
+            final long[] counts, final long count, final double percentile, final long maxValue) {
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(i), maxValue);
+            }
+        }
+
+        return maxValue;
+    }
+
+    /**
+     * Returns the index of the bucket which counts the value. Values below {@code 2 * SUB_BUCKET_COUNT} are counted
+     * exactly; larger values are counted in the sub-bucket of their power of two addressed by their most significant
+     * bits.
+     *
+     * @param value the non-negative value.
+     * @return the index of the bucket.
+     */
+    private static int bucketIndex(final long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        final int exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return exponent * SUB_BUCKET_COUNT + (int) (value >>> exponent);
+    }
+
+    /**
+     * Returns the highest value counted by the bucket.
+     *
+     * @param index the index of the bucket.
+     * @return the highest value counted by the bucket.
+     */
+    private static long highestValueInBucket(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int exponent = index / SUB_BUCKET_COUNT - 1;
+        final long mantissa = index - (long) exponent * SUB_BUCKET_COUNT;
+        final long highest = ((mantissa + 1) << exponent) - 1;
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
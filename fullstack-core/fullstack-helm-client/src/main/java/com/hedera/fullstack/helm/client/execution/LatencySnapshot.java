@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.time.Duration;
+
+/**
+ * A point-in-time summary of the durations recorded by a {@link LatencyHistogram}. Percentiles are reported with a
+ * relative error of roughly three percent.
+ *
+ * @param count the number of recorded durations.
+ * @param min   the shortest recorded duration.
+ * @param max   the longest recorded duration.
+ * @param mean  the arithmetic mean of the recorded durations.
+ * @param p50   the median duration.
+ * @param p90   the 90th percentile duration.
+ * @param p99   the 99th percentile duration.
+ * @param p999  the 99.9th percentile duration.
+ */
+public record LatencySnapshot(
+        long count,
+        Duration min,
+        Duration max,
+        Duration mean,
+        Duration p50,
+        Duration p90,
+        Duration p99,
+        Duration p999) {
+
+    /**
+     * The snapshot of a histogram in which no durations have been recorded.
+     */
+    public static final LatencySnapshot EMPTY = new LatencySnapshot(
+            0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link HelmExecutionBackend} which starts every command with a delegate backend and records each execution to a
+ * {@link HelmFixture} file once both of its output streams have been read to the end.
+ */
+final class RecordingHelmExecutionBackend implements HelmExecutionBackend {
+    /**
+     * The store to which the fixtures are written.
+     */
+    private final HelmFixtureStore store;
+
+    /**
+     * The backend which starts the helm processes.
+     */
+    private final HelmExecutionBackend delegate;
+
+    /**
+     * Creates a new {@link RecordingHelmExecutionBackend} instance.
+     *
+     * @param store    the store to which the fixtures are written.
+     * @param delegate the backend which starts the helm processes.
+     * @throws NullPointerException if {@code store} or {@code delegate} is {@code null}.
+     */
+    RecordingHelmExecutionBackend(final HelmFixtureStore store, final HelmExecutionBackend delegate) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Override
+    public Process start(final ProcessBuilder processBuilder) throws IOException {
+        final List<String> command = HelmFixtureStore.normalize(processBuilder);
+        final String key = HelmFixtureStore.key(command);
+        // the sequence is reserved before the process starts, so that replays observe the order in which the commands
+        // were started rather than the order in which they completed
+        final Path file = store.path(key, store.nextSequence(key));
+        return new RecordingProcess(delegate.start(processBuilder), command, file, store);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Process} which delegates to a running helm process and captures its standard output and standard error as
+ * they are read. Once both streams have been read to the end, the process is awaited and the execution is written to a
+ * {@link HelmFixture} file before the end of the second stream is reported to the reader, which ensures the fixture
+ * exists by the time the output of the execution has been consumed. A stream which is closed before its end is reached,
+ * such as when the execution is cancelled, prevents the execution from being recorded.
+ */
+final class RecordingProcess extends Process {
+    /**
+     * The running helm process.
+     */
+    private final Process process;
+
+    /**
+     * The normalized command line of the helm process.
+     */
+    private final List<String> command;
+
+    /**
+     * The fixture file to which the execution is recorded.
+     */
+    private final Path file;
+
+    /**
+     * The store used to write the fixture file.
+     */
+    private final HelmFixtureStore store;
+
+    /**
+     * The capturing standard output stream of the helm process.
+     */
+    private final CapturingInputStream standardOutput;
+
+    /**
+     * The capturing standard error stream of the helm process.
+     */
+    private final CapturingInputStream standardError;
+
+    /**
+     * The number of output streams which have not yet been read to the end.
+     */
+    private final AtomicInteger pendingStreams;
+
+    /**
+     * Creates a new {@link RecordingProcess} instance.
+     *
+     * @param process the running helm process.
+     * @param command the normalized command line of the helm process.
+     * @param file    the fixture file to which the execution is recorded.
+     * @param store   the store used to write the fixture file.
+     */
+    RecordingProcess(final Process process, final List<String> command, final Path file, final HelmFixtureStore store) {
+        this.process = process;
+        this.command = command;
+        this.file = file;
+        this.store = store;
+        this.standardOutput = new CapturingInputStream(process.getInputStream());
+        this.standardError = new CapturingInputStream(process.getErrorStream());
+        this.pendingStreams = new AtomicInteger(2);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return process.getOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return standardOutput;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return standardError;
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        return process.waitFor();
+    }
+
+    @Override
+    public boolean waitFor(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return process.waitFor(timeout, unit);
+    }
+
+    @Override
+    public int exitValue() {
+        return process.exitValue();
+    }
+
+    @Override
+    public void destroy() {
+        process.destroy();
+    }
+
+    @Override
+    public Process destroyForcibly() {
+        process.destroyForcibly();
+        return this;
+    }
+
+    @Override
+    public boolean supportsNormalTermination() {
+        return process.supportsNormalTermination();
+    }
+
+    @Override
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public long pid() {
+        return process.pid();
+    }
+
+    @Override
+    public CompletableFuture<Process> onExit() {
+        return process.onExit().thenApply(p -> this);
+    }
+
+    @Override
+    public ProcessHandle toHandle() {
+        return process.toHandle();
+    }
+
+    /**
+     * Records the execution once the last of the output streams has been read to the end.
+     *
+     * @throws IOException if the helm process cannot be awaited or the fixture cannot be written.
+     */
+    private void streamFinished() throws IOException {
+        if (pendingStreams.decrementAndGet() != 0) {
+            return;
+        }
+
+        final int exitCode;
+        try {
+            exitCode = process.waitFor();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for the helm process to exit");
+        }
+
+        store.write(
+                file,
+                new HelmFixture(
+                        command,
+                        exitCode,
+                        standardOutput.captured.toString(StandardCharsets.UTF_8),
+                        standardError.captured.toString(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * An input stream which captures every byte read from the wrapped stream.
+     */
+    private final class CapturingInputStream extends FilterInputStream {
+        /**
+         * The bytes read so far.
+         */
+        private final ByteArrayOutputStream captured;
+
+        /**
+         * Whether the end of the stream has been reached or the stream has been closed.
+         */
+        private volatile boolean finished;
+
+        /**
+         * Creates a new {@link CapturingInputStream} instance.
+         *
+         * @param in the stream to capture.
+         */
+        private CapturingInputStream(final InputStream in) {
+            super(in);
+            this.captured = new ByteArrayOutputStream();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b < 0) {
+                finish();
+            } else {
+                captured.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read < 0) {
+                finish();
+            } else {
+                captured.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // reads rather than skips, so that the skipped bytes are captured as well
+            return readNBytes(Math.toIntExact(Math.min(n, Integer.MAX_VALUE))).length;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // a stream closed before its end was reached is never recorded
+            finished = true;
+            super.close();
+        }
+
+        /**
+         * Marks the end of the stream as reached and records the execution if this was the last stream to finish.
+         *
+         * @throws IOException if the execution cannot be recorded.
+         */
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            streamFinished();
+        }
+    }
+}
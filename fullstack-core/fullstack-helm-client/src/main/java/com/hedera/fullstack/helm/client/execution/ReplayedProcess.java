@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Process} which has already terminated with the exit code and output of a recorded {@link HelmFixture}. The
+ * process has no native counterpart, therefore {@link #pid()} and {@link #toHandle()} are not supported.
+ */
+final class ReplayedProcess extends Process {
+    /**
+     * The exit code of the recorded execution.
+     */
+    private final int exitCode;
+
+    /**
+     * The standard output of the recorded execution.
+     */
+    private final InputStream standardOutput;
+
+    /**
+     * The standard error of the recorded execution.
+     */
+    private final InputStream standardError;
+
+    /**
+     * Creates a new {@link ReplayedProcess} instance.
+     *
+     * @param fixture the recorded execution to replay.
+     */
+    ReplayedProcess(final HelmFixture fixture) {
+        this.exitCode = fixture.exitCode();
+        this.standardOutput = new ByteArrayInputStream(fixture.standardOutput().getBytes(StandardCharsets.UTF_8));
+        this.standardError = new ByteArrayInputStream(fixture.standardError().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return OutputStream.nullOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return standardOutput;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return standardError;
+    }
+
+    @Override
+    public int waitFor() {
+        return exitCode;
+    }
+
+    @Override
+    public boolean waitFor(final long timeout, final TimeUnit unit) {
+        return true;
+    }
+
+    @Override
+    public int exitValue() {
+        return exitCode;
+    }
+
+    @Override
+    public void destroy() {
+        // the process has already terminated
+    }
+
+    @Override
+    public boolean isAlive() {
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<Process> onExit() {
+        return CompletableFuture.completedFuture(this);
+    }
+}
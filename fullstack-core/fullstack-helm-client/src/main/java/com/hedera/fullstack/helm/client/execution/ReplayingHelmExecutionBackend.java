@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.execution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link HelmExecutionBackend} which serves every command from the {@link HelmFixture} files previously recorded by
+ * the recording backend, without spawning a process. Fixtures are read from disk once and kept in memory.
+ */
+final class ReplayingHelmExecutionBackend implements HelmExecutionBackend {
+    /**
+     * The store from which the fixtures are read.
+     */
+    private final HelmFixtureStore store;
+
+    /**
+     * The fixtures read so far keyed by the path of their file.
+     */
+    private final Map<Path, HelmFixture> fixtures;
+
+    /**
+     * Creates a new {@link ReplayingHelmExecutionBackend} instance.
+     *
+     * @param store the store from which the fixtures are read.
+     * @throws NullPointerException if {@code store} is {@code null}.
+     */
+    ReplayingHelmExecutionBackend(final HelmFixtureStore store) {
+        this.store = Objects.requireNonNull(store, "store must not be null");
+        this.fixtures = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Process start(final ProcessBuilder processBuilder) throws IOException {
+        final List<String> command = HelmFixtureStore.normalize(processBuilder);
+        final String key = HelmFixtureStore.key(command);
+        final HelmFixture fixture = find(key, store.nextSequence(key));
+
+        if (fixture == null) {
+            throw new IOException(String.format(
+                    "no recorded helm execution matches the command [%s] in %s",
+                    String.join(" ", command), store.directory()));
+        }
+
+        if (!fixture.command().equals(command)) {
+            throw new IOException(String.format(
+                    "the recorded helm execution [%s] does not match the command [%s]",
+                    String.join(" ", fixture.command()), String.join(" ", command)));
+        }
+
+        return new ReplayedProcess(fixture);
+    }
+
+    /**
+     * Finds the fixture of the execution with the supplied sequence number or, if the recorded executions of the
+     * command line are exhausted, the fixture of the last recorded execution.
+     *
+     * @param key      the fixture key of the command line.
+     * @param sequence the sequence number of the execution.
+     * @return the fixture or {@code null} if the command line has not been recorded.
+     * @throws IOException if a fixture file cannot be read.
+     */
+    private HelmFixture find(final String key, final int sequence) throws IOException {
+        for (int i = sequence; i > 0; i--) {
+            final Path file = store.path(key, i);
+            final HelmFixture cached = fixtures.get(file);
+            if (cached != null) {
+                return cached;
+            }
+
+            if (Files.isRegularFile(file)) {
+                final HelmFixture fixture = store.read(file);
+                fixtures.putIfAbsent(file, fixture);
+                return fixture;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.AsyncHelmClient;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.Repository;
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.test.TestChartOptions;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * The default implementation of the {@link AsyncHelmClient} interface. All operations are delegated to a synchronous
+ * {@link HelmClient} and therefore share the same {@code HelmRequest} and {@code HelmExecutionBuilder} pipeline.
+ */
+public final class DefaultAsyncHelmClient implements AsyncHelmClient {
+    /**
+     * The name prefix of the virtual threads created by the default executor.
+     */
+    private static final String THREAD_NAME_PREFIX = "helm-client-async-";
+
+    /**
+     * The synchronous client to which all operations are delegated.
+     */
+    private final HelmClient delegate;
+
+    /**
+     * The executor on which all operations are run.
+     */
+    private final Executor executor;
+
+    /**
+     * The executor service created and owned by this instance. This value is {@code null} when the executor was supplied
+     * by the caller.
+     */
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Creates a new instance of the {@link DefaultAsyncHelmClient} class which runs each operation on a new virtual
+     * thread.
+     *
+     * @param delegate the synchronous client to which all operations are delegated.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     */
+    public DefaultAsyncHelmClient(final HelmClient delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.ownedExecutor = newVirtualThreadExecutor();
+        this.executor = ownedExecutor;
+    }
+
+    /**
+     * Creates a new instance of the {@link DefaultAsyncHelmClient} class which runs each operation on the supplied
+     * executor.
+     *
+     * @param delegate the synchronous client to which all operations are delegated.
+     * @param executor the executor on which all operations are run.
+     * @throws NullPointerException if {@code delegate} or {@code executor} is {@code null}.
+     */
+    public DefaultAsyncHelmClient(final HelmClient delegate, final Executor executor) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.ownedExecutor = null;
+    }
+
+    /**
+     * Creates a new executor which starts a new virtual thread for each submitted task.
+     *
+     * @return a new executor service backed by virtual threads.
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory());
+    }
+
+    @Override
+    public CompletableFuture<SemanticVersion> version() {
+        return supply(delegate::version);
+    }
+
+    @Override
+    public CompletableFuture<List<Repository>> listRepositories() {
+        return supply(delegate::listRepositories);
+    }
+
+    @Override
+    public CompletableFuture<Void> addRepository(final Repository repository) {
+        return run(() -> delegate.addRepository(repository));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeRepository(final Repository repository) {
+        return run(() -> delegate.removeRepository(repository));
+    }
+
+    @Override
+    public CompletableFuture<Release> installChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        return supply(() -> delegate.installChart(releaseName, chart, options));
+    }
+
+    @Override
+    public CompletableFuture<UpgradeResult> upgradeOrInstall(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        return supply(() -> delegate.upgradeOrInstall(releaseName, chart, options));
+    }
+
+    @Override
+    public CompletableFuture<RenderedManifest> templateChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        return supply(() -> delegate.templateChart(releaseName, chart, options));
+    }
+
+    @Override
+    public CompletableFuture<ReleasePlanReport> installAll(final ReleasePlan plan) {
+        return supply(() -> delegate.installAll(plan));
+    }
+
+    @Override
+    public CompletableFuture<Void> uninstallChart(final String releaseName) {
+        return run(() -> delegate.uninstallChart(releaseName));
+    }
+
+    @Override
+    public CompletableFuture<Void> testChart(final String releaseName, final TestChartOptions options) {
+        return run(() -> delegate.testChart(releaseName, options));
+    }
+
+    @Override
+    public CompletableFuture<List<ReleaseItem>> listReleases(final boolean allNamespaces) {
+        return supply(() -> delegate.listReleases(allNamespaces));
+    }
+
+    @Override
+    public CompletableFuture<List<ReleaseHistoryItem>> history(final String releaseName) {
+        return supply(() -> delegate.history(releaseName));
+    }
+
+    @Override
+    public CompletableFuture<Void> rollback(final String releaseName, final int revision) {
+        return run(() -> delegate.rollback(releaseName, revision));
+    }
+
+    @Override
+    public CompletableFuture<Void> dependencyUpdate(final String chartName) {
+        return run(() -> delegate.dependencyUpdate(chartName));
+    }
+
+    @Override
+    public HelmClient synchronous() {
+        return delegate;
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Executes the given operation on the executor without producing a result.
+     *
+     * @param operation the operation to execute.
+     * @return a future which completes once the operation has finished.
+     */
+    private CompletableFuture<Void> run(final Runnable operation) {
+        return supply(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Executes the given operation on the executor. The returned future is completed exceptionally with the original
+     * exception thrown by the operation so that callers observe the same error semantics as the synchronous client.
+     *
+     * @param operation the operation to execute.
+     * @param <V>       the type of the result.
+     * @return a future which completes with the result of the operation.
+     */
+    @SuppressWarnings("java:S1181")
+    private <V> CompletableFuture<V> supply(final Supplier<V> operation) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(operation.get());
+                } catch (final Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.CacheStatistics;
+import com.hedera.fullstack.helm.client.CachingHelmClient;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.Repository;
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
+import com.hedera.fullstack.helm.client.model.test.TestChartOptions;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * The default implementation of the {@link CachingHelmClient} interface.
+ * <p>
+ * Each cache entry records the generation of the cache at the time the request was started. Invalidating the cache
+ * advances the generation, which ensures that a request started before an install or uninstall can neither be joined
+ * by later callers nor serve its result once it completes.
+ */
+public final class DefaultCachingHelmClient implements CachingHelmClient {
+    /**
+     * The client to which all operations are delegated.
+     */
+    private final HelmClient delegate;
+
+    /**
+     * The time-to-live of the cached results in nanoseconds.
+     */
+    private final long ttlNanos;
+
+    /**
+     * The cached and in-flight release listings keyed by the {@code allNamespaces} argument.
+     */
+    private final Map<Boolean, Entry> releases;
+
+    /**
+     * The current generation of the cache which is advanced on every invalidation.
+     */
+    private final AtomicLong generation;
+
+    /**
+     * The number of requests served from a cached result.
+     */
+    private final LongAdder hits;
+
+    /**
+     * The number of requests which executed the Helm CLI command.
+     */
+    private final LongAdder misses;
+
+    /**
+     * The number of requests which joined an identical request already in flight.
+     */
+    private final LongAdder coalesced;
+
+    /**
+     * The number of times the cache was invalidated.
+     */
+    private final LongAdder invalidations;
+
+    /**
+     * Creates a new instance of the {@link DefaultCachingHelmClient} class.
+     *
+     * @param delegate the client to which all operations are delegated.
+     * @param ttl      the period of time for which results are cached.
+     * @throws NullPointerException     if {@code delegate} or {@code ttl} is {@code null}.
+     * @throws IllegalArgumentException if {@code ttl} is negative.
+     */
+    public DefaultCachingHelmClient(final HelmClient delegate, final Duration ttl) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        Objects.requireNonNull(ttl, "ttl must not be null");
+
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+
+        this.ttlNanos = ttl.toNanos();
+        this.releases = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong(0);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.coalesced = new LongAdder();
+        this.invalidations = new LongAdder();
+    }
+
+    @Override
+    public List<ReleaseItem> listReleases(final boolean allNamespaces) {
+        while (true) {
+            final long currentGeneration = generation.get();
+            final Entry existing = releases.get(allNamespaces);
+
+            if (existing != null && existing.generation == currentGeneration) {
+                if (!existing.future.isDone()) {
+                    coalesced.increment();
+                    return join(existing.future);
+                }
+
+                if (!existing.future.isCompletedExceptionally() && !isExpired(existing)) {
+                    hits.increment();
+                    return existing.future.join();
+                }
+            }
+
+            final Entry created = new Entry(currentGeneration, new CompletableFuture<>());
+            final boolean installed = existing == null
+                    ? releases.putIfAbsent(allNamespaces, created) == null
+                    : releases.replace(allNamespaces, existing, created);
+            if (!installed) {
+                // another caller installed a new entry first, retry so that we join it
+                continue;
+            }
+
+            misses.increment();
+            return load(allNamespaces, created);
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        generation.incrementAndGet();
+        releases.clear();
+        invalidations.increment();
+    }
+
+    @Override
+    public CacheStatistics cacheStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), coalesced.sum(), invalidations.sum());
+    }
+
+    @Override
+    public HelmClient delegate() {
+        return delegate;
+    }
+
+    @Override
+    public SemanticVersion version() {
+        return delegate.version();
+    }
+
+    @Override
+    public String defaultNamespace() {
+        return delegate.defaultNamespace();
+    }
+
+    @Override
+    public List<Repository> listRepositories() {
+        return delegate.listRepositories();
+    }
+
+    @Override
+    public void addRepository(final Repository repository) {
+        delegate.addRepository(repository);
+    }
+
+    @Override
+    public void removeRepository(final Repository repository) {
+        delegate.removeRepository(repository);
+    }
+
+    @Override
+    public Release installChart(final String releaseName, final Chart chart, final InstallChartOptions options) {
+        try {
+            return delegate.installChart(releaseName, chart, options);
+        } finally {
+            // a failed install may still have left a release behind
+            invalidateCache();
+        }
+    }
+
+    @Override
+    public UpgradeResult upgradeOrInstall(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        boolean applied = true;
+        try {
+            final UpgradeResult result = delegate.upgradeOrInstall(releaseName, chart, options);
+            applied = result.applied();
+            return result;
+        } finally {
+            // a skipped release leaves the cluster untouched, therefore the cached releases remain valid
+            if (applied) {
+                invalidateCache();
+            }
+        }
+    }
+
+    @Override
+    public RenderedManifest templateChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        return delegate.templateChart(releaseName, chart, options);
+    }
+
+    @Override
+    public void uninstallChart(final String releaseName) {
+        try {
+            delegate.uninstallChart(releaseName);
+        } finally {
+            invalidateCache();
+        }
+    }
+
+    @Override
+    public void testChart(final String releaseName, final TestChartOptions options) {
+        delegate.testChart(releaseName, options);
+    }
+
+    @Override
+    public Stream<ReleaseItem> streamReleases(final ReleaseListOptions options) {
+        return delegate.streamReleases(options);
+    }
+
+    @Override
+    public Stream<KubernetesResource> releaseManifest(final String releaseName) {
+        return delegate.releaseManifest(releaseName);
+    }
+
+    @Override
+    public List<ReleaseHistoryItem> history(final String releaseName) {
+        return delegate.history(releaseName);
+    }
+
+    @Override
+    public void rollback(final String releaseName, final int revision) {
+        try {
+            delegate.rollback(releaseName, revision);
+        } finally {
+            invalidateCache();
+        }
+    }
+
+    @Override
+    public void dependencyUpdate(final String chartName) {
+        delegate.dependencyUpdate(chartName);
+    }
+
+    /**
+     * Executes the release listing on the calling thread and completes the entry with the outcome. Failed entries are
+     * removed so that the next caller retries the execution.
+     *
+     * @param allNamespaces the argument passed to the delegate.
+     * @param entry         the entry to complete.
+     * @return the list of releases.
+     */
+    private List<ReleaseItem> load(final boolean allNamespaces, final Entry entry) {
+        try {
+            final List<ReleaseItem> result = List.copyOf(delegate.listReleases(allNamespaces));
+            entry.completedAt = System.nanoTime();
+            entry.future.complete(result);
+            return result;
+        } catch (final RuntimeException | Error e) {
+            releases.remove(allNamespaces, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Determines whether the completed entry has outlived the time-to-live.
+     *
+     * @param entry the completed entry.
+     * @return {@code true} if the entry has expired; otherwise, {@code false}.
+     */
+    private boolean isExpired(final Entry entry) {
+        return System.nanoTime() - entry.completedAt >= ttlNanos;
+    }
+
+    /**
+     * Waits for the in-flight request to complete and rethrows its failure, if any, without wrapping it.
+     *
+     * @param future the future of the in-flight request.
+     * @return the result of the in-flight request.
+     */
+    private static List<ReleaseItem> join(final CompletableFuture<List<ReleaseItem>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * A cached or in-flight release listing.
+     */
+    private static final class Entry {
+        /**
+         * The generation of the cache at the time the request was started.
+         */
+        private final long generation;
+
+        /**
+         * The future completed with the outcome of the request.
+         */
+        private final CompletableFuture<List<ReleaseItem>> future;
+
+        /**
+         * The time, in nanoseconds, at which the request completed successfully.
+         */
+        private volatile long completedAt;
+
+        private Entry(final long generation, final CompletableFuture<List<ReleaseItem>> future) {
+            this.generation = generation;
+            this.future = future;
+        }
+    }
+}
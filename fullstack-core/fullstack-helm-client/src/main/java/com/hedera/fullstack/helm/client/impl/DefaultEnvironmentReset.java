@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.helm.client.EnvironmentReset;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default implementation of the {@link EnvironmentReset} interface.
+ * <p>
+ * Helm records every rollback as a new revision, therefore the revision number alone cannot tell whether a release is
+ * still at its baseline after it has been reset once. Each release tracks the most recent revision known to match its
+ * baseline, which is the captured revision itself until the first rollback and the revision created by the latest
+ * rollback afterwards. A release is rolled back to that revision whenever its current revision differs from it. Rolling
+ * back to the most recent matching revision rather than the captured one keeps the target within the revisions Helm
+ * retains, since older revisions are pruned once the history exceeds the {@code --history-max} limit.
+ */
+public final class DefaultEnvironmentReset implements EnvironmentReset {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultEnvironmentReset.class);
+
+    /**
+     * The client used to read the history of the releases and to roll them back.
+     */
+    private final HelmClient client;
+
+    /**
+     * The tracked releases keyed by the release name, in the order the releases were captured.
+     */
+    private final Map<String, Baseline> releases;
+
+    /**
+     * Creates a new instance of the {@link DefaultEnvironmentReset} class and records the currently deployed revision
+     * of each of the releases as the baseline.
+     *
+     * @param client       the client used to read the history of the releases and to roll them back.
+     * @param releaseNames the names of the releases in the default namespace of the client.
+     * @throws NullPointerException     if {@code client} or {@code releaseNames} is {@code null}.
+     * @throws IllegalArgumentException if {@code releaseNames} is empty or a release name is blank.
+     * @throws IllegalStateException    if a release has no deployed revision.
+     */
+    public DefaultEnvironmentReset(final HelmClient client, final Collection<String> releaseNames) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(releaseNames, "releaseNames must not be null");
+
+        if (releaseNames.isEmpty()) {
+            throw new IllegalArgumentException("releaseNames must not be empty");
+        }
+
+        this.releases = new LinkedHashMap<>();
+        for (final String releaseName : releaseNames) {
+            Objects.requireNonNull(releaseName, "releaseName must not be null");
+
+            if (releaseName.isBlank()) {
+                throw new IllegalArgumentException("releaseName must not be blank");
+            }
+
+            final int revision = deployedRevision(releaseName, client.history(releaseName));
+            releases.putIfAbsent(releaseName, new Baseline(revision));
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Integer> baseline() {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        releases.forEach((name, baseline) -> result.put(name, baseline.revision));
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public synchronized List<String> reset() {
+        final List<String> rolledBack = new ArrayList<>();
+        for (final Map.Entry<String, Baseline> entry : releases.entrySet()) {
+            final String releaseName = entry.getKey();
+            final Baseline baseline = entry.getValue();
+            final ReleaseHistoryItem current = latest(client.history(releaseName));
+
+            if (current != null && current.revision() == baseline.revision && current.isDeployed()) {
+                continue;
+            }
+
+            LOGGER.debug(
+                    "Rolling back release {} from revision {} to baseline revision {}",
+                    releaseName,
+                    current == null ? null : current.revision(),
+                    baseline.revision);
+            client.rollback(releaseName, baseline.revision);
+            baseline.revision = deployedRevision(releaseName, client.history(releaseName));
+            rolledBack.add(releaseName);
+        }
+
+        return Collections.unmodifiableList(rolledBack);
+    }
+
+    /**
+     * Returns the most recent revision in the history of a release.
+     *
+     * @param history the history of the release.
+     * @return the revision with the highest number or {@code null} if the history is empty.
+     */
+    private static ReleaseHistoryItem latest(final List<ReleaseHistoryItem> history) {
+        return history.stream()
+                .max(Comparator.comparingInt(ReleaseHistoryItem::revision))
+                .orElse(null);
+    }
+
+    /**
+     * Returns the number of the most recent revision which is deployed.
+     *
+     * @param releaseName the name of the release.
+     * @param history     the history of the release.
+     * @return the number of the deployed revision.
+     * @throws IllegalStateException if no revision of the release is deployed.
+     */
+    private static int deployedRevision(final String releaseName, final List<ReleaseHistoryItem> history) {
+        return history.stream()
+                .filter(ReleaseHistoryItem::isDeployed)
+                .mapToInt(ReleaseHistoryItem::revision)
+                .max()
+                .orElseThrow(() -> new IllegalStateException(
+                        String.format("release %s does not have a deployed revision", releaseName)));
+    }
+
+    /**
+     * The baseline of a single release.
+     */
+    private static final class Baseline {
+        /**
+         * The most recent revision known to match the baseline configuration.
+         */
+        private int revision;
+
+        private Baseline(final int revision) {
+            this.revision = revision;
+        }
+    }
+}
@@ -16,32 +16,64 @@
 
 package com.hedera.fullstack.helm.client.impl;
 
+import com.hedera.fullstack.base.api.collections.PagedIterator;
 import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.ChartArchiveCache;
 import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.ManifestCache;
+import com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter;
 import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBackend;
 import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.execution.HelmInstrumentation;
 import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.ChartReference;
 import com.hedera.fullstack.helm.client.model.Repository;
 import com.hedera.fullstack.helm.client.model.Version;
 import com.hedera.fullstack.helm.client.model.chart.Release;
 import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptionsBuilder;
+import com.hedera.fullstack.helm.client.model.install.ReleaseDigest;
+import com.hedera.fullstack.helm.client.model.install.UpgradeOutcome;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResourceReader;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
 import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
 import com.hedera.fullstack.helm.client.model.test.TestChartOptions;
+import com.hedera.fullstack.helm.client.model.values.HelmValues;
 import com.hedera.fullstack.helm.client.proxy.request.HelmRequest;
 import com.hedera.fullstack.helm.client.proxy.request.authentication.KubeAuthentication;
 import com.hedera.fullstack.helm.client.proxy.request.chart.ChartDependencyUpdateRequest;
 import com.hedera.fullstack.helm.client.proxy.request.chart.ChartInstallRequest;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartPullRequest;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartTemplateRequest;
 import com.hedera.fullstack.helm.client.proxy.request.chart.ChartTestRequest;
 import com.hedera.fullstack.helm.client.proxy.request.chart.ChartUninstallRequest;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartUpgradeRequest;
 import com.hedera.fullstack.helm.client.proxy.request.common.VersionRequest;
+import com.hedera.fullstack.helm.client.proxy.request.release.ReleaseHistoryRequest;
 import com.hedera.fullstack.helm.client.proxy.request.release.ReleaseListRequest;
+import com.hedera.fullstack.helm.client.proxy.request.release.ReleaseManifestRequest;
+import com.hedera.fullstack.helm.client.proxy.request.release.ReleasePageRequest;
+import com.hedera.fullstack.helm.client.proxy.request.release.ReleaseRollbackRequest;
+import com.hedera.fullstack.helm.client.proxy.request.release.ReleaseStatusRequest;
 import com.hedera.fullstack.helm.client.proxy.request.repository.RepositoryAddRequest;
 import com.hedera.fullstack.helm.client.proxy.request.repository.RepositoryListRequest;
 import com.hedera.fullstack.helm.client.proxy.request.repository.RepositoryRemoveRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * The default implementation of the {@link HelmClient} interface.
@@ -57,6 +89,24 @@ public final class DefaultHelmClient implements HelmClient {
      */
     private static final String NAMESPACE_ARG_NAME = "namespace";
 
+    /**
+     * The status reported by the Helm CLI for a release which was deployed successfully.
+     */
+    private static final String STATUS_DEPLOYED = "deployed";
+
+    /**
+     * The error reported by the Helm CLI {@code status} and {@code uninstall} sub-commands when the release does not
+     * exist.
+     */
+    static final String MSG_RELEASE_NOT_FOUND = "release: not found";
+
+    /**
+     * The executor used to fetch the following page of releases in the background, which starts a new virtual thread
+     * per page.
+     */
+    private static final Executor PREFETCH_EXECUTOR =
+            command -> Thread.ofVirtual().name("helm-release-prefetch").start(command);
+
     /**
      * The path to the Helm executable.
      */
@@ -77,6 +127,39 @@ public final class DefaultHelmClient implements HelmClient {
      */
     private final Path workingDirectory;
 
+    /**
+     * The limiter which bounds the number of Helm commands executed at the same time or {@code null} if the number of
+     * concurrent executions is not limited.
+     */
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * The instrumentation notified about every Helm command executed by this client or {@code null} if the commands are
+     * not instrumented.
+     */
+    private final HelmInstrumentation instrumentation;
+
+    /**
+     * The cache of packaged chart archives or {@code null} if charts are downloaded by every install.
+     */
+    private final ChartArchiveCache chartCache;
+
+    /**
+     * The cache of rendered manifests or {@code null} if charts are rendered by every call to {@link #templateChart}.
+     */
+    private final ManifestCache manifestCache;
+
+    /**
+     * The backend which starts the Helm commands or {@code null} if every Helm command spawns the Helm executable.
+     */
+    private final HelmExecutionBackend executionBackend;
+
+    /**
+     * The directory in which the merged values files are written or {@code null} if the values files and {@code --set}
+     * expressions are passed to the Helm CLI unchanged.
+     */
+    private final Path valuesDirectory;
+
     /**
      * Creates a new instance of the {@link DefaultHelmClient} class.
      *
@@ -102,10 +185,36 @@ public final class DefaultHelmClient implements HelmClient {
             final KubeAuthentication authentication,
             final String defaultNamespace,
             final Path workingDirectory) {
+        this(helmExecutable, authentication, defaultNamespace, workingDirectory, DefaultHelmClientOptions.NONE);
+    }
+
+    /**
+     * Creates a new instance of the {@link DefaultHelmClient} class with the optional features configured by the
+     * {@link DefaultHelmClientBuilder}.
+     *
+     * @param helmExecutable   the path to the Helm executable.
+     * @param authentication   the authentication configuration to use when executing Helm commands.
+     * @param defaultNamespace the default namespace to use when executing Helm commands.
+     * @param workingDirectory the working directory to use when executing Helm commands.
+     * @param options          the optional features of the client.
+     */
+    DefaultHelmClient(
+            final Path helmExecutable,
+            final KubeAuthentication authentication,
+            final String defaultNamespace,
+            final Path workingDirectory,
+            final DefaultHelmClientOptions options) {
+        Objects.requireNonNull(options, "options must not be null");
         this.helmExecutable = Objects.requireNonNull(helmExecutable, "helmExecutable must not be null");
         this.authentication = Objects.requireNonNull(authentication, "authentication must not be null");
         this.defaultNamespace = defaultNamespace;
         this.workingDirectory = workingDirectory;
+        this.concurrencyLimiter = options.concurrencyLimiter();
+        this.instrumentation = options.instrumentation();
+        this.chartCache = options.chartCache();
+        this.manifestCache = options.manifestCache();
+        this.executionBackend = options.executionBackend();
+        this.valuesDirectory = options.valuesDirectory();
     }
 
     @Override
@@ -113,6 +222,11 @@ public final class DefaultHelmClient implements HelmClient {
         return execute(new VersionRequest(), Version.class).asSemanticVersion();
     }
 
+    @Override
+    public String defaultNamespace() {
+        return defaultNamespace;
+    }
+
     @Override
     public List<Repository> listRepositories() {
         return executeAsList(new RepositoryListRequest(), Repository.class);
@@ -136,7 +250,62 @@ public final class DefaultHelmClient implements HelmClient {
 
     @Override
     public Release installChart(final String releaseName, final Chart chart, final InstallChartOptions options) {
-        return execute(new ChartInstallRequest(releaseName, chart, options), Release.class);
+        Objects.requireNonNull(chart, "chart must not be null");
+
+        final InstallChartOptions effective = options != null ? withMergedValues(options) : null;
+        final Path archive = effective != null ? cachedArchive(chart, effective) : null;
+        if (archive != null) {
+            return execute(
+                    new ChartInstallRequest(releaseName, new Chart(archive.toString()), withoutRepository(effective)),
+                    Release.class);
+        }
+
+        return execute(new ChartInstallRequest(releaseName, chart, effective), Release.class);
+    }
+
+    @Override
+    public UpgradeResult upgradeOrInstall(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(chart, "chart must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+
+        final InstallChartOptions effective = withMergedValues(options);
+        final String digest = ReleaseDigest.compute(chart, effective, baseDirectory());
+        final Release deployed = releaseStatus(releaseName);
+
+        if (deployed != null
+                && deployed.info() != null
+                && STATUS_DEPLOYED.equals(deployed.info().status())
+                && digest.equals(ReleaseDigest.extract(deployed.info().description()))) {
+            return new UpgradeResult(releaseName, UpgradeOutcome.SKIPPED, digest, deployed);
+        }
+
+        final String description = ReleaseDigest.describe(effective.description(), digest);
+        final Path archive = cachedArchive(chart, effective);
+        final ChartUpgradeRequest request = archive != null
+                ? new ChartUpgradeRequest(
+                        releaseName, new Chart(archive.toString()), withoutRepository(effective), description)
+                : new ChartUpgradeRequest(releaseName, chart, effective, description);
+        final Release release = execute(request, Release.class);
+        return new UpgradeResult(
+                releaseName, deployed == null ? UpgradeOutcome.INSTALLED : UpgradeOutcome.UPGRADED, digest, release);
+    }
+
+    @Override
+    public RenderedManifest templateChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options) {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(chart, "chart must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+
+        final InstallChartOptions effective = withMergedValues(options);
+        final String key = manifestCache != null ? manifestKey(releaseName, chart, effective) : null;
+        if (key == null) {
+            return new RenderedManifest(releaseName, render(releaseName, chart, effective));
+        }
+
+        return new RenderedManifest(releaseName, manifestCache.get(key, () -> render(releaseName, chart, effective)));
     }
 
     @Override
@@ -160,6 +329,44 @@ public final class DefaultHelmClient implements HelmClient {
         return executeAsList(new ReleaseListRequest(allNamespaces), ReleaseItem.class);
     }
 
+    @Override
+    public Stream<ReleaseItem> streamReleases(final ReleaseListOptions options) {
+        Objects.requireNonNull(options, "options must not be null");
+
+        final PagedIterator<ReleaseItem> pages = new PagedIterator<>(
+                (offset, limit) -> executeAsList(new ReleasePageRequest(options, offset), ReleaseItem.class),
+                options.pageSize(),
+                options.prefetch() ? PREFETCH_EXECUTOR : null);
+        return pages.stream();
+    }
+
+    @Override
+    public Stream<KubernetesResource> releaseManifest(final String releaseName) {
+        final ReleaseManifestRequest request = new ReleaseManifestRequest(releaseName);
+        final InputStream manifest = executeInternal(request, InputStream.class, (b, c) -> b.responseAsStream());
+        if (manifest == null) {
+            // the calling thread was interrupted while waiting for the Helm CLI command to complete
+            Thread.currentThread().interrupt();
+            throw new HelmExecutionException(
+                    -1, "Interrupted while waiting for the release manifest", new InterruptedException());
+        }
+
+        return new KubernetesResourceReader(manifest).stream();
+    }
+
+    @Override
+    public List<ReleaseHistoryItem> history(final String releaseName) {
+        return executeAsList(new ReleaseHistoryRequest(releaseName), ReleaseHistoryItem.class);
+    }
+
+    @Override
+    public void rollback(final String releaseName, final int revision) {
+        executeInternal(new ReleaseRollbackRequest(releaseName, revision, true), Void.class, (b, c) -> {
+            b.call();
+            return null;
+        });
+    }
+
     @Override
     public void dependencyUpdate(final String chartName) {
         executeInternal(new ChartDependencyUpdateRequest(chartName), Void.class, (b, c) -> {
@@ -168,6 +375,182 @@ public final class DefaultHelmClient implements HelmClient {
         });
     }
 
+    /**
+     * Executes the Helm CLI {@code status} sub-command and returns the current state of the release.
+     *
+     * @param releaseName the name of the release.
+     * @return the release or {@code null} if the release does not exist.
+     */
+    private Release releaseStatus(final String releaseName) {
+        try {
+            return execute(new ReleaseStatusRequest(releaseName), Release.class);
+        } catch (final HelmExecutionException e) {
+            if (e.getStdErr() != null && e.getStdErr().contains(MSG_RELEASE_NOT_FOUND)) {
+                return null;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cached archive of the chart, downloading it with the Helm CLI {@code pull} sub-command if the cache
+     * does not contain it yet. Charts which are not published in a chart repository, are not pinned to an exact version
+     * or must be verified against their provenance file are never cached.
+     *
+     * @param chart   the chart to install.
+     * @param options the options used to install the chart.
+     * @return the path of the cached archive or {@code null} if the chart should be installed without the cache.
+     */
+    private Path cachedArchive(final Chart chart, final InstallChartOptions options) {
+        if (chartCache == null || options.verify()) {
+            return null;
+        }
+
+        final ChartReference reference = ChartReference.of(chart, options.repo(), options.version());
+        if (reference == null) {
+            return null;
+        }
+
+        return chartCache.resolve(reference, (r, directory) -> {
+            final ChartPullRequest request = new ChartPullRequest(
+                    r, directory, options.username(), options.password(), options.passCredentials());
+            executeInternal(request, Void.class, (b, c) -> {
+                b.call();
+                return null;
+            });
+
+            try (final Stream<Path> files = Files.list(directory)) {
+                final List<Path> archives = files.filter(f -> f.getFileName().toString().endsWith(".tgz")).toList();
+                if (archives.size() != 1) {
+                    throw new IOException(String.format(
+                            "Expected a single chart archive in %s after pulling %s [found=%s]",
+                            directory, r, archives));
+                }
+
+                return archives.get(0);
+            }
+        });
+    }
+
+    /**
+     * Executes the Helm CLI {@code template} sub-command, rendering the cached archive of the chart when available.
+     *
+     * @param releaseName the name of the release used to render the chart.
+     * @param chart       the chart to render.
+     * @param options     the options used to render the chart.
+     * @return the rendered manifests.
+     */
+    private String render(final String releaseName, final Chart chart, final InstallChartOptions options) {
+        final Path archive = cachedArchive(chart, options);
+        final ChartTemplateRequest request = archive != null
+                ? new ChartTemplateRequest(releaseName, new Chart(archive.toString()), withoutRepository(options))
+                : new ChartTemplateRequest(releaseName, chart, options);
+        return executeInternal(request, String.class, (b, c) -> b.responseAsString());
+    }
+
+    /**
+     * Returns the key which identifies the rendered manifests in the {@link #manifestCache}. The key combines the
+     * {@link ReleaseDigest} of the chart and values with every other input of the render. Charts which are neither
+     * local nor pinned to an exact version, and charts rendered with remote values files, may render differently over
+     * time and are never cached.
+     *
+     * @param releaseName the name of the release used to render the chart.
+     * @param chart       the chart to render.
+     * @param options     the options used to render the chart.
+     * @return the key or {@code null} if the rendered manifests must not be cached.
+     */
+    private String manifestKey(final String releaseName, final Chart chart, final InstallChartOptions options) {
+        final Path baseDirectory = baseDirectory();
+        final boolean hasRepo = options.repo() != null && !options.repo().isBlank();
+        final boolean pinned = ChartReference.of(chart, options.repo(), options.version()) != null;
+        final boolean local = !hasRepo && isLocalPath(baseDirectory, chart.qualified());
+        if (!pinned && !local) {
+            return null;
+        }
+
+        if (options.values() != null && options.values().stream().anyMatch(v -> v.contains("://"))) {
+            return null;
+        }
+
+        // the path of the packaged executable changes with its version, which may change the rendered output
+        return String.join(
+                "\n",
+                "helm=" + helmExecutable.toAbsolutePath(),
+                "namespace=" + defaultNamespace,
+                "release=" + releaseName,
+                "skipCrds=" + options.skipCrds(),
+                "digest=" + ReleaseDigest.compute(chart, options, baseDirectory));
+    }
+
+    /**
+     * Determines whether the chart reference identifies a local chart directory or archive.
+     *
+     * @param baseDirectory the directory against which a relative reference is resolved.
+     * @param reference     the chart reference.
+     * @return {@code true} if the reference identifies a local file or directory; otherwise {@code false}.
+     */
+    private static boolean isLocalPath(final Path baseDirectory, final String reference) {
+        if (reference.contains("://")) {
+            return false;
+        }
+
+        try {
+            return Files.exists(baseDirectory.resolve(reference));
+        } catch (final RuntimeException e) {
+            // not a valid path on this file system, therefore it cannot be a local chart
+            return false;
+        }
+    }
+
+    /**
+     * Returns the directory against which relative paths of local charts and values files are resolved.
+     *
+     * @return the working directory or the current directory if no working directory is configured.
+     */
+    private Path baseDirectory() {
+        return workingDirectory != null ? workingDirectory : Path.of("").toAbsolutePath();
+    }
+
+    /**
+     * Returns a copy of the options in which the values files and {@code --set} expressions are replaced by a single
+     * values file containing the merged values, when a {@link #valuesDirectory} is configured. The file is named after
+     * the digest of the merged values, therefore identical values are written once and the {@link ReleaseDigest} of the
+     * options only changes when the effective values change.
+     *
+     * @param options the options used to install or render the chart.
+     * @return the options with the merged values file or the supplied options if the values are not merged.
+     */
+    private InstallChartOptions withMergedValues(final InstallChartOptions options) {
+        final boolean hasSet = options.set() != null && !options.set().isEmpty();
+        final boolean hasValues = options.values() != null && !options.values().isEmpty();
+        if (valuesDirectory == null || (!hasSet && !hasValues) || !HelmValues.isMergeable(options)) {
+            return options;
+        }
+
+        final Path file = HelmValues.of(options, baseDirectory()).writeTo(valuesDirectory);
+        return InstallChartOptionsBuilder.from(options)
+                .set(null)
+                .values(List.of(file.toAbsolutePath().toString()))
+                .build();
+    }
+
+    /**
+     * Returns a copy of the options which installs a local chart archive rather than a chart from a repository.
+     *
+     * @param options the options used to install the chart.
+     * @return the options without the repository, version and credentials.
+     */
+    private static InstallChartOptions withoutRepository(final InstallChartOptions options) {
+        return InstallChartOptionsBuilder.from(options)
+                .repo(null)
+                .version(null)
+                .username(null)
+                .password(null)
+                .passCredentials(false)
+                .build();
+    }
+
     /**
      * Applies the default namespace and authentication configuration to the given builder.
      *
@@ -182,6 +565,14 @@ public final class DefaultHelmClient implements HelmClient {
             builder.workingDirectory(workingDirectory);
         }
 
+        if (instrumentation != null) {
+            builder.instrumentation(instrumentation);
+        }
+
+        if (executionBackend != null) {
+            builder.backend(executionBackend);
+        }
+
         authentication.apply(builder);
     }
 
@@ -248,7 +639,7 @@ public final class DefaultHelmClient implements HelmClient {
         final HelmExecutionBuilder builder = new HelmExecutionBuilder(helmExecutable);
         applyBuilderDefaults(builder);
         request.apply(builder);
-        return responseFn.apply(builder.build(), responseClass);
+        return limit(() -> responseFn.apply(builder.build(), responseClass));
     }
 
     private <T extends HelmRequest, R, V> V executeInternal(
@@ -266,6 +657,22 @@ public final class DefaultHelmClient implements HelmClient {
         applyBuilderDefaults(builder);
         request.apply(builder);
         builder.argument(NAMESPACE_ARG_NAME, namespace);
-        return responseFn.apply(builder.build(), responseClass);
+        return limit(() -> responseFn.apply(builder.build(), responseClass));
+    }
+
+    /**
+     * Runs the execution under the concurrency limiter, if one is configured. The Helm process is started by the
+     * execution, therefore the process is only started once a permit has been acquired.
+     *
+     * @param execution the execution to run.
+     * @param <V>       the type of the result of the execution.
+     * @return the result of the execution.
+     */
+    private <V> V limit(final Supplier<V> execution) {
+        if (concurrencyLimiter == null) {
+            return execution.get();
+        }
+
+        return concurrencyLimiter.execute(execution);
     }
 }
@@ -16,11 +16,20 @@
 
 package com.hedera.fullstack.helm.client.impl;
 
+import com.hedera.fullstack.helm.client.AsyncHelmClient;
+import com.hedera.fullstack.helm.client.CachingHelmClient;
+import com.hedera.fullstack.helm.client.ChartArchiveCache;
 import com.hedera.fullstack.helm.client.HelmClient;
 import com.hedera.fullstack.helm.client.HelmClientBuilder;
+import com.hedera.fullstack.helm.client.ManifestCache;
+import com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBackend;
+import com.hedera.fullstack.helm.client.execution.HelmInstrumentation;
 import com.hedera.fullstack.helm.client.proxy.request.authentication.KubeAuthentication;
 import com.hedera.fullstack.helm.client.resource.HelmSoftwareLoader;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of the {@link HelmClientBuilder} interface.
@@ -38,6 +47,12 @@ public final class DefaultHelmClientBuilder implements HelmClientBuilder {
      */
     private Path workingDirectory;
 
+    /**
+     * The Helm executable to use. Defaults to a {@code null} value which indicates that the bundled Helm executable
+     * should be installed and used.
+     */
+    private Path helmExecutable;
+
     /**
      * The kubernetes API server address and port number to which the client should connect. Defaults to a {@code null}
      * value which indicates that the Helm {@code --kube-apiserver <address_and_port>} argument should not be specified.
@@ -80,6 +95,54 @@ public final class DefaultHelmClientBuilder implements HelmClientBuilder {
      */
     private Path kubeConfig;
 
+    /**
+     * The executor on which the operations of the {@link AsyncHelmClient} are run. Defaults to a {@code null} value
+     * which indicates that a virtual thread should be started for each operation.
+     */
+    private Executor executor;
+
+    /**
+     * The time-to-live of the release listings cached by the {@link CachingHelmClient}. Defaults to a {@code null}
+     * value which indicates that the {@link CachingHelmClient#DEFAULT_TTL} should be used.
+     */
+    private Duration releaseCacheTtl;
+
+    /**
+     * The limiter which bounds the number of Helm commands executed at the same time. Defaults to a {@code null} value
+     * which indicates that the number of concurrent executions should not be limited.
+     */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * The instrumentation notified about every Helm command. Defaults to a {@code null} value which indicates that the
+     * Helm commands should not be instrumented.
+     */
+    private HelmInstrumentation instrumentation;
+
+    /**
+     * The cache of packaged chart archives. Defaults to a {@code null} value which indicates that charts should be
+     * downloaded by every install.
+     */
+    private ChartArchiveCache chartCache;
+
+    /**
+     * The cache of rendered manifests. Defaults to a {@code null} value which indicates that charts should be rendered
+     * by every call to {@link HelmClient#templateChart}.
+     */
+    private ManifestCache manifestCache;
+
+    /**
+     * The backend which starts the Helm commands. Defaults to a {@code null} value which indicates that every Helm
+     * command should spawn the Helm executable.
+     */
+    private HelmExecutionBackend executionBackend;
+
+    /**
+     * The directory in which the merged values files are written. Defaults to a {@code null} value which indicates
+     * that the values files and {@code --set} expressions should be passed to the Helm CLI unchanged.
+     */
+    private Path valuesDirectory;
+
     /**
      * Constructs a new builder instance and initializes it with the default configuration.
      */
@@ -97,6 +160,12 @@ public final class DefaultHelmClientBuilder implements HelmClientBuilder {
         return this;
     }
 
+    @Override
+    public HelmClientBuilder helmExecutable(final Path helmExecutable) {
+        this.helmExecutable = helmExecutable;
+        return this;
+    }
+
     @Override
     public HelmClientBuilder kubeApiServer(String kubeApiServer) {
         this.kubeApiServer = kubeApiServer;
@@ -139,9 +208,62 @@ public final class DefaultHelmClientBuilder implements HelmClientBuilder {
         return this;
     }
 
+    @Override
+    public HelmClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder concurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder instrumentation(HelmInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder chartCache(ChartArchiveCache chartCache) {
+        this.chartCache = chartCache;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder manifestCache(ManifestCache manifestCache) {
+        this.manifestCache = manifestCache;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder executionBackend(HelmExecutionBackend executionBackend) {
+        this.executionBackend = executionBackend;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder valuesDirectory(Path valuesDirectory) {
+        this.valuesDirectory = valuesDirectory;
+        return this;
+    }
+
+    @Override
+    public HelmClientBuilder releaseCacheTtl(Duration releaseCacheTtl) {
+        if (releaseCacheTtl != null && releaseCacheTtl.isNegative()) {
+            throw new IllegalArgumentException("releaseCacheTtl must not be negative");
+        }
+
+        this.releaseCacheTtl = releaseCacheTtl;
+        return this;
+    }
+
     @Override
     public HelmClient build() {
-        final Path helmExecutable = HelmSoftwareLoader.installSupportedVersion();
+        final Path helmExecutable =
+                this.helmExecutable != null ? this.helmExecutable : HelmSoftwareLoader.installSupportedVersion();
         final KubeAuthentication kubeAuthentication = new KubeAuthentication(
                 kubeApiServer,
                 kubeCAFile,
@@ -150,6 +272,24 @@ public final class DefaultHelmClientBuilder implements HelmClientBuilder {
                 kubeTlsServerName,
                 kubeToken,
                 kubeConfig);
-        return new DefaultHelmClient(helmExecutable, kubeAuthentication, defaultNamespace, workingDirectory);
+        final DefaultHelmClientOptions options = new DefaultHelmClientOptions(
+                concurrencyLimiter, instrumentation, chartCache, manifestCache, executionBackend, valuesDirectory);
+        return new DefaultHelmClient(helmExecutable, kubeAuthentication, defaultNamespace, workingDirectory, options);
+    }
+
+    @Override
+    public AsyncHelmClient buildAsync() {
+        final HelmClient client = build();
+        if (executor == null) {
+            return new DefaultAsyncHelmClient(client);
+        }
+
+        return new DefaultAsyncHelmClient(client, executor);
+    }
+
+    @Override
+    public CachingHelmClient buildCaching() {
+        final Duration ttl = releaseCacheTtl == null ? CachingHelmClient.DEFAULT_TTL : releaseCacheTtl;
+        return CachingHelmClient.wrap(build(), ttl);
     }
 }
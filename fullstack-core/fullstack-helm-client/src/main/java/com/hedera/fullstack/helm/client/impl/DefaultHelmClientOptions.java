@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.helm.client.ChartArchiveCache;
+import com.hedera.fullstack.helm.client.ManifestCache;
+import com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBackend;
+import com.hedera.fullstack.helm.client.execution.HelmInstrumentation;
+import java.nio.file.Path;
+
+/**
+ * The optional features of a {@link DefaultHelmClient} configured with the {@link DefaultHelmClientBuilder}. Every
+ * component may be {@code null}, in which case the feature is disabled.
+ *
+ * @param concurrencyLimiter the limiter which bounds the number of Helm commands executed at the same time or
+ *                           {@code null} if the number of concurrent executions should not be limited.
+ * @param instrumentation    the instrumentation notified about every Helm command executed by the client or
+ *                           {@code null} if the commands should not be instrumented.
+ * @param chartCache         the cache of packaged chart archives or {@code null} if charts should be downloaded by
+ *                           every install.
+ * @param manifestCache      the cache of rendered manifests or {@code null} if charts should be rendered by every
+ *                           call to {@link DefaultHelmClient#templateChart}.
+ * @param executionBackend   the backend which starts the Helm commands or {@code null} if every Helm command should
+ *                           spawn the Helm executable.
+ * @param valuesDirectory    the directory in which the merged values files are written or {@code null} if the values
+ *                           files and {@code --set} expressions should be passed to the Helm CLI unchanged.
+ */
+record DefaultHelmClientOptions(
+        AdaptiveConcurrencyLimiter concurrencyLimiter,
+        HelmInstrumentation instrumentation,
+        ChartArchiveCache chartCache,
+        ManifestCache manifestCache,
+        HelmExecutionBackend executionBackend,
+        Path valuesDirectory) {
+
+    /**
+     * The options with every optional feature disabled.
+     */
+    static final DefaultHelmClientOptions NONE = new DefaultHelmClientOptions(null, null, null, null, null, null);
+}
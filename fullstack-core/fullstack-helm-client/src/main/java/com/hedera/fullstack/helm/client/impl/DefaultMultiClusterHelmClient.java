@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.MultiClusterHelmClient;
+import com.hedera.fullstack.helm.client.MultiClusterResult;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The default implementation of the {@link MultiClusterHelmClient} interface.
+ * <p>
+ * Every operation runs on the executor and waits for a permit of its cluster before it calls the {@link HelmClient} of
+ * the cluster. Waiting for a permit blocks the executing thread, which is cheap when the operations run on virtual
+ * threads as they do by default.
+ */
+public final class DefaultMultiClusterHelmClient implements MultiClusterHelmClient {
+    /**
+     * The executor used when none is specified, which starts a new virtual thread for every operation.
+     */
+    private static final Executor DEFAULT_EXECUTOR =
+            command -> Thread.ofVirtual().name("helm-multi-cluster").start(command);
+
+    /**
+     * The clients of the clusters keyed by the name of the cluster.
+     */
+    private final Map<String, HelmClient> clients;
+
+    /**
+     * The permits bounding the number of concurrent operations keyed by the name of the cluster.
+     */
+    private final Map<String, Semaphore> permits;
+
+    /**
+     * The executor which runs the operations.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates a new instance of the {@link DefaultMultiClusterHelmClient} class.
+     *
+     * @param clients                  the clients of the clusters keyed by the name of the cluster.
+     * @param maxConcurrencyPerCluster the maximum number of operations executed against a single cluster at the same
+     *                                 time.
+     * @param executor                 the executor which runs the operations or {@code null} to start a new virtual
+     *                                 thread for every operation.
+     * @throws NullPointerException     if {@code clients} or any of its values is {@code null}.
+     * @throws IllegalArgumentException if {@code clients} is empty or {@code maxConcurrencyPerCluster} is not positive.
+     */
+    public DefaultMultiClusterHelmClient(
+            final Map<String, HelmClient> clients, final int maxConcurrencyPerCluster, final Executor executor) {
+        Objects.requireNonNull(clients, "clients must not be null");
+
+        if (clients.isEmpty()) {
+            throw new IllegalArgumentException("clients must not be empty");
+        }
+
+        if (maxConcurrencyPerCluster <= 0) {
+            throw new IllegalArgumentException("maxConcurrencyPerCluster must be positive");
+        }
+
+        final Map<String, HelmClient> copy = new LinkedHashMap<>();
+        final Map<String, Semaphore> semaphores = new LinkedHashMap<>();
+        clients.forEach((cluster, client) -> {
+            copy.put(cluster, Objects.requireNonNull(client, "client must not be null"));
+            semaphores.put(cluster, new Semaphore(maxConcurrencyPerCluster, true));
+        });
+
+        this.clients = Collections.unmodifiableMap(copy);
+        this.permits = Collections.unmodifiableMap(semaphores);
+        this.executor = executor != null ? executor : DEFAULT_EXECUTOR;
+    }
+
+    @Override
+    public Set<String> clusters() {
+        return clients.keySet();
+    }
+
+    @Override
+    public HelmClient client(final String cluster) {
+        final HelmClient client = clients.get(cluster);
+        if (client == null) {
+            throw new IllegalArgumentException("unknown cluster: " + cluster);
+        }
+
+        return client;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> submit(final String cluster, final Function<HelmClient, R> operation) {
+        Objects.requireNonNull(operation, "operation must not be null");
+        final HelmClient client = client(cluster);
+        final Semaphore semaphore = permits.get(cluster);
+
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    semaphore.acquireUninterruptibly();
+                    try {
+                        return operation.apply(client);
+                    } finally {
+                        semaphore.release();
+                    }
+                },
+                executor);
+    }
+
+    @Override
+    public <R> MultiClusterResult<R> executeOnAll(final Function<HelmClient, R> operation) {
+        Objects.requireNonNull(operation, "operation must not be null");
+        final Map<String, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        clients.keySet().forEach(cluster -> futures.put(cluster, submit(cluster, operation)));
+        return collect(futures);
+    }
+
+    @Override
+    public <R> MultiClusterResult<R> executePartitioned(
+            final Map<String, ? extends Function<HelmClient, R>> operations) {
+        Objects.requireNonNull(operations, "operations must not be null");
+        requireKnown(operations.keySet());
+
+        final Map<String, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        operations.forEach((cluster, operation) -> futures.put(cluster, submit(cluster, operation)));
+        return collect(futures);
+    }
+
+    @Override
+    public <T, R> MultiClusterResult<List<R>> executeEach(
+            final Map<String, ? extends Collection<T>> items, final BiFunction<HelmClient, T, R> operation) {
+        Objects.requireNonNull(items, "items must not be null");
+        Objects.requireNonNull(operation, "operation must not be null");
+        requireKnown(items.keySet());
+
+        final Map<String, CompletableFuture<List<R>>> futures = new LinkedHashMap<>();
+        items.forEach((cluster, clusterItems) -> {
+            final List<CompletableFuture<R>> itemFutures = new ArrayList<>(clusterItems.size());
+            for (final T item : clusterItems) {
+                itemFutures.add(submit(cluster, client -> operation.apply(client, item)));
+            }
+            futures.put(cluster, allOf(itemFutures));
+        });
+        return collect(futures);
+    }
+
+    /**
+     * Ensures every cluster is known before any operation is submitted.
+     *
+     * @param clusters the names of the clusters.
+     * @throws IllegalArgumentException if any cluster is unknown.
+     */
+    private void requireKnown(final Collection<String> clusters) {
+        final List<String> unknown = clusters.stream()
+                .filter(cluster -> !clients.containsKey(cluster))
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("unknown clusters: " + unknown);
+        }
+    }
+
+    /**
+     * Combines the futures of the items of a cluster into a future of their results, in the order of the futures. The
+     * combined future waits for every item and fails with the first failure, in the order of the futures, with any
+     * further failures attached as suppressed exceptions.
+     *
+     * @param futures the futures of the items.
+     * @param <R>     the type of the results.
+     * @return the combined future.
+     */
+    private static <R> CompletableFuture<List<R>> allOf(final List<CompletableFuture<R>> futures) {
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, e) -> {
+                    final List<R> results = new ArrayList<>(futures.size());
+                    Throwable failure = null;
+                    for (final CompletableFuture<R> future : futures) {
+                        try {
+                            results.add(future.join());
+                        } catch (final CompletionException | CancellationException ex) {
+                            final Throwable cause = unwrap(ex);
+                            if (failure == null) {
+                                failure = cause;
+                            } else if (failure != cause) {
+                                failure.addSuppressed(cause);
+                            }
+                        }
+                    }
+
+                    if (failure != null) {
+                        throw new CompletionException(failure);
+                    }
+
+                    return Collections.unmodifiableList(results);
+                });
+    }
+
+    /**
+     * Waits for the future of every cluster and aggregates their outcomes.
+     *
+     * @param futures the futures keyed by the name of the cluster.
+     * @param <R>     the type of the results.
+     * @return the aggregated outcome.
+     */
+    private static <R> MultiClusterResult<R> collect(final Map<String, CompletableFuture<R>> futures) {
+        final Map<String, R> results = new LinkedHashMap<>();
+        final Map<String, Throwable> failures = new LinkedHashMap<>();
+        futures.forEach((cluster, future) -> {
+            try {
+                results.put(cluster, future.join());
+            } catch (final CompletionException | CancellationException e) {
+                failures.put(cluster, unwrap(e));
+            }
+        });
+        return new MultiClusterResult<>(results, failures);
+    }
+
+    /**
+     * Returns the original failure of an operation, without the wrapping added by {@link CompletableFuture}.
+     *
+     * @param e the exception thrown while waiting for the operation.
+     * @return the original failure.
+     */
+    private static Throwable unwrap(final Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
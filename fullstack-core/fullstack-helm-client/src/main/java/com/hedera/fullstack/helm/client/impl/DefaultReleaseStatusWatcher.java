@@ -0,0 +1,501 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.ReleaseStatusSubscription;
+import com.hedera.fullstack.helm.client.ReleaseStatusWatcher;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
+import com.hedera.fullstack.helm.client.model.release.ReleaseStatus;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default implementation of the {@link ReleaseStatusWatcher} interface.
+ * <p>
+ * Each namespace is served by a {@link NamespacePoller} which owns a virtual thread while the namespace has
+ * subscribers. The thread exits once the last subscriber is removed and is started again by the next subscriber.
+ */
+public final class DefaultReleaseStatusWatcher implements ReleaseStatusWatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReleaseStatusWatcher.class);
+
+    /**
+     * The options used to list the releases of a namespace. Every status is listed so that pending releases can be
+     * observed, and pages are fetched on the polling thread.
+     */
+    private static final ReleaseListOptions LIST_OPTIONS =
+            ReleaseListOptions.builder().all(true).prefetch(false).build();
+
+    /**
+     * Supplies the client which polls the releases of a namespace.
+     */
+    private final Function<String, HelmClient> clientFactory;
+
+    /**
+     * The minimum poll interval in nanoseconds.
+     */
+    private final long minIntervalNanos;
+
+    /**
+     * The maximum poll interval in nanoseconds.
+     */
+    private final long maxIntervalNanos;
+
+    /**
+     * The pollers keyed by namespace.
+     */
+    private final Map<String, NamespacePoller> pollers;
+
+    /**
+     * The futures returned by the {@code await} methods which have not completed yet.
+     */
+    private final Set<CompletableFuture<?>> pending;
+
+    /**
+     * The number of polls executed across all namespaces.
+     */
+    private final LongAdder polls;
+
+    /**
+     * Whether the watcher has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new instance of the {@link DefaultReleaseStatusWatcher} class.
+     *
+     * @param clientFactory   supplies the client which polls the releases of a namespace.
+     * @param minPollInterval the poll interval used after a change is observed or a subscriber is added.
+     * @param maxPollInterval the poll interval which is not exceeded while nothing changes.
+     * @throws NullPointerException     if any argument is {@code null}.
+     * @throws IllegalArgumentException if an interval is not positive or the minimum interval is greater than the
+     *                                  maximum interval.
+     */
+    public DefaultReleaseStatusWatcher(
+            final Function<String, HelmClient> clientFactory,
+            final Duration minPollInterval,
+            final Duration maxPollInterval) {
+        this.clientFactory = Objects.requireNonNull(clientFactory, "clientFactory must not be null");
+        Objects.requireNonNull(minPollInterval, "minPollInterval must not be null");
+        Objects.requireNonNull(maxPollInterval, "maxPollInterval must not be null");
+
+        if (minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be positive");
+        }
+
+        if (minPollInterval.compareTo(maxPollInterval) > 0) {
+            throw new IllegalArgumentException("minPollInterval must not be greater than maxPollInterval");
+        }
+
+        this.minIntervalNanos = minPollInterval.toNanos();
+        this.maxIntervalNanos = maxPollInterval.toNanos();
+        this.pollers = new ConcurrentHashMap<>();
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.polls = new LongAdder();
+    }
+
+    @Override
+    public ReleaseStatusSubscription subscribe(
+            final String namespace, final String releaseName, final Consumer<ReleaseStatus> listener) {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        requireOpen();
+
+        final Watch watch = new Watch(releaseName, listener);
+        final NamespacePoller poller = pollers.computeIfAbsent(namespace, NamespacePoller::new);
+        poller.add(watch);
+
+        if (closed) {
+            // the watcher was closed concurrently and may have missed the new watch
+            poller.remove(watch);
+            requireOpen();
+        }
+
+        return () -> poller.remove(watch);
+    }
+
+    @Override
+    public CompletableFuture<ReleaseItem> awaitStatus(
+            final String namespace, final String releaseName, final String status, final Duration timeout) {
+        Objects.requireNonNull(status, "status must not be null");
+        return await(
+                namespace,
+                releaseName,
+                s -> s.isPresent() && status.equalsIgnoreCase(s.status()),
+                ReleaseStatus::release,
+                timeout);
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitAbsent(
+            final String namespace, final String releaseName, final Duration timeout) {
+        return await(namespace, releaseName, s -> !s.isPresent(), s -> null, timeout);
+    }
+
+    @Override
+    public long pollCount() {
+        return polls.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        pollers.values().forEach(NamespacePoller::shutdown);
+        List.copyOf(pending).forEach(future -> future.cancel(false));
+    }
+
+    /**
+     * Subscribes a listener which completes the returned future with the first status matching the condition. The
+     * subscription is closed once the future completes for any reason.
+     *
+     * @param namespace   the namespace of the release.
+     * @param releaseName the name of the release.
+     * @param condition   the condition the status must satisfy.
+     * @param result      maps the matching status to the result of the future.
+     * @param timeout     the maximum time to wait.
+     * @param <T>         the type of the result.
+     * @return the future completed with the result.
+     */
+    private <T> CompletableFuture<T> await(
+            final String namespace,
+            final String releaseName,
+            final Predicate<ReleaseStatus> condition,
+            final Function<ReleaseStatus, T> result,
+            final Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        pending.add(future);
+
+        final ReleaseStatusSubscription subscription;
+        try {
+            subscription = subscribe(namespace, releaseName, status -> {
+                if (condition.test(status)) {
+                    future.complete(result.apply(status));
+                }
+            });
+        } catch (final RuntimeException e) {
+            pending.remove(future);
+            throw e;
+        }
+
+        future.whenComplete((value, error) -> {
+            subscription.close();
+            pending.remove(future);
+        });
+        return future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Throws an {@link IllegalStateException} if the watcher has been closed.
+     */
+    private void requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("the release status watcher has been closed");
+        }
+    }
+
+    /**
+     * Polls the releases of a single namespace on behalf of all subscribers of the namespace.
+     */
+    private final class NamespacePoller implements Runnable {
+        /**
+         * The namespace being polled.
+         */
+        private final String namespace;
+
+        /**
+         * Guards the scheduling state of the poller.
+         */
+        private final ReentrantLock lock;
+
+        /**
+         * Signalled when a watch is added or the last watch is removed.
+         */
+        private final Condition wakeup;
+
+        /**
+         * The watches of the namespace, which are only modified while holding the lock.
+         */
+        private final List<Watch> watches;
+
+        /**
+         * The client which polls the namespace, created by the polling thread on the first poll.
+         */
+        private HelmClient client;
+
+        /**
+         * The polling thread or {@code null} if the namespace has no subscribers.
+         */
+        private Thread thread;
+
+        /**
+         * Whether a poll is being executed.
+         */
+        private boolean polling;
+
+        /**
+         * Whether a watch was added while a poll was being executed.
+         */
+        private boolean expedite;
+
+        /**
+         * The sequence number of the most recently started poll.
+         */
+        private long sequence;
+
+        /**
+         * The current poll interval in nanoseconds.
+         */
+        private long intervalNanos;
+
+        /**
+         * The time, in nanoseconds, at which the most recent poll started.
+         */
+        private long lastPollAt;
+
+        /**
+         * The time, in nanoseconds, at which the next poll is due.
+         */
+        private long nextPollAt;
+
+        private NamespacePoller(final String namespace) {
+            this.namespace = namespace;
+            this.lock = new ReentrantLock();
+            this.wakeup = lock.newCondition();
+            this.watches = new CopyOnWriteArrayList<>();
+            this.intervalNanos = minIntervalNanos;
+            this.lastPollAt = System.nanoTime() - minIntervalNanos;
+            this.nextPollAt = lastPollAt;
+        }
+
+        /**
+         * Adds the watch and schedules a poll no later than the minimum interval after the previous poll, starting the
+         * polling thread if required.
+         *
+         * @param watch the watch to add.
+         */
+        private void add(final Watch watch) {
+            lock.lock();
+            try {
+                watch.since = sequence;
+                watches.add(watch);
+                intervalNanos = minIntervalNanos;
+
+                if (polling) {
+                    expedite = true;
+                    return;
+                }
+
+                final long due = lastPollAt + minIntervalNanos;
+                if (thread == null || due - nextPollAt < 0) {
+                    nextPollAt = due;
+                }
+
+                if (thread == null) {
+                    thread = Thread.ofVirtual().name("release-status-watcher-" + namespace).start(this);
+                } else {
+                    wakeup.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes the watch, waking the polling thread so that it exits if no watch remains.
+         *
+         * @param watch the watch to remove.
+         */
+        private void remove(final Watch watch) {
+            lock.lock();
+            try {
+                if (watches.remove(watch) && watches.isEmpty()) {
+                    wakeup.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes all watches and wakes the polling thread so that it exits.
+         */
+        private void shutdown() {
+            lock.lock();
+            try {
+                watches.clear();
+                wakeup.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final long current;
+                lock.lock();
+                try {
+                    long remaining;
+                    while (!watches.isEmpty() && (remaining = nextPollAt - System.nanoTime()) > 0) {
+                        wakeup.awaitNanos(remaining);
+                    }
+
+                    if (watches.isEmpty()) {
+                        thread = null;
+                        return;
+                    }
+
+                    polling = true;
+                    lastPollAt = System.nanoTime();
+                    current = ++sequence;
+                } catch (final InterruptedException e) {
+                    thread = null;
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+
+                final boolean changed = poll(current);
+
+                lock.lock();
+                try {
+                    polling = false;
+                    if (expedite) {
+                        // a subscriber joined during the poll and has not observed any poll yet
+                        expedite = false;
+                        intervalNanos = minIntervalNanos;
+                        nextPollAt = lastPollAt + minIntervalNanos;
+                    } else {
+                        intervalNanos = changed ? minIntervalNanos : Math.min(intervalNanos * 2, maxIntervalNanos);
+                        nextPollAt = System.nanoTime() + intervalNanos;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Lists the releases of the namespace and offers the result to every watch added before the poll started.
+         *
+         * @param current the sequence number of the poll.
+         * @return {@code true} if a status was delivered to at least one watch; otherwise {@code false}.
+         */
+        private boolean poll(final long current) {
+            final Map<String, ReleaseItem> releases = new HashMap<>();
+            try {
+                if (client == null) {
+                    client = clientFactory.apply(namespace);
+                }
+
+                polls.increment();
+                try (Stream<ReleaseItem> stream = client.streamReleases(LIST_OPTIONS)) {
+                    stream.forEach(release -> releases.put(release.name(), release));
+                }
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to poll the status of the releases in namespace {}", namespace, e);
+                return false;
+            }
+
+            boolean changed = false;
+            for (final Watch watch : watches) {
+                if (watch.since < current) {
+                    final ReleaseItem release = releases.get(watch.releaseName);
+                    changed |= watch.offer(new ReleaseStatus(namespace, watch.releaseName, release));
+                }
+            }
+
+            return changed;
+        }
+    }
+
+    /**
+     * A listener registered for a single release. The delivery state is only accessed by the polling thread.
+     */
+    private static final class Watch {
+        /**
+         * The name of the watched release.
+         */
+        private final String releaseName;
+
+        /**
+         * The listener receiving the statuses.
+         */
+        private final Consumer<ReleaseStatus> listener;
+
+        /**
+         * The sequence number of the most recent poll started before the watch was added.
+         */
+        private long since;
+
+        /**
+         * The most recently delivered status or {@code null} if no status has been delivered.
+         */
+        private ReleaseStatus last;
+
+        private Watch(final String releaseName, final Consumer<ReleaseStatus> listener) {
+            this.releaseName = releaseName;
+            this.listener = listener;
+        }
+
+        /**
+         * Delivers the status to the listener unless it has the same status and revision as the previously delivered
+         * status.
+         *
+         * @param status the observed status.
+         * @return {@code true} if the status was delivered; otherwise {@code false}.
+         */
+        private boolean offer(final ReleaseStatus status) {
+            if (last != null
+                    && Objects.equals(last.status(), status.status())
+                    && Objects.equals(last.revision(), status.revision())) {
+                return false;
+            }
+
+            last = status;
+            try {
+                listener.accept(status);
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Release status listener failed for release {}", releaseName, e);
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.impl;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.ReleasePlanException;
+import com.hedera.fullstack.helm.client.model.plan.FailurePolicy;
+import com.hedera.fullstack.helm.client.model.plan.PlannedRelease;
+import com.hedera.fullstack.helm.client.model.plan.ReleaseOutcome;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import com.hedera.fullstack.helm.client.model.plan.ReleaseTiming;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Installs the releases of a {@link ReleasePlan} using a {@link HelmClient}. Each release is started as soon as all of
+ * its dependencies have been installed, subject to the {@link ReleasePlan#maxParallelism()} limit. When more releases
+ * are ready than may be started, the releases with the longest chain of dependents are started first since they are
+ * the most likely to lie on the critical path.
+ * <p>
+ * The installations are run on virtual threads while the calling thread schedules the releases and collects their
+ * results.
+ */
+public final class ReleasePlanInstaller {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReleasePlanInstaller.class);
+
+    /**
+     * The name prefix of the virtual threads which install the releases.
+     */
+    private static final String THREAD_NAME_PREFIX = "helm-release-plan-";
+
+    /**
+     * The client used to install and uninstall the releases.
+     */
+    private final HelmClient client;
+
+    /**
+     * Creates a new instance of the {@link ReleasePlanInstaller} class.
+     *
+     * @param client the client used to install and uninstall the releases.
+     * @throws NullPointerException if {@code client} is {@code null}.
+     */
+    public ReleasePlanInstaller(final HelmClient client) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+    }
+
+    /**
+     * Installs the releases of the plan.
+     *
+     * @param plan the plan to install.
+     * @return the report describing the outcome and timing of every release.
+     * @throws NullPointerException if {@code plan} is {@code null}.
+     * @throws ReleasePlanException if one or more releases fail to install.
+     */
+    public ReleasePlanReport install(final ReleasePlan plan) {
+        Objects.requireNonNull(plan, "plan must not be null");
+        return new Run(plan).execute();
+    }
+
+    /**
+     * The state of a single installation of a plan.
+     */
+    private final class Run {
+        /**
+         * The plan being installed.
+         */
+        private final ReleasePlan plan;
+
+        /**
+         * The names of the releases which directly depend on each release, keyed by the name of the dependency.
+         */
+        private final Map<String, List<String>> dependents;
+
+        /**
+         * The position of each release in the plan, used to break ties between releases of the same height.
+         */
+        private final Map<String, Integer> declarationIndex = new HashMap<>();
+
+        /**
+         * The length of the longest chain of dependents starting at each release, including the release itself.
+         * Releases with the greatest height are started first because they gate the most work.
+         */
+        private final Map<String, Integer> heights = new HashMap<>();
+
+        /**
+         * The number of dependencies of each release which have not been installed yet. A release is ready to be
+         * installed once the count drops to zero.
+         */
+        private final Map<String, Integer> remainingDependencies = new HashMap<>();
+
+        /**
+         * The value of {@link System#nanoTime()} at which the installation of each started release began.
+         */
+        private final Map<String, Long> startTimes = new HashMap<>();
+
+        /**
+         * The value of {@link System#nanoTime()} at which the installation of each started release completed.
+         */
+        private final Map<String, Long> endTimes = new HashMap<>();
+
+        /**
+         * The outcome of each release which was started. Releases which were never started are reported as
+         * {@link ReleaseOutcome#SKIPPED}.
+         */
+        private final Map<String, ReleaseOutcome> outcomes = new HashMap<>();
+
+        /**
+         * The failure of each release which failed to install or to be rolled back.
+         */
+        private final Map<String, Throwable> failures = new HashMap<>();
+
+        /**
+         * The successfully installed releases in completion order. A release always completes after its dependencies,
+         * therefore rolling back in reverse order uninstalls dependents before their dependencies.
+         */
+        private final LinkedList<String> installed = new LinkedList<>();
+
+        /**
+         * The releases which failed to install. A failed installation without {@code --atomic} may leave the release
+         * behind in the {@code failed} state, which would block the next installation of the plan.
+         */
+        private final List<String> failedInstalls = new ArrayList<>();
+
+        /**
+         * The value of {@link System#nanoTime()} at which the installation of the plan began.
+         */
+        private long planStart;
+
+        /**
+         * The first failure observed, which stops further releases from being started and becomes the cause of the
+         * {@link ReleasePlanException}, or {@code null} if no release has failed.
+         */
+        private Throwable firstFailure;
+
+        /**
+         * Creates a new run of the supplied plan and computes the height of every release.
+         *
+         * @param plan the plan to install.
+         */
+        private Run(final ReleasePlan plan) {
+            this.plan = plan;
+            this.dependents = plan.dependents();
+
+            final List<PlannedRelease> releases = plan.releases();
+            for (int i = 0; i < releases.size(); i++) {
+                declarationIndex.put(releases.get(i).name(), i);
+                remainingDependencies.put(releases.get(i).name(), releases.get(i).dependsOn().size());
+            }
+
+            // heights are computed in reverse topological order so each dependent is visited before its dependencies
+            final List<PlannedRelease> order = plan.topologicalOrder();
+            for (int i = order.size() - 1; i >= 0; i--) {
+                final String name = order.get(i).name();
+                int height = 1;
+                for (final String dependent : dependents.get(name)) {
+                    height = Math.max(height, heights.get(dependent) + 1);
+                }
+                heights.put(name, height);
+            }
+        }
+
+        /**
+         * Installs the releases of the plan, starting the ready releases with the greatest height first, up to the
+         * maximum parallelism of the plan. Once a release fails no further releases are started, the releases which
+         * are already running are awaited and the failure policy of the plan is applied.
+         *
+         * @return the report describing the outcome and timing of every release.
+         * @throws ReleasePlanException if one or more releases fail to install or the calling thread is interrupted.
+         */
+        private ReleasePlanReport execute() {
+            final PriorityQueue<PlannedRelease> ready = new PriorityQueue<>(Comparator.<PlannedRelease>comparingInt(
+                            r -> -heights.get(r.name()))
+                    .thenComparingInt(r -> declarationIndex.get(r.name())));
+            for (final PlannedRelease release : plan.releases()) {
+                if (release.dependsOn().isEmpty()) {
+                    ready.add(release);
+                }
+            }
+
+            boolean interrupted = false;
+            planStart = System.nanoTime();
+            try (final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory())) {
+                final CompletionService<Completion> completions = new ExecutorCompletionService<>(executor);
+                int running = 0;
+
+                while (true) {
+                    while (firstFailure == null && running < plan.maxParallelism() && !ready.isEmpty()) {
+                        final PlannedRelease release = ready.poll();
+                        startTimes.put(release.name(), System.nanoTime());
+                        completions.submit(() -> installRelease(release));
+                        running++;
+                    }
+
+                    if (running == 0) {
+                        break;
+                    }
+
+                    final Completion completion;
+                    try {
+                        completion = completions.take().get();
+                    } catch (final InterruptedException e) {
+                        // stop scheduling new releases but keep collecting the ones already running
+                        interrupted = true;
+                        recordFailure(e);
+                        continue;
+                    } catch (final ExecutionException e) {
+                        // installRelease never throws
+                        throw new IllegalStateException(e.getCause());
+                    }
+
+                    running--;
+                    endTimes.put(completion.name(), completion.endTime());
+                    if (completion.failure() != null) {
+                        outcomes.put(completion.name(), ReleaseOutcome.FAILED);
+                        failures.put(completion.name(), completion.failure());
+                        failedInstalls.add(completion.name());
+                        recordFailure(completion.failure());
+                        continue;
+                    }
+
+                    outcomes.put(completion.name(), ReleaseOutcome.INSTALLED);
+                    installed.add(completion.name());
+                    for (final String dependent : dependents.get(completion.name())) {
+                        if (remainingDependencies.merge(dependent, -1, Integer::sum) == 0) {
+                            ready.add(plan.release(dependent));
+                        }
+                    }
+                }
+            }
+
+            if (firstFailure != null && plan.failurePolicy() == FailurePolicy.ROLLBACK) {
+                rollback();
+            }
+
+            final ReleasePlanReport report = report();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (firstFailure != null) {
+                throw new ReleasePlanException(report, firstFailure);
+            }
+
+            LOGGER.debug(
+                    "Release plan installed.  [releases={}, elapsed={}, criticalPath={}]",
+                    report.releases().size(),
+                    report.elapsed(),
+                    report.criticalPath());
+            return report;
+        }
+
+        /**
+         * Installs a single release. Failures are captured in the returned completion rather than thrown, so that the
+         * scheduling loop observes every completion in the same way.
+         *
+         * @param release the release to install.
+         * @return the completion of the installation.
+         */
+        private Completion installRelease(final PlannedRelease release) {
+            try {
+                client.installChart(release.name(), release.chart(), release.options());
+                return new Completion(release.name(), System.nanoTime(), null);
+            } catch (final RuntimeException | Error e) {
+                return new Completion(release.name(), System.nanoTime(), e);
+            }
+        }
+
+        /**
+         * Records a failure of the plan. Only the first failure is kept and logged; later failures are reported
+         * through the release timings.
+         *
+         * @param failure the failure to record.
+         */
+        private void recordFailure(final Throwable failure) {
+            if (firstFailure == null) {
+                firstFailure = failure;
+                LOGGER.warn("Release plan failed, no further releases will be started", failure);
+            }
+        }
+
+        /**
+         * Uninstalls whatever the failed installations left behind and then the installed releases, dependents before
+         * their dependencies. The dependents of a failed release are never started, therefore the failed releases are
+         * removed first. A failure to uninstall a release does not prevent the remaining releases from being
+         * uninstalled.
+         */
+        private void rollback() {
+            for (final String name : failedInstalls) {
+                try {
+                    client.uninstallChart(name);
+                } catch (final HelmExecutionException e) {
+                    if (e.getStdErr() != null && e.getStdErr().contains(DefaultHelmClient.MSG_RELEASE_NOT_FOUND)) {
+                        // the failed installation did not leave a release behind
+                        continue;
+                    }
+
+                    LOGGER.warn("Unable to remove failed release: {}", name, e);
+                    firstFailure.addSuppressed(e);
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Unable to remove failed release: {}", name, e);
+                    firstFailure.addSuppressed(e);
+                }
+            }
+
+            while (!installed.isEmpty()) {
+                final String name = installed.removeLast();
+                try {
+                    client.uninstallChart(name);
+                    outcomes.put(name, ReleaseOutcome.ROLLED_BACK);
+                } catch (final RuntimeException e) {
+                    LOGGER.warn("Unable to roll back release: {}", name, e);
+                    outcomes.put(name, ReleaseOutcome.ROLLBACK_FAILED);
+                    failures.put(name, e);
+                    firstFailure.addSuppressed(e);
+                }
+            }
+        }
+
+        /**
+         * Builds the report of the run, with the offsets of every release measured from the start of the plan.
+         *
+         * @return the report describing the outcome and timing of every release.
+         */
+        private ReleasePlanReport report() {
+            final List<ReleaseTiming> timings = new ArrayList<>();
+            for (final PlannedRelease release : plan.releases()) {
+                final String name = release.name();
+                final Long start = startTimes.get(name);
+                final Long end = endTimes.get(name);
+                timings.add(new ReleaseTiming(
+                        name,
+                        outcomes.getOrDefault(name, ReleaseOutcome.SKIPPED),
+                        start == null ? Duration.ZERO : Duration.ofNanos(start - planStart),
+                        start == null || end == null ? Duration.ZERO : Duration.ofNanos(end - start),
+                        failures.get(name)));
+            }
+
+            final List<String> criticalPath = criticalPath();
+            Duration criticalPathDuration = Duration.ZERO;
+            for (final String name : criticalPath) {
+                criticalPathDuration = criticalPathDuration.plusNanos(endTimes.get(name) - startTimes.get(name));
+            }
+
+            return new ReleasePlanReport(
+                    timings, Duration.ofNanos(System.nanoTime() - planStart), criticalPath, criticalPathDuration);
+        }
+
+        /**
+         * Walks back from the release which finished last, following at each step the dependency which finished last
+         * and was therefore the one that held the release back.
+         *
+         * @return the names of the releases on the critical path in installation order.
+         */
+        private List<String> criticalPath() {
+            String current = null;
+            for (final Map.Entry<String, Long> entry : endTimes.entrySet()) {
+                if (current == null || entry.getValue() > endTimes.get(current)) {
+                    current = entry.getKey();
+                }
+            }
+
+            final LinkedList<String> path = new LinkedList<>();
+            while (current != null) {
+                path.addFirst(current);
+                String gating = null;
+                for (final String dependency : plan.release(current).dependsOn()) {
+                    final Long end = endTimes.get(dependency);
+                    if (end != null && (gating == null || end > endTimes.get(gating))) {
+                        gating = dependency;
+                    }
+                }
+                current = gating;
+            }
+
+            return path;
+        }
+    }
+
+    /**
+     * The completion of a single installation.
+     *
+     * @param name    the name of the release.
+     * @param endTime the time, in nanoseconds, at which the installation completed.
+     * @param failure the failure of the installation or {@code null} if the installation succeeded.
+     */
+    private record Completion(String name, long endTime, Throwable failure) {}
+}
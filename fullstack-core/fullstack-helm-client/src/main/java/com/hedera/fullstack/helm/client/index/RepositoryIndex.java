@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.index;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable, in-memory index of the chart versions published in a chart repository, built from the repository
+ * {@code index.yaml} file. The versions of each chart are kept in a sorted array, which allows the existence of a
+ * version to be checked with a binary search and the latest version matching a constraint to be found without
+ * invoking the Helm CLI.
+ *
+ * @see RepositoryIndexCache
+ */
+public final class RepositoryIndex {
+    /**
+     * Orders versions from the highest to the lowest precedence.
+     */
+    private static final Comparator<SemanticVersion> DESCENDING = VersionPrecedence.INSTANCE.reversed();
+
+    /**
+     * The versions of each chart ordered from the highest to the lowest precedence.
+     */
+    private final Map<String, SemanticVersion[]> charts;
+
+    /**
+     * The total number of chart versions in the index.
+     */
+    private final int versionCount;
+
+    private RepositoryIndex(final Map<String, SemanticVersion[]> charts) {
+        this.charts = charts;
+        this.versionCount = charts.values().stream().mapToInt(versions -> versions.length).sum();
+    }
+
+    /**
+     * Reads the index from the {@code index.yaml} file of a chart repository.
+     *
+     * @param indexFile the path to the index file.
+     * @return the index.
+     * @throws IOException if the file cannot be read or is not a valid repository index.
+     */
+    public static RepositoryIndex parse(final Path indexFile) throws IOException {
+        Objects.requireNonNull(indexFile, "indexFile must not be null");
+
+        try (final InputStream in = Files.newInputStream(indexFile)) {
+            return parse(in);
+        }
+    }
+
+    /**
+     * Reads the index from a stream over the {@code index.yaml} file of a chart repository. The stream is read to the
+     * end but not closed.
+     *
+     * @param in the stream to read.
+     * @return the index.
+     * @throws IOException if the stream cannot be read or is not a valid repository index.
+     */
+    public static RepositoryIndex parse(final InputStream in) throws IOException {
+        Objects.requireNonNull(in, "in must not be null");
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        final Map<String, List<SemanticVersion>> parsed = RepositoryIndexParser.parse(reader);
+        final Map<String, SemanticVersion[]> charts = new HashMap<>(Math.max(16, parsed.size() * 2));
+        for (final Map.Entry<String, List<SemanticVersion>> entry : parsed.entrySet()) {
+            final SemanticVersion[] versions = entry.getValue().stream()
+                    .distinct()
+                    .sorted(DESCENDING)
+                    .toArray(SemanticVersion[]::new);
+            charts.put(entry.getKey(), versions);
+        }
+
+        return new RepositoryIndex(charts);
+    }
+
+    /**
+     * Returns the names of the charts in the index.
+     *
+     * @return an unmodifiable set of chart names.
+     */
+    public Set<String> chartNames() {
+        return Collections.unmodifiableSet(charts.keySet());
+    }
+
+    /**
+     * Returns the number of charts in the index.
+     *
+     * @return the number of charts.
+     */
+    public int chartCount() {
+        return charts.size();
+    }
+
+    /**
+     * Returns the total number of chart versions in the index.
+     *
+     * @return the number of chart versions.
+     */
+    public int versionCount() {
+        return versionCount;
+    }
+
+    /**
+     * Returns the versions of the chart, including pre-release versions.
+     *
+     * @param chartName the name of the chart.
+     * @return an unmodifiable list of versions ordered from the highest to the lowest precedence, which is empty if the
+     * chart does not exist.
+     */
+    public List<SemanticVersion> versions(final String chartName) {
+        Objects.requireNonNull(chartName, "chartName must not be null");
+
+        final SemanticVersion[] versions = charts.get(chartName);
+        return versions == null ? List.of() : Collections.unmodifiableList(Arrays.asList(versions));
+    }
+
+    /**
+     * Determines whether the index contains the chart.
+     *
+     * @param chartName the name of the chart.
+     * @return {@code true} if the chart exists; otherwise {@code false}.
+     */
+    public boolean contains(final String chartName) {
+        Objects.requireNonNull(chartName, "chartName must not be null");
+        return charts.containsKey(chartName);
+    }
+
+    /**
+     * Determines whether the index contains the version of the chart. Build metadata is ignored.
+     *
+     * @param chartName the name of the chart.
+     * @param version   the version of the chart.
+     * @return {@code true} if the chart version exists; otherwise {@code false}.
+     */
+    public boolean contains(final String chartName, final SemanticVersion version) {
+        Objects.requireNonNull(chartName, "chartName must not be null");
+        Objects.requireNonNull(version, "version must not be null");
+
+        final SemanticVersion[] versions = charts.get(chartName);
+        return versions != null && Arrays.binarySearch(versions, version, DESCENDING) >= 0;
+    }
+
+    /**
+     * Determines whether the index contains the version of the chart. Build metadata is ignored.
+     *
+     * @param chartName the name of the chart.
+     * @param version   the version of the chart, optionally prefixed with {@code v}.
+     * @return {@code true} if the chart version exists; otherwise {@code false}, including when {@code version} is not
+     * a valid semantic version.
+     */
+    public boolean contains(final String chartName, final String version) {
+        Objects.requireNonNull(version, "version must not be null");
+
+        final SemanticVersion parsed = RepositoryIndexParser.parseVersion(version.trim());
+        return parsed != null && contains(chartName, parsed);
+    }
+
+    /**
+     * Returns the latest version of the chart which is not a pre-release.
+     *
+     * @param chartName the name of the chart.
+     * @return the latest version or {@code null} if the chart does not exist or only has pre-release versions.
+     */
+    public SemanticVersion latest(final String chartName) {
+        return latest(chartName, VersionConstraint.ANY);
+    }
+
+    /**
+     * Returns the latest version of the chart which satisfies the constraint.
+     *
+     * @param chartName  the name of the chart.
+     * @param constraint the constraint in the syntax accepted by the Helm CLI {@code --version} option.
+     * @return the latest matching version or {@code null} if no version of the chart satisfies the constraint.
+     * @throws IllegalArgumentException if {@code constraint} is not a valid version constraint.
+     * @see VersionConstraint
+     */
+    public SemanticVersion latest(final String chartName, final String constraint) {
+        return latest(chartName, VersionConstraint.parse(constraint));
+    }
+
+    /**
+     * Returns the latest version of the chart which satisfies the constraint.
+     *
+     * @param chartName  the name of the chart.
+     * @param constraint the constraint to satisfy.
+     * @return the latest matching version or {@code null} if no version of the chart satisfies the constraint.
+     */
+    public SemanticVersion latest(final String chartName, final VersionConstraint constraint) {
+        Objects.requireNonNull(chartName, "chartName must not be null");
+        Objects.requireNonNull(constraint, "constraint must not be null");
+
+        final SemanticVersion[] versions = charts.get(chartName);
+        if (versions == null) {
+            return null;
+        }
+
+        for (final SemanticVersion version : versions) {
+            if (constraint.matches(version)) {
+                return version;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.index;
+
+import com.hedera.fullstack.base.api.os.OperatingSystem;
+import com.hedera.fullstack.helm.client.model.Repository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the {@link RepositoryIndex} instances built from repository index files so that repeated queries never
+ * re-read an index which has not changed. Indexes read from a file are validated against the modification time and
+ * size of the file, while indexes read from other sources, such as an HTTP server, are validated against an opaque
+ * validator like an {@code ETag}. Concurrent requests for the same index read it once.
+ */
+public final class RepositoryIndexCache {
+    /**
+     * The suffix of the index files stored by the Helm CLI in its repository cache directory.
+     */
+    private static final String HELM_INDEX_SUFFIX = "-index.yaml";
+
+    /**
+     * The cached indexes keyed by the path of the index file or the key supplied by the caller.
+     */
+    private final Map<String, Slot> slots;
+
+    /**
+     * Creates a new, empty {@link RepositoryIndexCache} instance.
+     */
+    public RepositoryIndexCache() {
+        this.slots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the index of a repository added with {@code helm repo add}, read from the repository cache directory of
+     * the Helm CLI. The index file is refreshed by {@code helm repo add} and {@code helm repo update}.
+     *
+     * @param repository the repository.
+     * @return the index.
+     * @throws IOException if the index file cannot be read or is not a valid repository index.
+     * @see #helmIndexFile(String)
+     */
+    public RepositoryIndex get(final Repository repository) throws IOException {
+        Objects.requireNonNull(repository, "repository must not be null");
+        return get(helmIndexFile(repository.name()));
+    }
+
+    /**
+     * Returns the index read from the file, reading the file only if it has been modified since it was last read.
+     *
+     * @param indexFile the path to the index file.
+     * @return the index.
+     * @throws IOException if the file cannot be read or is not a valid repository index.
+     */
+    public RepositoryIndex get(final Path indexFile) throws IOException {
+        Objects.requireNonNull(indexFile, "indexFile must not be null");
+
+        final Path file = indexFile.toAbsolutePath().normalize();
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        final String validator = attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+        return get(file.toString(), validator, () -> Files.newInputStream(file));
+    }
+
+    /**
+     * Returns the index cached under the key, reading it from the source only if no index has been cached under the key
+     * or the validator differs from the validator recorded when the index was read.
+     *
+     * @param key       the key identifying the index, such as the URL of the repository.
+     * @param validator an opaque value, such as an HTTP {@code ETag}, which changes whenever the index changes. A
+     *                  {@code null} value indicates that the index must be read.
+     * @param source    the source of the index, which is only opened when the index must be read.
+     * @return the index.
+     * @throws IOException if the source cannot be read or is not a valid repository index.
+     */
+    public RepositoryIndex get(final String key, final String validator, final IndexSource source)
+            throws IOException {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(source, "source must not be null");
+
+        final Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+        final Entry cached = slot.entry;
+        if (cached != null && validator != null && validator.equals(cached.validator())) {
+            return cached.index();
+        }
+
+        synchronized (slot) {
+            // another thread may have read the index while we were waiting for the lock
+            final Entry current = slot.entry;
+            if (current != null && validator != null && validator.equals(current.validator())) {
+                return current.index();
+            }
+
+            final RepositoryIndex index;
+            try (final InputStream in = source.open()) {
+                index = RepositoryIndex.parse(in);
+            }
+
+            slot.entry = new Entry(validator, index);
+            return index;
+        }
+    }
+
+    /**
+     * Discards the index cached under the key.
+     *
+     * @param key the key of the index, which is the absolute path of the file for indexes read from a file.
+     */
+    public void invalidate(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        slots.remove(key);
+    }
+
+    /**
+     * Discards all cached indexes.
+     */
+    public void invalidateAll() {
+        slots.clear();
+    }
+
+    /**
+     * Returns the path of the index file of a repository in the repository cache directory of the Helm CLI. The
+     * directory is resolved the same way as the Helm CLI resolves it: from the {@code HELM_REPOSITORY_CACHE} or
+     * {@code HELM_CACHE_HOME} environment variables, then from {@code XDG_CACHE_HOME} and finally from the default
+     * cache directory of the operating system.
+     *
+     * @param repositoryName the name of the repository.
+     * @return the path of the index file, which may not exist.
+     */
+    public static Path helmIndexFile(final String repositoryName) {
+        Objects.requireNonNull(repositoryName, "repositoryName must not be null");
+        return helmRepositoryCache().resolve(repositoryName + HELM_INDEX_SUFFIX);
+    }
+
+    /**
+     * Resolves the repository cache directory of the Helm CLI.
+     *
+     * @return the repository cache directory.
+     */
+    private static Path helmRepositoryCache() {
+        final String repositoryCache = System.getenv("HELM_REPOSITORY_CACHE");
+        if (repositoryCache != null && !repositoryCache.isBlank()) {
+            return Path.of(repositoryCache);
+        }
+
+        final String cacheHome = System.getenv("HELM_CACHE_HOME");
+        if (cacheHome != null && !cacheHome.isBlank()) {
+            return Path.of(cacheHome, "repository");
+        }
+
+        final String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        if (xdgCacheHome != null && !xdgCacheHome.isBlank()) {
+            return Path.of(xdgCacheHome, "helm", "repository");
+        }
+
+        final Path home = Path.of(System.getProperty("user.home"));
+        return switch (OperatingSystem.current()) {
+            case DARWIN -> home.resolve("Library").resolve("Caches").resolve("helm").resolve("repository");
+            case WINDOWS -> {
+                final String localAppData = System.getenv("LOCALAPPDATA");
+                final Path base = localAppData != null && !localAppData.isBlank()
+                        ? Path.of(localAppData)
+                        : home.resolve("AppData").resolve("Local");
+                yield base.resolve("helm").resolve("repository");
+            }
+            case LINUX -> home.resolve(".cache").resolve("helm").resolve("repository");
+        };
+    }
+
+    /**
+     * Opens a new stream over a repository index.
+     */
+    @FunctionalInterface
+    public interface IndexSource {
+        /**
+         * Opens a new stream over the index.
+         *
+         * @return a new input stream which the caller must close.
+         * @throws IOException if the stream cannot be opened.
+         */
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * An index along with the validator recorded when it was read.
+     *
+     * @param validator the validator or {@code null} if the index must be read again by the next request.
+     * @param index     the index.
+     */
+    private record Entry(String validator, RepositoryIndex index) {}
+
+    /**
+     * The holder of the index cached under a key, which also serializes reading the index.
+     */
+    private static final class Slot {
+        /**
+         * The cached index or {@code null} if the index has not been read yet.
+         */
+        private volatile Entry entry;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.index;
+
+import com.hedera.fullstack.base.api.version.InvalidSemanticVersionException;
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+
+/**
+ * A streaming reader for the {@code index.yaml} file of a chart repository which extracts the chart names and versions
+ * without building a document tree.
+ * <p>
+ * The index is read with the SnakeYAML event API, so both the block-style layout written by {@code helm repo index}
+ * and flow-style documents are understood. Only the {@code version} key at the top level of each chart version under
+ * the top-level {@code entries} mapping is inspected; every other node, such as annotations, dependencies, maintainers
+ * and descriptions, is skipped event by event without being constructed, which keeps the cost of reading the index
+ * proportional to its size with a constant amount of memory per chart version.
+ */
+final class RepositoryIndexParser {
+    /**
+     * The top-level key which contains the chart versions.
+     */
+    private static final String ENTRIES_KEY = "entries";
+
+    /**
+     * The key of a chart version mapping which holds the version.
+     */
+    private static final String VERSION_KEY = "version";
+
+    private RepositoryIndexParser() {}
+
+    /**
+     * Reads the index and returns the versions of each chart in the order in which they appear. Versions which are not
+     * valid semantic versions, optionally prefixed with {@code v}, are skipped.
+     *
+     * @param reader the reader positioned at the start of the index.
+     * @return the versions keyed by chart name.
+     * @throws IOException if the index cannot be read or is not a YAML document whose root is a mapping.
+     */
+    static Map<String, List<SemanticVersion>> parse(final Reader reader) throws IOException {
+        final Map<String, List<SemanticVersion>> charts = new HashMap<>();
+
+        try {
+            final Iterator<Event> events = newYaml().parse(reader).iterator();
+            Event event = next(events);
+            while (!event.is(Event.ID.StreamEnd) && !event.is(Event.ID.DocumentStart)) {
+                event = next(events);
+            }
+
+            if (event.is(Event.ID.DocumentStart)) {
+                final Event root = next(events);
+                if (!root.is(Event.ID.MappingStart)) {
+                    throw new IOException("The repository index is not a YAML mapping");
+                }
+
+                readIndex(events, charts);
+                while (events.hasNext()) {
+                    // the stream is read to the end, any further documents are ignored
+                    events.next();
+                }
+            }
+        } catch (final YAMLException e) {
+            throw new IOException("Malformed repository index: " + e.getMessage(), e);
+        }
+
+        return charts;
+    }
+
+    /**
+     * Reads the keys of the root mapping of the index up to and including its end event.
+     *
+     * @param events the events positioned after the start of the root mapping.
+     * @param charts the versions keyed by chart name.
+     * @throws IOException if the index ends unexpectedly.
+     */
+    private static void readIndex(final Iterator<Event> events, final Map<String, List<SemanticVersion>> charts)
+            throws IOException {
+        Event key;
+        while (!(key = next(events)).is(Event.ID.MappingEnd)) {
+            final Event value = next(events);
+            if (isScalar(key, ENTRIES_KEY) && value.is(Event.ID.MappingStart)) {
+                readEntries(events, charts);
+            } else {
+                skip(events, key);
+                skip(events, value);
+            }
+        }
+    }
+
+    /**
+     * Reads the {@code entries} mapping up to and including its end event.
+     *
+     * @param events the events positioned after the start of the {@code entries} mapping.
+     * @param charts the versions keyed by chart name.
+     * @throws IOException if the index ends unexpectedly.
+     */
+    private static void readEntries(final Iterator<Event> events, final Map<String, List<SemanticVersion>> charts)
+            throws IOException {
+        Event key;
+        while (!(key = next(events)).is(Event.ID.MappingEnd)) {
+            final Event value = next(events);
+            if (!(key instanceof ScalarEvent chartName)) {
+                skip(events, key);
+                skip(events, value);
+                continue;
+            }
+
+            final List<SemanticVersion> versions = charts.computeIfAbsent(chartName.getValue(), k -> new ArrayList<>());
+            if (value instanceof SequenceStartEvent) {
+                readChartVersions(events, versions);
+            } else {
+                skip(events, value);
+            }
+        }
+    }
+
+    /**
+     * Reads the sequence of chart versions of a chart up to and including its end event.
+     *
+     * @param events   the events positioned after the start of the sequence.
+     * @param versions the versions of the chart.
+     * @throws IOException if the index ends unexpectedly.
+     */
+    private static void readChartVersions(final Iterator<Event> events, final List<SemanticVersion> versions)
+            throws IOException {
+        Event item;
+        while (!(item = next(events)).is(Event.ID.SequenceEnd)) {
+            if (!(item instanceof MappingStartEvent)) {
+                skip(events, item);
+                continue;
+            }
+
+            Event key;
+            while (!(key = next(events)).is(Event.ID.MappingEnd)) {
+                final Event value = next(events);
+                if (isScalar(key, VERSION_KEY) && value instanceof ScalarEvent scalar) {
+                    final SemanticVersion version = parseVersion(scalar.getValue().strip());
+                    if (version != null) {
+                        versions.add(version);
+                    }
+                } else {
+                    skip(events, key);
+                    skip(events, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses a chart version, accepting an optional {@code v} prefix.
+     *
+     * @param value the version as written in the index.
+     * @return the version or {@code null} if the value is not a valid semantic version.
+     */
+    static SemanticVersion parseVersion(final String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return SemanticVersion.parse(value.charAt(0) == 'v' || value.charAt(0) == 'V' ? value.substring(1) : value);
+        } catch (final InvalidSemanticVersionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Skips the remainder of the node which starts with the supplied event. Scalars and aliases consist of a single
+     * event, whereas the events of mappings and sequences are consumed up to and including the matching end event.
+     *
+     * @param events the events positioned after the start event.
+     * @param start  the first event of the node.
+     * @throws IOException if the index ends unexpectedly.
+     */
+    private static void skip(final Iterator<Event> events, final Event start) throws IOException {
+        if (!start.is(Event.ID.MappingStart) && !start.is(Event.ID.SequenceStart)) {
+            return;
+        }
+
+        int depth = 1;
+        while (depth > 0) {
+            final Event event = next(events);
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+                depth++;
+            } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Determines whether the event is a scalar with the specified value.
+     *
+     * @param event the event to inspect.
+     * @param value the expected value.
+     * @return {@code true} if the event is a scalar holding the value; otherwise {@code false}.
+     */
+    private static boolean isScalar(final Event event, final String value) {
+        return event instanceof ScalarEvent scalar && value.equals(scalar.getValue());
+    }
+
+    /**
+     * Returns the next event of the index.
+     *
+     * @param events the events of the index.
+     * @return the next event.
+     * @throws IOException if the index ends unexpectedly.
+     */
+    private static Event next(final Iterator<Event> events) throws IOException {
+        if (!events.hasNext()) {
+            throw new IOException("Unexpected end of the repository index");
+        }
+
+        return events.next();
+    }
+
+    /**
+     * Creates the YAML parser. The index of a large chart repository easily exceeds the default code point limit.
+     *
+     * @return a new {@link Yaml} instance.
+     */
+    private static Yaml newYaml() {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        return new Yaml(new SafeConstructor(loaderOptions));
+    }
+}
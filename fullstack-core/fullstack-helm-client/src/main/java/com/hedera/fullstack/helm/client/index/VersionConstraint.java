@@ -0,0 +1,425 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.index;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A chart version constraint using the syntax accepted by the Helm CLI {@code --version} option. The following forms
+ * are supported and may be combined with spaces or commas (and) and {@code ||} (or):
+ * <ul>
+ *     <li>exact versions and wildcards: {@code 1.2.3}, {@code =1.2.3}, {@code 1.2.x}, {@code 1.2}, {@code *};</li>
+ *     <li>comparisons: {@code >1.2.3}, {@code >=1.2}, {@code <2}, {@code <=1.2.3}, {@code !=1.2.3};</li>
+ *     <li>tilde ranges, which allow patch updates: {@code ~1.2.3};</li>
+ *     <li>caret ranges, which allow updates that do not modify the left-most non-zero component: {@code ^1.2.3};</li>
+ *     <li>hyphen ranges: {@code 1.2 - 1.4.5}.</li>
+ * </ul>
+ * Versions may be prefixed with {@code v}. Pre-release versions only satisfy a constraint whose comparisons include a
+ * pre-release version, which matches the behaviour of the Helm CLI.
+ */
+public final class VersionConstraint {
+    /**
+     * The constraint satisfied by every version which is not a pre-release.
+     */
+    public static final VersionConstraint ANY = new VersionConstraint("*", List.of(new Group(List.of(), false)));
+
+    /**
+     * Matches a single comparison consisting of an optional operator and a partial version.
+     */
+    private static final Pattern COMPARISON_PATTERN = Pattern.compile("^(=|!=|>=|>|<=|<|~>|~|\\^)?\\s*v?"
+            + "(\\d+|[xX*])(?:\\.(\\d+|[xX*]))?(?:\\.(\\d+|[xX*]))?"
+            + "(?:-([\\dA-Za-z]+(?:\\.[\\dA-Za-z]+)*))?"
+            + "(?:\\+([\\dA-Za-z\\-]+(?:\\.[\\dA-Za-z\\-]+)*))?$");
+
+    /**
+     * Matches the separator of a hyphen range, which must be surrounded by whitespace.
+     */
+    private static final Pattern HYPHEN_PATTERN = Pattern.compile("\\s+-\\s+");
+
+    /**
+     * The constraint as supplied by the caller.
+     */
+    private final String text;
+
+    /**
+     * The alternatives of the constraint, any of which must be satisfied.
+     */
+    private final List<Group> groups;
+
+    private VersionConstraint(final String text, final List<Group> groups) {
+        this.text = text;
+        this.groups = groups;
+    }
+
+    /**
+     * Parses a version constraint.
+     *
+     * @param constraint the constraint to parse.
+     * @return the parsed constraint.
+     * @throws NullPointerException     if {@code constraint} is {@code null}.
+     * @throws IllegalArgumentException if {@code constraint} is not a valid version constraint.
+     */
+    public static VersionConstraint parse(final String constraint) {
+        Objects.requireNonNull(constraint, "constraint must not be null");
+
+        final List<Group> groups = new ArrayList<>();
+        for (final String alternative : constraint.split("\\|\\|", -1)) {
+            groups.add(parseGroup(constraint, alternative.trim()));
+        }
+
+        return new VersionConstraint(constraint.trim(), List.copyOf(groups));
+    }
+
+    /**
+     * Determines whether the version satisfies the constraint.
+     *
+     * @param version the version to check.
+     * @return {@code true} if the version satisfies the constraint; otherwise {@code false}.
+     * @throws NullPointerException if {@code version} is {@code null}.
+     */
+    public boolean matches(final SemanticVersion version) {
+        Objects.requireNonNull(version, "version must not be null");
+
+        for (final Group group : groups) {
+            if (group.matches(version)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VersionConstraint that)) return false;
+        return text.equals(that.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    /**
+     * Parses the comparisons of a single alternative, all of which must be satisfied.
+     *
+     * @param constraint  the complete constraint, used for error reporting.
+     * @param alternative the alternative to parse.
+     * @return the parsed alternative.
+     */
+    private static Group parseGroup(final String constraint, final String alternative) {
+        final List<Bound> bounds = new ArrayList<>();
+        final String[] range = HYPHEN_PATTERN.split(alternative, -1);
+
+        if (range.length == 2) {
+            final Partial lower = parsePartial(constraint, range[0].trim());
+            final Partial upper = parsePartial(constraint, range[1].trim());
+            if (lower.operator != null || upper.operator != null) {
+                throw invalid(constraint);
+            }
+
+            bounds.add(new Bound(Operator.GTE, lower.floor()));
+            addUpperInclusive(bounds, upper);
+        } else if (range.length > 2) {
+            throw invalid(constraint);
+        } else {
+            for (final String comparison : tokenize(constraint, alternative)) {
+                addBounds(constraint, bounds, parsePartial(constraint, comparison));
+            }
+        }
+
+        final boolean prerelease = bounds.stream().anyMatch(b -> VersionPrecedence.isPrerelease(b.version()));
+        return new Group(List.copyOf(bounds), prerelease);
+    }
+
+    /**
+     * Splits an alternative into comparisons, joining operators which are separated from their version by whitespace.
+     *
+     * @param constraint  the complete constraint, used for error reporting.
+     * @param alternative the alternative to split.
+     * @return the comparisons.
+     */
+    private static List<String> tokenize(final String constraint, final String alternative) {
+        final List<String> tokens = new ArrayList<>();
+        String pendingOperator = null;
+        for (final String token : alternative.split("[\\s,]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            if (token.chars().allMatch(c -> "=!<>~^".indexOf(c) >= 0)) {
+                if (pendingOperator != null) {
+                    throw invalid(constraint);
+                }
+
+                pendingOperator = token;
+                continue;
+            }
+
+            tokens.add(pendingOperator != null ? pendingOperator + token : token);
+            pendingOperator = null;
+        }
+
+        if (pendingOperator != null) {
+            throw invalid(constraint);
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Translates a comparison into the equivalent lower and upper bounds.
+     *
+     * @param constraint the complete constraint, used for error reporting.
+     * @param bounds     the bounds to which the translated bounds are added.
+     * @param p          the comparison to translate.
+     */
+    private static void addBounds(final String constraint, final List<Bound> bounds, final Partial p) {
+        final String operator = p.operator == null ? "=" : p.operator;
+        switch (operator) {
+            case "=" -> {
+                if (p.isWildcard()) {
+                    return;
+                }
+
+                if (p.isComplete()) {
+                    bounds.add(new Bound(Operator.EQ, p.floor()));
+                } else {
+                    bounds.add(new Bound(Operator.GTE, p.floor()));
+                    bounds.add(new Bound(Operator.LT, p.next()));
+                }
+            }
+            case "!=" -> {
+                if (!p.isComplete()) {
+                    throw invalid(constraint);
+                }
+
+                bounds.add(new Bound(Operator.NEQ, p.floor()));
+            }
+            case ">" -> {
+                if (p.isWildcard()) {
+                    bounds.add(new Bound(Operator.LT, SemanticVersion.ZERO));
+                } else if (p.isComplete()) {
+                    bounds.add(new Bound(Operator.GT, p.floor()));
+                } else {
+                    bounds.add(new Bound(Operator.GTE, p.next()));
+                }
+            }
+            case ">=" -> bounds.add(new Bound(Operator.GTE, p.floor()));
+            case "<" -> bounds.add(new Bound(Operator.LT, p.floor()));
+            case "<=" -> {
+                if (!p.isWildcard()) {
+                    addUpperInclusive(bounds, p);
+                }
+            }
+            case "~", "~>" -> {
+                bounds.add(new Bound(Operator.GTE, p.floor()));
+                if (!p.isWildcard()) {
+                    bounds.add(new Bound(Operator.LT, p.next()));
+                }
+            }
+            case "^" -> {
+                bounds.add(new Bound(Operator.GTE, p.floor()));
+                if (p.isWildcard()) {
+                    return;
+                }
+
+                if (p.major > 0 || p.minor == null) {
+                    bounds.add(new Bound(Operator.LT, bump(p.major + 1, 0, 0)));
+                } else if (p.minor > 0 || p.patch == null) {
+                    bounds.add(new Bound(Operator.LT, bump(0, p.minor + 1, 0)));
+                } else {
+                    bounds.add(new Bound(Operator.LT, bump(0, 0, p.patch + 1)));
+                }
+            }
+            default -> throw invalid(constraint);
+        }
+    }
+
+    /**
+     * Adds the bound which includes every version matching the partial version.
+     *
+     * @param bounds the bounds to which the upper bound is added.
+     * @param p      the inclusive upper bound.
+     */
+    private static void addUpperInclusive(final List<Bound> bounds, final Partial p) {
+        if (p.isComplete()) {
+            bounds.add(new Bound(Operator.LTE, p.floor()));
+        } else if (!p.isWildcard()) {
+            bounds.add(new Bound(Operator.LT, p.next()));
+        }
+    }
+
+    /**
+     * Parses a single comparison.
+     *
+     * @param constraint the complete constraint, used for error reporting.
+     * @param comparison the comparison to parse.
+     * @return the parsed comparison.
+     */
+    private static Partial parsePartial(final String constraint, final String comparison) {
+        if (comparison.isEmpty()) {
+            return new Partial(null, null, null, null, "");
+        }
+
+        final Matcher matcher = COMPARISON_PATTERN.matcher(comparison);
+        if (!matcher.matches()) {
+            throw invalid(constraint);
+        }
+
+        try {
+            final Integer major = component(matcher.group(2));
+            final Integer minor = major == null ? null : component(matcher.group(3));
+            final Integer patch = minor == null ? null : component(matcher.group(4));
+            final String prerelease = matcher.group(5) == null ? "" : matcher.group(5);
+            return new Partial(matcher.group(1), major, minor, patch, patch == null ? "" : prerelease);
+        } catch (final NumberFormatException e) {
+            throw invalid(constraint);
+        }
+    }
+
+    /**
+     * Parses a version component.
+     *
+     * @param component the component or {@code null} if the component is missing.
+     * @return the numeric component or {@code null} if the component is missing or a wildcard.
+     */
+    private static Integer component(final String component) {
+        if (component == null || component.equals("x") || component.equals("X") || component.equals("*")) {
+            return null;
+        }
+
+        return Integer.parseInt(component);
+    }
+
+    /**
+     * Creates a version without pre-release and build information.
+     *
+     * @param major the major component.
+     * @param minor the minor component.
+     * @param patch the patch component.
+     * @return the version.
+     */
+    private static SemanticVersion bump(final int major, final int minor, final int patch) {
+        return new SemanticVersion(major, minor, patch, "", "");
+    }
+
+    /**
+     * Creates the exception thrown for an invalid constraint.
+     *
+     * @param constraint the invalid constraint.
+     * @return the exception.
+     */
+    private static IllegalArgumentException invalid(final String constraint) {
+        return new IllegalArgumentException(
+                String.format("The supplied constraint '%s' is not a valid version constraint", constraint));
+    }
+
+    /**
+     * The comparison operators to which every constraint is reduced.
+     */
+    private enum Operator {
+        EQ,
+        NEQ,
+        GT,
+        GTE,
+        LT,
+        LTE
+    }
+
+    /**
+     * A single comparison against a complete version.
+     *
+     * @param operator the comparison operator.
+     * @param version  the version to compare against.
+     */
+    private record Bound(Operator operator, SemanticVersion version) {
+        boolean matches(final SemanticVersion candidate) {
+            final int result = VersionPrecedence.INSTANCE.compare(candidate, version);
+            return switch (operator) {
+                case EQ -> result == 0;
+                case NEQ -> result != 0;
+                case GT -> result > 0;
+                case GTE -> result >= 0;
+                case LT -> result < 0;
+                case LTE -> result <= 0;
+            };
+        }
+    }
+
+    /**
+     * A set of bounds which must all be satisfied.
+     *
+     * @param bounds     the bounds.
+     * @param prerelease whether any of the bounds refers to a pre-release version, in which case pre-release versions
+     *                   may satisfy the group.
+     */
+    private record Group(List<Bound> bounds, boolean prerelease) {
+        boolean matches(final SemanticVersion version) {
+            if (!prerelease && VersionPrecedence.isPrerelease(version)) {
+                return false;
+            }
+
+            for (final Bound bound : bounds) {
+                if (!bound.matches(version)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * A version in which trailing components may be missing or wildcards.
+     *
+     * @param operator   the operator preceding the version or {@code null} if there is none.
+     * @param major      the major component or {@code null} if it is a wildcard.
+     * @param minor      the minor component or {@code null} if it is missing or a wildcard.
+     * @param patch      the patch component or {@code null} if it is missing or a wildcard.
+     * @param prerelease the pre-release suffix, which is only retained for complete versions.
+     */
+    private record Partial(String operator, Integer major, Integer minor, Integer patch, String prerelease) {
+        boolean isWildcard() {
+            return major == null;
+        }
+
+        boolean isComplete() {
+            return patch != null;
+        }
+
+        SemanticVersion floor() {
+            return new SemanticVersion(
+                    major == null ? 0 : major, minor == null ? 0 : minor, patch == null ? 0 : patch, prerelease, "");
+        }
+
+        SemanticVersion next() {
+            return minor == null ? bump(major + 1, 0, 0) : bump(major, minor + 1, 0);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.index;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import java.util.Comparator;
+
+/**
+ * Orders {@link SemanticVersion} instances by their precedence as defined by the Semantic Versioning 2.0.0
+ * specification: a pre-release version has a lower precedence than the associated normal version, pre-release
+ * identifiers are compared numerically or lexically depending on their content, and build metadata is ignored.
+ */
+final class VersionPrecedence implements Comparator<SemanticVersion> {
+    /**
+     * The singleton instance.
+     */
+    static final VersionPrecedence INSTANCE = new VersionPrecedence();
+
+    private VersionPrecedence() {}
+
+    @Override
+    public int compare(final SemanticVersion a, final SemanticVersion b) {
+        int result = Integer.compare(a.major(), b.major());
+        if (result != 0) {
+            return result;
+        }
+
+        result = Integer.compare(a.minor(), b.minor());
+        if (result != 0) {
+            return result;
+        }
+
+        result = Integer.compare(a.patch(), b.patch());
+        if (result != 0) {
+            return result;
+        }
+
+        return comparePrerelease(a.prerelease(), b.prerelease());
+    }
+
+    /**
+     * Returns whether the version carries a pre-release suffix.
+     *
+     * @param version the version to check.
+     * @return {@code true} if the version is a pre-release; otherwise {@code false}.
+     */
+    static boolean isPrerelease(final SemanticVersion version) {
+        return version.prerelease() != null && !version.prerelease().isEmpty();
+    }
+
+    /**
+     * Compares two pre-release suffixes, treating a missing suffix as higher than any suffix.
+     *
+     * @param a the first suffix, which may be empty.
+     * @param b the second suffix, which may be empty.
+     * @return the result of the comparison.
+     */
+    private static int comparePrerelease(final String a, final String b) {
+        final boolean aEmpty = a == null || a.isEmpty();
+        final boolean bEmpty = b == null || b.isEmpty();
+        if (aEmpty || bEmpty) {
+            return Boolean.compare(aEmpty, bEmpty);
+        }
+
+        final String[] aIds = a.split("\\.");
+        final String[] bIds = b.split("\\.");
+        for (int i = 0; i < Math.min(aIds.length, bIds.length); i++) {
+            final int result = compareIdentifier(aIds[i], bIds[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return Integer.compare(aIds.length, bIds.length);
+    }
+
+    /**
+     * Compares two pre-release identifiers. Numeric identifiers are compared numerically and always have a lower
+     * precedence than alphanumeric identifiers, which are compared lexically in ASCII order.
+     *
+     * @param a the first identifier.
+     * @param b the second identifier.
+     * @return the result of the comparison.
+     */
+    private static int compareIdentifier(final String a, final String b) {
+        final boolean aNumeric = isNumeric(a);
+        final boolean bNumeric = isNumeric(b);
+        if (aNumeric && bNumeric) {
+            // compare by length first so that arbitrarily large identifiers do not overflow
+            final int result = Integer.compare(a.length(), b.length());
+            return result != 0 ? result : a.compareTo(b);
+        }
+
+        if (aNumeric != bNumeric) {
+            return aNumeric ? -1 : 1;
+        }
+
+        return a.compareTo(b);
+    }
+
+    /**
+     * Determines whether the identifier consists of digits only.
+     *
+     * @param identifier the identifier to check.
+     * @return {@code true} if the identifier is numeric; otherwise {@code false}.
+     */
+    private static boolean isNumeric(final String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            if (!Character.isDigit(identifier.charAt(i))) {
+                return false;
+            }
+        }
+
+        return !identifier.isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model;
+
+import com.hedera.fullstack.base.api.version.InvalidSemanticVersionException;
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import java.util.Objects;
+
+/**
+ * Identifies a specific version of a chart published in a chart repository.
+ *
+ * @param repository the name of a chart repository added with {@code helm repo add} or the URL of a chart repository.
+ * @param name       the name of the chart within the repository.
+ * @param version    the exact version of the chart.
+ */
+public record ChartReference(String repository, String name, String version) {
+
+    /**
+     * Creates a new {@link ChartReference} instance.
+     *
+     * @throws NullPointerException     if any argument is {@code null}.
+     * @throws IllegalArgumentException if any argument is blank.
+     */
+    public ChartReference {
+        Objects.requireNonNull(repository, "repository must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(version, "version must not be null");
+
+        if (repository.isBlank() || name.isBlank() || version.isBlank()) {
+            throw new IllegalArgumentException("repository, name and version must not be blank");
+        }
+    }
+
+    /**
+     * Creates a reference for a chart which is installed either from a repository added with {@code helm repo add} or
+     * from the repository URL passed with the {@code --repo} option. Only charts pinned to an exact version can be
+     * referenced, since a missing version or a version range may resolve to a different chart over time.
+     *
+     * @param chart   the chart to install.
+     * @param repoUrl the URL passed with the {@code --repo} option or {@code null} if the option is not used.
+     * @param version the version passed with the {@code --version} option or {@code null} if the option is not used.
+     * @return the reference or {@code null} if the chart is not published in a repository or its version is not exact.
+     * @throws NullPointerException if {@code chart} is {@code null}.
+     */
+    public static ChartReference of(final Chart chart, final String repoUrl, final String version) {
+        Objects.requireNonNull(chart, "chart must not be null");
+
+        if (version == null || !isExactVersion(version) || chart.name() == null || chart.name().isBlank()) {
+            return null;
+        }
+
+        if (repoUrl != null && !repoUrl.isBlank()) {
+            return new ChartReference(repoUrl, chart.unqualified(), version.trim());
+        }
+
+        if (chart.repoName() != null && !chart.repoName().isBlank()) {
+            return new ChartReference(chart.repoName(), chart.name(), version.trim());
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns whether the {@link #repository()} is the URL of a chart repository rather than the name of a repository
+     * added with {@code helm repo add}.
+     *
+     * @return {@code true} if the repository is a URL; otherwise {@code false}.
+     */
+    public boolean isRepositoryUrl() {
+        return repository.contains("://");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s/%s:%s", repository, name, version);
+    }
+
+    /**
+     * Determines whether the version is an exact semantic version, optionally prefixed with {@code v}, rather than a
+     * version constraint.
+     *
+     * @param version the version to check.
+     * @return {@code true} if the version is exact; otherwise {@code false}.
+     */
+    private static boolean isExactVersion(final String version) {
+        final String trimmed = version.trim();
+        try {
+            SemanticVersion.parse(trimmed.startsWith("v") ? trimmed.substring(1) : trimmed);
+            return true;
+        } catch (final InvalidSemanticVersionException e) {
+            return false;
+        }
+    }
+}
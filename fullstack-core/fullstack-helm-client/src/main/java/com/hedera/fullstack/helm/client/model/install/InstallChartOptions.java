@@ -89,6 +89,22 @@ public record InstallChartOptions(
 
         builder.argument("output", "json");
 
+        applyArguments(builder);
+    }
+
+    /**
+     * Applies the options to a Helm CLI {@code template} sub-command. The {@code template} sub-command accepts the same
+     * flags and arguments as the {@code install} sub-command except for {@code --output}, because it always writes the
+     * rendered manifests as YAML.
+     *
+     * @param builder the builder to which the options are applied.
+     */
+    public void applyToTemplate(final HelmExecutionBuilder builder) {
+        applyFlags(builder);
+        applyArguments(builder);
+    }
+
+    private void applyArguments(final HelmExecutionBuilder builder) {
         if (password() != null) {
             builder.argument("password", password());
         }
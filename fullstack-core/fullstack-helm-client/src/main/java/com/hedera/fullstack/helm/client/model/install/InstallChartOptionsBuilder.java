@@ -51,6 +51,33 @@ public final class InstallChartOptionsBuilder {
         return new InstallChartOptionsBuilder();
     }
 
+    /**
+     * Returns an instance of the InstallChartOptionsBuilder initialized with the values of the supplied options.
+     *
+     * @param options the options from which the values are copied.
+     * @return the InstallChartOptionsBuilder.
+     */
+    public static InstallChartOptionsBuilder from(InstallChartOptions options) {
+        return new InstallChartOptionsBuilder()
+                .atomic(options.atomic())
+                .createNamespace(options.createNamespace())
+                .dependencyUpdate(options.dependencyUpdate())
+                .description(options.description())
+                .enableDNS(options.enableDNS())
+                .force(options.force())
+                .passCredentials(options.passCredentials())
+                .password(options.password())
+                .repo(options.repo())
+                .set(options.set())
+                .skipCrds(options.skipCrds())
+                .timeout(options.timeout())
+                .username(options.username())
+                .values(options.values())
+                .verify(options.verify())
+                .version(options.version())
+                .waitFor(options.waitFor());
+    }
+
     /**
      * if set, the installation process deletes the installation on failure. The --wait flag will be set automatically
      * if --atomic is used.
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.install;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import com.hedera.fullstack.helm.client.model.Chart;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Computes a stable digest of the inputs which determine the content of a Helm release: the chart reference, the chart
+ * repository, the chart version and the {@code --set} and {@code --values} options. The digest is recorded in the
+ * description of the release so that an unchanged release can be detected without executing the Helm CLI
+ * {@code upgrade} sub-command.
+ * <p>
+ * The contents of local values files and local charts, either a chart directory or a packaged chart archive, are part
+ * of the digest. Remote values files and charts are identified by their reference only, therefore a remote chart
+ * should be pinned to a specific {@link InstallChartOptions#version()}.
+ */
+public final class ReleaseDigest {
+    /**
+     * The prefix which identifies the digest within the description of a release.
+     */
+    public static final String DESCRIPTION_PREFIX = "fullstack-digest=sha256:";
+
+    /**
+     * The pattern which extracts the digest from the description of a release.
+     */
+    private static final Pattern DESCRIPTION_PATTERN =
+            Pattern.compile(Pattern.quote(DESCRIPTION_PREFIX) + "([0-9a-f]{64})");
+
+    private ReleaseDigest() {}
+
+    /**
+     * Computes the digest of the chart and the options which affect the content of the release.
+     *
+     * @param chart         the chart which is installed.
+     * @param options       the options passed to the Helm CLI command.
+     * @param baseDirectory the directory against which relative paths of local charts and values files are resolved.
+     * @return the hexadecimal SHA-256 digest.
+     * @throws NullPointerException       if any argument is {@code null}.
+     * @throws HelmConfigurationException if a local chart or values file cannot be read.
+     */
+    public static String compute(final Chart chart, final InstallChartOptions options, final Path baseDirectory) {
+        Objects.requireNonNull(chart, "chart must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        Objects.requireNonNull(baseDirectory, "baseDirectory must not be null");
+
+        final MessageDigest md = CacheFileUtils.newSha256();
+        final boolean hasRepo = options.repo() != null && !options.repo().isBlank();
+        final String chartReference = hasRepo ? chart.unqualified() : chart.qualified();
+
+        update(md, "chart", chartReference);
+        update(md, "repo", options.repo());
+        update(md, "version", options.version());
+        if (!hasRepo) {
+            updateWithLocalContent(md, "chart-content", chartReference, baseDirectory);
+        }
+
+        final List<String> set = options.set() == null ? List.of() : options.set();
+        for (final String value : set) {
+            update(md, "set", value);
+        }
+
+        final List<String> values = options.values() == null ? List.of() : options.values();
+        for (final String value : values) {
+            update(md, "values", value);
+            updateWithLocalContent(md, "values-content", value, baseDirectory);
+        }
+
+        return CacheFileUtils.toHex(md);
+    }
+
+    /**
+     * Appends the digest to the description of the release.
+     *
+     * @param description the description supplied by the caller or {@code null} if none was supplied.
+     * @param digest      the digest of the release.
+     * @return the description which records the digest.
+     * @throws NullPointerException if {@code digest} is {@code null}.
+     */
+    public static String describe(final String description, final String digest) {
+        Objects.requireNonNull(digest, "digest must not be null");
+        final String marker = DESCRIPTION_PREFIX + digest;
+        return description == null || description.isBlank() ? marker : description.strip() + " " + marker;
+    }
+
+    /**
+     * Extracts the digest recorded by {@link #describe(String, String)} from the description of a release.
+     *
+     * @param description the description of the release, which may be {@code null}.
+     * @return the digest or {@code null} if the description does not record a digest.
+     */
+    public static String extract(final String description) {
+        if (description == null) {
+            return null;
+        }
+
+        final Matcher matcher = DESCRIPTION_PATTERN.matcher(description);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Adds a named value to the digest. Each value is length prefixed so that adjacent values cannot be confused.
+     *
+     * @param md    the digest to update.
+     * @param name  the name of the value.
+     * @param value the value, which may be {@code null}.
+     */
+    private static void update(final MessageDigest md, final String name, final String value) {
+        final String entry = value == null ? name + ":-" : name + ":" + value.length() + ":" + value;
+        md.update(entry.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) '\n');
+    }
+
+    /**
+     * Adds the content of a local file, or of every file within a local directory, to the digest. References which do
+     * not resolve to a local file, such as URLs or repository charts, are ignored.
+     *
+     * @param md            the digest to update.
+     * @param name          the name of the value.
+     * @param reference     the reference which may identify a local file or directory.
+     * @param baseDirectory the directory against which a relative reference is resolved.
+     * @throws HelmConfigurationException if the local file or directory cannot be read.
+     */
+    private static void updateWithLocalContent(
+            final MessageDigest md, final String name, final String reference, final Path baseDirectory) {
+        if (reference.contains("://")) {
+            return;
+        }
+
+        final Path path;
+        try {
+            path = baseDirectory.resolve(reference);
+        } catch (final RuntimeException e) {
+            // not a valid path on this file system, therefore it cannot be a local file
+            return;
+        }
+
+        try {
+            if (Files.isRegularFile(path)) {
+                update(md, name, "file");
+                updateWithFile(md, path);
+            } else if (Files.isDirectory(path)) {
+                update(md, name, "directory");
+                try (final Stream<Path> files = Files.walk(path)) {
+                    final List<Path> sorted = files.filter(Files::isRegularFile).sorted().toList();
+                    for (final Path file : sorted) {
+                        update(md, "file", path.relativize(file).toString().replace('\\', '/'));
+                        updateWithFile(md, file);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            throw new HelmConfigurationException("Failed to read the local content of " + reference, e);
+        }
+    }
+
+    /**
+     * Adds the size and content of a file to the digest.
+     *
+     * @param md   the digest to update.
+     * @param file the file to read.
+     * @throws IOException if the file cannot be read.
+     */
+    private static void updateWithFile(final MessageDigest md, final Path file) throws IOException {
+        update(md, "size", Long.toString(Files.size(file)));
+        CacheFileUtils.update(md, file);
+    }
+}
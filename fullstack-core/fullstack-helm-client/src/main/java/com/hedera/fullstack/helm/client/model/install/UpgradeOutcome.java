@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.install;
+
+/**
+ * The action taken by {@link com.hedera.fullstack.helm.client.HelmClient#upgradeOrInstall} for a release.
+ */
+public enum UpgradeOutcome {
+    /**
+     * The release was already deployed with the same chart and values; the Helm CLI was not invoked.
+     */
+    SKIPPED,
+
+    /**
+     * The release did not exist and was installed.
+     */
+    INSTALLED,
+
+    /**
+     * The release existed but its chart or values had changed, or its last deployment had not succeeded, and it was
+     * upgraded.
+     */
+    UPGRADED
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.install;
+
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import java.util.Objects;
+
+/**
+ * The result of {@link com.hedera.fullstack.helm.client.HelmClient#upgradeOrInstall}.
+ *
+ * @param releaseName the name of the release.
+ * @param outcome     the action taken for the release.
+ * @param digest      the digest of the chart and values of the release, see {@link ReleaseDigest}.
+ * @param release     the deployed release as reported by the Helm CLI {@code status} sub-command when the release was
+ *                    skipped, or by the {@code upgrade} sub-command otherwise.
+ */
+public record UpgradeResult(String releaseName, UpgradeOutcome outcome, String digest, Release release) {
+
+    /**
+     * Creates a new {@link UpgradeResult} instance.
+     *
+     * @throws NullPointerException if {@code releaseName}, {@code outcome} or {@code digest} is {@code null}.
+     */
+    public UpgradeResult {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(outcome, "outcome must not be null");
+        Objects.requireNonNull(digest, "digest must not be null");
+    }
+
+    /**
+     * Returns whether the Helm CLI was invoked to install or upgrade the release.
+     *
+     * @return {@code true} if the release was installed or upgraded; otherwise {@code false} if it was skipped.
+     */
+    public boolean applied() {
+        return outcome != UpgradeOutcome.SKIPPED;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.manifest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A Kubernetes resource parsed from a manifest rendered or deployed by Helm.
+ *
+ * @param apiVersion the API version of the resource or {@code null} if the document does not declare one.
+ * @param kind       the kind of the resource or {@code null} if the document does not declare one.
+ * @param name       the name of the resource or {@code null} if the document has no {@code metadata.name}.
+ * @param namespace  the namespace of the resource or {@code null} if the document has no {@code metadata.namespace},
+ *                   which is common for resources deployed to the namespace of the release.
+ * @param content    the complete document as an unmodifiable map of the top-level fields. Nested mappings and
+ *                   sequences are represented by {@link Map} and {@link java.util.List} instances.
+ */
+public record KubernetesResource(
+        String apiVersion, String kind, String name, String namespace, Map<String, Object> content) {
+
+    /**
+     * Creates a new {@link KubernetesResource} instance.
+     *
+     * @throws NullPointerException if {@code content} is {@code null}.
+     */
+    public KubernetesResource {
+        Objects.requireNonNull(content, "content must not be null");
+        content = Collections.unmodifiableMap(new LinkedHashMap<>(content));
+    }
+
+    /**
+     * Creates a resource from a parsed YAML document, extracting the identifying fields.
+     *
+     * @param document the parsed document.
+     * @return the resource.
+     * @throws NullPointerException if {@code document} is {@code null}.
+     */
+    public static KubernetesResource of(final Map<?, ?> document) {
+        Objects.requireNonNull(document, "document must not be null");
+
+        final Map<String, Object> content = new LinkedHashMap<>();
+        document.forEach((key, value) -> content.put(String.valueOf(key), value));
+
+        final Object metadata = content.get("metadata");
+        final Map<?, ?> metadataMap = metadata instanceof Map<?, ?> m ? m : Map.of();
+        return new KubernetesResource(
+                stringValue(content.get("apiVersion")),
+                stringValue(content.get("kind")),
+                stringValue(metadataMap.get("name")),
+                stringValue(metadataMap.get("namespace")),
+                content);
+    }
+
+    /**
+     * Returns whether the resource is of the specified kind.
+     *
+     * @param kind the kind to compare, such as {@code StatefulSet}.
+     * @return {@code true} if the resource is of the specified kind; otherwise {@code false}.
+     */
+    public boolean isKind(final String kind) {
+        return Objects.equals(this.kind, kind);
+    }
+
+    /**
+     * Converts a scalar value to a string.
+     *
+     * @param value the value, which may be {@code null}.
+     * @return the string representation of the value or {@code null} if the value is {@code null}.
+     */
+    private static String stringValue(final Object value) {
+        return value == null ? null : String.valueOf(value);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.manifest;
+
+import static com.hedera.fullstack.base.api.util.ExceptionUtils.suppressExceptions;
+
+import com.hedera.fullstack.helm.client.HelmParserException;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Incrementally parses a multi-document YAML manifest into {@link KubernetesResource} instances. Each document is only
+ * read from the underlying stream and parsed when the iterator is advanced, therefore the memory used is bounded by
+ * the size of the largest document rather than the size of the manifest. Empty documents, such as those produced by
+ * templates which rendered nothing, are skipped.
+ * <p>
+ * The reader closes the underlying stream once the last document has been read or a document fails to parse. A reader
+ * which is not consumed completely should be closed explicitly.
+ */
+public final class KubernetesResourceReader implements Iterator<KubernetesResource>, AutoCloseable {
+    /**
+     * The reader from which the documents are read.
+     */
+    private final Reader reader;
+
+    /**
+     * The lazily parsed documents.
+     */
+    private final Iterator<Object> documents;
+
+    /**
+     * The resource which will be returned by the next call to {@link #next()} or {@code null} if it has not been parsed
+     * yet.
+     */
+    private KubernetesResource nextResource;
+
+    /**
+     * Whether the reader has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a new reader over a UTF-8 encoded stream.
+     *
+     * @param stream the stream containing the manifest, which is closed by the reader.
+     * @throws NullPointerException if {@code stream} is {@code null}.
+     */
+    public KubernetesResourceReader(final InputStream stream) {
+        this(new InputStreamReader(Objects.requireNonNull(stream, "stream must not be null"), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a new reader over a character stream.
+     *
+     * @param reader the reader containing the manifest, which is closed by this reader.
+     * @throws NullPointerException if {@code reader} is {@code null}.
+     */
+    public KubernetesResourceReader(final Reader reader) {
+        Objects.requireNonNull(reader, "reader must not be null");
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+
+        final LoaderOptions options = new LoaderOptions();
+        // the manifest of a large release easily exceeds the default limit, which guards against untrusted input
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        this.documents = new Yaml(new SafeConstructor(options)).loadAll(this.reader).iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextResource == null && !closed) {
+            try {
+                if (!documents.hasNext()) {
+                    close();
+                    return false;
+                }
+
+                if (documents.next() instanceof Map<?, ?> document && !document.isEmpty()) {
+                    nextResource = KubernetesResource.of(document);
+                }
+            } catch (final YAMLException e) {
+                close();
+                throw new HelmParserException("Failed to parse the Kubernetes manifest", e);
+            }
+        }
+
+        return nextResource != null;
+    }
+
+    @Override
+    public KubernetesResource next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final KubernetesResource resource = nextResource;
+        nextResource = null;
+        return resource;
+    }
+
+    /**
+     * Returns a sequential stream over the remaining resources which closes this reader when the stream is closed.
+     *
+     * @return a lazy stream over the resources.
+     */
+    public Stream<KubernetesResource> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Closes the underlying stream. Any resource which has already been parsed is still returned by {@link #next()}.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            suppressExceptions(reader::close);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.manifest;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The Kubernetes manifests rendered by the Helm CLI {@code template} sub-command for a release.
+ *
+ * @param releaseName the name of the release for which the chart was rendered.
+ * @param content     the rendered multi-document YAML exactly as written by the Helm CLI.
+ */
+public record RenderedManifest(String releaseName, String content) {
+
+    /**
+     * The marker which separates the documents of a multi-document YAML stream.
+     */
+    private static final String DOCUMENT_SEPARATOR = "---";
+
+    /**
+     * Creates a new {@link RenderedManifest} instance.
+     *
+     * @throws NullPointerException if {@code releaseName} or {@code content} is {@code null}.
+     */
+    public RenderedManifest {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(content, "content must not be null");
+    }
+
+    /**
+     * Splits the rendered content into its YAML documents. Documents which only contain comments or whitespace, such as
+     * the output of a template which rendered nothing, are omitted.
+     *
+     * @return an unmodifiable list of the documents in the order they were rendered.
+     */
+    public List<String> documents() {
+        final List<String> documents = new ArrayList<>();
+        final StringBuilder current = new StringBuilder();
+        boolean hasContent = false;
+
+        for (final String line : (Iterable<String>) content.lines()::iterator) {
+            if (isSeparator(line)) {
+                if (hasContent) {
+                    documents.add(current.toString());
+                }
+
+                current.setLength(0);
+                hasContent = false;
+                continue;
+            }
+
+            current.append(line).append('\n');
+            final String trimmed = line.strip();
+            hasContent |= !trimmed.isEmpty() && !trimmed.startsWith("#");
+        }
+
+        if (hasContent) {
+            documents.add(current.toString());
+        }
+
+        return Collections.unmodifiableList(documents);
+    }
+
+    /**
+     * Parses the rendered content into Kubernetes resources. Documents are parsed one at a time as the stream is
+     * consumed.
+     *
+     * @return a lazy stream over the resources in the order they were rendered.
+     * @throws com.hedera.fullstack.helm.client.HelmParserException if a document is not valid YAML, when the stream
+     *                                                              is consumed.
+     */
+    public Stream<KubernetesResource> resources() {
+        return new KubernetesResourceReader(new StringReader(content)).stream();
+    }
+
+    /**
+     * Returns whether the chart rendered no resources.
+     *
+     * @return {@code true} if the manifest contains no documents; otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return documents().isEmpty();
+    }
+
+    /**
+     * Determines whether the line starts a new YAML document.
+     *
+     * @param line the line to test.
+     * @return {@code true} if the line is a document separator; otherwise {@code false}.
+     */
+    private static boolean isSeparator(final String line) {
+        return line.startsWith(DOCUMENT_SEPARATOR)
+                && (line.length() == DOCUMENT_SEPARATOR.length()
+                        || Character.isWhitespace(line.charAt(DOCUMENT_SEPARATOR.length())));
+    }
+}
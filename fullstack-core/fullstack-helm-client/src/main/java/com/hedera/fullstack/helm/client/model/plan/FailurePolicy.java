@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+/**
+ * Determines what happens to the releases already installed by a {@link ReleasePlan} when one of its releases fails to
+ * install. In both cases no further releases are started once a failure has been observed and the releases which are
+ * already being installed are allowed to finish.
+ */
+public enum FailurePolicy {
+    /**
+     * Uninstalls every release installed by the plan, dependents before their dependencies, together with any release
+     * left behind in the {@code failed} state by an installation which failed.
+     */
+    ROLLBACK,
+
+    /**
+     * Leaves the installed releases in place so that the state of the cluster can be inspected.
+     */
+    LEAVE_INSTALLED
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A single release within a {@link ReleasePlan}.
+ *
+ * @param name      the name of the release.
+ * @param chart     the Helm chart to install.
+ * @param options   the options to pass to the Helm CLI {@code install} command.
+ * @param dependsOn the names of the releases which must be installed before this release.
+ */
+public record PlannedRelease(String name, Chart chart, InstallChartOptions options, Set<String> dependsOn) {
+    public PlannedRelease {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(chart, "chart must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        Objects.requireNonNull(dependsOn, "dependsOn must not be null");
+
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+
+        dependsOn = Set.copyOf(dependsOn);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+/**
+ * The final outcome of a single release within a {@link ReleasePlan}.
+ */
+public enum ReleaseOutcome {
+    /**
+     * The release was installed and remains installed.
+     */
+    INSTALLED,
+
+    /**
+     * The installation of the release failed.
+     */
+    FAILED,
+
+    /**
+     * The release was not installed because the plan failed before the release was started.
+     */
+    SKIPPED,
+
+    /**
+     * The release was installed and later uninstalled by the {@link FailurePolicy#ROLLBACK} policy.
+     */
+    ROLLED_BACK,
+
+    /**
+     * The release was installed but could not be uninstalled by the {@link FailurePolicy#ROLLBACK} policy.
+     */
+    ROLLBACK_FAILED
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of releases and the ordering constraints between them, installed by
+ * {@link com.hedera.fullstack.helm.client.HelmClient#installAll(ReleasePlan)}. Releases which do not depend on each
+ * other, directly or transitively, may be installed concurrently.
+ *
+ * @param releases       the releases in declaration order.
+ * @param maxParallelism the maximum number of releases installed at the same time.
+ * @param failurePolicy  the action taken when a release fails to install.
+ */
+public record ReleasePlan(List<PlannedRelease> releases, int maxParallelism, FailurePolicy failurePolicy) {
+    /**
+     * The maximum number of releases installed at the same time when not explicitly specified.
+     */
+    public static final int DEFAULT_MAX_PARALLELISM = 4;
+
+    /**
+     * Validates the plan.
+     *
+     * @throws NullPointerException     if {@code releases} or {@code failurePolicy} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxParallelism} is less than one, a release name is declared more than
+     *                                  once, a release depends on an undeclared release, or the dependencies contain a
+     *                                  cycle.
+     */
+    public ReleasePlan {
+        Objects.requireNonNull(releases, "releases must not be null");
+        Objects.requireNonNull(failurePolicy, "failurePolicy must not be null");
+
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("maxParallelism must be greater than zero");
+        }
+
+        releases = List.copyOf(releases);
+        validate(releases);
+    }
+
+    /**
+     * Creates a new {@link ReleasePlanBuilder} instance.
+     *
+     * @return a new {@link ReleasePlanBuilder} instance.
+     */
+    public static ReleasePlanBuilder builder() {
+        return ReleasePlanBuilder.builder();
+    }
+
+    /**
+     * Returns the release with the specified name.
+     *
+     * @param name the name of the release.
+     * @return the release with the specified name.
+     * @throws IllegalArgumentException if the plan does not contain a release with the specified name.
+     */
+    public PlannedRelease release(final String name) {
+        for (final PlannedRelease release : releases) {
+            if (release.name().equals(name)) {
+                return release;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown release: " + name);
+    }
+
+    /**
+     * Returns the names of the releases which directly depend on each release.
+     *
+     * @return an unmodifiable map of release names to the names of their direct dependents, in declaration order.
+     */
+    public Map<String, List<String>> dependents() {
+        final Map<String, List<String>> dependents = new LinkedHashMap<>();
+        for (final PlannedRelease release : releases) {
+            dependents.put(release.name(), new ArrayList<>());
+        }
+
+        for (final PlannedRelease release : releases) {
+            for (final String dependency : release.dependsOn()) {
+                dependents.get(dependency).add(release.name());
+            }
+        }
+
+        dependents.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return Collections.unmodifiableMap(dependents);
+    }
+
+    /**
+     * Returns the releases ordered so that each release appears after all of its dependencies. Releases without an
+     * ordering constraint between them retain their declaration order.
+     *
+     * @return an unmodifiable list of the releases in installation order.
+     */
+    public List<PlannedRelease> topologicalOrder() {
+        final Map<String, List<String>> dependents = dependents();
+        final Map<String, Integer> remaining = new HashMap<>();
+        final Deque<PlannedRelease> ready = new ArrayDeque<>();
+        for (final PlannedRelease release : releases) {
+            remaining.put(release.name(), release.dependsOn().size());
+            if (release.dependsOn().isEmpty()) {
+                ready.add(release);
+            }
+        }
+
+        final List<PlannedRelease> order = new ArrayList<>(releases.size());
+        while (!ready.isEmpty()) {
+            final PlannedRelease release = ready.poll();
+            order.add(release);
+            for (final String dependent : dependents.get(release.name())) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(release(dependent));
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(order);
+    }
+
+    /**
+     * Verifies that the release names are unique, that every dependency is declared, and that the dependencies are
+     * acyclic.
+     *
+     * @param releases the releases to validate.
+     * @throws IllegalArgumentException if the releases are not valid.
+     */
+    private static void validate(final List<PlannedRelease> releases) {
+        final Map<String, PlannedRelease> byName = new HashMap<>();
+        for (final PlannedRelease release : releases) {
+            if (byName.put(release.name(), release) != null) {
+                throw new IllegalArgumentException("Duplicate release: " + release.name());
+            }
+        }
+
+        for (final PlannedRelease release : releases) {
+            for (final String dependency : release.dependsOn()) {
+                if (!byName.containsKey(dependency)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Release '%s' depends on undeclared release '%s'", release.name(), dependency));
+                }
+            }
+        }
+
+        // depth-first search which reports the first cycle found: 0 = unvisited, 1 = on the stack, 2 = done
+        final Map<String, Integer> state = new HashMap<>();
+        for (final PlannedRelease release : releases) {
+            final List<String> path = new ArrayList<>();
+            if (hasCycle(release.name(), byName, state, path)) {
+                throw new IllegalArgumentException(
+                        "Release dependencies contain a cycle: " + String.join(" -> ", path));
+            }
+        }
+    }
+
+    /**
+     * Visits the supplied release and its dependencies depth first, looking for a dependency which is still on the
+     * stack of the search.
+     *
+     * @param name   the name of the release to visit.
+     * @param byName the releases of the plan keyed by name.
+     * @param state  the state of each visited release: {@code 1} while on the stack and {@code 2} once done.
+     * @param path   the names of the releases on the stack, which is reduced to the cycle when one is found.
+     * @return {@code true} if a cycle was found; otherwise {@code false}.
+     */
+    private static boolean hasCycle(
+            final String name,
+            final Map<String, PlannedRelease> byName,
+            final Map<String, Integer> state,
+            final List<String> path) {
+        final int current = state.getOrDefault(name, 0);
+        if (current == 2) {
+            return false;
+        }
+
+        path.add(name);
+        if (current == 1) {
+            path.subList(0, path.indexOf(name)).clear();
+            return true;
+        }
+
+        state.put(name, 1);
+        for (final String dependency : byName.get(name).dependsOn()) {
+            if (hasCycle(dependency, byName, state, path)) {
+                return true;
+            }
+        }
+
+        state.put(name, 2);
+        path.remove(path.size() - 1);
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The builder for the {@link ReleasePlan}.
+ */
+public final class ReleasePlanBuilder {
+    private final List<PlannedRelease> releases = new ArrayList<>();
+    private int maxParallelism = ReleasePlan.DEFAULT_MAX_PARALLELISM;
+    private FailurePolicy failurePolicy = FailurePolicy.LEAVE_INSTALLED;
+
+    private ReleasePlanBuilder() {}
+
+    /**
+     * Returns an instance of the ReleasePlanBuilder.
+     *
+     * @return the ReleasePlanBuilder.
+     */
+    public static ReleasePlanBuilder builder() {
+        return new ReleasePlanBuilder();
+    }
+
+    /**
+     * adds a release installed with the default options.
+     *
+     * @param name      the name of the release.
+     * @param chart     the Helm chart to install.
+     * @param dependsOn the names of the releases which must be installed before this release.
+     * @return the current ReleasePlanBuilder.
+     */
+    public ReleasePlanBuilder release(final String name, final Chart chart, final String... dependsOn) {
+        return release(name, chart, InstallChartOptions.defaults(), dependsOn);
+    }
+
+    /**
+     * adds a release installed with the supplied options.
+     *
+     * @param name      the name of the release.
+     * @param chart     the Helm chart to install.
+     * @param options   the options to pass to the Helm CLI {@code install} command.
+     * @param dependsOn the names of the releases which must be installed before this release.
+     * @return the current ReleasePlanBuilder.
+     */
+    public ReleasePlanBuilder release(
+            final String name, final Chart chart, final InstallChartOptions options, final String... dependsOn) {
+        return release(new PlannedRelease(name, chart, options, Set.of(dependsOn)));
+    }
+
+    /**
+     * adds a release.
+     *
+     * @param release the release to add.
+     * @return the current ReleasePlanBuilder.
+     */
+    public ReleasePlanBuilder release(final PlannedRelease release) {
+        releases.add(Objects.requireNonNull(release, "release must not be null"));
+        return this;
+    }
+
+    /**
+     * the maximum number of releases installed at the same time, defaults to
+     * {@link ReleasePlan#DEFAULT_MAX_PARALLELISM}.
+     *
+     * @param maxParallelism the maximum number of releases installed at the same time.
+     * @return the current ReleasePlanBuilder.
+     */
+    public ReleasePlanBuilder maxParallelism(final int maxParallelism) {
+        this.maxParallelism = maxParallelism;
+        return this;
+    }
+
+    /**
+     * the action taken when a release fails to install, defaults to {@link FailurePolicy#LEAVE_INSTALLED}.
+     *
+     * @param failurePolicy the action taken when a release fails to install.
+     * @return the current ReleasePlanBuilder.
+     */
+    public ReleasePlanBuilder failurePolicy(final FailurePolicy failurePolicy) {
+        this.failurePolicy = failurePolicy;
+        return this;
+    }
+
+    /**
+     * builds the ReleasePlan.
+     *
+     * @return the ReleasePlan.
+     * @throws IllegalArgumentException if the releases do not form a valid plan.
+     */
+    public ReleasePlan build() {
+        return new ReleasePlan(releases, maxParallelism, failurePolicy);
+    }
+}
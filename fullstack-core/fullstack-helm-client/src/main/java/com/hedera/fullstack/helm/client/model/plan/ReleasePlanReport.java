@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The report produced by installing a {@link ReleasePlan}.
+ *
+ * @param releases             the outcome and timing of each release in declaration order.
+ * @param elapsed              the wall-clock time taken to install the plan, including any rollback.
+ * @param criticalPath         the names of the releases on the critical path, in installation order. The critical path
+ *                             is the chain of dependencies which determined when the last release finished.
+ * @param criticalPathDuration the sum of the installation times of the releases on the critical path, which is the
+ *                             shortest time in which the plan could be installed regardless of the parallelism.
+ */
+public record ReleasePlanReport(
+        List<ReleaseTiming> releases, Duration elapsed, List<String> criticalPath, Duration criticalPathDuration) {
+    public ReleasePlanReport {
+        Objects.requireNonNull(releases, "releases must not be null");
+        Objects.requireNonNull(elapsed, "elapsed must not be null");
+        Objects.requireNonNull(criticalPath, "criticalPath must not be null");
+        Objects.requireNonNull(criticalPathDuration, "criticalPathDuration must not be null");
+        releases = List.copyOf(releases);
+        criticalPath = List.copyOf(criticalPath);
+    }
+
+    /**
+     * Returns the outcome and timing of the release with the specified name.
+     *
+     * @param name the name of the release.
+     * @return the {@link ReleaseTiming} of the release.
+     * @throws IllegalArgumentException if the report does not contain a release with the specified name.
+     */
+    public ReleaseTiming timing(final String name) {
+        for (final ReleaseTiming timing : releases) {
+            if (timing.name().equals(name)) {
+                return timing;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown release: " + name);
+    }
+
+    /**
+     * Indicates whether every release in the plan was installed.
+     *
+     * @return {@code true} if every release was installed; otherwise, {@code false}.
+     */
+    public boolean successful() {
+        return releases.stream().allMatch(r -> r.outcome() == ReleaseOutcome.INSTALLED);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.plan;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The outcome and timing of a single release within a {@link ReleasePlanReport}.
+ *
+ * @param name        the name of the release.
+ * @param outcome     the final outcome of the release.
+ * @param startOffset the time elapsed between the start of the plan and the start of the installation, or
+ *                    {@link Duration#ZERO} if the release was skipped.
+ * @param duration    the time taken to install the release, or {@link Duration#ZERO} if the release was skipped.
+ * @param failure     the exception which caused the installation or rollback of the release to fail, or {@code null}.
+ */
+public record ReleaseTiming(
+        String name, ReleaseOutcome outcome, Duration startOffset, Duration duration, Throwable failure) {
+    public ReleaseTiming {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(outcome, "outcome must not be null");
+        Objects.requireNonNull(startOffset, "startOffset must not be null");
+        Objects.requireNonNull(duration, "duration must not be null");
+    }
+
+    /**
+     * Returns the time elapsed between the start of the plan and the end of the installation.
+     *
+     * @return the end offset of the installation.
+     */
+    public Duration endOffset() {
+        return startOffset.plus(duration);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.release;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A single revision of a release as reported by the Helm CLI {@code history} sub-command.
+ *
+ * @param revision    the revision number, starting at {@code 1} for the initial install.
+ * @param updated     the time at which the revision was deployed.
+ * @param status      the status of the revision, for example {@code deployed} or {@code superseded}.
+ * @param chart       the name and version of the chart deployed by the revision.
+ * @param app_version the version of the application deployed by the revision.
+ * @param description the description of the operation which created the revision.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReleaseHistoryItem(
+        int revision, String updated, String status, String chart, String app_version, String description) {
+
+    /**
+     * The status of the revision which is currently deployed.
+     */
+    public static final String STATUS_DEPLOYED = "deployed";
+
+    /**
+     * Returns whether this revision is the one currently deployed.
+     *
+     * @return {@code true} if the status of this revision is {@code deployed}; otherwise {@code false}.
+     */
+    public boolean isDeployed() {
+        return STATUS_DEPLOYED.equalsIgnoreCase(status);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.release;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.Options;
+
+/**
+ * Represents the options to use when paging through the releases.
+ *
+ * @param allNamespaces list releases across all namespaces.
+ * @param all           list releases in every status, including pending and uninstalling releases, rather than only
+ *                      the deployed and failed releases.
+ * @param filter        a regular expression (Perl compatible). Any releases that match the expression will be
+ *                      included in the results.
+ * @param selector      selector (label query) to filter on, supports '=', '==', and '!=' (e.g.
+ *                      -l key1=value1,key2=value2). Works only for secret (default) and configmap storage backends.
+ * @param pageSize      the maximum number of releases fetched by a single Helm CLI invocation.
+ * @param prefetch      whether the following page is fetched in the background while the current page is consumed.
+ */
+public record ReleaseListOptions(
+        boolean allNamespaces, boolean all, String filter, String selector, int pageSize, boolean prefetch)
+        implements Options {
+
+    /**
+     * The page size used when none is specified, which matches the default of the Helm CLI {@code --max} option.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 256;
+
+    public ReleaseListOptions {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+    }
+
+    /**
+     * Returns an instance of the ReleaseListOptionsBuilder.
+     *
+     * @return the ReleaseListOptionsBuilder.
+     */
+    public static ReleaseListOptionsBuilder builder() {
+        return ReleaseListOptionsBuilder.builder();
+    }
+
+    /**
+     * Returns an instance of the default ReleaseListOptions.
+     *
+     * @return the default ReleaseListOptions.
+     */
+    public static ReleaseListOptions defaults() {
+        return builder().build();
+    }
+
+    @Override
+    public void apply(final HelmExecutionBuilder builder) {
+        if (allNamespaces()) {
+            builder.flag("--all-namespaces");
+        }
+
+        if (all()) {
+            builder.flag("--all");
+        }
+
+        if (filter() != null) {
+            builder.argument("filter", filter());
+        }
+
+        if (selector() != null) {
+            builder.argument("selector", selector());
+        }
+    }
+}
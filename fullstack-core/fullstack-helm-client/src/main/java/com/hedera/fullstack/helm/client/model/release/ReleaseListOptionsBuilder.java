@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.release;
+
+/**
+ * The builder for the {@link ReleaseListOptions}.
+ */
+public class ReleaseListOptionsBuilder {
+    private boolean allNamespaces;
+    private boolean all;
+    private String filter;
+    private String selector;
+    private int pageSize = ReleaseListOptions.DEFAULT_PAGE_SIZE;
+    private boolean prefetch = true;
+
+    /**
+     * Returns an instance of the ReleaseListOptionsBuilder.
+     *
+     * @return the ReleaseListOptionsBuilder.
+     */
+    public static ReleaseListOptionsBuilder builder() {
+        return new ReleaseListOptionsBuilder();
+    }
+
+    /**
+     * list releases across all namespaces.
+     *
+     * @param allNamespaces list releases across all namespaces.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder allNamespaces(boolean allNamespaces) {
+        this.allNamespaces = allNamespaces;
+        return this;
+    }
+
+    /**
+     * show all releases without any filter applied, including pending and uninstalling releases.
+     *
+     * @param all show all releases without any filter applied.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder all(boolean all) {
+        this.all = all;
+        return this;
+    }
+
+    /**
+     * a regular expression (Perl compatible). Any releases that match the expression will be included in the results.
+     *
+     * @param filter a regular expression (Perl compatible). Any releases that match the expression will be included in
+     *               the results.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder filter(String filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * selector (label query) to filter on, supports '=', '==', and '!=' (e.g. -l key1=value1,key2=value2). Works only
+     * for secret (default) and configmap storage backends.
+     *
+     * @param selector selector (label query) to filter on, supports '=', '==', and '!='.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder selector(String selector) {
+        this.selector = selector;
+        return this;
+    }
+
+    /**
+     * the maximum number of releases fetched by a single Helm CLI invocation (default 256).
+     *
+     * @param pageSize the maximum number of releases fetched by a single Helm CLI invocation.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder pageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * whether the following page is fetched in the background while the current page is consumed (default true).
+     *
+     * @param prefetch whether the following page is fetched in the background.
+     * @return the current ReleaseListOptionsBuilder.
+     */
+    public ReleaseListOptionsBuilder prefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * builds the {@link ReleaseListOptions} instance.
+     *
+     * @return the {@link ReleaseListOptions} instance.
+     */
+    public ReleaseListOptions build() {
+        return new ReleaseListOptions(allNamespaces, all, filter, selector, pageSize, prefetch);
+    }
+}
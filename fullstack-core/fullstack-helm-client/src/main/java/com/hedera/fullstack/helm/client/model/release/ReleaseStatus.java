@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.release;
+
+import java.util.Objects;
+
+/**
+ * The status of a release observed by a single {@code helm list} execution.
+ *
+ * @param namespace   the namespace of the release.
+ * @param releaseName the name of the release.
+ * @param release     the release as listed by the Helm CLI or {@code null} if the release was not listed.
+ */
+public record ReleaseStatus(String namespace, String releaseName, ReleaseItem release) {
+
+    /**
+     * Creates a new {@link ReleaseStatus} instance.
+     *
+     * @throws NullPointerException if {@code namespace} or {@code releaseName} is {@code null}.
+     */
+    public ReleaseStatus {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+    }
+
+    /**
+     * Returns whether the release was listed.
+     *
+     * @return {@code true} if the release exists; otherwise {@code false}.
+     */
+    public boolean isPresent() {
+        return release != null;
+    }
+
+    /**
+     * Returns the status of the release, such as {@code deployed} or {@code pending-install}.
+     *
+     * @return the status of the release or {@code null} if the release was not listed.
+     */
+    public String status() {
+        return release == null ? null : release.status();
+    }
+
+    /**
+     * Returns the revision of the release.
+     *
+     * @return the revision of the release or {@code null} if the release was not listed.
+     */
+    public String revision() {
+        return release == null ? null : release.revision();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.values;
+
+import com.hedera.fullstack.base.api.util.CacheFileUtils;
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * The effective values of a release, merged in the JVM from values files, value maps and {@code --set} expressions with
+ * the precedence rules of the Helm CLI. Later values files override earlier ones, nested maps are merged key by key
+ * and every other value, including lists, is replaced as a whole. The {@code --set} expressions are applied last, in
+ * order.
+ * <p>
+ * The merged values are rendered as a single canonical YAML document, with the keys of every map sorted, which can be
+ * written to a file once and passed to the Helm CLI with a single {@code --values} argument rather than one argument
+ * per values file and {@code --set} expression. The {@link #digest()} of the document identifies the effective values
+ * regardless of how they were split across files and expressions.
+ */
+public final class HelmValues {
+    /**
+     * The prefix of the names of the files written by {@link #writeTo(Path)}.
+     */
+    public static final String FILE_PREFIX = "values-";
+
+    /**
+     * The suffix of the names of the files written by {@link #writeTo(Path)}.
+     */
+    public static final String FILE_SUFFIX = ".yaml";
+
+    /**
+     * The merged values, with the keys of every map sorted.
+     */
+    private final Map<String, Object> values;
+
+    /**
+     * The values rendered as a YAML document.
+     */
+    private final String yaml;
+
+    /**
+     * The hex encoded SHA-256 digest of the YAML document.
+     */
+    private final String digest;
+
+    /**
+     * Creates a new instance of the {@link HelmValues} class.
+     *
+     * @param values the merged values, which are copied.
+     */
+    HelmValues(final Map<String, Object> values) {
+        this.values = canonical(values);
+        this.yaml = values.isEmpty() ? "{}\n" : newYaml().dump(this.values);
+        this.digest = CacheFileUtils.sha256(yaml);
+    }
+
+    /**
+     * Returns a new builder for the {@link HelmValues}.
+     *
+     * @return a new {@link HelmValuesBuilder} instance.
+     */
+    public static HelmValuesBuilder builder() {
+        return new HelmValuesBuilder();
+    }
+
+    /**
+     * Merges the values files and {@code --set} expressions of the options.
+     *
+     * @param options       the options containing the values files and {@code --set} expressions.
+     * @param baseDirectory the directory against which relative paths of values files are resolved.
+     * @return the merged values.
+     * @throws NullPointerException       if any argument is {@code null}.
+     * @throws IllegalArgumentException   if the options refer to a remote values file, a values file does not contain a
+     *                                    map or a {@code --set} expression is malformed.
+     * @throws HelmConfigurationException if a values file cannot be read.
+     */
+    public static HelmValues of(final InstallChartOptions options, final Path baseDirectory) {
+        Objects.requireNonNull(options, "options must not be null");
+        Objects.requireNonNull(baseDirectory, "baseDirectory must not be null");
+
+        final HelmValuesBuilder builder = builder();
+        if (options.values() != null) {
+            for (final String file : options.values()) {
+                if (isRemote(file)) {
+                    throw new IllegalArgumentException("remote values files cannot be merged: " + file);
+                }
+
+                builder.values(baseDirectory.resolve(file));
+            }
+        }
+
+        if (options.set() != null) {
+            options.set().forEach(builder::set);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Determines whether the values of the options can be merged in the JVM, which requires every values file to be a
+     * local file.
+     *
+     * @param options the options containing the values files.
+     * @return {@code true} if the values can be merged; otherwise {@code false}.
+     */
+    public static boolean isMergeable(final InstallChartOptions options) {
+        return options.values() == null || options.values().stream().noneMatch(HelmValues::isRemote);
+    }
+
+    /**
+     * Returns the merged values.
+     *
+     * @return an unmodifiable view of the merged values, with the keys of every map sorted.
+     */
+    public Map<String, Object> asMap() {
+        return values;
+    }
+
+    /**
+     * Returns the merged values rendered as a YAML document.
+     *
+     * @return the YAML document.
+     */
+    public String toYaml() {
+        return yaml;
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 digest of the {@link #toYaml() YAML document}.
+     *
+     * @return the digest of the merged values.
+     */
+    public String digest() {
+        return digest;
+    }
+
+    /**
+     * Writes the YAML document to a file named after its digest, unless the file already exists.
+     *
+     * @param directory the directory in which the file is written.
+     * @return the path of the file.
+     * @throws HelmConfigurationException if the file cannot be written.
+     */
+    public Path writeTo(final Path directory) {
+        Objects.requireNonNull(directory, "directory must not be null");
+
+        final Path file = directory.resolve(FILE_PREFIX + digest + FILE_SUFFIX);
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+
+        try {
+            CacheFileUtils.writeAtomically(file, yaml);
+        } catch (final IOException e) {
+            throw new HelmConfigurationException("Failed to write the merged values to " + file, e);
+        }
+
+        return file;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o instanceof HelmValues other && yaml.equals(other.yaml));
+    }
+
+    @Override
+    public int hashCode() {
+        return yaml.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "HelmValues[digest=" + digest + "]";
+    }
+
+    private static boolean isRemote(final String file) {
+        return file.contains("://");
+    }
+
+    /**
+     * Returns an unmodifiable deep copy of the value in which the keys of every map are sorted.
+     *
+     * @param value the value to copy.
+     * @param <T>   the type of the value.
+     * @return the copy.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T canonical(final T value) {
+        if (value instanceof Map<?, ?> map) {
+            final Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((k, v) -> sorted.put(String.valueOf(k), canonical(v)));
+            return (T) Collections.unmodifiableMap(new LinkedHashMap<>(sorted));
+        }
+
+        if (value instanceof List<?> list) {
+            final List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(v -> copy.add(canonical(v)));
+            return (T) Collections.unmodifiableList(copy);
+        }
+
+        return value;
+    }
+
+    private static Yaml newYaml() {
+        final DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setIndent(2);
+        options.setSplitLines(false);
+        return new Yaml(options);
+    }
+}
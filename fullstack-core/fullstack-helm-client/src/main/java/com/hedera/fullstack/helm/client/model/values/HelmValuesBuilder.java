@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.values;
+
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * The builder for the {@link HelmValues}. Every source is merged into the values as soon as it is added, therefore the
+ * order of the calls determines the precedence of the sources.
+ */
+public final class HelmValuesBuilder {
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new HelmValuesBuilder.
+     */
+    HelmValuesBuilder() {
+        // package-private to prevent instantiation outside the HelmValues
+    }
+
+    /**
+     * merges the values file into the values, overriding the values of the sources added before it.
+     *
+     * @param file the values file, which must contain a YAML map or be empty.
+     * @return the current HelmValuesBuilder.
+     * @throws NullPointerException       if {@code file} is {@code null}.
+     * @throws IllegalArgumentException   if the file does not contain a map.
+     * @throws HelmConfigurationException if the file cannot be read or parsed.
+     */
+    public HelmValuesBuilder values(final Path file) {
+        Objects.requireNonNull(file, "file must not be null");
+
+        final Object document;
+        try (final Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            document = newYaml().load(reader);
+        } catch (final IOException | RuntimeException e) {
+            throw new HelmConfigurationException("Failed to read the values file " + file, e);
+        }
+
+        if (document != null && !(document instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("the values file " + file + " does not contain a map");
+        }
+
+        if (document != null) {
+            merge(values, (Map<?, ?>) document);
+        }
+
+        return this;
+    }
+
+    /**
+     * merges the map into the values, overriding the values of the sources added before it.
+     *
+     * @param values the values to merge, which are copied.
+     * @return the current HelmValuesBuilder.
+     * @throws NullPointerException if {@code values} is {@code null}.
+     */
+    public HelmValuesBuilder values(final Map<String, ?> values) {
+        Objects.requireNonNull(values, "values must not be null");
+        merge(this.values, values);
+        return this;
+    }
+
+    /**
+     * applies the {@code --set} expression, such as {@code a.b[0]=value,c=d}, to the values.
+     *
+     * @param expression the expression passed to the Helm CLI {@code --set} option.
+     * @return the current HelmValuesBuilder.
+     * @throws NullPointerException     if {@code expression} is {@code null}.
+     * @throws IllegalArgumentException if the expression is malformed.
+     */
+    public HelmValuesBuilder set(final String expression) {
+        Objects.requireNonNull(expression, "expression must not be null");
+        SetExpressionParser.parseInto(expression, values);
+        return this;
+    }
+
+    /**
+     * builds the {@link HelmValues} instance.
+     *
+     * @return the {@link HelmValues} instance.
+     */
+    public HelmValues build() {
+        return new HelmValues(values);
+    }
+
+    /**
+     * Merges the source map into the target map the way the Helm CLI merges values files. Nested maps are merged key by
+     * key and every other value replaces the value of the target.
+     *
+     * @param target the map receiving the values.
+     * @param source the map providing the values, which are copied.
+     */
+    @SuppressWarnings("unchecked")
+    private static void merge(final Map<String, Object> target, final Map<?, ?> source) {
+        source.forEach((k, v) -> {
+            final String key = String.valueOf(k);
+            if (v instanceof Map<?, ?> map && target.get(key) instanceof Map<?, ?> existing) {
+                merge((Map<String, Object>) existing, map);
+            } else {
+                target.put(key, copy(v));
+            }
+        });
+    }
+
+    /**
+     * Returns a mutable deep copy of the value.
+     *
+     * @param value the value to copy.
+     * @return the copy.
+     */
+    private static Object copy(final Object value) {
+        if (value instanceof Map<?, ?> map) {
+            final Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(String.valueOf(k), copy(v)));
+            return copy;
+        }
+
+        if (value instanceof List<?> list) {
+            final List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(v -> copy.add(copy(v)));
+            return copy;
+        }
+
+        return value;
+    }
+
+    /**
+     * Creates a parser which leaves timestamps as strings, since the Helm CLI passes them to the templates unchanged.
+     *
+     * @return the parser.
+     */
+    private static Yaml newYaml() {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        final DumperOptions dumperOptions = new DumperOptions();
+        return new Yaml(
+                new SafeConstructor(loaderOptions),
+                new Representer(dumperOptions),
+                dumperOptions,
+                loaderOptions,
+                new TimestampIgnoringResolver());
+    }
+
+    /**
+     * A resolver which does not resolve plain scalars to timestamps.
+     */
+    private static final class TimestampIgnoringResolver extends Resolver {
+        @Override
+        public void addImplicitResolver(final Tag tag, final Pattern regexp, final String first) {
+            if (!Tag.TIMESTAMP.equals(tag)) {
+                super.addImplicitResolver(tag, regexp, first);
+            }
+        }
+
+        @Override
+        public void addImplicitResolver(final Tag tag, final Pattern regexp, final String first, final int limit) {
+            if (!Tag.TIMESTAMP.equals(tag)) {
+                super.addImplicitResolver(tag, regexp, first, limit);
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.model.values;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the expressions passed to the Helm CLI {@code --set} option, such as {@code a.b[0].c=value,d={x,y}}, and
+ * applies them to a values tree with the same semantics as the Helm CLI.
+ * <p>
+ * Keys are separated by {@code .}, list elements are addressed with {@code [index]}, multiple assignments are separated
+ * by {@code ,} and a backslash escapes the following character. Values are typed like the Helm CLI types them:
+ * {@code true} and {@code false} become booleans, {@code null} becomes a null value, integers without a leading zero
+ * become longs and every other value remains a string.
+ */
+final class SetExpressionParser {
+    /**
+     * The largest list index accepted, which matches the limit enforced by the Helm CLI.
+     */
+    static final int MAX_INDEX = 65536;
+
+    /**
+     * The expression being parsed.
+     */
+    private final String expression;
+
+    /**
+     * The position of the next character to read.
+     */
+    private int position;
+
+    private SetExpressionParser(final String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parses the expression and applies every assignment to the values tree in order.
+     *
+     * @param expression the expression passed to the {@code --set} option.
+     * @param values     the values tree to which the assignments are applied.
+     * @throws IllegalArgumentException if the expression is malformed.
+     */
+    static void parseInto(final String expression, final Map<String, Object> values) {
+        final SetExpressionParser parser = new SetExpressionParser(expression);
+        while (!parser.isAtEnd()) {
+            parser.key(values);
+        }
+    }
+
+    /**
+     * Parses a key and applies the assignment which follows it to the map.
+     *
+     * @param values the map containing the key.
+     */
+    private void key(final Map<String, Object> values) {
+        final StringBuilder key = new StringBuilder();
+        final char delimiter = readUntil(key, "=[,.");
+        final String name = key.toString();
+
+        switch (delimiter) {
+            case '=' -> values.put(name, value());
+            case '.' -> {
+                final Map<String, Object> child = asMap(values.get(name));
+                values.put(name, child);
+                key(child);
+            }
+            case '[' -> values.put(name, element(asList(values.get(name)), index()));
+            default -> {
+                if (!name.isEmpty()) {
+                    throw error("key \"" + name + "\" has no value");
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the assignment which follows the index of a list element and applies it to the list.
+     *
+     * @param list  the list containing the element.
+     * @param index the index of the element.
+     * @return the list, which may have been extended to contain the element.
+     */
+    private List<Object> element(final List<Object> list, final int index) {
+        if (isAtEnd()) {
+            throw error("list element " + index + " has no value");
+        }
+
+        final char next = expression.charAt(position++);
+        switch (next) {
+            case '=' -> set(list, index, value());
+            case '.' -> {
+                final Map<String, Object> child = asMap(index < list.size() ? list.get(index) : null);
+                set(list, index, child);
+                key(child);
+            }
+            case '[' -> {
+                final List<Object> child = asList(index < list.size() ? list.get(index) : null);
+                set(list, index, element(child, index()));
+            }
+            default -> throw error("unexpected '" + next + "' after list index " + index);
+        }
+
+        return list;
+    }
+
+    /**
+     * Parses a list index, the opening bracket having been read.
+     *
+     * @return the index.
+     */
+    private int index() {
+        final StringBuilder digits = new StringBuilder();
+        if (readUntil(digits, "]") != ']') {
+            throw error("list index is not terminated by ']'");
+        }
+
+        final int index;
+        try {
+            index = Integer.parseInt(digits.toString());
+        } catch (final NumberFormatException e) {
+            throw error("list index \"" + digits + "\" is not a number");
+        }
+
+        if (index < 0 || index > MAX_INDEX) {
+            throw error("list index " + index + " must be between 0 and " + MAX_INDEX);
+        }
+
+        return index;
+    }
+
+    /**
+     * Parses a scalar value or a list literal enclosed in braces, including the separator which follows it.
+     *
+     * @return the typed value.
+     */
+    private Object value() {
+        if (!isAtEnd() && expression.charAt(position) == '{') {
+            position++;
+            final List<Object> list = new ArrayList<>();
+            char delimiter = ',';
+            while (delimiter == ',') {
+                final StringBuilder item = new StringBuilder();
+                delimiter = readUntil(item, ",}");
+                if (delimiter != ',' && delimiter != '}') {
+                    throw error("list literal is not terminated by '}'");
+                }
+
+                if (!item.isEmpty() || delimiter == ',' || !list.isEmpty()) {
+                    list.add(typed(item.toString()));
+                }
+            }
+
+            if (!isAtEnd() && expression.charAt(position++) != ',') {
+                throw error("expected ',' after list literal");
+            }
+
+            return list;
+        }
+
+        final StringBuilder value = new StringBuilder();
+        readUntil(value, ",");
+        return typed(value.toString());
+    }
+
+    /**
+     * Reads characters into the buffer until one of the delimiters or the end of the expression is reached, resolving
+     * escaped characters. The delimiter is consumed.
+     *
+     * @param buffer     the buffer receiving the characters.
+     * @param delimiters the characters which end the read.
+     * @return the delimiter which ended the read or {@code 0} if the end of the expression was reached.
+     */
+    private char readUntil(final StringBuilder buffer, final String delimiters) {
+        while (!isAtEnd()) {
+            final char c = expression.charAt(position++);
+            if (c == '\\' && !isAtEnd()) {
+                buffer.append(expression.charAt(position++));
+            } else if (delimiters.indexOf(c) >= 0) {
+                return c;
+            } else {
+                buffer.append(c);
+            }
+        }
+
+        return 0;
+    }
+
+    private boolean isAtEnd() {
+        return position >= expression.length();
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(
+                String.format("Invalid --set expression \"%s\" at position %d: %s", expression, position, message));
+    }
+
+    /**
+     * Types a value the way the Helm CLI types the values of the {@code --set} option.
+     *
+     * @param value the raw value.
+     * @return the typed value.
+     */
+    static Object typed(final String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+
+        if ("null".equalsIgnoreCase(value)) {
+            return null;
+        }
+
+        if ("0".equals(value)) {
+            return 0L;
+        }
+
+        if (!value.isEmpty() && value.charAt(0) != '0') {
+            try {
+                return Long.parseLong(value);
+            } catch (final NumberFormatException e) {
+                // not an integer, therefore the value remains a string
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Sets the list element, extending the list with {@code null} elements when the index is beyond its end.
+     *
+     * @param list  the list.
+     * @param index the index of the element.
+     * @param value the value of the element.
+     */
+    private static void set(final List<Object> list, final int index, final Object value) {
+        while (list.size() <= index) {
+            list.add(null);
+        }
+
+        list.set(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(final Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : new LinkedHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(final Object value) {
+        return value instanceof List<?> list ? (List<Object>) list : new ArrayList<>();
+    }
+}
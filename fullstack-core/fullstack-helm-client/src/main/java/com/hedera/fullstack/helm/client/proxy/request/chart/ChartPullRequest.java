@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.proxy.request.chart;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.ChartReference;
+import com.hedera.fullstack.helm.client.proxy.request.HelmRequest;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Represents a helm pull request which downloads a packaged chart archive into a local directory.
+ *
+ * @param reference       The chart to download.
+ * @param destination     The directory into which the archive is written.
+ * @param username        The chart repository username or {@code null} if the repository does not require one.
+ * @param password        The chart repository password or {@code null} if the repository does not require one.
+ * @param passCredentials Whether the credentials are passed to all domains.
+ */
+public record ChartPullRequest(
+        ChartReference reference, Path destination, String username, String password, boolean passCredentials)
+        implements HelmRequest {
+
+    public ChartPullRequest {
+        Objects.requireNonNull(reference, "reference must not be null");
+        Objects.requireNonNull(destination, "destination must not be null");
+    }
+
+    /**
+     * Creates a new pull request for a repository which does not require credentials.
+     *
+     * @param reference   The chart to download.
+     * @param destination The directory into which the archive is written.
+     */
+    public ChartPullRequest(final ChartReference reference, final Path destination) {
+        this(reference, destination, null, null, false);
+    }
+
+    @Override
+    public void apply(final HelmExecutionBuilder builder) {
+        builder.subcommands("pull");
+
+        if (reference.isRepositoryUrl()) {
+            builder.argument("repo", reference.repository());
+            builder.positional(reference.name());
+        } else {
+            builder.positional(String.format("%s/%s", reference.repository(), reference.name()));
+        }
+
+        builder.argument("version", reference.version());
+        builder.argument("destination", destination.toString());
+
+        if (username != null) {
+            builder.argument("username", username);
+        }
+
+        if (password != null) {
+            builder.argument("password", password);
+        }
+
+        if (passCredentials) {
+            builder.flag("--pass-credentials");
+        }
+    }
+}
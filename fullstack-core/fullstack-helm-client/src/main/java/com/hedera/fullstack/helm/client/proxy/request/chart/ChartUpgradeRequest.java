@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.proxy.request.chart;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.proxy.request.HelmRequest;
+import java.util.Objects;
+
+/**
+ * Represents a helm upgrade request which installs the release if it does not yet exist.
+ *
+ * @param releaseName The name of the release.
+ * @param chart       The chart to install or upgrade to.
+ * @param options     The options to use when installing or upgrading the chart.
+ * @param description The description recorded in the release, which overrides the description of the options.
+ */
+public record ChartUpgradeRequest(String releaseName, Chart chart, InstallChartOptions options, String description)
+        implements HelmRequest {
+
+    public ChartUpgradeRequest {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(chart, "chart must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+
+        if (releaseName.isBlank()) {
+            throw new IllegalArgumentException("releaseName must not be blank");
+        }
+    }
+
+    @Override
+    public void apply(final HelmExecutionBuilder builder) {
+        builder.subcommands("upgrade").flag("--install");
+        options.apply(builder);
+
+        if (description != null) {
+            builder.argument("description", description);
+        }
+
+        final String chartName;
+
+        if (options.repo() != null && !options.repo().isBlank()) {
+            chartName = chart.unqualified();
+        } else {
+            chartName = chart.qualified();
+        }
+
+        builder.positional(releaseName).positional(chartName);
+    }
+}
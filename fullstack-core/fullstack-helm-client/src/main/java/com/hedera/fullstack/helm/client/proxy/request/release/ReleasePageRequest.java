@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.proxy.request.release;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
+import com.hedera.fullstack.helm.client.proxy.request.HelmRequest;
+import java.util.Objects;
+
+/**
+ * Represents a helm list request which returns a single page of releases.
+ *
+ * @param options the options to use when listing the releases.
+ * @param offset  the index of the first release of the page.
+ */
+public record ReleasePageRequest(ReleaseListOptions options, int offset) implements HelmRequest {
+
+    public ReleasePageRequest {
+        Objects.requireNonNull(options, "options must not be null");
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+    }
+
+    @Override
+    public void apply(final HelmExecutionBuilder builder) {
+        builder.subcommands("list");
+        builder.argument("output", "json");
+        builder.argument("max", Integer.toString(options.pageSize()));
+        builder.argument("offset", Integer.toString(offset));
+        options.apply(builder);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.proxy.request.release;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.proxy.request.HelmRequest;
+import java.util.Objects;
+
+/**
+ * A request to roll back a release to a previous revision.
+ *
+ * @param releaseName the name of the release.
+ * @param revision    the revision to roll back to.
+ * @param waitFor     if {@code true}, wait until the rolled back resources are ready.
+ */
+public record ReleaseRollbackRequest(String releaseName, int revision, boolean waitFor) implements HelmRequest {
+
+    public ReleaseRollbackRequest {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+
+        if (releaseName.isBlank()) {
+            throw new IllegalArgumentException("releaseName must not be blank");
+        }
+
+        if (revision < 1) {
+            throw new IllegalArgumentException("revision must be greater than zero");
+        }
+    }
+
+    @Override
+    public void apply(HelmExecutionBuilder builder) {
+        builder.subcommands("rollback");
+
+        if (waitFor) {
+            builder.flag("--wait");
+        }
+
+        builder.positional(releaseName).positional(Integer.toString(revision));
+    }
+}
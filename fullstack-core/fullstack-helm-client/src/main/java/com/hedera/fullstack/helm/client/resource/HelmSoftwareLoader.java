@@ -26,7 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Loads the Helm executable contained in the JAR file into a temporary directory.
+ * Loads the Helm executable contained in the JAR file into the per-user cache directory.
  */
 public final class HelmSoftwareLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(HelmSoftwareLoader.class);
@@ -60,13 +60,17 @@ public final class HelmSoftwareLoader {
     }
 
     /**
-     * Unpacks the Helm executable contained in the JAR file into a temporary directory.
+     * Unpacks the Helm executable contained in the JAR file into the per-user cache directory. The executable is only
+     * extracted when the cache does not already contain a verified copy, otherwise the cached copy is reused. If the
+     * cache directory cannot be used, the executable is unpacked into a temporary directory instead.
      *
      * @return the path to the Helm executable.
      * @throws HelmConfigurationException if the Helm executable cannot be unpacked or the operating system/architecture
      *                                    combination is not supported.
      * @implNote This method expects the executable to be present at the following location in the JAR file:
-     * {@code /software/<os>/<arch>/helm}.
+     * {@code /software/<os>/<arch>/helm} and, optionally, its SHA-256 digest at
+     * {@code /software/<os>/<arch>/helm.sha256}.
+     * @see ResourceLoader#defaultCacheDirectory()
      */
     public static Path installSupportedVersion() {
         try {
@@ -93,7 +97,16 @@ public final class HelmSoftwareLoader {
                     arch.name(),
                     pathBuilder);
 
-            return RESOURCE_LOADER.load(pathBuilder.toString());
+            try {
+                return RESOURCE_LOADER.loadCached(pathBuilder.toString());
+            } catch (IOException e) {
+                LOGGER.warn(
+                        "Unable to load Helm executable from the cache, falling back to a temporary directory.  "
+                                + "[cacheDirectory={}]",
+                        ResourceLoader.defaultCacheDirectory(),
+                        e);
+                return RESOURCE_LOADER.load(pathBuilder.toString());
+            }
         } catch (IOException | SecurityException | IllegalStateException e) {
             throw new HelmConfigurationException(e);
         }
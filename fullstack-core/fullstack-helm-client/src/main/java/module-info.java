@@ -3,9 +3,13 @@ module com.hedera.fullstack.helm.client {
     exports com.hedera.fullstack.helm.client.model;
     exports com.hedera.fullstack.helm.client.model.chart;
     exports com.hedera.fullstack.helm.client.model.install;
+    exports com.hedera.fullstack.helm.client.model.manifest;
+    exports com.hedera.fullstack.helm.client.model.plan;
     exports com.hedera.fullstack.helm.client.model.release;
     exports com.hedera.fullstack.helm.client.model.test;
+    exports com.hedera.fullstack.helm.client.model.values;
     exports com.hedera.fullstack.helm.client.execution;
+    exports com.hedera.fullstack.helm.client.index;
     exports com.hedera.fullstack.helm.client.proxy.request.chart to
             com.hedera.fullstack.helm.client.test;
     exports com.hedera.fullstack.helm.client.resource to
@@ -17,9 +21,12 @@ module com.hedera.fullstack.helm.client {
             com.fasterxml.jackson.databind;
     opens com.hedera.fullstack.helm.client.model.install to
             com.fasterxml.jackson.databind;
+    opens com.hedera.fullstack.helm.client.execution to
+            com.fasterxml.jackson.databind;
 
     requires com.fasterxml.jackson.databind;
     requires org.slf4j;
+    requires org.yaml.snakeyaml;
     requires transitive com.hedera.fullstack.base.api;
     requires transitive com.fasterxml.jackson.annotation;
 }
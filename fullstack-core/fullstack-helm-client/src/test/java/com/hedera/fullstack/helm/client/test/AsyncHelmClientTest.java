@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.AsyncHelmClient;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.chart.Release;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Async Helm Client Tests")
+@ExtendWith(MockitoExtension.class)
+class AsyncHelmClientTest {
+    private static final Chart CHART = new Chart("haproxy", "haproxytech");
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @Test
+    @DisplayName("Install Chart Completes With Delegate Result On A Virtual Thread")
+    void testInstallChartCompletesWithResult() throws Exception {
+        final Release release = new Release("release", null, null);
+        final AtomicReference<Thread> executingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+                    executingThread.set(Thread.currentThread());
+                    return release;
+                })
+                .when(helmClientMock)
+                .installChart("release", CHART, InstallChartOptions.defaults());
+
+        try (final AsyncHelmClient client = AsyncHelmClient.wrap(helmClientMock)) {
+            final CompletableFuture<Release> future = client.installChart("release", CHART);
+
+            assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(release);
+            assertThat(executingThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+            assertThat(executingThread.get().isVirtual()).isTrue();
+            assertThat(client.synchronous()).isSameAs(helmClientMock);
+        }
+    }
+
+    @Test
+    @DisplayName("Failures Complete The Future With The Original Exception")
+    void testFailurePreservesExceptionType() {
+        final HelmExecutionException failure = new HelmExecutionException(1);
+        doThrow(failure).when(helmClientMock).uninstallChart("release");
+
+        try (final AsyncHelmClient client = AsyncHelmClient.wrap(helmClientMock)) {
+            final CompletableFuture<Void> future = client.uninstallChart("release");
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseReference(failure);
+            assertThat(future.handle((v, e) -> e).join()).isSameAs(failure);
+        }
+    }
+
+    @Test
+    @DisplayName("History And Rollback Are Delegated To The Synchronous Client")
+    void testHistoryAndRollbackAreDelegated() throws Exception {
+        final List<ReleaseHistoryItem> history = List.of(
+                new ReleaseHistoryItem(1, null, "superseded", "haproxy-0.1.0", "1.0.0", "Install complete"),
+                new ReleaseHistoryItem(2, null, "deployed", "haproxy-0.2.0", "1.0.0", "Upgrade complete"));
+        doReturn(history).when(helmClientMock).history("release");
+
+        try (final AsyncHelmClient client = AsyncHelmClient.wrap(helmClientMock)) {
+            assertThat(client.history("release").get(5, TimeUnit.SECONDS)).isSameAs(history);
+            assertThat(client.rollback("release", 1).get(5, TimeUnit.SECONDS)).isNull();
+        }
+
+        verify(helmClientMock).rollback("release", 1);
+    }
+
+    @Test
+    @DisplayName("Supplied Executor Is Used And Not Shut Down On Close")
+    void testSuppliedExecutorIsNotShutdown() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<ReleaseItem> releases = List.of();
+        doReturn(releases).when(helmClientMock).listReleases(true);
+
+        try {
+            try (final AsyncHelmClient client = AsyncHelmClient.wrap(helmClientMock, executor)) {
+                assertThat(client.listReleases(true).get(5, TimeUnit.SECONDS)).isSameAs(releases);
+            }
+
+            assertThat(executor.isShutdown()).isFalse();
+            verify(helmClientMock).listReleases(true);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
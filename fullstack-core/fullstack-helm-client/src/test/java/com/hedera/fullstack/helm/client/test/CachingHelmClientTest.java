@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.CacheStatistics;
+import com.hedera.fullstack.helm.client.CachingHelmClient;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Caching Helm Client Tests")
+@ExtendWith(MockitoExtension.class)
+class CachingHelmClientTest {
+    private static final ReleaseItem RELEASE = new ReleaseItem("release", "default", "1", null, "deployed", null, null);
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @Test
+    @DisplayName("List Releases Is Served From The Cache Until The TTL Expires")
+    void testListReleasesIsCached() {
+        doReturn(List.of(RELEASE)).when(helmClientMock).listReleases(false);
+        final CachingHelmClient client = CachingHelmClient.wrap(helmClientMock, Duration.ofHours(1));
+
+        assertThat(client.listReleases(false)).containsExactly(RELEASE);
+        assertThat(client.listReleases(false)).containsExactly(RELEASE);
+
+        verify(helmClientMock, times(1)).listReleases(false);
+        assertThat(client.cacheStatistics()).isEqualTo(new CacheStatistics(1, 1, 0, 0));
+
+        final CachingHelmClient expiring = CachingHelmClient.wrap(helmClientMock, Duration.ZERO);
+        expiring.listReleases(false);
+        expiring.listReleases(false);
+
+        verify(helmClientMock, times(3)).listReleases(false);
+        assertThat(expiring.cacheStatistics().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Install And Uninstall Invalidate The Cached Releases")
+    void testMutationsInvalidateTheCache() {
+        doReturn(List.of(RELEASE)).when(helmClientMock).listReleases(true);
+        doThrow(new HelmExecutionException(1)).when(helmClientMock).uninstallChart("release");
+        final CachingHelmClient client = CachingHelmClient.wrap(helmClientMock, Duration.ofHours(1));
+
+        client.listReleases(true);
+        assertThatThrownBy(() -> client.uninstallChart("release")).isInstanceOf(HelmExecutionException.class);
+        client.listReleases(true);
+
+        verify(helmClientMock, times(2)).listReleases(true);
+        assertThat(client.cacheStatistics()).isEqualTo(new CacheStatistics(0, 2, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Rollback Invalidates The Cached Releases")
+    void testRollbackInvalidatesTheCache() {
+        doReturn(List.of(RELEASE)).when(helmClientMock).listReleases(false);
+        final CachingHelmClient client = CachingHelmClient.wrap(helmClientMock, Duration.ofHours(1));
+
+        client.listReleases(false);
+        client.rollback("release", 1);
+        client.listReleases(false);
+
+        verify(helmClientMock).rollback("release", 1);
+        verify(helmClientMock, times(2)).listReleases(false);
+        assertThat(client.cacheStatistics()).isEqualTo(new CacheStatistics(0, 2, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Concurrent Requests Share A Single Execution")
+    void testConcurrentRequestsAreCoalesced() throws Exception {
+        final int callers = 8;
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    started.countDown();
+                    assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                    return List.of(RELEASE);
+                })
+                .when(helmClientMock)
+                .listReleases(false);
+        final CachingHelmClient client = CachingHelmClient.wrap(helmClientMock, Duration.ofHours(1));
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            final List<Future<List<ReleaseItem>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> client.listReleases(false)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> client.listReleases(false)));
+            }
+
+            while (client.cacheStatistics().coalescedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+            for (final Future<List<ReleaseItem>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).containsExactly(RELEASE);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(helmClientMock, times(1)).listReleases(false);
+        assertThat(client.cacheStatistics()).isEqualTo(new CacheStatistics(0, 1, callers - 1, 0));
+    }
+
+    @Test
+    @DisplayName("Failures Are Not Cached")
+    void testFailuresAreNotCached() {
+        final HelmExecutionException failure = new HelmExecutionException(1);
+        doThrow(failure).doReturn(List.of(RELEASE)).when(helmClientMock).listReleases(false);
+        final CachingHelmClient client = CachingHelmClient.wrap(helmClientMock);
+
+        assertThatThrownBy(() -> client.listReleases(false)).isSameAs(failure);
+        assertThat(client.listReleases(false)).containsExactly(RELEASE);
+        verify(helmClientMock, times(2)).listReleases(false);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.ChartArchiveCache;
+import com.hedera.fullstack.helm.client.ChartFetcher;
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.ChartReference;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Chart Archive Cache Tests")
+class ChartArchiveCacheTest {
+    private static final ChartReference MYSQL = new ChartReference("bitnami", "mysql", "9.10.2");
+    private static final ChartReference APACHE = new ChartReference("bitnami", "apache", "10.1.1");
+    private static final ChartReference NGINX = new ChartReference("bitnami", "nginx", "15.1.0");
+
+    @TempDir
+    private Path repository;
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private AtomicInteger fetches;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fetches = new AtomicInteger();
+        publish(MYSQL, 1024);
+        publish(APACHE, 1024);
+        publish(NGINX, 1024);
+    }
+
+    @Test
+    @DisplayName("Archives Are Fetched Once And Served From The Cache Afterwards")
+    void testArchivesAreFetchedOnce() throws IOException {
+        final ChartArchiveCache cache = ChartArchiveCache.builder().directory(cacheDirectory).build();
+
+        assertThat(cache.contains(MYSQL)).isFalse();
+        final Path first = cache.resolve(MYSQL, fileFetcher());
+        final Path second = cache.resolve(MYSQL, fileFetcher());
+
+        assertThat(fetches).hasValue(1);
+        assertThat(second).isEqualTo(first).startsWith(cacheDirectory);
+        assertThat(first.getFileName().toString()).endsWith(".tgz");
+        assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(archiveOf(MYSQL)));
+        assertThat(cache.contains(MYSQL)).isTrue();
+        assertThat(cache.sizeBytes()).isEqualTo(Files.size(first));
+    }
+
+    @Test
+    @DisplayName("Identical Archives Published Under Several References Are Stored Once")
+    void testIdenticalArchivesAreStoredOnce() throws IOException {
+        final ChartReference alias = new ChartReference("https://charts.bitnami.com/bitnami", "mysql", "9.10.2");
+        final ChartArchiveCache cache = ChartArchiveCache.builder().directory(cacheDirectory).build();
+
+        final Path first = cache.resolve(MYSQL, fileFetcher());
+        final Path second = cache.resolve(alias, fileFetcher());
+
+        assertThat(fetches).hasValue(2);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.sizeBytes()).isEqualTo(Files.size(first));
+    }
+
+    @Test
+    @DisplayName("Concurrent Requests For The Same Chart Fetch The Archive Once")
+    void testConcurrentRequestsFetchOnce() throws Exception {
+        final int callers = 8;
+        final CountDownLatch ready = new CountDownLatch(callers);
+        final ChartFetcher fetcher = fileFetcher();
+        final ChartArchiveCache cache = ChartArchiveCache.builder().directory(cacheDirectory).build();
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            final List<Future<Path>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+                    return cache.resolve(MYSQL, fetcher);
+                }));
+            }
+
+            final Path expected = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (final Future<Path> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("The Least Recently Used Archives Are Evicted Once The Size Limit Is Exceeded")
+    void testLeastRecentlyUsedArchivesAreEvicted() throws IOException {
+        final ChartArchiveCache cache = ChartArchiveCache.builder()
+                .directory(cacheDirectory)
+                .maxSizeBytes(2048)
+                .build();
+
+        final Path mysql = cache.resolve(MYSQL, fileFetcher());
+        final Path apache = cache.resolve(APACHE, fileFetcher());
+        Files.setLastModifiedTime(mysql, Files.getLastModifiedTime(apache));
+        Files.setLastModifiedTime(apache, FileTime.fromMillis(0));
+
+        final Path nginx = cache.resolve(NGINX, fileFetcher());
+
+        assertThat(nginx).exists();
+        assertThat(mysql).exists();
+        assertThat(apache).doesNotExist();
+        assertThat(cache.contains(APACHE)).isFalse();
+        assertThat(cache.sizeBytes()).isLessThanOrEqualTo(2048);
+
+        cache.resolve(APACHE, fileFetcher());
+        assertThat(fetches).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("An Offline Cache Serves Cached Archives And Never Fetches Missing Ones")
+    void testOfflineCache() throws IOException {
+        final Path cached = ChartArchiveCache.builder()
+                .directory(cacheDirectory)
+                .build()
+                .resolve(MYSQL, fileFetcher());
+        final ChartArchiveCache offline = ChartArchiveCache.builder()
+                .directory(cacheDirectory)
+                .offline(true)
+                .build();
+
+        assertThat(offline.isOffline()).isTrue();
+        assertThat(offline.resolve(MYSQL, fileFetcher())).isEqualTo(cached);
+        assertThatThrownBy(() -> offline.resolve(APACHE, fileFetcher()))
+                .isInstanceOf(HelmConfigurationException.class)
+                .hasMessageContaining("offline");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Fetch Failures Are Not Cached")
+    void testFetchFailuresAreNotCached() throws IOException {
+        final ChartArchiveCache cache = ChartArchiveCache.builder().directory(cacheDirectory).build();
+        final ChartFetcher failing = (reference, directory) -> {
+            fetches.incrementAndGet();
+            throw new IOException("connection refused");
+        };
+
+        assertThatThrownBy(() -> cache.resolve(MYSQL, failing))
+                .isInstanceOf(HelmConfigurationException.class)
+                .hasRootCauseMessage("connection refused");
+        assertThat(cache.contains(MYSQL)).isFalse();
+        assertThat(cache.resolve(MYSQL, fileFetcher())).exists();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Archives Are Fetched From An HTTP Served Chart Repository")
+    void testHttpServedRepository() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            fetches.incrementAndGet();
+            final Path archive = repository.resolve(exchange.getRequestURI().getPath().substring(1));
+            if (!Files.isRegularFile(archive)) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, Files.size(archive));
+            try (final OutputStream out = exchange.getResponseBody()) {
+                Files.copy(archive, out);
+            }
+        });
+        server.start();
+
+        try {
+            final String baseUrl = "http://localhost:" + server.getAddress().getPort();
+            final ChartReference reference = ChartReference.of(new Chart("mysql"), baseUrl, "9.10.2");
+            final ChartFetcher httpFetcher = (r, directory) -> {
+                final Path target = directory.resolve(fileNameOf(r));
+                try (final InputStream in = URI.create(r.repository() + "/" + fileNameOf(r))
+                        .toURL()
+                        .openStream()) {
+                    Files.copy(in, target);
+                }
+
+                return target;
+            };
+            final ChartArchiveCache cache = ChartArchiveCache.builder().directory(cacheDirectory).build();
+
+            final Path archive = cache.resolve(reference, httpFetcher);
+            assertThat(cache.resolve(reference, httpFetcher)).isEqualTo(archive);
+            assertThat(Files.readAllBytes(archive)).isEqualTo(Files.readAllBytes(archiveOf(MYSQL)));
+            assertThat(fetches).hasValue(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private ChartFetcher fileFetcher() {
+        return (reference, directory) -> {
+            fetches.incrementAndGet();
+            return Files.copy(archiveOf(reference), directory.resolve(fileNameOf(reference)));
+        };
+    }
+
+    private void publish(final ChartReference reference, final int size) throws IOException {
+        final byte[] content = new byte[size];
+        final byte[] seed = reference.toString().getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; i++) {
+            content[i] = seed[i % seed.length];
+        }
+
+        Files.write(archiveOf(reference), content);
+    }
+
+    private Path archiveOf(final ChartReference reference) {
+        return repository.resolve(fileNameOf(reference));
+    }
+
+    private static String fileNameOf(final ChartReference reference) {
+        return String.format("%s-%s.tgz", reference.name(), reference.version());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.EnvironmentReset;
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.model.release.ReleaseHistoryItem;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Environment Reset Tests")
+@ExtendWith(MockitoExtension.class)
+class EnvironmentResetTest {
+    /**
+     * The default number of revisions retained by Helm for a release.
+     */
+    private static final int HISTORY_MAX = 10;
+
+    private final Map<String, List<ReleaseHistoryItem>> histories = new HashMap<>();
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @BeforeEach
+    void setUp() {
+        deploy("network", "Install complete");
+        deploy("mirror", "Install complete");
+    }
+
+    @Test
+    @DisplayName("Reset Only Rolls Back The Releases Changed Since The Baseline")
+    void testResetRollsBackChangedReleases() {
+        doAnswer(invocation -> List.copyOf(histories.get(invocation.getArgument(0, String.class))))
+                .when(helmClientMock)
+                .history(anyString());
+        doAnswer(invocation -> {
+                    deploy(invocation.getArgument(0), "Rollback to " + invocation.getArgument(1));
+                    return null;
+                })
+                .when(helmClientMock)
+                .rollback(anyString(), anyInt());
+        final EnvironmentReset reset = EnvironmentReset.capture(helmClientMock, List.of("network", "mirror"));
+        assertThat(reset.baseline()).containsExactly(Map.entry("network", 1), Map.entry("mirror", 1));
+
+        assertThat(reset.reset()).isEmpty();
+        verify(helmClientMock, never()).rollback(anyString(), anyInt());
+
+        deploy("mirror", "Upgrade complete");
+        assertThat(reset.reset()).containsExactly("mirror");
+        verify(helmClientMock).rollback("mirror", 1);
+        assertThat(histories.get("mirror")).hasSize(3);
+
+        // the revision created by the rollback matches the baseline and must not be rolled back again
+        assertThat(reset.reset()).isEmpty();
+
+        deploy("mirror", "Upgrade complete");
+        deploy("network", "Upgrade complete");
+        assertThat(reset.reset()).containsExactly("network", "mirror");
+        verify(helmClientMock).rollback("network", 1);
+        assertThat(histories.get("mirror")).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Capture Requires A Deployed Revision")
+    void testCaptureRequiresDeployedRevision() {
+        doReturn(List.of(new ReleaseHistoryItem(1, null, "failed", "chart-1.0.0", "1.0.0", "Install failed")))
+                .when(helmClientMock)
+                .history("broken");
+
+        assertThatThrownBy(() -> EnvironmentReset.capture(helmClientMock, List.of("broken")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("broken");
+        assertThatThrownBy(() -> EnvironmentReset.capture(helmClientMock, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Repeated Resets Succeed After The Captured Revision Was Pruned")
+    void testRepeatedResetsAfterHistoryIsPruned() {
+        doAnswer(invocation -> List.copyOf(histories.get(invocation.getArgument(0, String.class))))
+                .when(helmClientMock)
+                .history(anyString());
+        doAnswer(invocation -> {
+                    final String releaseName = invocation.getArgument(0);
+                    final int revision = invocation.getArgument(1);
+                    if (histories.get(releaseName).stream().noneMatch(item -> item.revision() == revision)) {
+                        throw new HelmExecutionException(1, "", "Error: release: not found");
+                    }
+
+                    deploy(releaseName, "Rollback to " + revision);
+                    return null;
+                })
+                .when(helmClientMock)
+                .rollback(anyString(), anyInt());
+        final EnvironmentReset reset = EnvironmentReset.capture(helmClientMock, List.of("network"));
+
+        for (int cycle = 0; cycle < 3 * HISTORY_MAX; cycle++) {
+            deploy("network", "Upgrade complete");
+            assertThat(reset.reset()).containsExactly("network");
+            assertThat(reset.baseline()).containsEntry("network", latest("network"));
+        }
+
+        assertThat(histories.get("network")).hasSize(HISTORY_MAX).noneMatch(item -> item.revision() == 1);
+        assertThat(reset.reset()).isEmpty();
+    }
+
+    /**
+     * Returns the number of the most recent revision of the release.
+     */
+    private int latest(final String releaseName) {
+        final List<ReleaseHistoryItem> history = histories.get(releaseName);
+        return history.get(history.size() - 1).revision();
+    }
+
+    /**
+     * Appends a new deployed revision to the history of the release, marks the previous revision as superseded and
+     * prunes the oldest revisions beyond {@link #HISTORY_MAX} like Helm does.
+     */
+    private void deploy(final String releaseName, final String description) {
+        final List<ReleaseHistoryItem> history = histories.computeIfAbsent(releaseName, k -> new ArrayList<>());
+        if (!history.isEmpty()) {
+            final ReleaseHistoryItem last = history.remove(history.size() - 1);
+            history.add(new ReleaseHistoryItem(
+                    last.revision(),
+                    last.updated(),
+                    "superseded",
+                    last.chart(),
+                    last.app_version(),
+                    last.description()));
+        }
+
+        final int revision = history.isEmpty() ? 1 : history.get(history.size() - 1).revision() + 1;
+        history.add(new ReleaseHistoryItem(
+                revision, null, ReleaseHistoryItem.STATUS_DEPLOYED, "chart-1.0.0", "1.0.0", description));
+        while (history.size() > HISTORY_MAX) {
+            history.remove(0);
+        }
+    }
+}
@@ -408,7 +408,7 @@ class HelmClientTest {
         HelmExecutionException exception = assertThrows(
                 HelmExecutionException.class, () -> helmClient.dependencyUpdate(CHARTS_DIR + "/not-a-chart"));
         assertThat(exception.getMessage()).contains("Execution of the Helm command failed with exit code: 1");
-        assertThat(exception.getStdOut())
+        assertThat(exception.getStdErr())
                 .contains("Error: could not find " + CHARTS_DIR + "/not-a-chart: stat " + CHARTS_DIR
                         + "/not-a-chart: no such file or directory");
     }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.CacheStatistics;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.ManifestCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Manifest Cache Tests")
+class ManifestCacheTest {
+    private static final String MANIFEST = "---\n# Source: nginx/templates/service.yaml\nkind: Service\n";
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Manifests Are Rendered Once And Served From The Cache Afterwards")
+    void testManifestsAreRenderedOnce() {
+        final ManifestCache cache = ManifestCache.builder().directory(cacheDirectory).build();
+
+        assertThat(cache.contains("nginx")).isFalse();
+        assertThat(cache.get("nginx", renderer(MANIFEST))).isEqualTo(MANIFEST);
+        assertThat(cache.get("nginx", renderer(MANIFEST))).isEqualTo(MANIFEST);
+
+        assertThat(renders).hasValue(1);
+        assertThat(cache.contains("nginx")).isTrue();
+        assertThat(cache.statistics()).isEqualTo(new CacheStatistics(1, 1, 0, 0));
+        assertThat(cache.memorySizeBytes()).isEqualTo(MANIFEST.length());
+        assertThat(cache.diskSizeBytes()).isEqualTo(MANIFEST.length());
+    }
+
+    @Test
+    @DisplayName("Persisted Manifests Are Shared By Cache Instances Using The Same Directory")
+    void testManifestsArePersisted() {
+        ManifestCache.builder().directory(cacheDirectory).build().get("nginx", renderer(MANIFEST));
+
+        final ManifestCache reopened = ManifestCache.builder().directory(cacheDirectory).build();
+        assertThat(reopened.get("nginx", () -> {
+                    throw new AssertionError("the manifest should have been read from disk");
+                }))
+                .isEqualTo(MANIFEST);
+        assertThat(renders).hasValue(1);
+
+        final ManifestCache memoryOnly = ManifestCache.builder().persistent(false).build();
+        assertThat(memoryOnly.directory()).isNull();
+        memoryOnly.get("nginx", renderer(MANIFEST));
+        assertThat(renders).hasValue(2);
+        assertThat(memoryOnly.diskSizeBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Least Recently Used Manifests Are Evicted From Memory")
+    void testMemoryEviction() {
+        final ManifestCache cache = ManifestCache.builder().persistent(false).maxMemoryBytes(10).build();
+
+        cache.get("a", renderer("aaaaa"));
+        cache.get("b", renderer("bbbbb"));
+        // touch the first manifest so that the second one becomes the least recently used
+        cache.get("a", renderer("aaaaa"));
+        cache.get("c", renderer("ccccc"));
+
+        assertThat(cache.memorySizeBytes()).isEqualTo(10);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+
+        // a manifest larger than the limit is returned but not held in memory
+        assertThat(cache.get("d", renderer("ddddddddddddddd"))).isEqualTo("ddddddddddddddd");
+        assertThat(cache.contains("d")).isFalse();
+        assertThat(renders).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Least Recently Used Manifests Are Evicted From Disk")
+    void testDiskEviction() throws IOException {
+        final ManifestCache cache = ManifestCache.builder().directory(cacheDirectory).maxDiskBytes(10).build();
+
+        cache.get("a", renderer("aaaaa"));
+        cache.get("b", renderer("bbbbb"));
+        cache.get("c", renderer("ccccc"));
+
+        assertThat(cache.diskSizeBytes()).isLessThanOrEqualTo(10);
+        try (final Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files.filter(f -> f.toString().endsWith(".yaml"))).hasSize(2);
+        }
+
+        final ManifestCache reopened = ManifestCache.builder().directory(cacheDirectory).build();
+        assertThat(reopened.contains("c")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Invalidation Discards Every Cached Manifest")
+    void testInvalidateAll() {
+        final ManifestCache cache = ManifestCache.builder().directory(cacheDirectory).build();
+        cache.get("nginx", renderer(MANIFEST));
+
+        cache.invalidateAll();
+
+        assertThat(cache.contains("nginx")).isFalse();
+        assertThat(cache.memorySizeBytes()).isZero();
+        assertThat(cache.diskSizeBytes()).isZero();
+        cache.get("nginx", renderer(MANIFEST));
+        assertThat(renders).hasValue(2);
+        assertThat(cache.statistics().invalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failed Renders Are Not Cached")
+    void testFailuresAreNotCached() {
+        final ManifestCache cache = ManifestCache.builder().directory(cacheDirectory).build();
+        final HelmExecutionException failure = new HelmExecutionException(1);
+
+        assertThatThrownBy(() -> cache.get("nginx", () -> {
+                    throw failure;
+                }))
+                .isSameAs(failure);
+        assertThat(cache.contains("nginx")).isFalse();
+        assertThat(cache.get("nginx", renderer(MANIFEST))).isEqualTo(MANIFEST);
+    }
+
+    @Test
+    @DisplayName("Concurrent Requests Share A Single Render")
+    void testConcurrentRequestsAreCoalesced() throws Exception {
+        final int callers = 8;
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ManifestCache cache = ManifestCache.builder().directory(cacheDirectory).build();
+        final Supplier<String> slowRenderer = () -> {
+            renders.incrementAndGet();
+            started.countDown();
+            try {
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+
+            return MANIFEST;
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get("nginx", slowRenderer)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < callers; i++) {
+                futures.add(executor.submit(() -> cache.get("nginx", slowRenderer)));
+            }
+
+            while (cache.statistics().coalescedCount() < callers - 1) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+            for (final Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(MANIFEST);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(renders).hasValue(1);
+        assertThat(cache.statistics()).isEqualTo(new CacheStatistics(0, 1, callers - 1, 0));
+    }
+
+    private Supplier<String> renderer(final String content) {
+        return () -> {
+            renders.incrementAndGet();
+            return content;
+        };
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.MultiClusterException;
+import com.hedera.fullstack.helm.client.MultiClusterHelmClient;
+import com.hedera.fullstack.helm.client.MultiClusterResult;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Multi-Cluster Helm Client Tests")
+@ExtendWith(MockitoExtension.class)
+class MultiClusterHelmClientTest {
+    private static final ReleaseItem RELEASE = new ReleaseItem("release", "default", "1", null, "deployed", null, null);
+
+    @Mock
+    private HelmClient eastClientMock;
+
+    @Mock
+    private HelmClient westClientMock;
+
+    @Test
+    @DisplayName("Results And Failures Are Aggregated Per Cluster")
+    void testResultsAndFailuresAreAggregated() {
+        doReturn(List.of(RELEASE)).when(eastClientMock).listReleases(true);
+        final HelmExecutionException failure = new HelmExecutionException(1);
+        doThrow(failure).when(westClientMock).listReleases(true);
+        final MultiClusterHelmClient client = newClient(4);
+
+        final MultiClusterResult<List<ReleaseItem>> result = client.listReleases(true);
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.clusters()).containsExactly("east", "west");
+        assertThat(result.results()).containsOnlyKeys("east").containsEntry("east", List.of(RELEASE));
+        assertThat(result.failures()).containsOnlyKeys("west").containsEntry("west", failure);
+        assertThatThrownBy(result::orElseThrow)
+                .isInstanceOf(MultiClusterException.class)
+                .hasMessageContaining("1 of 2 clusters")
+                .hasCause(failure);
+    }
+
+    @Test
+    @DisplayName("Clusters Are Served Concurrently")
+    void testClustersAreServedConcurrently() {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final MultiClusterHelmClient client = newClient(1);
+
+        final MultiClusterResult<Boolean> result = client.executeOnAll(helm -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+
+        assertThat(result.orElseThrow()).containsEntry("east", true).containsEntry("west", true);
+    }
+
+    @Test
+    @DisplayName("Per-Cluster Concurrency Limit Is Respected")
+    void testPerClusterConcurrencyLimit() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final MultiClusterHelmClient client = newClient(2);
+
+        final MultiClusterResult<List<Integer>> result = client.executeEach(
+                Map.of("east", List.of(1, 2, 3, 4, 5, 6, 7, 8)), (helm, item) -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return item * 10;
+                });
+
+        assertThat(result.orElseThrow()).containsOnlyKeys("east");
+        assertThat(result.results().get("east")).containsExactly(10, 20, 30, 40, 50, 60, 70, 80);
+        assertThat(peak).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Failed Items Fail Their Cluster Only")
+    void testFailedItemsFailTheirCluster() {
+        final MultiClusterHelmClient client = newClient(4);
+
+        final MultiClusterResult<List<String>> result = client.executeEach(
+                Map.of("east", List.of("a", "b"), "west", List.of("c", "fail-1", "fail-2")), (helm, item) -> {
+                    if (item.startsWith("fail")) {
+                        throw new IllegalStateException(item);
+                    }
+                    return item.toUpperCase();
+                });
+
+        assertThat(result.results()).containsOnlyKeys("east").containsEntry("east", List.of("A", "B"));
+        assertThat(result.failures().get("west"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("fail-1");
+        assertThat(result.failures().get("west").getSuppressed()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Partitioned Operations Run Only On Their Cluster")
+    void testPartitionedOperations() {
+        doReturn(List.of(RELEASE)).when(westClientMock).listReleases(false);
+        final MultiClusterHelmClient client = newClient(4);
+
+        final Map<String, Function<HelmClient, List<ReleaseItem>>> operations =
+                Map.of("west", helm -> helm.listReleases(false));
+        final MultiClusterResult<List<ReleaseItem>> result = client.executePartitioned(operations);
+
+        assertThat(result.orElseThrow()).containsOnlyKeys("west");
+        verify(eastClientMock, never()).listReleases(false);
+
+        final Map<String, Function<HelmClient, String>> unknown = Map.of("north", helm -> "x");
+        assertThatThrownBy(() -> client.executePartitioned(unknown))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("north");
+    }
+
+    @Test
+    @DisplayName("Builder Rejects Invalid Configuration")
+    void testBuilderValidation() {
+        assertThatThrownBy(() -> MultiClusterHelmClient.builder().build()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> MultiClusterHelmClient.builder()
+                        .cluster("east", eastClientMock)
+                        .cluster("east", westClientMock))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultiClusterHelmClient.builder().maxConcurrencyPerCluster(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newClient(1).client("north")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Client Configurer Receives The Name Of Each Context Cluster")
+    void testClientConfigurerReceivesClusterName() {
+        final List<String> configured = new ArrayList<>();
+        final MultiClusterHelmClient client = MultiClusterHelmClient.builder()
+                .context("kind-east")
+                .context("kind-west")
+                .cluster("north", eastClientMock)
+                .clientConfigurer((cluster, builder) -> {
+                    configured.add(cluster);
+                    builder.helmExecutable(Path.of("helm")).defaultNamespace(cluster + "-ns");
+                })
+                .build();
+
+        assertThat(configured).containsExactly("kind-east", "kind-west");
+        assertThat(client.client("kind-east").defaultNamespace()).isEqualTo("kind-east-ns");
+        assertThat(client.client("kind-west").defaultNamespace()).isEqualTo("kind-west-ns");
+        assertThat(client.client("north")).isSameAs(eastClientMock);
+    }
+
+    private MultiClusterHelmClient newClient(final int maxConcurrencyPerCluster) {
+        return MultiClusterHelmClient.builder()
+                .cluster("east", eastClientMock)
+                .cluster("west", westClientMock)
+                .maxConcurrencyPerCluster(maxConcurrencyPerCluster)
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.ReleasePlanException;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.plan.FailurePolicy;
+import com.hedera.fullstack.helm.client.model.plan.ReleaseOutcome;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlanReport;
+import com.hedera.fullstack.helm.client.model.plan.ReleaseTiming;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Release Plan Install Tests")
+@ExtendWith(MockitoExtension.class)
+class ReleasePlanInstallTest {
+    private static final Chart CHART = new Chart("chart", "repo");
+
+    /**
+     * A fake helm executable which records the sub-command of every invocation, fails every installation and reports
+     * every release as missing when it is uninstalled, the same way the Helm CLI does.
+     */
+    private static final String FAKE_HELM_SCRIPT = """
+            #!/bin/sh
+            echo "$1" >> "$(dirname "$0")/calls"
+            if [ "$1" = "uninstall" ]; then
+              echo "Error: uninstall: Release not loaded: release: not found" >&2
+            else
+              echo "Error: INSTALLATION FAILED: context deadline exceeded" >&2
+            fi
+            exit 1
+            """;
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Independent Releases Are Installed Concurrently In Dependency Order")
+    void testInstallAllRespectsDependenciesAndParallelism() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        doCallRealMethod().when(helmClientMock).installAll(any(ReleasePlan.class));
+        doAnswer(invocation -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(50);
+                    running.decrementAndGet();
+                    return null;
+                })
+                .when(helmClientMock)
+                .installChart(anyString(), any(Chart.class), any(InstallChartOptions.class));
+
+        final ReleasePlanReport report = helmClientMock.installAll(plan(FailurePolicy.LEAVE_INSTALLED, 2));
+
+        assertThat(report.successful()).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(report.timing("mirror").startOffset())
+                .isGreaterThanOrEqualTo(report.timing("network").endOffset());
+        assertThat(report.timing("relay").startOffset()).isGreaterThanOrEqualTo(report.timing("mirror").endOffset());
+        assertThat(report.timing("explorer").startOffset())
+                .isGreaterThanOrEqualTo(report.timing("mirror").endOffset());
+        assertThat(report.criticalPath()).hasSize(3).startsWith("network", "mirror");
+        assertThat(report.criticalPathDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+        assertThat(report.elapsed()).isGreaterThanOrEqualTo(report.criticalPathDuration());
+        verify(helmClientMock, never()).uninstallChart(anyString());
+    }
+
+    @Test
+    @DisplayName("Installed Releases Are Rolled Back When A Release Fails")
+    void testInstallAllRollsBackOnFailure() {
+        final HelmExecutionException failure = new HelmExecutionException(1);
+        doCallRealMethod().when(helmClientMock).installAll(any(ReleasePlan.class));
+        doAnswer(invocation -> {
+                    if ("mirror".equals(invocation.getArgument(0))) {
+                        throw failure;
+                    }
+                    return null;
+                })
+                .when(helmClientMock)
+                .installChart(anyString(), any(Chart.class), any(InstallChartOptions.class));
+
+        assertThatThrownBy(() -> helmClientMock.installAll(plan(FailurePolicy.ROLLBACK, 4)))
+                .isInstanceOfSatisfying(ReleasePlanException.class, e -> {
+                    assertThat(e).hasCauseReference(failure);
+                    final ReleasePlanReport report = e.getReport();
+                    assertThat(report.successful()).isFalse();
+                    assertThat(report.timing("network").outcome()).isEqualTo(ReleaseOutcome.ROLLED_BACK);
+                    assertThat(report.timing("monitoring").outcome()).isEqualTo(ReleaseOutcome.ROLLED_BACK);
+                    assertThat(report.timing("mirror").outcome()).isEqualTo(ReleaseOutcome.FAILED);
+                    assertThat(report.timing("mirror").failure()).isSameAs(failure);
+                    assertThat(report.timing("relay").outcome()).isEqualTo(ReleaseOutcome.SKIPPED);
+                    assertThat(report.timing("explorer").outcome()).isEqualTo(ReleaseOutcome.SKIPPED);
+                });
+
+        verify(helmClientMock).uninstallChart("network");
+        verify(helmClientMock).uninstallChart("monitoring");
+        verify(helmClientMock).uninstallChart("mirror");
+    }
+
+    @Test
+    @DisplayName("Failed Releases Which Were Not Left Behind Are Tolerated During Rollback")
+    void testInstallAllToleratesMissingFailedRelease() {
+        final HelmExecutionException failure = new HelmExecutionException(1);
+        doCallRealMethod().when(helmClientMock).installAll(any(ReleasePlan.class));
+        doThrow(failure)
+                .when(helmClientMock)
+                .installChart(anyString(), any(Chart.class), any(InstallChartOptions.class));
+        doThrow(new HelmExecutionException(1, "", "Error: uninstall: Release not loaded: network: release: not found"))
+                .when(helmClientMock)
+                .uninstallChart("network");
+        doThrow(new HelmExecutionException(1, "", "Error: Kubernetes cluster unreachable"))
+                .when(helmClientMock)
+                .uninstallChart("monitoring");
+
+        assertThatThrownBy(() -> helmClientMock.installAll(plan(FailurePolicy.ROLLBACK, 4)))
+                .isInstanceOfSatisfying(ReleasePlanException.class, e -> {
+                    assertThat(e).hasCauseReference(failure);
+                    assertThat(failure.getSuppressed()).hasSize(1);
+                    assertThat(((HelmExecutionException) failure.getSuppressed()[0]).getStdErr())
+                            .contains("unreachable");
+                    assertThat(e.getReport().timing("network").outcome()).isEqualTo(ReleaseOutcome.FAILED);
+                    assertThat(e.getReport().timing("monitoring").outcome()).isEqualTo(ReleaseOutcome.FAILED);
+                });
+    }
+
+    @Test
+    @DisplayName("Failed Releases Reported Missing By The Helm CLI Are Tolerated During Rollback")
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    void testInstallAllToleratesReleasesReportedMissingByHelm() throws IOException {
+        final Path helm = tempDir.resolve("helm");
+        Files.writeString(helm, FAKE_HELM_SCRIPT);
+        assertThat(helm.toFile().setExecutable(true)).isTrue();
+        final HelmClient client = HelmClient.builder().helmExecutable(helm).workingDirectory(tempDir).build();
+
+        assertThatThrownBy(() -> client.installAll(plan(FailurePolicy.ROLLBACK, 1)))
+                .isInstanceOfSatisfying(ReleasePlanException.class, e -> {
+                    assertThat(e.getCause()).isInstanceOf(HelmExecutionException.class);
+                    assertThat(e.getCause().getSuppressed()).isEmpty();
+                    assertThat(e.getReport().timing("network").outcome()).isEqualTo(ReleaseOutcome.FAILED);
+                });
+        assertThat(Files.readAllLines(tempDir.resolve("calls"))).containsExactly("install", "uninstall");
+    }
+
+    @Test
+    @DisplayName("Installed Releases Are Left In Place When The Policy Requests It")
+    void testInstallAllLeavesInstalledReleases() {
+        doCallRealMethod().when(helmClientMock).installAll(any(ReleasePlan.class));
+        doThrow(new HelmExecutionException(1))
+                .when(helmClientMock)
+                .installChart(anyString(), any(Chart.class), any(InstallChartOptions.class));
+
+        assertThatThrownBy(() -> helmClientMock.installAll(plan(FailurePolicy.LEAVE_INSTALLED, 1)))
+                .isInstanceOfSatisfying(ReleasePlanException.class, e -> assertThat(e.getReport().releases())
+                        .extracting(ReleaseTiming::outcome)
+                        .containsExactly(
+                                ReleaseOutcome.FAILED,
+                                ReleaseOutcome.SKIPPED,
+                                ReleaseOutcome.SKIPPED,
+                                ReleaseOutcome.SKIPPED,
+                                ReleaseOutcome.SKIPPED));
+
+        verify(helmClientMock, never()).uninstallChart(anyString());
+    }
+
+    /**
+     * Creates a plan shaped like a fullstack network: network, then mirror, then relay and explorer, plus an
+     * independent monitoring release.
+     */
+    private static ReleasePlan plan(final FailurePolicy failurePolicy, final int maxParallelism) {
+        return ReleasePlan.builder()
+                .release("network", CHART)
+                .release("mirror", CHART, "network")
+                .release("relay", CHART, "mirror")
+                .release("explorer", CHART, "mirror")
+                .release("monitoring", CHART)
+                .maxParallelism(maxParallelism)
+                .failurePolicy(failurePolicy)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.ReleaseStatusSubscription;
+import com.hedera.fullstack.helm.client.ReleaseStatusWatcher;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import com.hedera.fullstack.helm.client.model.release.ReleaseListOptions;
+import com.hedera.fullstack.helm.client.model.release.ReleaseStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Release Status Watcher Tests")
+@ExtendWith(MockitoExtension.class)
+class ReleaseStatusWatcherTest {
+    private static final String NAMESPACE = "default";
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @Test
+    @DisplayName("Concurrent Waiters Share The Polls Of A Namespace")
+    void testWaitersShareThePolls() throws Exception {
+        final AtomicReference<String> status = new AtomicReference<>("pending-install");
+        doAnswer(invocation -> {
+                    assertThat(invocation.getArgument(0, ReleaseListOptions.class).all()).isTrue();
+                    return Stream.of(release(status.get()));
+                })
+                .when(helmClientMock)
+                .streamReleases(any(ReleaseListOptions.class));
+
+        try (final ReleaseStatusWatcher watcher = watcher()) {
+            final List<CompletableFuture<ReleaseItem>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(watcher.awaitStatus(NAMESPACE, "release", "deployed", Duration.ofSeconds(10)));
+            }
+
+            Thread.sleep(300);
+            assertThat(futures).noneMatch(CompletableFuture::isDone);
+            assertThat(watcher.pollCount()).isBetween(1L, 8L);
+
+            status.set("deployed");
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            assertThat(futures.get(0).join().status()).isEqualTo("deployed");
+        }
+    }
+
+    @Test
+    @DisplayName("Subscribers Receive Only Changed Statuses")
+    void testSubscribersReceiveChanges() throws Exception {
+        final AtomicReference<String> status = new AtomicReference<>("deployed");
+        doAnswer(invocation -> status.get() == null ? Stream.empty() : Stream.of(release(status.get())))
+                .when(helmClientMock)
+                .streamReleases(any(ReleaseListOptions.class));
+
+        try (final ReleaseStatusWatcher watcher = watcher()) {
+            final List<ReleaseStatus> statuses = new CopyOnWriteArrayList<>();
+            try (final ReleaseStatusSubscription ignored = watcher.subscribe(NAMESPACE, "release", statuses::add)) {
+                final CompletableFuture<Void> absent =
+                        watcher.awaitAbsent(NAMESPACE, "release", Duration.ofSeconds(10));
+                Thread.sleep(200);
+                assertThat(statuses).hasSize(1);
+                assertThat(absent).isNotDone();
+
+                status.set(null);
+                absent.get(5, TimeUnit.SECONDS);
+                Thread.sleep(200);
+            }
+
+            assertThat(statuses).extracting(ReleaseStatus::status).containsExactly("deployed", null);
+        }
+    }
+
+    @Test
+    @DisplayName("Waiting Times Out And Closing The Watcher Cancels The Waiters")
+    void testTimeoutAndClose() {
+        doAnswer(invocation -> Stream.of(release("failed")))
+                .when(helmClientMock)
+                .streamReleases(any(ReleaseListOptions.class));
+        final ReleaseStatusWatcher watcher = watcher();
+
+        final CompletableFuture<ReleaseItem> timedOut =
+                watcher.awaitStatus(NAMESPACE, "release", "deployed", Duration.ofMillis(100));
+        assertThatThrownBy(() -> timedOut.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        final CompletableFuture<ReleaseItem> waiting =
+                watcher.awaitStatus(NAMESPACE, "release", "deployed", Duration.ofSeconds(10));
+        watcher.close();
+
+        assertThat(waiting).isCancelled();
+        assertThatThrownBy(() -> watcher.subscribe(NAMESPACE, "release", status -> {}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ReleaseStatusWatcher watcher() {
+        return ReleaseStatusWatcher.builder()
+                .namespace(NAMESPACE, helmClientMock)
+                .minPollInterval(Duration.ofMillis(20))
+                .maxPollInterval(Duration.ofMillis(100))
+                .build();
+    }
+
+    private static ReleaseItem release(final String status) {
+        return new ReleaseItem("release", NAMESPACE, "1", null, status, null, null);
+    }
+}
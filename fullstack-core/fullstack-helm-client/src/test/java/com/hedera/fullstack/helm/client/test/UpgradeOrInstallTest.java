@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.ReleaseDigest;
+import com.hedera.fullstack.helm.client.model.install.UpgradeOutcome;
+import com.hedera.fullstack.helm.client.model.install.UpgradeResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Upgrade Or Install Tests")
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class UpgradeOrInstallTest {
+    private static final Chart CHART = new Chart("mysql", "bitnami");
+
+    private static final InstallChartOptions OPTIONS = InstallChartOptions.builder().version("9.10.2").build();
+
+    /**
+     * A fake helm executable which records the sub-command of every invocation and reports the release stored next to
+     * it for the {@code status} and {@code upgrade} sub-commands.
+     */
+    private static final String FAKE_HELM_SCRIPT = """
+            #!/bin/sh
+            dir=$(dirname "$0")
+            echo "$1" >> "$dir/calls"
+            cat "$dir/release.json"
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path bin;
+
+    private HelmClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bin = Files.createDirectories(tempDir.resolve("bin"));
+        final Path helm = bin.resolve("helm");
+        Files.writeString(helm, FAKE_HELM_SCRIPT);
+        assertThat(helm.toFile().setExecutable(true)).isTrue();
+        client = HelmClient.builder().helmExecutable(helm).workingDirectory(tempDir).build();
+    }
+
+    @Test
+    @DisplayName("Releases Deployed With The Same Digest Are Skipped Without Running Upgrade")
+    void testMatchingDigestSkipsUpgrade() throws IOException {
+        final String digest = ReleaseDigest.compute(CHART, OPTIONS, tempDir);
+        deployed(ReleaseDigest.describe(null, digest));
+
+        final UpgradeResult result = client.upgradeOrInstall("mysql", CHART, OPTIONS);
+
+        assertThat(result.outcome()).isEqualTo(UpgradeOutcome.SKIPPED);
+        assertThat(result.digest()).isEqualTo(digest);
+        assertThat(Files.readAllLines(bin.resolve("calls"))).containsExactly("status");
+    }
+
+    @Test
+    @DisplayName("Releases Deployed With A Different Digest Are Upgraded")
+    void testDifferentDigestRunsUpgrade() throws IOException {
+        deployed(ReleaseDigest.describe(null, "0".repeat(64)));
+
+        final UpgradeResult result = client.upgradeOrInstall("mysql", CHART, OPTIONS);
+
+        assertThat(result.outcome()).isEqualTo(UpgradeOutcome.UPGRADED);
+        assertThat(Files.readAllLines(bin.resolve("calls"))).containsExactly("status", "upgrade");
+    }
+
+    private void deployed(final String description) throws IOException {
+        Files.writeString(bin.resolve("release.json"), """
+                {"name": "mysql", "info": {"status": "deployed", "description": "%s"}}
+                """.formatted(description));
+    }
+}
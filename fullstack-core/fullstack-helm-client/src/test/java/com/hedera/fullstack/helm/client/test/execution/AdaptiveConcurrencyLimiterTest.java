@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.execution.AdaptiveConcurrencyLimiter;
+import com.hedera.fullstack.helm.client.execution.ConcurrencyLimiterMetrics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+    private static final HelmExecutionException THROTTLED = new HelmExecutionException(
+            1, "", "I1012 Waited for 1.1s due to client-side throttling, not priority and fairness");
+
+    private static final String KUBE_CONFIG = """
+            apiVersion: v1
+            kind: Config
+            current-context: kind-primary
+            clusters:
+              - name: kind-primary
+                cluster:
+                  server: https://127.0.0.1:7443
+              - name: kind-secondary
+                cluster:
+                  server: https://127.0.0.2:7443
+            contexts:
+              - name: kind-primary
+                context:
+                  cluster: kind-primary
+              - name: kind-primary-admin
+                context:
+                  cluster: kind-primary
+                  user: admin
+              - name: kind-secondary
+                context:
+                  cluster: kind-secondary
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Throttling Failures In The Same Round Trip Reduce The Limit Once")
+    void testCongestionReducesLimitOncePerRoundTrip() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter =
+                AdaptiveConcurrencyLimiter.builder().initialLimit(8).build();
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch fail = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> limiter.execute(() -> {
+                    started.countDown();
+                    awaitUninterruptibly(fail);
+                    throw THROTTLED;
+                })));
+            }
+
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(limiter.metrics().inFlight()).isEqualTo(2);
+            fail.countDown();
+            for (final Future<?> future : futures) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseReference(THROTTLED);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.metrics().congestionCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> limiter.execute(() -> {
+                    throw THROTTLED;
+                }))
+                .isSameAs(THROTTLED);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("The Limit Only Grows While The Limiter Is Saturated")
+    void testLimitGrowsOnlyWhenSaturated() {
+        final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxLimit(3)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.execute(() -> "ok")).isEqualTo("ok");
+        }
+
+        assertThatThrownBy(() -> limiter.execute(() -> {
+                    throw new HelmExecutionException(1, "", "Error: release: not found");
+                }))
+                .isInstanceOf(HelmExecutionException.class);
+
+        assertThat(limiter.metrics()).isEqualTo(new ConcurrencyLimiterMetrics(2, 0, 0, 5, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Operations Wait For A Permit And Are Reported As Queued")
+    void testQueueDepth() throws Exception {
+        final AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .build();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final Future<String> first = executor.submit(() -> limiter.execute(() -> {
+                started.countDown();
+                awaitUninterruptibly(finish);
+                return "first";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final Future<String> second = executor.submit(() -> limiter.execute(() -> "second"));
+            while (limiter.queueDepth() == 0) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(limiter.metrics().inFlight()).isEqualTo(1);
+            assertThat(second.isDone()).isFalse();
+
+            finish.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+            assertThat(limiter.queueDepth()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Congestion Is Detected From Helm Error Output")
+    void testIsCongestion() {
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(THROTTLED)).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(new HelmExecutionException(
+                        1, "Error: the server has received too many requests and has asked us to try again later", "")))
+                .isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(
+                        new RuntimeException(new HelmExecutionException(1, "", "net/http: TLS handshake timeout"))))
+                .isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(new HelmExecutionException(1, "", "Error: not found")))
+                .isFalse();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(new IllegalStateException("429")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Limiters Are Shared Per API Server")
+    void testForApiServer() {
+        assertThat(AdaptiveConcurrencyLimiter.forApiServer("https://127.0.0.1:6443"))
+                .isSameAs(AdaptiveConcurrencyLimiter.forApiServer("https://127.0.0.1:6443"))
+                .isNotSameAs(AdaptiveConcurrencyLimiter.forApiServer("https://10.0.0.1:6443"));
+        assertThat(AdaptiveConcurrencyLimiter.forApiServer(null)).isSameAs(AdaptiveConcurrencyLimiter.forApiServer(""));
+    }
+
+    @Test
+    @DisplayName("Kube Config Limiters Are Shared Per Resolved API Server")
+    void testForKubeConfig() throws IOException {
+        final Path kubeConfig = Files.writeString(tempDir.resolve("config"), KUBE_CONFIG);
+
+        assertThat(AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, null))
+                .isSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, "kind-primary"))
+                .isSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, "kind-primary-admin"))
+                .isSameAs(AdaptiveConcurrencyLimiter.forApiServer("https://127.0.0.1:7443"))
+                .isNotSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, "kind-secondary"));
+
+        // contexts which cannot be resolved are keyed by the kube config file and context
+        final Path missing = tempDir.resolve("missing");
+        assertThat(AdaptiveConcurrencyLimiter.forKubeConfig(missing, "one"))
+                .isSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(missing, "one"))
+                .isNotSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(missing, "two"))
+                .isNotSameAs(AdaptiveConcurrencyLimiter.forKubeConfig(kubeConfig, "unknown"));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBackend;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.execution.HelmFixture;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Helm Execution Backend Tests")
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class HelmExecutionBackendTest {
+    /**
+     * A fake helm executable which echoes its arguments, counts its invocations and fails the {@code fail} subcommand.
+     */
+    private static final String FAKE_HELM_SCRIPT = """
+            #!/bin/sh
+            count=$(cat "$(dirname "$0")/count" 2>/dev/null || echo 0)
+            count=$((count + 1))
+            echo "$count" > "$(dirname "$0")/count"
+            if [ "$1" = "fail" ]; then
+              echo "Error: release not found" >&2
+              exit 3
+            fi
+            echo "$* #$count"
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    private Path helm;
+
+    private Path fixtures;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path bin = Files.createDirectories(tempDir.resolve("bin"));
+        helm = bin.resolve("helm");
+        Files.writeString(helm, FAKE_HELM_SCRIPT);
+        assertThat(helm.toFile().setExecutable(true)).isTrue();
+        fixtures = tempDir.resolve("fixtures");
+    }
+
+    @Test
+    @DisplayName("Replay Serves The Recorded Output Without Spawning Helm")
+    void testRecordThenReplay() throws Exception {
+        final HelmExecutionBackend recorder = HelmExecutionBackend.record(fixtures);
+        assertThat(execute(recorder, "list", "--output", "json")).isEqualTo("list --output json #1\n");
+
+        final HelmExecution failed = builder(recorder, "fail", "missing").build();
+        failed.waitFor();
+        assertThat(failed.exitCode()).isEqualTo(3);
+        assertThat(failed.standardError().readAllBytes()).asString(StandardCharsets.UTF_8)
+                .isEqualTo("Error: release not found\n");
+
+        try (Stream<Path> files = Files.list(fixtures)) {
+            assertThat(files.map(f -> f.getFileName().toString()))
+                    .hasSize(2)
+                    .allMatch(f -> f.endsWith("-001.json"))
+                    .anyMatch(f -> f.startsWith("list-"))
+                    .anyMatch(f -> f.startsWith("fail_missing-"));
+        }
+
+        Files.delete(helm);
+        final HelmExecutionBackend replayer = HelmExecutionBackend.replay(fixtures);
+        assertThat(execute(replayer, "list", "--output", "json")).isEqualTo("list --output json #1\n");
+
+        final HelmExecution replayed = builder(replayer, "fail", "missing").build();
+        replayed.waitFor();
+        assertThat(replayed.exitCode()).isEqualTo(3);
+        assertThat(replayed.standardError().readAllBytes()).asString(StandardCharsets.UTF_8)
+                .isEqualTo("Error: release not found\n");
+    }
+
+    @Test
+    @DisplayName("Repeated Commands Are Replayed In Order And The Last Execution Is Repeated")
+    void testRepeatedCommandsReplayInOrder() throws Exception {
+        final HelmExecutionBackend recorder = HelmExecutionBackend.record(fixtures);
+        assertThat(execute(recorder, "status", "release")).isEqualTo("status release #1\n");
+        assertThat(execute(recorder, "status", "release")).isEqualTo("status release #2\n");
+
+        final HelmExecutionBackend replayer = HelmExecutionBackend.replay(fixtures);
+        assertThat(execute(replayer, "status", "release")).isEqualTo("status release #1\n");
+        assertThat(execute(replayer, "status", "release")).isEqualTo("status release #2\n");
+        assertThat(execute(replayer, "status", "release")).isEqualTo("status release #2\n");
+
+        // a new backend starts again from the first recorded execution
+        assertThat(execute(HelmExecutionBackend.replay(fixtures), "status", "release"))
+                .isEqualTo("status release #1\n");
+    }
+
+    @Test
+    @DisplayName("Working Directory Paths Are Normalized")
+    void testWorkingDirectoryIsNormalized() throws Exception {
+        final Path recordDir = Files.createDirectories(tempDir.resolve("record"));
+        final Path replayDir = Files.createDirectories(tempDir.resolve("replay"));
+
+        final String recorded = builder(HelmExecutionBackend.record(fixtures), "install", "release")
+                .workingDirectory(recordDir)
+                .positional(recordDir.resolve("chart").toString())
+                .build()
+                .responseAsString();
+
+        final String replayed = builder(HelmExecutionBackend.replay(fixtures), "install", "release")
+                .workingDirectory(replayDir)
+                .positional(replayDir.resolve("chart").toString())
+                .build()
+                .responseAsString();
+
+        assertThat(replayed).isEqualTo(recorded).contains(recordDir.resolve("chart").toString());
+    }
+
+    @Test
+    @DisplayName("Credentials Are Redacted From The Fixtures")
+    void testCredentialsAreRedacted() throws Exception {
+        builder(HelmExecutionBackend.record(fixtures), "pull", "chart")
+                .argument("username", "recording-user")
+                .argument("password", "recording-secret")
+                .build()
+                .responseAsString();
+
+        // the fake helm echoes its arguments, therefore only the recorded command line is checked
+        final HelmFixture fixture;
+        try (Stream<Path> files = Files.list(fixtures)) {
+            fixture = new ObjectMapper().readValue(files.findFirst().orElseThrow().toFile(), HelmFixture.class);
+        }
+        assertThat(fixture.command())
+                .containsExactly("pull", "--password", "${redacted}", "--username", "${redacted}", "chart");
+
+        // the credentials do not affect the fixture key, so replays match whatever credentials are supplied
+        final String replayed = builder(HelmExecutionBackend.replay(fixtures), "pull", "chart")
+                .argument("username", "replaying-user")
+                .argument("password", "replaying-secret")
+                .build()
+                .responseAsString();
+        assertThat(replayed).endsWith("chart #1\n");
+    }
+
+    @Test
+    @DisplayName("Unrecorded Commands Fail To Start")
+    void testUnrecordedCommandFails() throws Exception {
+        execute(HelmExecutionBackend.record(fixtures), "list");
+        final HelmExecutionBackend replayer = HelmExecutionBackend.replay(fixtures);
+
+        assertThatThrownBy(() -> builder(replayer, "list", "--all").build())
+                .isInstanceOf(HelmConfigurationException.class)
+                .hasMessageContaining("no recorded helm execution matches the command [list --all]");
+    }
+
+    private String execute(final HelmExecutionBackend backend, final String... command) {
+        return builder(backend, command).build().responseAsString();
+    }
+
+    private HelmExecutionBuilder builder(final HelmExecutionBackend backend, final String... command) {
+        final HelmExecutionBuilder builder = new HelmExecutionBuilder(helm)
+                .workingDirectory(tempDir)
+                .backend(backend)
+                .subcommands(command[0]);
+        for (final String argument : Arrays.copyOfRange(command, 1, command.length)) {
+            if (argument.startsWith("--")) {
+                builder.flag(argument);
+            } else {
+                builder.positional(argument);
+            }
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.HelmParserException;
+import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionOptions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+@DisplayName("Helm Execution Cancellation Tests")
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class HelmExecutionCancellationTest {
+    /**
+     * A shell script which writes a line of output and then waits on two children which hold the output pipes open.
+     */
+    private static final String PROCESS_TREE_SCRIPT = "echo started; sleep 60 & sleep 60 & wait";
+
+    @Test
+    @DisplayName("Cancel Destroys The Process And All Of Its Descendants")
+    void testCancelDestroysProcessTree() throws Exception {
+        final Process process = startProcessTree();
+        final List<ProcessHandle> descendants = awaitDescendants(process, 2);
+        final HelmExecution execution = new HelmExecution(process);
+
+        execution.cancel();
+
+        assertThat(execution.isCancelled()).isTrue();
+        assertThat(process.isAlive()).isFalse();
+        awaitExit(descendants);
+        assertThat(new String(execution.standardOutput().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("started\n");
+
+        execution.cancel();
+        assertThat(execution.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Elapsed Deadline Cancels The Execution")
+    void testDeadlineCancelsExecution() throws Exception {
+        final Process process = startProcessTree();
+        final List<ProcessHandle> descendants = awaitDescendants(process, 2);
+        final HelmExecution execution =
+                new HelmExecution(process, HelmExecutionOptions.builder().timeout(Duration.ofMillis(200)).build());
+
+        assertThatThrownBy(execution::call).isInstanceOf(HelmParserException.class);
+
+        assertThat(execution.isCancelled()).isTrue();
+        assertThat(execution.remaining()).isEqualTo(Duration.ZERO);
+        assertThat(process.isAlive()).isFalse();
+        awaitExit(descendants);
+    }
+
+    @Test
+    @DisplayName("Wait For Leaves The Process Running Until The Deadline Elapses")
+    void testWaitForOnlyCancelsAtDeadline() throws Exception {
+        final Process process = startProcessTree();
+        awaitDescendants(process, 2);
+        final HelmExecution execution =
+                new HelmExecution(process, HelmExecutionOptions.builder().timeout(Duration.ofMinutes(1)).build());
+
+        try {
+            assertThat(execution.waitFor(Duration.ofMillis(50))).isFalse();
+            assertThat(execution.isCancelled()).isFalse();
+            assertThat(process.isAlive()).isTrue();
+        } finally {
+            execution.cancel();
+        }
+    }
+
+    @Test
+    @DisplayName("Interrupting The Waiting Thread Cancels The Execution")
+    void testInterruptCancelsExecution() throws Exception {
+        final Process process = startProcessTree();
+        final List<ProcessHandle> descendants = awaitDescendants(process, 2);
+        final HelmExecution execution = new HelmExecution(process);
+        final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+        final Thread caller = new Thread(() -> {
+            execution.call();
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        caller.start();
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(interrupted).isTrue();
+        assertThat(execution.isCancelled()).isTrue();
+        assertThat(process.isAlive()).isFalse();
+        awaitExit(descendants);
+    }
+
+    private static Process startProcessTree() throws IOException {
+        return new ProcessBuilder("sh", "-c", PROCESS_TREE_SCRIPT).start();
+    }
+
+    private static List<ProcessHandle> awaitDescendants(final Process process, final int count)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<ProcessHandle> descendants = process.descendants().toList();
+        while (descendants.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            descendants = process.descendants().toList();
+        }
+
+        assertThat(descendants).hasSize(count);
+        return descendants;
+    }
+
+    private static void awaitExit(final List<ProcessHandle> handles) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (handles.stream().anyMatch(ProcessHandle::isAlive) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(handles).noneMatch(ProcessHandle::isAlive);
+    }
+}
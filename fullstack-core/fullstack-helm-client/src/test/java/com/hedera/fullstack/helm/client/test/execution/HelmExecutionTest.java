@@ -19,11 +19,14 @@ package com.hedera.fullstack.helm.client.test.execution;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.fullstack.helm.client.HelmExecutionException;
 import com.hedera.fullstack.helm.client.HelmParserException;
 import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionOptions;
 import com.hedera.fullstack.helm.client.model.Repository;
 import com.jcovalent.junit.logging.JCovalentLoggingSupport;
 import com.jcovalent.junit.logging.LogEntryBuilder;
@@ -32,8 +35,10 @@ import com.jcovalent.junit.logging.assertj.LoggingOutputAssert;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -166,4 +171,54 @@ class HelmExecutionTest {
         assertThat(exception.getStdOut()).contains(standardOutputMessage);
         assertThat(exception.getStdErr()).contains(standardErrorMessage);
     }
+
+    @Test
+    @DisplayName("Test response as closes the standard error once the response is read")
+    void testResponseAsClosesStandardError() throws InterruptedException, IOException {
+        doReturn(inputStreamMock).when(processMock).getInputStream();
+        doReturn(inputStreamMock).when(processMock).getErrorStream();
+        final HelmExecution helmExecution = Mockito.spy(new HelmExecution(processMock));
+        final Duration timeout = Duration.ofSeconds(1);
+        doReturn(0).when(helmExecution).exitCode();
+        doReturn(true).when(helmExecution).waitFor(any(Duration.class));
+        final String standardOutputMessage = "{\"name\": \"stable\", \"url\": \"https://charts.helm.sh/stable\"}";
+        doReturn(new ByteArrayInputStream(standardOutputMessage.getBytes()))
+                .when(helmExecution)
+                .standardOutput();
+        final InputStream standardError = Mockito.spy(new ByteArrayInputStream("warning".getBytes()));
+        doReturn(standardError).when(helmExecution).standardError();
+
+        final Repository repository = helmExecution.responseAs(Repository.class, timeout);
+
+        assertThat(repository).isEqualTo(new Repository("stable", "https://charts.helm.sh/stable"));
+        verify(standardError, atLeastOnce()).close();
+    }
+
+    @Test
+    @DisplayName("Test streaming listeners receive each line of output")
+    void testStreamingListenersReceiveOutput() throws IOException {
+        doReturn(new ByteArrayInputStream("line one\nline two\n".getBytes(StandardCharsets.UTF_8)))
+                .when(processMock)
+                .getInputStream();
+        doReturn(new ByteArrayInputStream("warning\n".getBytes(StandardCharsets.UTF_8)))
+                .when(processMock)
+                .getErrorStream();
+        final List<String> standardOutputLines = new CopyOnWriteArrayList<>();
+        final List<String> standardErrorLines = new CopyOnWriteArrayList<>();
+
+        final HelmExecutionOptions options = HelmExecutionOptions.builder()
+                .standardOutputListener(standardOutputLines::add)
+                .standardErrorListener(standardErrorLines::add)
+                .retainOutput(false)
+                .build();
+
+        final HelmExecution helmExecution = new HelmExecution(processMock, options);
+        helmExecution.call();
+
+        assertThat(standardOutputLines).containsExactly("line one", "line two");
+        assertThat(standardErrorLines).containsExactly("warning");
+        assertThat(helmExecution.standardOutput().readAllBytes()).isEmpty();
+        assertThat(helmExecution.standardOutputBytes()).isEqualTo(18);
+        assertThat(helmExecution.standardErrorBytes()).isEqualTo(8);
+    }
 }
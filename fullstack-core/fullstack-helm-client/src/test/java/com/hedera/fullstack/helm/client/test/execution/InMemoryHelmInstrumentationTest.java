@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionEvent;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionStatistics;
+import com.hedera.fullstack.helm.client.execution.InMemoryHelmInstrumentation;
+import com.hedera.fullstack.helm.client.execution.LatencyHistogram;
+import com.hedera.fullstack.helm.client.execution.LatencySnapshot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("In Memory Helm Instrumentation Tests")
+class InMemoryHelmInstrumentationTest {
+
+    @Test
+    @DisplayName("Latency Histogram Reports Percentiles Within The Bucket Precision")
+    void testHistogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        final LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.min()).isEqualTo(Duration.ofMillis(1));
+        assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(1000));
+        assertThat(snapshot.mean().toNanos()).isCloseTo(Duration.ofMillis(500).toNanos(), within(1_000_000L));
+        assertThat(snapshot.p50().toNanos()).isCloseTo(Duration.ofMillis(500).toNanos(), within(16_000_000L));
+        assertThat(snapshot.p99().toNanos()).isCloseTo(Duration.ofMillis(990).toNanos(), within(31_000_000L));
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(snapshot.max());
+        assertThatThrownBy(() -> histogram.valueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new LatencyHistogram().snapshot()).isEqualTo(LatencySnapshot.EMPTY);
+    }
+
+    @Test
+    @DisplayName("Latency Histogram Accepts Extreme Values")
+    void testHistogramExtremeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(-1);
+        histogram.recordNanos(Long.MAX_VALUE);
+
+        assertThat(histogram.valueAtPercentile(0)).isEqualTo(Duration.ZERO);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Executions Are Aggregated Per Subcommand")
+    void testExecutionsAreAggregatedPerSubcommand() {
+        final InMemoryHelmInstrumentation instrumentation = new InMemoryHelmInstrumentation();
+        instrumentation.executionCompleted(event("install", Duration.ofSeconds(10), 0, false));
+        instrumentation.executionCompleted(event("install", Duration.ofSeconds(30), 1, false));
+        instrumentation.executionCompleted(event("dependency update", Duration.ofSeconds(2), -1, true));
+
+        assertThat(instrumentation.snapshot()).containsOnlyKeys("dependency update", "install");
+
+        final HelmExecutionStatistics install = instrumentation.statistics("install");
+        assertThat(install.executionCount()).isEqualTo(2);
+        assertThat(install.failureCount()).isEqualTo(1);
+        assertThat(install.cancelledCount()).isZero();
+        assertThat(install.wallTime().max()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(install.standardOutputBytes()).isEqualTo(200);
+        assertThat(install.standardErrorBytes()).isEqualTo(20);
+
+        final HelmExecutionStatistics dependencyUpdate = instrumentation.statistics("dependency update");
+        assertThat(dependencyUpdate.failureCount()).isEqualTo(1);
+        assertThat(dependencyUpdate.cancelledCount()).isEqualTo(1);
+
+        assertThat(instrumentation.statistics("list").executionCount()).isZero();
+        instrumentation.reset();
+        assertThat(instrumentation.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Concurrent Executions Are Recorded Without Loss")
+    void testConcurrentRecording() throws Exception {
+        final int threads = 8;
+        final int perThread = 10_000;
+        final InMemoryHelmInstrumentation instrumentation = new InMemoryHelmInstrumentation();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        instrumentation.executionCompleted(event("list", Duration.ofMillis(i % 100), 0, false));
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final HelmExecutionStatistics list = instrumentation.statistics("list");
+        assertThat(list.executionCount()).isEqualTo((long) threads * perThread);
+        assertThat(list.spawnLatency().count()).isEqualTo((long) threads * perThread);
+        assertThat(list.standardOutputBytes()).isEqualTo(100L * threads * perThread);
+    }
+
+    private static HelmExecutionEvent event(
+            final String subcommand, final Duration wallTime, final int exitCode, final boolean cancelled) {
+        return new HelmExecutionEvent(
+                subcommand, "default", Duration.ofMillis(1), wallTime, exitCode, 100, 10, cancelled);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.model.release.ReleaseItem;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the stream based response parsing of the {@link HelmExecution} and compares its heap allocations against
+ * the legacy {@code String} based parsing. The comparison is tagged as a benchmark, which only runs when requested with
+ * {@code -PincludeBenchmarks}, and its measurements are reported through the test log.
+ */
+@DisplayName("Response Parsing Allocation Benchmark")
+@ExtendWith(MockitoExtension.class)
+class ResponseParsingAllocationTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseParsingAllocationTest.class);
+
+    private static final int RELEASE_COUNT = 20_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static final ObjectReader READER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(ReleaseItem.class);
+
+    private static byte[] releaseListJson;
+
+    @Mock
+    private Process processMock;
+
+    @BeforeAll
+    static void beforeAll() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < RELEASE_COUNT; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            sb.append(String.format(
+                    "{\"name\":\"release-%d\",\"namespace\":\"namespace-%d\",\"revision\":\"%d\","
+                            + "\"updated\":\"2023-06-09 11:53:14.120656 -0500 CDT\",\"status\":\"deployed\","
+                            + "\"chart\":\"haproxy-1.18.0\",\"app_version\":\"2.7.8\"}",
+                    i, i % 16, i % 7));
+        }
+
+        releaseListJson = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Compare The Allocations Of The Response Parsing Strategies")
+    void testResponseParsingAllocations() throws Exception {
+        doAnswer(invocation -> new ByteArrayInputStream(releaseListJson)).when(processMock).getInputStream();
+        doAnswer(invocation -> new ByteArrayInputStream(new byte[0])).when(processMock).getErrorStream();
+
+        final long legacyBytes = measure(() -> READER.<ReleaseItem>readValues(
+                        new HelmExecution(processMock).responseAsString())
+                .readAll()
+                .size());
+        final long listBytes = measure(() -> new HelmExecution(processMock).responseAsList(ReleaseItem.class).size());
+        final long iteratorBytes = measure(() -> {
+            int count = 0;
+            final Iterator<ReleaseItem> iterator = new HelmExecution(processMock).responseAsIterator(ReleaseItem.class);
+            while (iterator.hasNext()) {
+                iterator.next();
+                count++;
+            }
+            return count;
+        });
+
+        LOGGER.info(
+                "Parsing {} releases ({} bytes): responseAsString {} bytes/op, responseAsList {} bytes/op, "
+                        + "responseAsIterator {} bytes/op",
+                RELEASE_COUNT,
+                releaseListJson.length,
+                legacyBytes,
+                listBytes,
+                iteratorBytes);
+    }
+
+    @Test
+    @DisplayName("Response As Iterator Yields Each Release")
+    void testResponseAsIterator() {
+        doReturn(new ByteArrayInputStream(releaseListJson)).when(processMock).getInputStream();
+        doReturn(new ByteArrayInputStream(new byte[0])).when(processMock).getErrorStream();
+
+        final HelmExecution helmExecution = new HelmExecution(processMock);
+        final Iterator<ReleaseItem> iterator = helmExecution.responseAsIterator(ReleaseItem.class);
+
+        int count = 0;
+        ReleaseItem last = null;
+        while (iterator.hasNext()) {
+            last = iterator.next();
+            count++;
+        }
+
+        assertThat(count).isEqualTo(RELEASE_COUNT);
+        assertThat(last).isNotNull();
+        assertThat(last.name()).isEqualTo("release-" + (RELEASE_COUNT - 1));
+    }
+
+    @Test
+    @DisplayName("Response As List Parses The Stream")
+    void testResponseAsList() {
+        doReturn(new ByteArrayInputStream(releaseListJson)).when(processMock).getInputStream();
+        doReturn(new ByteArrayInputStream(new byte[0])).when(processMock).getErrorStream();
+
+        final List<ReleaseItem> releases = new HelmExecution(processMock).responseAsList(ReleaseItem.class);
+
+        assertThat(releases).hasSize(RELEASE_COUNT);
+        assertThat(releases.get(0).name()).isEqualTo("release-0");
+    }
+
+    /**
+     * Measures the average number of bytes allocated by the current thread for a single invocation of the operation.
+     *
+     * @param operation the operation to measure.
+     * @return the average number of bytes allocated per invocation.
+     * @throws Exception if the operation fails.
+     */
+    private static long measure(final Callable<Integer> operation) throws Exception {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(operation.call()).isEqualTo(RELEASE_COUNT);
+        }
+
+        final long start = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.call();
+        }
+
+        return (threadBean.getCurrentThreadAllocatedBytes() - start) / MEASURED_ITERATIONS;
+    }
+}
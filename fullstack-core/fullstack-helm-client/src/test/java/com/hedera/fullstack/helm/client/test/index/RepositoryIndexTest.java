@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.index.RepositoryIndex;
+import com.hedera.fullstack.helm.client.index.RepositoryIndexCache;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Repository Index Tests")
+class RepositoryIndexTest {
+    private static final String INDEX_RESOURCE = "repository-index.yaml";
+
+    @TempDir
+    private Path tempDirectory;
+
+    @Test
+    @DisplayName("The Chart Versions Are Read From The Index In Precedence Order")
+    void testParseIndex() throws IOException {
+        final RepositoryIndex index = parseResource();
+
+        assertThat(index.chartNames()).containsExactlyInAnyOrder("mysql", "apache", "empty");
+        assertThat(index.chartCount()).isEqualTo(3);
+        assertThat(index.versionCount()).isEqualTo(5);
+        assertThat(index.versions("mysql"))
+                .containsExactly(
+                        SemanticVersion.parse("9.11.0-rc.1"),
+                        SemanticVersion.parse("9.10.2"),
+                        SemanticVersion.parse("9.10.1"),
+                        SemanticVersion.parse("8.9.0"));
+        assertThat(index.versions("empty")).isEmpty();
+        assertThat(index.versions("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Versions Nested Within A Chart Version Are Ignored")
+    void testNestedVersionsAreIgnored() throws IOException {
+        final RepositoryIndex index = parseResource();
+
+        // the common dependency and the multi-line description both contain a version key
+        assertThat(index.contains("mysql", "2.0.0")).isFalse();
+        assertThat(index.contains("mysql", "99.0.0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Version Queries Are Answered From The Index")
+    void testQueries() throws IOException {
+        final RepositoryIndex index = parseResource();
+
+        assertThat(index.contains("mysql")).isTrue();
+        assertThat(index.contains("mysql", "9.10.1")).isTrue();
+        assertThat(index.contains("mysql", "v8.9.0")).isTrue();
+        assertThat(index.contains("mysql", "9.10.0")).isFalse();
+        assertThat(index.contains("mysql", "not-a-version")).isFalse();
+        assertThat(index.contains("unknown", "9.10.1")).isFalse();
+
+        assertThat(index.latest("mysql")).isEqualTo(SemanticVersion.parse("9.10.2"));
+        assertThat(index.latest("apache")).isEqualTo(SemanticVersion.parse("10.1.1"));
+        assertThat(index.latest("empty")).isNull();
+        assertThat(index.latest("mysql", "~9.10.0")).isEqualTo(SemanticVersion.parse("9.10.2"));
+        assertThat(index.latest("mysql", "<9.10.2")).isEqualTo(SemanticVersion.parse("9.10.1"));
+        assertThat(index.latest("mysql", "8.x")).isEqualTo(SemanticVersion.parse("8.9.0"));
+        assertThat(index.latest("mysql", ">=9.11.0-rc.0")).isEqualTo(SemanticVersion.parse("9.11.0-rc.1"));
+        assertThat(index.latest("mysql", "^10")).isNull();
+    }
+
+    @Test
+    @DisplayName("Flow-Style Indexes Are Read")
+    void testFlowStyleIndex() throws IOException {
+        final String flowIndex = "{\"apiVersion\": \"v1\", \"entries\": {\"redis\": [{\"version\": \"17.11.3\", "
+                + "\"dependencies\": [{\"version\": \"2.0.0\"}]}, {\"version\": \"v17.10.0\"}], \"empty\": []}}";
+        final RepositoryIndex index = RepositoryIndex.parse(stream(flowIndex));
+
+        assertThat(index.chartNames()).containsExactlyInAnyOrder("redis", "empty");
+        assertThat(index.versions("redis"))
+                .containsExactly(SemanticVersion.parse("17.11.3"), SemanticVersion.parse("17.10.0"));
+    }
+
+    @Test
+    @DisplayName("Malformed Indexes Are Rejected")
+    void testMalformedIndexIsRejected() {
+        assertThatThrownBy(() -> RepositoryIndex.parse(stream("- entries\n- charts\n")))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> RepositoryIndex.parse(stream("entries:\n  redis: [{version: 1.0.0}\n")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Index Files Are Only Read Again Once They Change")
+    void testCachedIndexFile() throws IOException {
+        final Path indexFile = tempDirectory.resolve("index.yaml");
+        try (final InputStream in = resource()) {
+            Files.copy(in, indexFile);
+        }
+
+        final RepositoryIndexCache cache = new RepositoryIndexCache();
+        final RepositoryIndex first = cache.get(indexFile);
+        assertThat(cache.get(indexFile)).isSameAs(first);
+
+        Files.writeString(indexFile, "apiVersion: v1\nentries:\n  redis:\n  - version: 17.11.3\n");
+        Files.setLastModifiedTime(indexFile, FileTime.fromMillis(0));
+
+        final RepositoryIndex second = cache.get(indexFile);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.chartNames()).containsExactly("redis");
+    }
+
+    @Test
+    @DisplayName("Indexes From Other Sources Are Only Read Again When The Validator Changes")
+    void testCachedIndexSource() throws IOException {
+        final AtomicInteger opens = new AtomicInteger();
+        final RepositoryIndexCache.IndexSource source = () -> {
+            opens.incrementAndGet();
+            return resource();
+        };
+        final RepositoryIndexCache cache = new RepositoryIndexCache();
+        final String key = "https://charts.bitnami.com/bitnami";
+
+        final RepositoryIndex first = cache.get(key, "\"etag-1\"", source);
+        assertThat(cache.get(key, "\"etag-1\"", source)).isSameAs(first);
+        assertThat(opens).hasValue(1);
+
+        assertThat(cache.get(key, "\"etag-2\"", source)).isNotSameAs(first);
+        cache.get(key, null, source);
+        assertThat(opens).hasValue(3);
+
+        cache.invalidate(key);
+        cache.get(key, "\"etag-2\"", source);
+        assertThat(opens).hasValue(4);
+    }
+
+    private RepositoryIndex parseResource() throws IOException {
+        try (final InputStream in = resource()) {
+            return RepositoryIndex.parse(in);
+        }
+    }
+
+    private static InputStream stream(final String index) {
+        return new ByteArrayInputStream(index.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InputStream resource() {
+        return this.getClass().getClassLoader().getResourceAsStream(INDEX_RESOURCE);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.base.api.version.SemanticVersion;
+import com.hedera.fullstack.helm.client.index.VersionConstraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Version Constraint Tests")
+class VersionConstraintTest {
+
+    @ParameterizedTest(name = "''{0}'' matches {1}: {2}")
+    @DisplayName("Versions Are Matched Against The Constraint")
+    @CsvSource(
+            delimiter = ';',
+            value = {
+                "1.2.3         ; 1.2.3       ; true",
+                "v1.2.3        ; 1.2.3       ; true",
+                "=1.2.3        ; 1.2.4       ; false",
+                "*             ; 4.5.6       ; true",
+                "*             ; 4.5.6-rc.1  ; false",
+                "1.2.x         ; 1.2.9       ; true",
+                "1.2           ; 1.3.0       ; false",
+                "!=1.2.3       ; 1.2.4       ; true",
+                ">1.2          ; 1.2.9       ; false",
+                ">1.2          ; 1.3.0       ; true",
+                ">=1.2.3       ; 1.2.3       ; true",
+                "<2            ; 1.99.0      ; true",
+                "<=1.2         ; 1.2.9       ; true",
+                "<=1.2         ; 1.3.0       ; false",
+                "~1.2.3        ; 1.2.9       ; true",
+                "~1.2.3        ; 1.3.0       ; false",
+                "~1            ; 1.9.0       ; true",
+                "^1.2.3        ; 1.9.0       ; true",
+                "^1.2.3        ; 2.0.0       ; false",
+                "^0.2.3        ; 0.2.9       ; true",
+                "^0.2.3        ; 0.3.0       ; false",
+                "^0.0.3        ; 0.0.4       ; false",
+                ">= 1.2, < 1.4 ; 1.3.5       ; true",
+                ">=1.2 <1.4    ; 1.4.0       ; false",
+                "1.2 - 1.4     ; 1.4.9       ; true",
+                "1.2 - 1.4.0   ; 1.4.1       ; false",
+                "<1 || >=3     ; 3.1.0       ; true",
+                "<1 || >=3     ; 2.0.0       ; false",
+                ">=1.2.3-rc.1  ; 1.2.3-rc.2  ; true",
+                ">=1.2.3-rc.1  ; 1.2.3       ; true",
+                "^1.2.3        ; 1.3.0-rc.1  ; false"
+            })
+    void testMatches(final String constraint, final String version, final boolean expected) {
+        assertThat(VersionConstraint.parse(constraint).matches(SemanticVersion.parse(version)))
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Invalid Constraints Are Rejected")
+    @ValueSource(strings = {"1.2.3.4", "foo", ">=", "1.2 - 1.3 - 1.4", "!=1.2", ">= <= 1.2"})
+    void testInvalidConstraints(final String constraint) {
+        assertThatThrownBy(() -> VersionConstraint.parse(constraint)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.values.HelmValues;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Helm Values Tests")
+class HelmValuesTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Values Files Are Deep Merged And Set Expressions Applied Last")
+    void testPrecedence() throws IOException {
+        Files.writeString(
+                tempDir.resolve("base.yaml"),
+                "image:\n  repository: nginx\n  tag: \"1.0\"\nnodes:\n  - name: a\n  - name: b\ncreated: 2023-01-01\n");
+        Files.writeString(tempDir.resolve("override.yaml"), "image:\n  tag: \"2.0\"\nnodes:\n  - name: c\n");
+        final InstallChartOptions options = InstallChartOptions.builder()
+                .values(List.of("base.yaml", "override.yaml"))
+                .set(List.of("image.tag=3.0,replicas=3", "nodes[1].port=080"))
+                .build();
+
+        final Map<String, Object> values = HelmValues.of(options, tempDir).asMap();
+
+        assertThat(values.get("image")).isEqualTo(Map.of("repository", "nginx", "tag", "3.0"));
+        assertThat(values.get("replicas")).isEqualTo(3L);
+        assertThat(values.get("created")).isEqualTo("2023-01-01");
+        assertThat((List<?>) values.get("nodes"))
+                .containsExactly(Map.of("name", "c"), Map.of("port", "080"));
+    }
+
+    @Test
+    @DisplayName("Set Expressions Are Typed Like The Helm CLI Types Them")
+    void testSetExpressions() {
+        final Map<String, Object> values = HelmValues.builder()
+                .set("enabled=true,count=10,zero=0,octal=010,ratio=1.5,none=null,empty=")
+                .set("list={a,b,1},escaped=a\\,b\\.c,nested.key=value")
+                .build()
+                .asMap();
+
+        assertThat(values)
+                .containsEntry("enabled", true)
+                .containsEntry("count", 10L)
+                .containsEntry("zero", 0L)
+                .containsEntry("octal", "010")
+                .containsEntry("ratio", "1.5")
+                .containsEntry("none", null)
+                .containsEntry("empty", "")
+                .containsEntry("list", List.of("a", "b", 1L))
+                .containsEntry("escaped", "a,b.c")
+                .containsEntry("nested", Map.of("key", "value"));
+
+        assertThatThrownBy(() -> HelmValues.builder().set("key")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HelmValues.builder().set("list[x]=1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Digest Identifies The Effective Values And The File Is Written Once")
+    void testDigestAndWrite() throws IOException {
+        final HelmValues combined = HelmValues.builder().set("a=1,b.c=2").build();
+        final HelmValues split = HelmValues.builder()
+                .values(Map.of("b", Map.of("c", 1L)))
+                .set("b.c=2")
+                .set("a=1")
+                .build();
+
+        assertThat(split.digest()).isEqualTo(combined.digest());
+        assertThat(split.toYaml()).isEqualTo("a: 1\nb:\n  c: 2\n");
+
+        final Path file = combined.writeTo(tempDir.resolve("values"));
+        assertThat(file.getFileName().toString()).isEqualTo("values-" + combined.digest() + ".yaml");
+        assertThat(combined.writeTo(tempDir.resolve("values"))).isEqualTo(file);
+        assertThat(HelmValues.builder().values(file).build()).isEqualTo(combined);
+    }
+
+    @Test
+    @DisplayName("Remote Values Files Cannot Be Merged")
+    void testRemoteValuesFiles() {
+        final InstallChartOptions options = InstallChartOptions.builder()
+                .values(List.of("https://example.com/values.yaml"))
+                .build();
+
+        assertThat(HelmValues.isMergeable(options)).isFalse();
+        assertThatThrownBy(() -> HelmValues.of(options, tempDir)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.HelmParserException;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResourceReader;
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Kubernetes Resource Reader Tests")
+class KubernetesResourceReaderTest {
+    private static final String MANIFEST = """
+            ---
+            # Source: network/templates/service.yaml
+            apiVersion: v1
+            kind: Service
+            metadata:
+              name: network-node0
+              labels:
+                app: network-node0
+            spec:
+              ports:
+                - port: 50211
+            ---
+            # Source: network/templates/empty.yaml
+            ---
+            apiVersion: apps/v1
+            kind: StatefulSet
+            metadata:
+              name: network-node0
+              namespace: fullstack
+            spec:
+              replicas: 1
+            """;
+
+    @Test
+    @DisplayName("Documents Are Parsed Into Resources And Empty Documents Are Skipped")
+    void testResourcesAreParsed() {
+        final List<KubernetesResource> resources;
+        try (final Stream<KubernetesResource> stream = reader(MANIFEST).stream()) {
+            resources = stream.toList();
+        }
+
+        assertThat(resources).hasSize(2);
+        final KubernetesResource service = resources.get(0);
+        assertThat(service.apiVersion()).isEqualTo("v1");
+        assertThat(service.isKind("Service")).isTrue();
+        assertThat(service.name()).isEqualTo("network-node0");
+        assertThat(service.namespace()).isNull();
+        assertThat(service.content()).containsKeys("apiVersion", "kind", "metadata", "spec");
+        assertThat(service.content().get("spec")).isEqualTo(Map.of("ports", List.of(Map.of("port", 50211))));
+
+        final KubernetesResource statefulSet = resources.get(1);
+        assertThat(statefulSet.kind()).isEqualTo("StatefulSet");
+        assertThat(statefulSet.namespace()).isEqualTo("fullstack");
+    }
+
+    @Test
+    @DisplayName("Documents Are Parsed Lazily As The Iterator Is Advanced")
+    void testDocumentsAreParsedLazily() {
+        // an endless manifest can only be consumed if the documents are read on demand
+        final AtomicLong bytesRead = new AtomicLong();
+        final InputStream endless = new InputStream() {
+            private long document;
+            private byte[] current = new byte[0];
+            private int position;
+
+            @Override
+            public int read() {
+                if (position == current.length) {
+                    current = String.format("---\nkind: ConfigMap\nmetadata:\n  name: cm-%d\n", document++)
+                            .getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+
+                bytesRead.incrementAndGet();
+                return current[position++];
+            }
+        };
+
+        try (final KubernetesResourceReader reader = new KubernetesResourceReader(endless)) {
+            assertThat(reader.next().name()).isEqualTo("cm-0");
+            assertThat(reader.next().name()).isEqualTo("cm-1");
+            assertThat(reader.next().name()).isEqualTo("cm-2");
+            assertThat(bytesRead.get()).isLessThan(64 * 1024);
+        }
+
+        final KubernetesResourceReader exhausted = reader("kind: Secret\n");
+        assertThat(exhausted.next().kind()).isEqualTo("Secret");
+        assertThat(exhausted.hasNext()).isFalse();
+        assertThatThrownBy(exhausted::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Large Manifests Can Be Filtered By Kind")
+    void testLargeManifestsCanBeFiltered() {
+        final String document = "---\nkind: %s\nmetadata:\n  name: resource-%d\ndata:\n  value: \"%s\"\n";
+        final String padding = String.join("", Collections.nCopies(4096, "x"));
+        final StringBuilder manifest = new StringBuilder();
+        IntStream.range(0, 1000)
+                .forEach(i -> manifest.append(
+                        String.format(document, i % 10 == 0 ? "Secret" : "ConfigMap", i, padding)));
+
+        try (final Stream<KubernetesResource> stream = reader(manifest.toString()).stream()) {
+            assertThat(stream.filter(r -> r.isKind("Secret")).count()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid Documents Raise A Parser Exception")
+    void testInvalidDocuments() {
+        final KubernetesResourceReader reader = reader("kind: ConfigMap\n---\nkind: [Secret\n");
+
+        assertThat(reader.next().kind()).isEqualTo("ConfigMap");
+        assertThatThrownBy(reader::hasNext).isInstanceOf(HelmParserException.class);
+        assertThat(reader.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Rendered Manifests Expose Their Resources")
+    void testRenderedManifestResources() {
+        final RenderedManifest manifest = new RenderedManifest("network", MANIFEST);
+
+        try (final Stream<KubernetesResource> resources = manifest.resources()) {
+            assertThat(resources.map(KubernetesResource::kind)).containsExactly("Service", "StatefulSet");
+        }
+    }
+
+    private static KubernetesResourceReader reader(final String manifest) {
+        return new KubernetesResourceReader(stream(manifest));
+    }
+
+    private static InputStream stream(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.install.ReleaseDigest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Release Digest Tests")
+class ReleaseDigestTest {
+    private static final Chart CHART = new Chart("apache", "bitnami");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Digest Is Stable For Identical Inputs")
+    void testDigestIsStable() throws IOException {
+        Files.writeString(tempDir.resolve("values.yaml"), "replicas: 1\n");
+        final InstallChartOptions options = InstallChartOptions.builder()
+                .version("1.0.0")
+                .set(List.of("a=1", "b=2"))
+                .values(List.of("values.yaml"))
+                .build();
+
+        final String digest = ReleaseDigest.compute(CHART, options, tempDir);
+
+        assertThat(digest).hasSize(64).isEqualTo(ReleaseDigest.compute(CHART, options, tempDir));
+        final InstallChartOptions described = InstallChartOptions.builder()
+                .version("1.0.0")
+                .set(List.of("a=1", "b=2"))
+                .values(List.of("values.yaml"))
+                .description("not part of the digest")
+                .build();
+        assertThat(ReleaseDigest.compute(CHART, described, tempDir)).isEqualTo(digest);
+    }
+
+    @Test
+    @DisplayName("Digest Changes With The Chart, Version, Set Values And Values File Contents")
+    void testDigestChangesWithInputs() throws IOException {
+        final Path valuesFile = tempDir.resolve("values.yaml");
+        Files.writeString(valuesFile, "replicas: 1\n");
+        final InstallChartOptions options = InstallChartOptions.builder()
+                .version("1.0.0")
+                .set(List.of("a=1"))
+                .values(List.of("values.yaml"))
+                .build();
+        final String digest = ReleaseDigest.compute(CHART, options, tempDir);
+
+        assertThat(ReleaseDigest.compute(new Chart("nginx", "bitnami"), options, tempDir))
+                .isNotEqualTo(digest);
+        assertThat(ReleaseDigest.compute(
+                        CHART,
+                        InstallChartOptions.builder()
+                                .version("1.0.1")
+                                .set(List.of("a=1"))
+                                .values(List.of("values.yaml"))
+                                .build(),
+                        tempDir))
+                .isNotEqualTo(digest);
+        assertThat(ReleaseDigest.compute(
+                        CHART,
+                        InstallChartOptions.builder()
+                                .version("1.0.0")
+                                .set(List.of("a=2"))
+                                .values(List.of("values.yaml"))
+                                .build(),
+                        tempDir))
+                .isNotEqualTo(digest);
+
+        Files.writeString(valuesFile, "replicas: 2\n");
+        assertThat(ReleaseDigest.compute(CHART, options, tempDir)).isNotEqualTo(digest);
+    }
+
+    @Test
+    @DisplayName("Digest Covers The Contents Of A Local Chart Directory")
+    void testDigestCoversLocalChart() throws IOException {
+        final Path chartDir = Files.createDirectories(tempDir.resolve("charts/local"));
+        Files.writeString(chartDir.resolve("Chart.yaml"), "name: local\nversion: 0.1.0\n");
+        final Chart chart = new Chart("charts/local");
+        final String digest = ReleaseDigest.compute(chart, InstallChartOptions.defaults(), tempDir);
+
+        Files.writeString(Files.createDirectories(chartDir.resolve("templates")).resolve("cm.yaml"), "kind: Map\n");
+
+        assertThat(ReleaseDigest.compute(chart, InstallChartOptions.defaults(), tempDir))
+                .isNotEqualTo(digest);
+    }
+
+    @Test
+    @DisplayName("Digest Round Trips Through The Release Description")
+    void testDescribeAndExtract() {
+        final String digest = "a".repeat(64);
+
+        assertThat(ReleaseDigest.describe(null, digest)).isEqualTo(ReleaseDigest.DESCRIPTION_PREFIX + digest);
+        assertThat(ReleaseDigest.extract(ReleaseDigest.describe("Install complete", digest)))
+                .isEqualTo(digest);
+        assertThat(ReleaseDigest.extract("Install complete")).isNull();
+        assertThat(ReleaseDigest.extract(null)).isNull();
+    }
+}
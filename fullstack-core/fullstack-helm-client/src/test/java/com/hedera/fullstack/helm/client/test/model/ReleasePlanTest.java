@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.plan.FailurePolicy;
+import com.hedera.fullstack.helm.client.model.plan.PlannedRelease;
+import com.hedera.fullstack.helm.client.model.plan.ReleasePlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReleasePlanTest {
+    private static final Chart CHART = new Chart("chart", "repo");
+
+    @Test
+    @DisplayName("Test ReleasePlanBuilder")
+    void testReleasePlanBuilder() {
+        final ReleasePlan plan = ReleasePlan.builder()
+                .release("explorer", CHART, "mirror")
+                .release("relay", CHART, "mirror")
+                .release("mirror", CHART, "network")
+                .release("network", CHART)
+                .maxParallelism(2)
+                .failurePolicy(FailurePolicy.ROLLBACK)
+                .build();
+
+        assertThat(plan.maxParallelism()).isEqualTo(2);
+        assertThat(plan.failurePolicy()).isEqualTo(FailurePolicy.ROLLBACK);
+        assertThat(plan.topologicalOrder())
+                .extracting(PlannedRelease::name)
+                .containsExactly("network", "mirror", "explorer", "relay");
+        assertThat(plan.dependents().get("mirror")).containsExactly("explorer", "relay");
+    }
+
+    @Test
+    @DisplayName("Test ReleasePlan rejects invalid dependencies")
+    void testReleasePlanValidation() {
+        assertThatThrownBy(() -> ReleasePlan.builder()
+                        .release("a", CHART, "b")
+                        .release("b", CHART, "c")
+                        .release("c", CHART, "a")
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cycle");
+        assertThatThrownBy(() -> ReleasePlan.builder().release("a", CHART, "missing").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("undeclared release 'missing'");
+        assertThatThrownBy(() -> ReleasePlan.builder()
+                        .release("a", CHART)
+                        .release("a", CHART)
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate release");
+        assertThatThrownBy(() -> ReleasePlan.builder().maxParallelism(0).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.helm.client.model.manifest.RenderedManifest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Rendered Manifest Tests")
+class RenderedManifestTest {
+
+    @Test
+    @DisplayName("Documents Are Split On Separators And Empty Documents Are Omitted")
+    void testDocuments() {
+        final String content = "---\n"
+                + "# Source: nginx/templates/service.yaml\n"
+                + "kind: Service\n"
+                + "---\n"
+                + "# Source: nginx/templates/empty.yaml\n"
+                + "--- # deployment\n"
+                + "kind: Deployment\n"
+                + "data: |\n"
+                + "  ----\n";
+        final RenderedManifest manifest = new RenderedManifest("nginx", content);
+
+        assertThat(manifest.documents())
+                .containsExactly(
+                        "# Source: nginx/templates/service.yaml\nkind: Service\n",
+                        "kind: Deployment\ndata: |\n  ----\n");
+        assertThat(manifest.isEmpty()).isFalse();
+        assertThat(new RenderedManifest("nginx", "---\n# Source: nginx/templates/empty.yaml\n").isEmpty())
+                .isTrue();
+    }
+}
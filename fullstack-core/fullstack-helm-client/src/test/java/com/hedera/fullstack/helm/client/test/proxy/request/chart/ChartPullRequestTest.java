@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.proxy.request.chart;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.ChartReference;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartPullRequest;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChartPullRequestTest {
+    @Mock
+    HelmExecutionBuilder helmExecutionBuilderMock;
+
+    @Test
+    @DisplayName("Test ChartPullRequest apply pulls a chart from a named repository")
+    void testChartPullRequestApplyWithRepositoryName() {
+        final ChartPullRequest request =
+                new ChartPullRequest(new ChartReference("bitnami", "mysql", "9.10.2"), Path.of("charts"));
+
+        request.apply(helmExecutionBuilderMock);
+
+        verify(helmExecutionBuilderMock).subcommands("pull");
+        verify(helmExecutionBuilderMock).positional("bitnami/mysql");
+        verify(helmExecutionBuilderMock).argument("version", "9.10.2");
+        verify(helmExecutionBuilderMock).argument("destination", "charts");
+        verify(helmExecutionBuilderMock, never()).argument("repo", "bitnami");
+        verify(helmExecutionBuilderMock, never()).flag("--pass-credentials");
+    }
+
+    @Test
+    @DisplayName("Test ChartPullRequest apply pulls a chart from a repository URL with credentials")
+    void testChartPullRequestApplyWithRepositoryUrl() {
+        final ChartPullRequest request = new ChartPullRequest(
+                new ChartReference("https://charts.example.com", "mysql", "9.10.2"),
+                Path.of("charts"),
+                "user",
+                "secret",
+                true);
+
+        request.apply(helmExecutionBuilderMock);
+
+        verify(helmExecutionBuilderMock).argument("repo", "https://charts.example.com");
+        verify(helmExecutionBuilderMock).positional("mysql");
+        verify(helmExecutionBuilderMock).argument("username", "user");
+        verify(helmExecutionBuilderMock).argument("password", "secret");
+        verify(helmExecutionBuilderMock).flag("--pass-credentials");
+    }
+}
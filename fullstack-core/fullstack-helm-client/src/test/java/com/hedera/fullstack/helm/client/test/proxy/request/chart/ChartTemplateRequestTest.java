@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.proxy.request.chart;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartTemplateRequest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChartTemplateRequestTest {
+    @Mock
+    HelmExecutionBuilder helmExecutionBuilderMock;
+
+    @Test
+    @DisplayName("Test ChartTemplateRequest apply renders a repository chart without the output option")
+    void testChartTemplateRequestApplyWithRepository() {
+        final InstallChartOptions options = InstallChartOptions.builder()
+                .repo("https://charts.bitnami.com/bitnami")
+                .version("9.10.2")
+                .set(List.of("replicaCount=2"))
+                .skipCrds(true)
+                .build();
+        final ChartTemplateRequest request = new ChartTemplateRequest("mysql", new Chart("mysql", "bitnami"), options);
+        when(helmExecutionBuilderMock.positional("mysql")).thenReturn(helmExecutionBuilderMock);
+
+        request.apply(helmExecutionBuilderMock);
+
+        verify(helmExecutionBuilderMock).subcommands("template");
+        verify(helmExecutionBuilderMock).argument("repo", "https://charts.bitnami.com/bitnami");
+        verify(helmExecutionBuilderMock).argument("version", "9.10.2");
+        verify(helmExecutionBuilderMock).optionsWithMultipleValues("set", List.of("replicaCount=2"));
+        verify(helmExecutionBuilderMock).flag("--skip-crds");
+        verify(helmExecutionBuilderMock, never()).argument(eq("output"), anyString());
+        verify(helmExecutionBuilderMock, times(2)).positional("mysql");
+    }
+
+    @Test
+    @DisplayName("Test ChartTemplateRequest apply renders a qualified chart")
+    void testChartTemplateRequestApplyQualifiedChart() {
+        final ChartTemplateRequest request = new ChartTemplateRequest(
+                "apache", new Chart("apache", "bitnami"), InstallChartOptions.defaults());
+        when(helmExecutionBuilderMock.positional("apache")).thenReturn(helmExecutionBuilderMock);
+
+        request.apply(helmExecutionBuilderMock);
+
+        verify(helmExecutionBuilderMock).subcommands("template");
+        verify(helmExecutionBuilderMock).positional("apache");
+        verify(helmExecutionBuilderMock).positional("bitnami/apache");
+        verify(helmExecutionBuilderMock, never()).argument(eq("output"), anyString());
+    }
+
+    @Test
+    @DisplayName("Test ChartTemplateRequest rejects a blank release name")
+    void testChartTemplateRequestRejectsBlankReleaseName() {
+        final Chart chart = new Chart("apache", "bitnami");
+        final InstallChartOptions options = InstallChartOptions.defaults();
+
+        assertThatThrownBy(() -> new ChartTemplateRequest(" ", chart, options))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ChartTemplateRequest(null, chart, options))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
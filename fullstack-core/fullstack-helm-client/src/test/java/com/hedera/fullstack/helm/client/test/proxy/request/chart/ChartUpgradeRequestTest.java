@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.client.test.proxy.request.chart;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.proxy.request.chart.ChartUpgradeRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChartUpgradeRequestTest {
+    @Mock
+    InstallChartOptions installChartOptionsMock;
+
+    @Mock
+    HelmExecutionBuilder helmExecutionBuilderMock;
+
+    @Test
+    @DisplayName("Test ChartUpgradeRequest apply installs missing releases and records the description")
+    void testChartUpgradeRequestApply() {
+        final ChartUpgradeRequest request = new ChartUpgradeRequest(
+                "apache", new Chart("apache", "bitnami"), installChartOptionsMock, "digest");
+
+        when(helmExecutionBuilderMock.subcommands("upgrade")).thenReturn(helmExecutionBuilderMock);
+        when(helmExecutionBuilderMock.positional("apache")).thenReturn(helmExecutionBuilderMock);
+        when(installChartOptionsMock.repo()).thenReturn(null);
+        request.apply(helmExecutionBuilderMock);
+
+        verify(helmExecutionBuilderMock).flag("--install");
+        verify(installChartOptionsMock).apply(helmExecutionBuilderMock);
+        verify(helmExecutionBuilderMock).argument("description", "digest");
+        verify(helmExecutionBuilderMock).positional("bitnami/apache");
+    }
+
+    @Test
+    @DisplayName("Test ChartUpgradeRequest rejects a blank release name")
+    void testChartUpgradeRequestRejectsBlankReleaseName() {
+        assertThatThrownBy(() -> new ChartUpgradeRequest(" ", new Chart("apache"), installChartOptionsMock, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,8 @@ module com.hedera.fullstack.helm.client.test {
             org.junit.platform.commons;
     opens com.hedera.fullstack.helm.client.test.execution to
             org.junit.platform.commons;
+    opens com.hedera.fullstack.helm.client.test.index to
+            org.junit.platform.commons;
     opens com.hedera.fullstack.helm.client.test.model to
             org.junit.platform.commons;
     opens com.hedera.fullstack.helm.client.test.model.chart to
@@ -17,6 +19,8 @@ module com.hedera.fullstack.helm.client.test {
     requires com.hedera.fullstack.helm.client;
     requires com.jcovalent.junit.logging;
     requires jdk.attach;
+    requires jdk.httpserver;
+    requires jdk.management;
     requires org.assertj.core;
     requires org.junit.jupiter.api;
     requires org.junit.jupiter.params;
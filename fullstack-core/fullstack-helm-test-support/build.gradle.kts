@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id("com.hedera.fullstack.conventions")
+    id("com.hedera.fullstack.jpms-modules")
+}
+
+dependencies {
+    api(platform(project(":fullstack-bom")))
+    javaModuleDependencies {
+        testImplementation(gav("org.junit.jupiter.api"))
+        testImplementation(gav("org.assertj.core"))
+    }
+}
+
+tasks.register<JavaExec>("helmLoadBenchmark") {
+    group = "verification"
+    description = "Runs the helm client load benchmark against a fake helm executable"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainModule.set("com.hedera.fullstack.helm.test.support")
+    mainClass.set("com.hedera.fullstack.helm.test.support.load.HelmLoadBenchmark")
+    args = (findProperty("benchmarkArgs")?.toString() ?: "").split(" ").filter { it.isNotBlank() }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support;
+
+import com.hedera.fullstack.helm.client.HelmConfigurationException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes a fake helm executable which can be installed in place of the real helm executable to exercise the helm
+ * client without a Kubernetes cluster. Every invocation of the fake, regardless of its arguments, waits for the
+ * configured latency, writes the configured standard output and standard error and exits with the configured exit code.
+ * <p>
+ * Each output stream consists of its fixed content followed by the requested number of filler bytes, which repeat the
+ * filler line. The fixed content allows the fake to return a response which the client can parse, such as {@code []}
+ * for a release listing, while filler made of blank lines keeps such a response valid and still exercises large
+ * outputs.
+ * <p>
+ * The fake is a {@code bash} script which only relies on the {@code sleep} command, therefore it starts in a few
+ * milliseconds and does not distort the measurements of the client. It is only supported on Linux and macOS.
+ *
+ * @param latency              the time each invocation waits before writing its output.
+ * @param latencyJitter        the upper bound of a random delay added to the latency of each invocation.
+ * @param exitCode             the exit code of each invocation in the range {@code [0, 255]}.
+ * @param standardOutput       the fixed content written to the standard output.
+ * @param standardOutputBytes  the number of filler bytes written to the standard output after the fixed content.
+ * @param standardOutputFiller the line repeated to produce the filler of the standard output.
+ * @param standardError        the fixed content written to the standard error.
+ * @param standardErrorBytes   the number of filler bytes written to the standard error after the fixed content.
+ * @param standardErrorFiller  the line repeated to produce the filler of the standard error.
+ */
+public record FakeHelmExecutable(
+        Duration latency,
+        Duration latencyJitter,
+        int exitCode,
+        String standardOutput,
+        long standardOutputBytes,
+        String standardOutputFiller,
+        String standardError,
+        long standardErrorBytes,
+        String standardErrorFiller) {
+
+    /**
+     * The name of the installed executable.
+     */
+    public static final String EXECUTABLE_NAME = "helm";
+
+    /**
+     * The script template whose placeholders are replaced with the configuration of the fake.
+     */
+    private static final String SCRIPT_TEMPLATE = """
+            #!/usr/bin/env bash
+            # A fake helm executable generated by com.hedera.fullstack.helm.test.support.FakeHelmExecutable.
+            export LC_ALL=C
+
+            emit() {
+              local content="$1" bytes="$2" line="$3"
+              printf '%s' "$content"
+              if [ "$bytes" -le 0 ]; then
+                return
+              fi
+              local chunk="$line"$'\\n'
+              while [ "${#chunk}" -lt 65536 ]; do
+                chunk="$chunk$chunk"
+              done
+              while [ "$bytes" -gt 0 ]; do
+                local n=$(( bytes < ${#chunk} ? bytes : ${#chunk} ))
+                printf '%s' "${chunk:0:n}"
+                bytes=$(( bytes - n ))
+              done
+            }
+
+            delay_ms=@LATENCY@
+            jitter_ms=@JITTER@
+            if [ "$jitter_ms" -gt 0 ]; then
+              delay_ms=$(( delay_ms + (RANDOM * 32768 + RANDOM) % (jitter_ms + 1) ))
+            fi
+            if [ "$delay_ms" -gt 0 ]; then
+              sleep "$(printf '%d.%03d' $(( delay_ms / 1000 )) $(( delay_ms % 1000 )))"
+            fi
+
+            emit @STDOUT@ @STDOUT_BYTES@ @STDOUT_FILLER@
+            emit @STDERR@ @STDERR_BYTES@ @STDERR_FILLER@ >&2
+            exit @EXIT_CODE@
+            """;
+
+    /**
+     * Creates a new {@link FakeHelmExecutable} instance.
+     *
+     * @throws NullPointerException     if any duration or string argument is {@code null}.
+     * @throws IllegalArgumentException if a duration or byte count is negative or the exit code is outside the range
+     *                                  {@code [0, 255]}.
+     */
+    public FakeHelmExecutable {
+        Objects.requireNonNull(latency, "latency must not be null");
+        Objects.requireNonNull(latencyJitter, "latencyJitter must not be null");
+        Objects.requireNonNull(standardOutput, "standardOutput must not be null");
+        Objects.requireNonNull(standardOutputFiller, "standardOutputFiller must not be null");
+        Objects.requireNonNull(standardError, "standardError must not be null");
+        Objects.requireNonNull(standardErrorFiller, "standardErrorFiller must not be null");
+
+        if (latency.isNegative() || latencyJitter.isNegative()) {
+            throw new IllegalArgumentException("latency and latencyJitter must not be negative");
+        }
+
+        if (exitCode < 0 || exitCode > 255) {
+            throw new IllegalArgumentException("exitCode must be between 0 and 255");
+        }
+
+        if (standardOutputBytes < 0 || standardErrorBytes < 0) {
+            throw new IllegalArgumentException("standardOutputBytes and standardErrorBytes must not be negative");
+        }
+    }
+
+    /**
+     * Returns an instance of the {@link FakeHelmExecutableBuilder}.
+     *
+     * @return the {@link FakeHelmExecutableBuilder}.
+     */
+    public static FakeHelmExecutableBuilder builder() {
+        return new FakeHelmExecutableBuilder();
+    }
+
+    /**
+     * Returns a fake which responds immediately with an empty JSON array and exits successfully.
+     *
+     * @return the default fake.
+     */
+    public static FakeHelmExecutable defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Renders the {@code bash} script which implements this fake.
+     *
+     * @return the script.
+     */
+    public String script() {
+        return SCRIPT_TEMPLATE
+                .replace("@LATENCY@", Long.toString(latency.toMillis()))
+                .replace("@JITTER@", Long.toString(latencyJitter.toMillis()))
+                .replace("@STDOUT@", quote(standardOutput))
+                .replace("@STDOUT_BYTES@", Long.toString(standardOutputBytes))
+                .replace("@STDOUT_FILLER@", quote(standardOutputFiller))
+                .replace("@STDERR@", quote(standardError))
+                .replace("@STDERR_BYTES@", Long.toString(standardErrorBytes))
+                .replace("@STDERR_FILLER@", quote(standardErrorFiller))
+                .replace("@EXIT_CODE@", Integer.toString(exitCode));
+    }
+
+    /**
+     * Writes this fake as an executable named {@value #EXECUTABLE_NAME} into the supplied directory, replacing any
+     * existing file, and returns its path. The path can be supplied to the {@code HelmExecutionBuilder} or to
+     * {@code HelmClientBuilder.helmExecutable}.
+     *
+     * @param directory the directory in which the executable is created.
+     * @return the path to the fake helm executable.
+     * @throws NullPointerException       if {@code directory} is {@code null}.
+     * @throws HelmConfigurationException if the executable cannot be written.
+     */
+    public Path install(final Path directory) {
+        Objects.requireNonNull(directory, "directory must not be null");
+
+        try {
+            Files.createDirectories(directory);
+            final Path executable = directory.resolve(EXECUTABLE_NAME);
+            Files.writeString(executable, script(), StandardCharsets.UTF_8);
+            if (!executable.toFile().setExecutable(true)) {
+                throw new IOException("unable to make the fake helm executable executable: " + executable);
+            }
+            return executable;
+        } catch (final IOException e) {
+            throw new HelmConfigurationException(e);
+        }
+    }
+
+    /**
+     * Quotes the value as a single-quoted shell word.
+     *
+     * @param value the value to quote.
+     * @return the quoted value.
+     */
+    private static String quote(final String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support;
+
+import java.time.Duration;
+
+/**
+ * The builder for the {@link FakeHelmExecutable}.
+ */
+public final class FakeHelmExecutableBuilder {
+    private Duration latency = Duration.ZERO;
+    private Duration latencyJitter = Duration.ZERO;
+    private int exitCode = 0;
+    private String standardOutput = "[]";
+    private long standardOutputBytes = 0;
+    private String standardOutputFiller = "";
+    private String standardError = "";
+    private long standardErrorBytes = 0;
+    private String standardErrorFiller = "";
+
+    /**
+     * Constructs a new FakeHelmExecutableBuilder.
+     */
+    FakeHelmExecutableBuilder() {
+        // package-private to prevent instantiation outside the FakeHelmExecutable
+    }
+
+    /**
+     * Sets the time each invocation waits before writing its output. Defaults to {@link Duration#ZERO}. The latency is
+     * applied with millisecond precision.
+     *
+     * @param latency the latency of each invocation.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder latency(final Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the upper bound of the random delay added to the latency of each invocation. Defaults to
+     * {@link Duration#ZERO}.
+     *
+     * @param latencyJitter the upper bound of the random delay.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder latencyJitter(final Duration latencyJitter) {
+        this.latencyJitter = latencyJitter;
+        return this;
+    }
+
+    /**
+     * Sets the exit code of each invocation. Defaults to {@code 0}.
+     *
+     * @param exitCode the exit code in the range {@code [0, 255]}.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder exitCode(final int exitCode) {
+        this.exitCode = exitCode;
+        return this;
+    }
+
+    /**
+     * Sets the fixed content written to the standard output. Defaults to {@code []}, the response of an empty listing.
+     *
+     * @param standardOutput the fixed content of the standard output.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardOutput(final String standardOutput) {
+        this.standardOutput = standardOutput;
+        return this;
+    }
+
+    /**
+     * Sets the number of filler bytes written to the standard output after the fixed content. Defaults to {@code 0}.
+     *
+     * @param standardOutputBytes the number of filler bytes.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardOutputBytes(final long standardOutputBytes) {
+        this.standardOutputBytes = standardOutputBytes;
+        return this;
+    }
+
+    /**
+     * Sets the line repeated to produce the filler of the standard output. Defaults to an empty line, which produces
+     * filler made of line separators.
+     *
+     * @param standardOutputFiller the filler line.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardOutputFiller(final String standardOutputFiller) {
+        this.standardOutputFiller = standardOutputFiller;
+        return this;
+    }
+
+    /**
+     * Sets the fixed content written to the standard error. Defaults to an empty string.
+     *
+     * @param standardError the fixed content of the standard error.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardError(final String standardError) {
+        this.standardError = standardError;
+        return this;
+    }
+
+    /**
+     * Sets the number of filler bytes written to the standard error after the fixed content. Defaults to {@code 0}.
+     *
+     * @param standardErrorBytes the number of filler bytes.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardErrorBytes(final long standardErrorBytes) {
+        this.standardErrorBytes = standardErrorBytes;
+        return this;
+    }
+
+    /**
+     * Sets the line repeated to produce the filler of the standard error. Defaults to an empty line, which produces
+     * filler made of line separators.
+     *
+     * @param standardErrorFiller the filler line.
+     * @return the current FakeHelmExecutableBuilder.
+     */
+    public FakeHelmExecutableBuilder standardErrorFiller(final String standardErrorFiller) {
+        this.standardErrorFiller = standardErrorFiller;
+        return this;
+    }
+
+    /**
+     * Builds the FakeHelmExecutable.
+     *
+     * @return the FakeHelmExecutable.
+     */
+    public FakeHelmExecutable build() {
+        return new FakeHelmExecutable(
+                latency,
+                latencyJitter,
+                exitCode,
+                standardOutput,
+                standardOutputBytes,
+                standardOutputFiller,
+                standardError,
+                standardErrorBytes,
+                standardErrorFiller);
+    }
+}
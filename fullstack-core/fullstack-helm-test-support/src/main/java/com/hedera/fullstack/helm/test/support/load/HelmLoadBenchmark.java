@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.load;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.execution.LatencyHistogram;
+import com.hedera.fullstack.helm.test.support.FakeHelmExecutable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives a {@link HelmLoadOperation} from a fixed number of concurrent caller threads and reports the throughput, the
+ * latency percentiles, the peak number of live threads and the heap usage of the JVM while doing so. Pointing the
+ * operation at a {@link FakeHelmExecutable} measures the overhead of the helm client itself, such as process handling,
+ * output buffering and response parsing, at a concurrency which a real cluster could not sustain.
+ * <p>
+ * The benchmark runs in the calling JVM, therefore the thread and heap measurements include everything else running
+ * in the JVM at the same time. The {@link #main(String[])} method runs the benchmark in a dedicated JVM.
+ */
+public final class HelmLoadBenchmark {
+    /**
+     * The usage message printed when the command line arguments are invalid.
+     */
+    private static final String USAGE = """
+            usage: HelmLoadBenchmark [--mode execution|client] [--concurrency n] [--operations n] [--warmup n]
+                                     [--latency-ms n] [--jitter-ms n] [--stdout-bytes n] [--stderr-bytes n]
+                                     [--exit-code n]
+            """;
+
+    /**
+     * The number of operations executed at the same time.
+     */
+    private final int concurrency;
+
+    /**
+     * The number of measured operations.
+     */
+    private final long operations;
+
+    /**
+     * The number of operations executed before the measurements start.
+     */
+    private final long warmupOperations;
+
+    /**
+     * The operation under load.
+     */
+    private final HelmLoadOperation operation;
+
+    /**
+     * Creates a new {@link HelmLoadBenchmark} instance.
+     *
+     * @param concurrency      the number of operations executed at the same time.
+     * @param operations       the number of measured operations.
+     * @param warmupOperations the number of operations executed before the measurements start.
+     * @param operation        the operation under load.
+     * @throws NullPointerException     if {@code operation} is {@code null}.
+     * @throws IllegalArgumentException if {@code concurrency} or {@code operations} is not positive or
+     *                                  {@code warmupOperations} is negative.
+     */
+    HelmLoadBenchmark(
+            final int concurrency,
+            final long operations,
+            final long warmupOperations,
+            final HelmLoadOperation operation) {
+        if (concurrency <= 0 || operations <= 0) {
+            throw new IllegalArgumentException("concurrency and operations must be positive");
+        }
+
+        if (warmupOperations < 0) {
+            throw new IllegalArgumentException("warmupOperations must not be negative");
+        }
+
+        this.concurrency = concurrency;
+        this.operations = operations;
+        this.warmupOperations = warmupOperations;
+        this.operation = Objects.requireNonNull(operation, "operation must not be null");
+    }
+
+    /**
+     * Returns an instance of the {@link HelmLoadBenchmarkBuilder}.
+     *
+     * @return the {@link HelmLoadBenchmarkBuilder}.
+     */
+    public static HelmLoadBenchmarkBuilder builder() {
+        return new HelmLoadBenchmarkBuilder();
+    }
+
+    /**
+     * Runs the warmup operations followed by the measured operations and returns the measurements.
+     *
+     * @return the measurements of the measured operations.
+     * @throws InterruptedException if the calling thread is interrupted, in which case the caller threads are
+     *                              interrupted as well.
+     */
+    public HelmLoadReport run() throws InterruptedException {
+        execute(warmupOperations, null);
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .toList();
+
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        threads.resetPeakThreadCount();
+        final long heapUsedBefore = memory.getHeapMemoryUsage().getUsed();
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        final long startNanos = System.nanoTime();
+        final long failures = execute(operations, histogram);
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        final long peakHeapUsed = heapPools.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        return new HelmLoadReport(
+                concurrency,
+                operations,
+                failures,
+                elapsed,
+                histogram.snapshot(),
+                threads.getPeakThreadCount(),
+                heapUsedBefore,
+                peakHeapUsed,
+                memory.getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * Runs the benchmark against a fake helm executable configured from the command line arguments and prints the
+     * report to the standard output. The {@code execution} mode executes the helm command directly, while the
+     * {@code client} mode lists the releases through a {@link HelmClient}.
+     *
+     * @param args the command line arguments.
+     * @throws IOException          if the fake helm executable cannot be installed.
+     * @throws InterruptedException if the benchmark is interrupted.
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final Map<String, String> options;
+        try {
+            options = parse(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        final String mode = options.getOrDefault("mode", "execution");
+        if (!mode.equals("execution") && !mode.equals("client")) {
+            System.err.println("unknown mode: " + mode);
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        final FakeHelmExecutable fake = FakeHelmExecutable.builder()
+                .latency(Duration.ofMillis(longOption(options, "latency-ms", 50)))
+                .latencyJitter(Duration.ofMillis(longOption(options, "jitter-ms", 0)))
+                .standardOutputBytes(longOption(options, "stdout-bytes", 0))
+                .standardErrorBytes(longOption(options, "stderr-bytes", 0))
+                .exitCode((int) longOption(options, "exit-code", 0))
+                .build();
+        final Path helmExecutable = fake.install(Files.createTempDirectory("fake-helm"));
+
+        final HelmLoadOperation operation = mode.equals("client")
+                ? HelmLoadOperation.listReleases(HelmClient.builder().helmExecutable(helmExecutable).build())
+                : HelmLoadOperation.execution(helmExecutable);
+
+        final HelmLoadReport report = builder()
+                .concurrency((int) longOption(options, "concurrency", 100))
+                .operations(longOption(options, "operations", 1000))
+                .warmupOperations(longOption(options, "warmup", 100))
+                .operation(operation)
+                .build()
+                .run();
+
+        System.out.printf("mode               : %s%n", mode);
+        System.out.printf("fake helm          : %s%n", fake);
+        System.out.print(report.format());
+    }
+
+    /**
+     * Executes the operation the supplied number of times from the configured number of caller threads.
+     *
+     * @param count     the number of times to execute the operation.
+     * @param histogram the histogram recording the latency of each operation or {@code null} if the latency is not
+     *                  recorded.
+     * @return the number of operations which failed.
+     * @throws InterruptedException if the calling thread is interrupted.
+     */
+    private long execute(final long count, final LatencyHistogram histogram) throws InterruptedException {
+        if (count == 0) {
+            return 0;
+        }
+
+        final AtomicLong remaining = new AtomicLong(count);
+        final LongAdder failures = new LongAdder();
+        final List<Thread> callers = new ArrayList<>(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            callers.add(Thread.ofPlatform().name("helm-load-", i).start(() -> {
+                while (!Thread.currentThread().isInterrupted() && remaining.getAndDecrement() > 0) {
+                    final long startNanos = System.nanoTime();
+                    try {
+                        operation.execute();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.increment();
+                    } catch (final Exception e) {
+                        failures.increment();
+                    }
+
+                    if (histogram != null) {
+                        histogram.recordNanos(System.nanoTime() - startNanos);
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (final Thread caller : callers) {
+                caller.join();
+            }
+        } catch (final InterruptedException e) {
+            callers.forEach(Thread::interrupt);
+            throw e;
+        }
+
+        return failures.sum();
+    }
+
+    /**
+     * Parses the command line arguments, which are pairs of an option name prefixed with {@code --} and its value.
+     *
+     * @param args the command line arguments.
+     * @return the option values keyed by the option names without the prefix.
+     * @throws IllegalArgumentException if the arguments are not pairs of an option name and a value.
+     */
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("invalid argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the numeric value of an option.
+     *
+     * @param options      the option values.
+     * @param name         the name of the option.
+     * @param defaultValue the value used when the option is not present.
+     * @return the value of the option.
+     * @throws NumberFormatException if the option value is not a number.
+     */
+    private static long longOption(final Map<String, String> options, final String name, final long defaultValue) {
+        final String value = options.get(name);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+}
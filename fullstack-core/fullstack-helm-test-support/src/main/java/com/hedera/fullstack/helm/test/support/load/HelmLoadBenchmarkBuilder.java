@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.load;
+
+/**
+ * The builder for the {@link HelmLoadBenchmark}.
+ */
+public final class HelmLoadBenchmarkBuilder {
+    private int concurrency = 100;
+    private long operations = 1000;
+    private long warmupOperations = 100;
+    private HelmLoadOperation operation;
+
+    /**
+     * Constructs a new HelmLoadBenchmarkBuilder.
+     */
+    HelmLoadBenchmarkBuilder() {
+        // package-private to prevent instantiation outside the HelmLoadBenchmark
+    }
+
+    /**
+     * Sets the number of operations executed at the same time, each from its own caller thread. Defaults to
+     * {@code 100}.
+     *
+     * @param concurrency the number of concurrent operations.
+     * @return the current HelmLoadBenchmarkBuilder.
+     */
+    public HelmLoadBenchmarkBuilder concurrency(final int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Sets the number of measured operations. Defaults to {@code 1000}.
+     *
+     * @param operations the number of measured operations.
+     * @return the current HelmLoadBenchmarkBuilder.
+     */
+    public HelmLoadBenchmarkBuilder operations(final long operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    /**
+     * Sets the number of operations executed before the measurements start, which allows the JIT compiler and the
+     * thread pools of the client to warm up. Defaults to {@code 100}.
+     *
+     * @param warmupOperations the number of warmup operations.
+     * @return the current HelmLoadBenchmarkBuilder.
+     */
+    public HelmLoadBenchmarkBuilder warmupOperations(final long warmupOperations) {
+        this.warmupOperations = warmupOperations;
+        return this;
+    }
+
+    /**
+     * Sets the operation under load.
+     *
+     * @param operation the operation under load.
+     * @return the current HelmLoadBenchmarkBuilder.
+     */
+    public HelmLoadBenchmarkBuilder operation(final HelmLoadOperation operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    /**
+     * Builds the HelmLoadBenchmark.
+     *
+     * @return the HelmLoadBenchmark.
+     * @throws NullPointerException     if no operation has been set.
+     * @throws IllegalArgumentException if the concurrency or the number of operations is not positive or the number of
+     *                                  warmup operations is negative.
+     */
+    public HelmLoadBenchmark build() {
+        return new HelmLoadBenchmark(concurrency, operations, warmupOperations, operation);
+    }
+}
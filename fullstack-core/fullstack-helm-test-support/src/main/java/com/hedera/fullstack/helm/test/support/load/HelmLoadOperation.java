@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.load;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A single operation executed repeatedly and concurrently by the {@link HelmLoadBenchmark}. An operation which throws
+ * an exception is counted as a failure.
+ */
+@FunctionalInterface
+public interface HelmLoadOperation {
+
+    /**
+     * Executes the operation once.
+     *
+     * @throws Exception if the operation fails.
+     */
+    void execute() throws Exception;
+
+    /**
+     * Returns an operation which executes the helm {@code list} sub-command directly through a
+     * {@link HelmExecutionBuilder} and reads its standard output to the end. This exercises the process handling and
+     * output buffering of the helm client without any response parsing.
+     *
+     * @param helmExecutable the path to the helm executable, usually a fake helm executable.
+     * @return the operation.
+     * @throws NullPointerException if {@code helmExecutable} is {@code null}.
+     */
+    static HelmLoadOperation execution(final Path helmExecutable) {
+        Objects.requireNonNull(helmExecutable, "helmExecutable must not be null");
+        return () -> {
+            try (final InputStream output = new HelmExecutionBuilder(helmExecutable)
+                    .subcommands("list")
+                    .build()
+                    .responseAsStream()) {
+                if (output != null) {
+                    output.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns an operation which lists the releases in the default namespace of the supplied client. This exercises the
+     * complete client, including its concurrency limiter and response parsing, when the client is pointed at a fake
+     * helm executable which responds with a JSON array.
+     *
+     * @param client the client under load.
+     * @return the operation.
+     * @throws NullPointerException if {@code client} is {@code null}.
+     */
+    static HelmLoadOperation listReleases(final HelmClient client) {
+        Objects.requireNonNull(client, "client must not be null");
+        return () -> client.listReleases(false);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.load;
+
+import com.hedera.fullstack.helm.client.execution.LatencySnapshot;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The measurements taken by a {@link HelmLoadBenchmark} run. The warmup operations are not included.
+ *
+ * @param concurrency         the number of operations executed at the same time.
+ * @param operations          the number of operations executed.
+ * @param failures            the number of operations which failed.
+ * @param elapsed             the wall time of the run.
+ * @param latency             the latency of the operations, including the failed ones.
+ * @param peakThreadCount     the highest number of live threads in the JVM during the run.
+ * @param heapUsedBeforeBytes the heap in use when the run started.
+ * @param peakHeapUsedBytes   the sum of the peak usage of every heap memory pool during the run.
+ * @param heapUsedAfterBytes  the heap in use when the run completed.
+ */
+public record HelmLoadReport(
+        int concurrency,
+        long operations,
+        long failures,
+        Duration elapsed,
+        LatencySnapshot latency,
+        int peakThreadCount,
+        long heapUsedBeforeBytes,
+        long peakHeapUsedBytes,
+        long heapUsedAfterBytes) {
+
+    /**
+     * The number of bytes in a mebibyte.
+     */
+    private static final double MEBIBYTE = 1024.0 * 1024.0;
+
+    /**
+     * Creates a new {@link HelmLoadReport} instance.
+     *
+     * @throws NullPointerException if {@code elapsed} or {@code latency} is {@code null}.
+     */
+    public HelmLoadReport {
+        Objects.requireNonNull(elapsed, "elapsed must not be null");
+        Objects.requireNonNull(latency, "latency must not be null");
+    }
+
+    /**
+     * Returns the number of operations completed per second.
+     *
+     * @return the throughput or {@code 0} if the run took no measurable time.
+     */
+    public double throughput() {
+        final long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : operations * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Formats the report as a human readable, multi-line summary.
+     *
+     * @return the formatted report.
+     */
+    public String format() {
+        return String.format(
+                """
+                        concurrency        : %d
+                        operations         : %d (%d failed)
+                        elapsed            : %d ms
+                        throughput         : %.1f ops/s
+                        latency            : min=%d ms p50=%d ms p90=%d ms p99=%d ms p99.9=%d ms max=%d ms
+                        peak threads       : %d
+                        heap used (MiB)    : before=%.1f peak=%.1f after=%.1f
+                        """,
+                concurrency,
+                operations,
+                failures,
+                elapsed.toMillis(),
+                throughput(),
+                latency.min().toMillis(),
+                latency.p50().toMillis(),
+                latency.p90().toMillis(),
+                latency.p99().toMillis(),
+                latency.p999().toMillis(),
+                latency.max().toMillis(),
+                peakThreadCount,
+                heapUsedBeforeBytes / MEBIBYTE,
+                peakHeapUsedBytes / MEBIBYTE,
+                heapUsedAfterBytes / MEBIBYTE);
+    }
+}
@@ -0,0 +1,7 @@
+module com.hedera.fullstack.helm.test.support {
+    exports com.hedera.fullstack.helm.test.support;
+    exports com.hedera.fullstack.helm.test.support.load;
+
+    requires transitive com.hedera.fullstack.helm.client;
+    requires java.management;
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.HelmExecutionException;
+import com.hedera.fullstack.helm.client.execution.HelmExecution;
+import com.hedera.fullstack.helm.client.execution.HelmExecutionBuilder;
+import com.hedera.fullstack.helm.test.support.FakeHelmExecutable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Fake Helm Executable Tests")
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class FakeHelmExecutableTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Output Consists Of The Fixed Content Followed By The Filler")
+    void testOutputContentAndSize() throws Exception {
+        final Path helm = FakeHelmExecutable.builder()
+                .standardOutput("it's [\"ok\"]\n")
+                .standardOutputBytes(100_000)
+                .standardOutputFiller("filler")
+                .standardError("warning\n")
+                .standardErrorBytes(10)
+                .build()
+                .install(tempDir);
+
+        final HelmExecution execution = new HelmExecutionBuilder(helm).subcommands("list").build();
+        execution.waitFor();
+
+        final String output = new String(execution.standardOutput().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(execution.exitCode()).isZero();
+        assertThat(output).startsWith("it's [\"ok\"]\nfiller\nfiller\n").hasSize(12 + 100_000);
+        assertThat(execution.standardError().readAllBytes())
+                .asString(StandardCharsets.UTF_8)
+                .isEqualTo("warning\n\n\n\n\n\n\n\n\n\n\n");
+    }
+
+    @Test
+    @DisplayName("Default Fake Responds With An Empty JSON Array")
+    void testDefaultsRespondWithEmptyArray() {
+        final Path helm = FakeHelmExecutable.defaults().install(tempDir);
+
+        assertThat(new HelmExecutionBuilder(helm).build().responseAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Exit Code And Latency Are Applied To Every Invocation")
+    void testExitCodeAndLatency() {
+        final Path helm = FakeHelmExecutable.builder()
+                .latency(Duration.ofMillis(200))
+                .exitCode(3)
+                .build()
+                .install(tempDir);
+
+        final long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> new HelmExecutionBuilder(helm).build().responseAsString())
+                .isInstanceOf(HelmExecutionException.class)
+                .hasFieldOrPropertyWithValue("exitCode", 3);
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Invalid Configuration Is Rejected")
+    void testInvalidConfigurationIsRejected() {
+        assertThatThrownBy(() -> FakeHelmExecutable.builder().exitCode(256).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FakeHelmExecutable.builder().standardOutputBytes(-1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FakeHelmExecutable.builder()
+                        .latency(Duration.ofMillis(-1))
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
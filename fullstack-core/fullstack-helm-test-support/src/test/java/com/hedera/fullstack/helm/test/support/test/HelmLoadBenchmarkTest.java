@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.helm.test.support.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.test.support.FakeHelmExecutable;
+import com.hedera.fullstack.helm.test.support.load.HelmLoadBenchmark;
+import com.hedera.fullstack.helm.test.support.load.HelmLoadOperation;
+import com.hedera.fullstack.helm.test.support.load.HelmLoadReport;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Helm Load Benchmark Tests")
+class HelmLoadBenchmarkTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Every Operation Is Executed And Measured Once")
+    void testOperationsAreMeasured() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final HelmLoadReport report = HelmLoadBenchmark.builder()
+                .concurrency(8)
+                .operations(200)
+                .warmupOperations(20)
+                .operation(() -> {
+                    if (executions.incrementAndGet() % 10 == 0) {
+                        throw new IllegalStateException("failed");
+                    }
+                })
+                .build()
+                .run();
+
+        assertThat(executions).hasValue(220);
+        assertThat(report.operations()).isEqualTo(200);
+        assertThat(report.failures()).isEqualTo(20);
+        assertThat(report.latency().count()).isEqualTo(200);
+        assertThat(report.peakThreadCount()).isGreaterThanOrEqualTo(8);
+        assertThat(report.peakHeapUsedBytes()).isPositive();
+        assertThat(report.throughput()).isPositive();
+        assertThat(report.format()).contains("operations         : 200 (20 failed)");
+    }
+
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    @DisplayName("Concurrent Client Operations Against The Fake Helm Executable Succeed")
+    void testClientUnderLoad() throws Exception {
+        final Path helm = FakeHelmExecutable.builder()
+                .latency(Duration.ofMillis(20))
+                .standardOutputBytes(64 * 1024)
+                .build()
+                .install(tempDir);
+        final HelmClient client = HelmClient.builder().helmExecutable(helm).build();
+
+        final HelmLoadReport report = HelmLoadBenchmark.builder()
+                .concurrency(16)
+                .operations(64)
+                .warmupOperations(0)
+                .operation(HelmLoadOperation.listReleases(client))
+                .build()
+                .run();
+
+        assertThat(report.failures()).isZero();
+        assertThat(report.latency().min()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    @DisplayName("Invalid Configuration Is Rejected")
+    void testInvalidConfigurationIsRejected() {
+        assertThatThrownBy(() -> HelmLoadBenchmark.builder().build()).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> HelmLoadBenchmark.builder()
+                        .concurrency(0)
+                        .operation(() -> {})
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
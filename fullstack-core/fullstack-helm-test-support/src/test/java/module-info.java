@@ -0,0 +1,9 @@
+module com.hedera.fullstack.helm.test.support.test {
+    opens com.hedera.fullstack.helm.test.support.test to
+            org.junit.platform.commons;
+
+    requires com.hedera.fullstack.helm.client;
+    requires com.hedera.fullstack.helm.test.support;
+    requires org.assertj.core;
+    requires org.junit.jupiter.api;
+}
@@ -22,5 +22,11 @@ plugins {
 
 dependencies {
     api(platform(project(":fullstack-bom")))
-    implementation(project(mapOf("path" to ":fullstack-helm-client")))
+    api(project(mapOf("path" to ":fullstack-helm-client")))
+    javaModuleDependencies {
+        testImplementation(gav("org.junit.jupiter.api"))
+        testImplementation(gav("org.assertj.core"))
+        testImplementation(gav("org.mockito"))
+        testImplementation(gav("org.mockito.junit.jupiter"))
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.readiness;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The readiness of the workload resources of a release.
+ *
+ * @param namespace   the namespace into which the release was installed.
+ * @param releaseName the name of the release.
+ * @param elapsed     the time elapsed between the start of the wait and its completion.
+ * @param resources   the readiness of each tracked resource, in manifest order.
+ */
+public record ReleaseReadiness(
+        String namespace, String releaseName, Duration elapsed, List<ResourceReadiness> resources) {
+
+    /**
+     * Creates a new {@link ReleaseReadiness} instance.
+     *
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public ReleaseReadiness {
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(elapsed, "elapsed must not be null");
+        resources = List.copyOf(Objects.requireNonNull(resources, "resources must not be null"));
+    }
+
+    /**
+     * Returns whether every tracked resource was observed to be ready.
+     *
+     * @return {@code true} if the release is ready; otherwise {@code false}.
+     */
+    public boolean isReady() {
+        return resources.stream().allMatch(ResourceReadiness::isReady);
+    }
+
+    /**
+     * Returns the resources which were not observed to be ready.
+     *
+     * @return the pending resources.
+     */
+    public List<ResourceReadiness> pending() {
+        return resources.stream().filter(r -> !r.isReady()).toList();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.readiness;
+
+/**
+ * Thrown when the resources of a release do not become ready, either because the wait timed out or because a resource
+ * failed. The readiness observed up to that point is available from {@link #getReadiness()}.
+ */
+public class ReleaseReadinessException extends RuntimeException {
+
+    /**
+     * The readiness observed when the wait ended.
+     */
+    private final transient ReleaseReadiness readiness;
+
+    /**
+     * Constructs a new exception with the specified detail message, readiness and cause.
+     *
+     * @param message   the detail message.
+     * @param readiness the readiness observed when the wait ended.
+     * @param cause     the cause or {@code null} if the wait timed out.
+     */
+    public ReleaseReadinessException(final String message, final ReleaseReadiness readiness, final Throwable cause) {
+        super(message + ": pending " + readiness.pending(), cause);
+        this.readiness = readiness;
+    }
+
+    /**
+     * Returns the readiness observed when the wait ended.
+     *
+     * @return the {@link ReleaseReadiness} instance.
+     */
+    public ReleaseReadiness getReadiness() {
+        return readiness;
+    }
+}
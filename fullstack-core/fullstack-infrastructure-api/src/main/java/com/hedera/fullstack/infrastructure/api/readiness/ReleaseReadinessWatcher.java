@@ -0,0 +1,501 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.readiness;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.Chart;
+import com.hedera.fullstack.helm.client.model.install.InstallChartOptions;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Waits for the workload resources of a release to become ready using Kubernetes watches rather than the polling
+ * performed by the Helm CLI {@code --wait} option.
+ * <p>
+ * Releases are installed without {@code --wait}, therefore the Helm CLI command returns as soon as the manifests are
+ * applied. A single informer is then opened for each kind and namespace among the {@code Deployment},
+ * {@code StatefulSet}, {@code Pod} and {@code Job} resources of the release manifest, so the number of watches does not
+ * grow with the number of resources. The wait completes the moment the last of the resources is observed to be ready,
+ * as decided by the {@link ResourceReadinessRules}. The time taken by each resource to become ready is reported in the
+ * resulting {@link ReleaseReadiness}.
+ * <p>
+ * Releases are installed and read in the {@link HelmClient#defaultNamespace() default namespace} of the
+ * {@link HelmClient}, or in the namespace of the {@link KubernetesClient} configuration if the {@link HelmClient} does
+ * not specify one, and the same namespace is used for the resources which do not specify a namespace.
+ */
+public final class ReleaseReadinessWatcher {
+    /**
+     * The namespace used when neither client specifies one.
+     */
+    private static final String DEFAULT_NAMESPACE = "default";
+
+    /**
+     * The client which opens the watches.
+     */
+    private final KubernetesClient kubernetesClient;
+
+    /**
+     * The client which installs the releases and reads their manifests.
+     */
+    private final HelmClient helmClient;
+
+    /**
+     * Creates a new instance of the {@link ReleaseReadinessWatcher} class.
+     *
+     * @param kubernetesClient the client which opens the watches.
+     * @param helmClient       the client which installs the releases and reads their manifests.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public ReleaseReadinessWatcher(final KubernetesClient kubernetesClient, final HelmClient helmClient) {
+        this.kubernetesClient = Objects.requireNonNull(kubernetesClient, "kubernetesClient must not be null");
+        this.helmClient = Objects.requireNonNull(helmClient, "helmClient must not be null");
+    }
+
+    /**
+     * Installs the chart without waiting in the Helm CLI and then waits for the workload resources of the release to
+     * become ready.
+     *
+     * @param releaseName the name of the release.
+     * @param chart       the chart to install.
+     * @param options     the options to pass to the Helm CLI command, which must not enable {@code --wait} or
+     *                    {@code --atomic}.
+     * @param timeout     the maximum time to wait for the resources once the chart is installed.
+     * @return a future completed with the readiness of the release or completed exceptionally with a
+     * {@link ReleaseReadinessException} if the timeout elapses or a resource fails first.
+     * @throws NullPointerException     if any argument is {@code null}.
+     * @throws IllegalArgumentException if the options enable {@code --wait} or {@code --atomic}.
+     */
+    public CompletableFuture<ReleaseReadiness> installChart(
+            final String releaseName, final Chart chart, final InstallChartOptions options, final Duration timeout) {
+        Objects.requireNonNull(options, "options must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        if (options.waitFor() || options.atomic()) {
+            throw new IllegalArgumentException("options must not enable waitFor or atomic when readiness is watched");
+        }
+
+        helmClient.installChart(releaseName, chart, options);
+        return awaitReady(releaseName, timeout);
+    }
+
+    /**
+     * Reads the manifest of an installed release and waits for its workload resources to become ready.
+     *
+     * @param releaseName the name of the release.
+     * @param timeout     the maximum time to wait.
+     * @return a future completed with the readiness of the release or completed exceptionally with a
+     * {@link ReleaseReadinessException} if the timeout elapses or a resource fails first.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public CompletableFuture<ReleaseReadiness> awaitReady(final String releaseName, final Duration timeout) {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+
+        final List<KubernetesResource> resources;
+        try (Stream<KubernetesResource> manifest = helmClient.releaseManifest(releaseName)) {
+            resources = manifest.toList();
+        }
+
+        return awaitReady(releaseName, resources, timeout);
+    }
+
+    /**
+     * Waits for the workload resources among the supplied resources to become ready. Resources of other kinds are
+     * ignored and the returned future is completed immediately if no workload resource is supplied.
+     *
+     * @param releaseName the name of the release.
+     * @param resources   the resources of the release.
+     * @param timeout     the maximum time to wait.
+     * @return a future completed with the readiness of the release or completed exceptionally with a
+     * {@link ReleaseReadinessException} if the timeout elapses or a resource fails first.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public CompletableFuture<ReleaseReadiness> awaitReady(
+            final String releaseName, final Collection<KubernetesResource> resources, final Duration timeout) {
+        Objects.requireNonNull(releaseName, "releaseName must not be null");
+        Objects.requireNonNull(resources, "resources must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        final String namespace = namespace();
+        final Wait wait = new Wait(namespace, releaseName);
+        for (final KubernetesResource resource : resources) {
+            if (ResourceReadinessRules.TRACKED_KINDS.contains(resource.kind()) && resource.name() != null) {
+                final String resourceNamespace = resource.namespace() == null ? namespace : resource.namespace();
+                wait.track(resource.kind(), resourceNamespace, resource.name());
+            }
+        }
+
+        wait.start(timeout);
+        return wait.result;
+    }
+
+    /**
+     * Returns the namespace in which the {@link HelmClient} installs the releases.
+     *
+     * @return the default namespace of the {@link HelmClient}, or of the {@link KubernetesClient} configuration if the
+     * {@link HelmClient} does not specify one.
+     */
+    private String namespace() {
+        if (helmClient.defaultNamespace() != null) {
+            return helmClient.defaultNamespace();
+        }
+
+        return kubernetesClient.getNamespace() == null ? DEFAULT_NAMESPACE : kubernetesClient.getNamespace();
+    }
+
+    /**
+     * Opens an informer for all resources of a kind in a namespace.
+     *
+     * @param kind      the kind of the resources.
+     * @param namespace the namespace of the resources.
+     * @return the informer, which has not been started.
+     */
+    private SharedIndexInformer<? extends HasMetadata> informer(final String kind, final String namespace) {
+        return switch (kind) {
+            case "Deployment" -> kubernetesClient.apps().deployments().inNamespace(namespace).runnableInformer(0);
+            case "StatefulSet" -> kubernetesClient.apps().statefulSets().inNamespace(namespace).runnableInformer(0);
+            case "Pod" -> kubernetesClient.pods().inNamespace(namespace).runnableInformer(0);
+            case "Job" -> kubernetesClient.batch().v1().jobs().inNamespace(namespace).runnableInformer(0);
+            default -> throw new IllegalArgumentException("unsupported kind: " + kind);
+        };
+    }
+
+    /**
+     * The state of a single wait for the resources of a release.
+     */
+    private final class Wait {
+        /**
+         * The namespace of the release.
+         */
+        private final String namespace;
+
+        /**
+         * The name of the release.
+         */
+        private final String releaseName;
+
+        /**
+         * The time, in nanoseconds, at which the wait started.
+         */
+        private final long startedAt;
+
+        /**
+         * The trackers of the workload resources, in manifest order.
+         */
+        private final List<Tracker> trackers;
+
+        /**
+         * The watches keyed by kind and namespace, in the order their first resource appears in the manifest.
+         */
+        private final Map<String, Watch> watches;
+
+        /**
+         * The future completed when the wait ends.
+         */
+        private final CompletableFuture<ReleaseReadiness> result;
+
+        private Wait(final String namespace, final String releaseName) {
+            this.namespace = namespace;
+            this.releaseName = releaseName;
+            this.startedAt = System.nanoTime();
+            this.trackers = new ArrayList<>();
+            this.watches = new LinkedHashMap<>();
+            this.result = new CompletableFuture<>();
+        }
+
+        /**
+         * Adds a resource to the wait, sharing the watch of the resources of the same kind and namespace.
+         *
+         * @param kind      the kind of the resource.
+         * @param namespace the namespace of the resource.
+         * @param name      the name of the resource.
+         */
+        private void track(final String kind, final String namespace, final String name) {
+            final Watch watch = watches.computeIfAbsent(kind + "/" + namespace, k -> new Watch(this, kind, namespace));
+            if (!watch.trackers.containsKey(name)) {
+                final Tracker tracker = new Tracker(this, kind, namespace, name);
+                watch.trackers.put(name, tracker);
+                trackers.add(tracker);
+            }
+        }
+
+        /**
+         * Starts the informers and schedules the timeout. The informers are stopped once the wait ends.
+         *
+         * @param timeout the maximum time to wait.
+         */
+        private void start(final Duration timeout) {
+            result.whenComplete((readiness, error) -> watches.values().forEach(Watch::stop));
+            CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(() -> {
+                        if (!result.isDone()) {
+                            result.completeExceptionally(new ReleaseReadinessException(
+                                    "Timed out waiting for release " + releaseName + " to become ready",
+                                    snapshot(),
+                                    null));
+                        }
+                    });
+
+            for (final Watch watch : watches.values()) {
+                if (result.isDone()) {
+                    break;
+                }
+
+                watch.start();
+            }
+
+            completeIfReady();
+        }
+
+        /**
+         * Completes the wait if every tracked resource is ready.
+         */
+        private void completeIfReady() {
+            if (trackers.stream().allMatch(Tracker::isReady)) {
+                result.complete(snapshot());
+            }
+        }
+
+        /**
+         * Ends the wait because a resource failed.
+         *
+         * @param tracker the tracker of the resource.
+         * @param reason  the reason of the failure.
+         */
+        private void fail(final Tracker tracker, final String reason) {
+            final String message = String.format(
+                    "%s %s/%s of release %s failed: %s",
+                    tracker.kind, tracker.namespace, tracker.name, releaseName, reason);
+            result.completeExceptionally(new ReleaseReadinessException(message, snapshot(), null));
+        }
+
+        /**
+         * Ends the wait because the resources of a kind could not be watched.
+         *
+         * @param watch  the watch of the resources.
+         * @param reason the reason of the failure.
+         * @param cause  the cause of the failure.
+         */
+        private void fail(final Watch watch, final String reason, final Throwable cause) {
+            final String message = String.format(
+                    "Watch of %s resources in namespace %s of release %s failed: %s",
+                    watch.kind, watch.namespace, releaseName, reason);
+            result.completeExceptionally(new ReleaseReadinessException(message, snapshot(), cause));
+        }
+
+        /**
+         * Returns the readiness observed so far.
+         *
+         * @return the {@link ReleaseReadiness} instance.
+         */
+        private ReleaseReadiness snapshot() {
+            final List<ResourceReadiness> resources = trackers.stream()
+                    .map(t -> new ResourceReadiness(t.kind, t.namespace, t.name, t.timeToReady))
+                    .toList();
+            return new ReleaseReadiness(namespace, releaseName, elapsed(), resources);
+        }
+
+        private Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Watches all resources of a kind in a namespace with a single informer and dispatches the events of the tracked
+     * resources to their trackers by name.
+     */
+    private final class Watch implements ResourceEventHandler<HasMetadata> {
+        /**
+         * The wait to which the resources belong.
+         */
+        private final Wait wait;
+
+        /**
+         * The kind of the resources.
+         */
+        private final String kind;
+
+        /**
+         * The namespace of the resources.
+         */
+        private final String namespace;
+
+        /**
+         * The trackers of the resources keyed by name, which is not modified once the watch has been started.
+         */
+        private final Map<String, Tracker> trackers;
+
+        /**
+         * The informer watching the resources or {@code null} if it has not been started.
+         */
+        private SharedIndexInformer<? extends HasMetadata> informer;
+
+        /**
+         * Whether the wait has ended, after which no informer is started.
+         */
+        private boolean stopped;
+
+        private Watch(final Wait wait, final String kind, final String namespace) {
+            this.wait = wait;
+            this.kind = kind;
+            this.namespace = namespace;
+            this.trackers = new LinkedHashMap<>();
+        }
+
+        /**
+         * Opens the informer, ending the wait if the informer cannot be started or stops with an error.
+         */
+        private synchronized void start() {
+            if (stopped) {
+                return;
+            }
+
+            try {
+                informer = informer(kind, namespace);
+                informer.addEventHandler(this);
+                informer.start().whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        wait.fail(this, "the watch could not be started", error);
+                    }
+                });
+                informer.stopped().whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        wait.fail(this, "the watch stopped unexpectedly", error);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                wait.fail(this, "the watch could not be started", e);
+            }
+        }
+
+        /**
+         * Stops the informer if it has been started and prevents it from being started later.
+         */
+        private synchronized void stop() {
+            stopped = true;
+            if (informer != null) {
+                informer.stop();
+            }
+        }
+
+        @Override
+        public void onAdd(final HasMetadata resource) {
+            observe(resource);
+        }
+
+        @Override
+        public void onUpdate(final HasMetadata previous, final HasMetadata resource) {
+            observe(resource);
+        }
+
+        @Override
+        public void onDelete(final HasMetadata resource, final boolean deletedFinalStateUnknown) {
+            // a deleted resource may be recreated by its owner, therefore the wait continues until the timeout
+        }
+
+        /**
+         * Passes the observed state of a resource to its tracker, ignoring the resources which are not tracked.
+         *
+         * @param resource the observed state of the resource.
+         */
+        private void observe(final HasMetadata resource) {
+            if (resource.getMetadata() == null) {
+                return;
+            }
+
+            final Tracker tracker = trackers.get(resource.getMetadata().getName());
+            if (tracker != null) {
+                tracker.observe(resource);
+            }
+        }
+    }
+
+    /**
+     * Tracks the readiness of a single resource.
+     */
+    private static final class Tracker {
+        /**
+         * The wait to which the resource belongs.
+         */
+        private final Wait wait;
+
+        /**
+         * The kind of the resource.
+         */
+        private final String kind;
+
+        /**
+         * The namespace of the resource.
+         */
+        private final String namespace;
+
+        /**
+         * The name of the resource.
+         */
+        private final String name;
+
+        /**
+         * The time taken by the resource to become ready or {@code null} if it is not ready yet.
+         */
+        private volatile Duration timeToReady;
+
+        private Tracker(final Wait wait, final String kind, final String namespace, final String name) {
+            this.wait = wait;
+            this.kind = kind;
+            this.namespace = namespace;
+            this.name = name;
+        }
+
+        private boolean isReady() {
+            return timeToReady != null;
+        }
+
+        /**
+         * Evaluates the observed state of the resource.
+         *
+         * @param resource the observed state of the resource.
+         */
+        private void observe(final HasMetadata resource) {
+            if (isReady()) {
+                return;
+            }
+
+            final String failure = ResourceReadinessRules.failure(resource);
+            if (failure != null) {
+                wait.fail(this, failure);
+                return;
+            }
+
+            if (ResourceReadinessRules.isReady(resource)) {
+                timeToReady = wait.elapsed();
+                wait.completeIfReady();
+            }
+        }
+    }
+}
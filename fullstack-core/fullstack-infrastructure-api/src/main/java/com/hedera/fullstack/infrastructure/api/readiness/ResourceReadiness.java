@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.readiness;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The readiness of a single Kubernetes resource belonging to a release.
+ *
+ * @param kind        the kind of the resource, such as {@code Deployment}.
+ * @param namespace   the namespace of the resource.
+ * @param name        the name of the resource.
+ * @param timeToReady the time elapsed between the start of the wait and the first observation of the resource being
+ *                    ready or {@code null} if the resource was not observed to be ready.
+ */
+public record ResourceReadiness(String kind, String namespace, String name, Duration timeToReady) {
+
+    /**
+     * Creates a new {@link ResourceReadiness} instance.
+     *
+     * @throws NullPointerException if {@code kind}, {@code namespace} or {@code name} is {@code null}.
+     */
+    public ResourceReadiness {
+        Objects.requireNonNull(kind, "kind must not be null");
+        Objects.requireNonNull(namespace, "namespace must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+    }
+
+    /**
+     * Returns whether the resource was observed to be ready.
+     *
+     * @return {@code true} if the resource is ready; otherwise {@code false}.
+     */
+    public boolean isReady() {
+        return timeToReady != null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s/%s/%s=%s", kind, namespace, name, timeToReady == null ? "pending" : timeToReady.toString());
+    }
+}
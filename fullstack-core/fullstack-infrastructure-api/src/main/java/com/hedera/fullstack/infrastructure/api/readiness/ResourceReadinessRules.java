@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.readiness;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodCondition;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetUpdateStrategy;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobCondition;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The rules which decide whether a workload resource is ready. The rules match the checks performed by the Helm CLI
+ * {@code --wait} option, evaluated against a single observed state of the resource.
+ */
+public final class ResourceReadinessRules {
+
+    /**
+     * The kinds of the resources whose readiness is tracked.
+     */
+    public static final Set<String> TRACKED_KINDS = Set.of("Deployment", "StatefulSet", "Pod", "Job");
+
+    private ResourceReadinessRules() {}
+
+    /**
+     * Determines whether the resource is ready. Resources of a kind which is not tracked are always ready.
+     *
+     * @param resource the observed state of the resource.
+     * @return {@code true} if the resource is ready; otherwise {@code false}.
+     */
+    public static boolean isReady(final HasMetadata resource) {
+        if (resource instanceof Deployment deployment) {
+            return isReady(deployment);
+        }
+
+        if (resource instanceof StatefulSet statefulSet) {
+            return isReady(statefulSet);
+        }
+
+        if (resource instanceof Pod pod) {
+            return isReady(pod);
+        }
+
+        if (resource instanceof Job job) {
+            return isReady(job);
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines whether the resource has failed and will not become ready without intervention.
+     *
+     * @param resource the observed state of the resource.
+     * @return the reason of the failure or {@code null} if the resource has not failed.
+     */
+    public static String failure(final HasMetadata resource) {
+        if (resource instanceof Pod pod && pod.getStatus() != null && "Failed".equals(pod.getStatus().getPhase())) {
+            final String reason = pod.getStatus().getReason();
+            return reason == null ? "pod failed" : reason;
+        }
+
+        if (resource instanceof Job job && job.getStatus() != null) {
+            for (final JobCondition condition : conditions(job.getStatus().getConditions())) {
+                if ("Failed".equals(condition.getType()) && "True".equals(condition.getStatus())) {
+                    return condition.getReason() == null ? "job failed" : condition.getReason();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * A deployment is ready once the controller has observed the latest generation and every desired replica is both
+     * updated and available.
+     *
+     * @param deployment the observed state of the deployment.
+     * @return {@code true} if the deployment is ready; otherwise {@code false}.
+     */
+    public static boolean isReady(final Deployment deployment) {
+        if (deployment.getStatus() == null || !isObserved(deployment, deployment.getStatus().getObservedGeneration())) {
+            return false;
+        }
+
+        final int replicas = deployment.getSpec() == null ? 1 : valueOf(deployment.getSpec().getReplicas(), 1);
+        return valueOf(deployment.getStatus().getUpdatedReplicas(), 0) >= replicas
+                && valueOf(deployment.getStatus().getAvailableReplicas(), 0) >= replicas;
+    }
+
+    /**
+     * A stateful set is ready once the controller has observed the latest generation, every desired replica is ready
+     * and, unless updates are applied on delete, every replica outside the rolling update partition is updated.
+     *
+     * @param statefulSet the observed state of the stateful set.
+     * @return {@code true} if the stateful set is ready; otherwise {@code false}.
+     */
+    public static boolean isReady(final StatefulSet statefulSet) {
+        if (statefulSet.getStatus() == null
+                || !isObserved(statefulSet, statefulSet.getStatus().getObservedGeneration())) {
+            return false;
+        }
+
+        final int replicas = statefulSet.getSpec() == null ? 1 : valueOf(statefulSet.getSpec().getReplicas(), 1);
+        if (valueOf(statefulSet.getStatus().getReadyReplicas(), 0) < replicas) {
+            return false;
+        }
+
+        final StatefulSetUpdateStrategy strategy =
+                statefulSet.getSpec() == null ? null : statefulSet.getSpec().getUpdateStrategy();
+        if (strategy != null && "OnDelete".equals(strategy.getType())) {
+            return true;
+        }
+
+        final int partition = strategy == null || strategy.getRollingUpdate() == null
+                ? 0
+                : valueOf(strategy.getRollingUpdate().getPartition(), 0);
+        return valueOf(statefulSet.getStatus().getUpdatedReplicas(), 0) >= replicas - partition;
+    }
+
+    /**
+     * A pod is ready once its {@code Ready} condition is true or it has completed successfully.
+     *
+     * @param pod the observed state of the pod.
+     * @return {@code true} if the pod is ready; otherwise {@code false}.
+     */
+    public static boolean isReady(final Pod pod) {
+        if (pod.getStatus() == null) {
+            return false;
+        }
+
+        if ("Succeeded".equals(pod.getStatus().getPhase())) {
+            return true;
+        }
+
+        for (final PodCondition condition : conditions(pod.getStatus().getConditions())) {
+            if ("Ready".equals(condition.getType())) {
+                return "True".equals(condition.getStatus());
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * A job is ready once its {@code Complete} condition is true or the desired number of pods has succeeded.
+     *
+     * @param job the observed state of the job.
+     * @return {@code true} if the job is ready; otherwise {@code false}.
+     */
+    public static boolean isReady(final Job job) {
+        if (job.getStatus() == null) {
+            return false;
+        }
+
+        for (final JobCondition condition : conditions(job.getStatus().getConditions())) {
+            if ("Complete".equals(condition.getType()) && "True".equals(condition.getStatus())) {
+                return true;
+            }
+        }
+
+        final int completions = job.getSpec() == null ? 1 : valueOf(job.getSpec().getCompletions(), 1);
+        return valueOf(job.getStatus().getSucceeded(), 0) >= completions;
+    }
+
+    /**
+     * Determines whether the controller has observed the latest generation of the resource.
+     *
+     * @param resource           the observed state of the resource.
+     * @param observedGeneration the generation reported in the status of the resource.
+     * @return {@code true} if the latest generation has been observed; otherwise {@code false}.
+     */
+    private static boolean isObserved(final HasMetadata resource, final Long observedGeneration) {
+        final Long generation = resource.getMetadata() == null ? null : resource.getMetadata().getGeneration();
+        return generation == null || (observedGeneration != null && observedGeneration >= generation);
+    }
+
+    private static int valueOf(final Integer value, final int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+
+    private static <T> List<T> conditions(final List<T> conditions) {
+        return conditions == null ? List.of() : conditions;
+    }
+}
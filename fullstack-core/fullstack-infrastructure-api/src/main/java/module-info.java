@@ -1,4 +1,6 @@
 module com.hedera.fullstack.infrastructure.api {
-    requires com.hedera.fullstack.helm.client;
-    requires io.fabric8.kubernetes.client.api;
+    exports com.hedera.fullstack.infrastructure.api.readiness;
+
+    requires transitive com.hedera.fullstack.helm.client;
+    requires transitive io.fabric8.kubernetes.client.api;
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.test.readiness;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.fullstack.helm.client.HelmClient;
+import com.hedera.fullstack.helm.client.model.manifest.KubernetesResource;
+import com.hedera.fullstack.infrastructure.api.readiness.ReleaseReadiness;
+import com.hedera.fullstack.infrastructure.api.readiness.ReleaseReadinessException;
+import com.hedera.fullstack.infrastructure.api.readiness.ReleaseReadinessWatcher;
+import com.hedera.fullstack.infrastructure.api.readiness.ResourceReadiness;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("Release Readiness Watcher Tests")
+@ExtendWith(MockitoExtension.class)
+class ReleaseReadinessWatcherTest {
+    private static final String NAMESPACE = "network";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private KubernetesClient kubernetesClientMock;
+
+    @Mock
+    private HelmClient helmClientMock;
+
+    @Mock
+    private SharedIndexInformer<Pod> podInformerMock;
+
+    @Mock
+    private SharedIndexInformer<Deployment> deploymentInformerMock;
+
+    @Test
+    @DisplayName("Resources Of The Same Kind Share A Single Informer")
+    void testResourcesShareInformers() throws Exception {
+        doReturn(NAMESPACE).when(helmClientMock).defaultNamespace();
+        stubInformer(podInformerMock);
+        stubInformer(deploymentInformerMock);
+        doReturn(podInformerMock).when(kubernetesClientMock.pods().inNamespace(NAMESPACE)).runnableInformer(0);
+        doReturn(deploymentInformerMock)
+                .when(kubernetesClientMock.apps().deployments().inNamespace(NAMESPACE))
+                .runnableInformer(0);
+        final List<KubernetesResource> resources = List.of(
+                resource("Pod", "node-0"),
+                resource("Pod", "node-1"),
+                resource("Pod", "node-2"),
+                resource("Deployment", "mirror"),
+                resource("ConfigMap", "settings"));
+
+        final CompletableFuture<ReleaseReadiness> result =
+                new ReleaseReadinessWatcher(kubernetesClientMock, helmClientMock)
+                        .awaitReady("release", resources, TIMEOUT);
+        final ResourceEventHandler<HasMetadata> pods = handlerOf(podInformerMock);
+        final ResourceEventHandler<HasMetadata> deployments = handlerOf(deploymentInformerMock);
+
+        pods.onAdd(pod("node-0", "True"));
+        pods.onAdd(pod("node-1", "True"));
+        pods.onAdd(pod("unrelated", "True"));
+        deployments.onAdd(deployment("mirror"));
+        assertThat(result).isNotDone();
+
+        pods.onUpdate(pod("node-2", "False"), pod("node-2", "True"));
+        final ReleaseReadiness readiness = result.get(5, TimeUnit.SECONDS);
+
+        assertThat(readiness.isReady()).isTrue();
+        assertThat(readiness.namespace()).isEqualTo(NAMESPACE);
+        assertThat(readiness.resources())
+                .extracting(ResourceReadiness::name)
+                .containsExactly("node-0", "node-1", "node-2", "mirror");
+        verify(podInformerMock).stop();
+        verify(deploymentInformerMock).stop();
+    }
+
+    @Test
+    @DisplayName("Namespace Is Taken From The Kubernetes Client When The Helm Client Has None")
+    void testNamespaceFallsBackToKubernetesClient() {
+        doReturn(null).when(helmClientMock).defaultNamespace();
+        doReturn(NAMESPACE).when(kubernetesClientMock).getNamespace();
+        doReturn(Stream.of(resource("Pod", "node-0"))).when(helmClientMock).releaseManifest("release");
+        stubInformer(podInformerMock);
+        doReturn(podInformerMock).when(kubernetesClientMock.pods().inNamespace(NAMESPACE)).runnableInformer(0);
+
+        final CompletableFuture<ReleaseReadiness> result =
+                new ReleaseReadinessWatcher(kubernetesClientMock, helmClientMock).awaitReady("release", TIMEOUT);
+        handlerOf(podInformerMock).onAdd(pod("node-0", "True"));
+
+        assertThat(result).isCompletedWithValueMatching(r -> r.isReady() && r.namespace().equals(NAMESPACE));
+    }
+
+    @Test
+    @DisplayName("A Failed Resource Or The Timeout Ends The Wait")
+    void testFailureAndTimeout() throws Exception {
+        doReturn(NAMESPACE).when(helmClientMock).defaultNamespace();
+        stubInformer(podInformerMock);
+        doReturn(podInformerMock).when(kubernetesClientMock.pods().inNamespace(NAMESPACE)).runnableInformer(0);
+        final ReleaseReadinessWatcher watcher = new ReleaseReadinessWatcher(kubernetesClientMock, helmClientMock);
+
+        final CompletableFuture<ReleaseReadiness> failed =
+                watcher.awaitReady("release", List.of(resource("Pod", "node-0")), TIMEOUT);
+        handlerOf(podInformerMock).onUpdate(pod("node-0", "False"), failedPod("node-0"));
+
+        assertThat(failed.handle((readiness, error) -> error).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ReleaseReadinessException.class)
+                .hasMessageContaining("Pod network/node-0");
+
+        final CompletableFuture<ReleaseReadiness> timedOut =
+                watcher.awaitReady("release", List.of(resource("Pod", "node-1")), Duration.ofMillis(50));
+        final Throwable error = timedOut.handle((readiness, e) -> e).get(5, TimeUnit.SECONDS);
+
+        assertThat(error).isInstanceOf(ReleaseReadinessException.class);
+        assertThat(((ReleaseReadinessException) error).getReadiness().pending())
+                .extracting(ResourceReadiness::name)
+                .containsExactly("node-1");
+        // the informers are stopped by the thread which ends the wait, which is the timer thread on a timeout
+        verify(podInformerMock, timeout(5_000).times(2)).stop();
+    }
+
+    private static void stubInformer(final SharedIndexInformer<?> informer) {
+        doReturn(CompletableFuture.completedFuture(null)).when(informer).start();
+        doReturn(new CompletableFuture<Void>()).when(informer).stopped();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResourceEventHandler<HasMetadata> handlerOf(final SharedIndexInformer<?> informer) {
+        final ArgumentCaptor<ResourceEventHandler<HasMetadata>> captor =
+                ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(captor.capture());
+        return captor.getValue();
+    }
+
+    private static KubernetesResource resource(final String kind, final String name) {
+        return new KubernetesResource("v1", kind, name, null, Map.of());
+    }
+
+    private static Pod pod(final String name, final String ready) {
+        return new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .endMetadata()
+                .withNewStatus()
+                .withPhase("Running")
+                .addNewCondition()
+                .withType("Ready")
+                .withStatus(ready)
+                .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static Pod failedPod(final String name) {
+        return new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .endMetadata()
+                .withNewStatus()
+                .withPhase("Failed")
+                .endStatus()
+                .build();
+    }
+
+    private static Deployment deployment(final String name) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                .withReplicas(1)
+                .endSpec()
+                .withNewStatus()
+                .withObservedGeneration(1L)
+                .withUpdatedReplicas(1)
+                .withAvailableReplicas(1)
+                .endStatus()
+                .build();
+    }
+}
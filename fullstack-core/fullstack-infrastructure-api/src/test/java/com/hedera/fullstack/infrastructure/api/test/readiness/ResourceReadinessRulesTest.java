@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.fullstack.infrastructure.api.test.readiness;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.fullstack.infrastructure.api.readiness.ReleaseReadiness;
+import com.hedera.fullstack.infrastructure.api.readiness.ResourceReadiness;
+import com.hedera.fullstack.infrastructure.api.readiness.ResourceReadinessRules;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Resource Readiness Rules Tests")
+class ResourceReadinessRulesTest {
+
+    @Test
+    @DisplayName("Deployment Is Ready Once The Latest Generation Is Available")
+    void testDeploymentReadiness() {
+        assertThat(ResourceReadinessRules.isReady(deployment(2L, 2L, 3, 3))).isTrue();
+        assertThat(ResourceReadinessRules.isReady(deployment(2L, 1L, 3, 3)))
+                .as("the controller has not observed the latest generation")
+                .isFalse();
+        assertThat(ResourceReadinessRules.isReady(deployment(2L, 2L, 3, 2))).isFalse();
+        assertThat(ResourceReadinessRules.isReady(new DeploymentBuilder().build())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Stateful Set Honours The Rolling Update Partition")
+    void testStatefulSetReadiness() {
+        assertThat(ResourceReadinessRules.isReady(statefulSet(3, 1, 3, 2))).isTrue();
+        assertThat(ResourceReadinessRules.isReady(statefulSet(3, 0, 3, 2))).isFalse();
+        assertThat(ResourceReadinessRules.isReady(statefulSet(3, 0, 2, 3))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Pod Is Ready Once Its Ready Condition Is True Or It Succeeded")
+    void testPodReadiness() {
+        assertThat(ResourceReadinessRules.isReady(pod("Running", "True"))).isTrue();
+        assertThat(ResourceReadinessRules.isReady(pod("Running", "False"))).isFalse();
+        assertThat(ResourceReadinessRules.isReady(pod("Succeeded", "False"))).isTrue();
+        assertThat(ResourceReadinessRules.failure(pod("Failed", "False"))).isEqualTo("pod failed");
+        assertThat(ResourceReadinessRules.failure(pod("Running", "True"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Job Is Ready Once Complete And Reports Its Failure")
+    void testJobReadiness() {
+        assertThat(ResourceReadinessRules.isReady(job("Complete", null))).isTrue();
+        assertThat(ResourceReadinessRules.isReady(job("Failed", "BackoffLimitExceeded"))).isFalse();
+        assertThat(ResourceReadinessRules.failure(job("Failed", "BackoffLimitExceeded")))
+                .isEqualTo("BackoffLimitExceeded");
+        assertThat(ResourceReadinessRules.isReady(new ConfigMapBuilder().build()))
+                .as("untracked kinds are always ready")
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Release Readiness Reports The Pending Resources")
+    void testReleaseReadinessPending() {
+        final ResourceReadiness ready = new ResourceReadiness("Deployment", "default", "api", Duration.ofSeconds(3));
+        final ResourceReadiness pending = new ResourceReadiness("Job", "default", "migrate", null);
+        final ReleaseReadiness readiness =
+                new ReleaseReadiness("default", "release", Duration.ofSeconds(5), List.of(ready, pending));
+
+        assertThat(readiness.isReady()).isFalse();
+        assertThat(readiness.pending()).containsExactly(pending);
+        assertThat(pending.toString()).isEqualTo("Job/default/migrate=pending");
+    }
+
+    private static Deployment deployment(
+            final long generation, final long observedGeneration, final int updated, final int available) {
+        return new DeploymentBuilder()
+                .withNewMetadata()
+                .withName("deployment")
+                .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                .withReplicas(3)
+                .endSpec()
+                .withNewStatus()
+                .withObservedGeneration(observedGeneration)
+                .withUpdatedReplicas(updated)
+                .withAvailableReplicas(available)
+                .endStatus()
+                .build();
+    }
+
+    private static StatefulSet statefulSet(
+            final int replicas, final int partition, final int ready, final int updated) {
+        return new StatefulSetBuilder()
+                .withNewMetadata()
+                .withName("stateful-set")
+                .endMetadata()
+                .withNewSpec()
+                .withReplicas(replicas)
+                .withNewUpdateStrategy()
+                .withType("RollingUpdate")
+                .withNewRollingUpdate()
+                .withPartition(partition)
+                .endRollingUpdate()
+                .endUpdateStrategy()
+                .endSpec()
+                .withNewStatus()
+                .withReadyReplicas(ready)
+                .withUpdatedReplicas(updated)
+                .endStatus()
+                .build();
+    }
+
+    private static Pod pod(final String phase, final String ready) {
+        return new PodBuilder()
+                .withNewMetadata()
+                .withName("pod")
+                .endMetadata()
+                .withNewStatus()
+                .withPhase(phase)
+                .addNewCondition()
+                .withType("Ready")
+                .withStatus(ready)
+                .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static Job job(final String condition, final String reason) {
+        return new JobBuilder()
+                .withNewMetadata()
+                .withName("job")
+                .endMetadata()
+                .withNewStatus()
+                .addNewCondition()
+                .withType(condition)
+                .withStatus("True")
+                .withReason(reason)
+                .endCondition()
+                .endStatus()
+                .build();
+    }
+}
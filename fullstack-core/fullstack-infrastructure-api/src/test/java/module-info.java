@@ -1 +1,10 @@
-module com.hedera.fullstack.infrastructure.api.test {}
+module com.hedera.fullstack.infrastructure.api.test {
+    opens com.hedera.fullstack.infrastructure.api.test.readiness to
+            org.junit.platform.commons;
+
+    requires com.hedera.fullstack.infrastructure.api;
+    requires org.assertj.core;
+    requires org.junit.jupiter.api;
+    requires org.mockito.junit.jupiter;
+    requires org.mockito;
+}
@@ -39,6 +39,8 @@ include(":fullstack-configuration-core", "fullstack-core/fullstack-configuration
 
 include(":fullstack-helm-client", "fullstack-core/fullstack-helm-client")
 
+include(":fullstack-helm-test-support", "fullstack-core/fullstack-helm-test-support")
+
 include(":fullstack-junit-support", "fullstack-core/fullstack-junit-support")
 
 include(":fullstack-datasource-api", "fullstack-core/fullstack-datasource-api")